@@ -0,0 +1,161 @@
+package com.studentmanagement.config;
+
+import com.studentmanagement.service.QueryCounter;
+import com.studentmanagement.service.RequestTiming;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+    
+    @Value("${app.dashboard.pool-size:8}")
+    private int dashboardPoolSize;
+    
+    @Value("${app.report-cards.pool-size:4}")
+    private int reportCardPoolSize;
+    
+    @Value("${app.batch.pool-size:16}")
+    private int batchPoolSize;
+    
+    @Value("${app.streaming.pool-size:32}")
+    private int streamingPoolSize;
+    
+    // Runs the independent dashboard queries side by side; when saturated the
+    // request thread runs the query itself instead of queueing without bound
+    @Bean(name = "dashboardExecutor")
+    public ThreadPoolTaskExecutor dashboardExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(dashboardPoolSize);
+        executor.setMaxPoolSize(dashboardPoolSize);
+        executor.setQueueCapacity(dashboardPoolSize * 4);
+        executor.setThreadNamePrefix("dashboard-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(task -> QueryCounter.propagate(RequestTiming.propagate(task)));
+        executor.initialize();
+        return executor;
+    }
+    
+    // Sub-requests of /batch calls, run with the caller's authentication. Each batch caps its own
+    // parallelism; when every thread is busy the request thread works through its batch itself.
+    @Bean(name = "batchExecutor")
+    public ThreadPoolTaskExecutor batchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(batchPoolSize);
+        executor.setMaxPoolSize(batchPoolSize);
+        executor.setQueueCapacity(batchPoolSize * 4);
+        executor.setThreadNamePrefix("batch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(task -> new DelegatingSecurityContextRunnable(
+                QueryCounter.propagate(RequestTiming.propagate(task))));
+        executor.initialize();
+        return executor;
+    }
+    
+    // Writes the chunked NDJSON catalog streams once the request thread has been handed back to
+    // Tomcat; each stream holds one of these threads until it finishes
+    @Bean(name = "streamingExecutor")
+    public ThreadPoolTaskExecutor streamingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(streamingPoolSize);
+        executor.setMaxPoolSize(streamingPoolSize);
+        executor.setQueueCapacity(streamingPoolSize * 16);
+        executor.setThreadNamePrefix("streaming-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+    
+    // Rollover jobs run one at a time; each job is already chunked internally
+    @Bean(name = "rolloverExecutor")
+    public ThreadPoolTaskExecutor rolloverExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("rollover-");
+        executor.initialize();
+        return executor;
+    }
+    
+    @Bean(name = "archiveExecutor")
+    public ThreadPoolTaskExecutor archiveExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("archive-");
+        executor.initialize();
+        return executor;
+    }
+    
+    // Reloads of grade histograms for assignments graded on other replicas
+    @Bean(name = "analyticsExecutor")
+    public ThreadPoolTaskExecutor analyticsExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("analytics-");
+        executor.initialize();
+        return executor;
+    }
+    
+    // Leaderboard rebuilds after an assignment delete and course reloads after grades on other
+    // replicas; both are serialised in the service anyway
+    @Bean(name = "leaderboardExecutor")
+    public ThreadPoolTaskExecutor leaderboardExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("leaderboard-");
+        executor.initialize();
+        return executor;
+    }
+    
+    // Statistics reconciles after writes on other replicas; the service keeps at most one queued
+    @Bean(name = "statisticsExecutor")
+    public ThreadPoolTaskExecutor statisticsExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("statistics-");
+        executor.initialize();
+        return executor;
+    }
+    
+    // Transcript runs are serialised; the per-student work fans out on the transcript fork-join pool
+    @Bean(name = "transcriptExecutor")
+    public ThreadPoolTaskExecutor transcriptExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("transcript-");
+        executor.initialize();
+        return executor;
+    }
+    
+    // Coordinates report card jobs one at a time and owns the ZIP output stream
+    @Bean(name = "reportCardExecutor")
+    public ThreadPoolTaskExecutor reportCardExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("report-cards-");
+        executor.initialize();
+        return executor;
+    }
+    
+    // PDF rendering workers; the job keeps at most twice the pool size in flight, which the queue always fits
+    @Bean(name = "reportCardRenderExecutor")
+    public ThreadPoolTaskExecutor reportCardRenderExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(reportCardPoolSize);
+        executor.setMaxPoolSize(reportCardPoolSize);
+        executor.setQueueCapacity(reportCardPoolSize * 2);
+        executor.setThreadNamePrefix("report-card-render-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -3,6 +3,7 @@ package com.studentmanagement.config;
 import com.studentmanagement.entity.User;
 import com.studentmanagement.entity.UserRole;
 import com.studentmanagement.repository.UserRepository;
+import com.studentmanagement.service.StatisticsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -17,6 +18,9 @@ public class DataInitializer implements CommandLineRunner {
     @Autowired
     private PasswordEncoder passwordEncoder;
     
+    @Autowired
+    private StatisticsService statisticsService;
+    
     @Override
     public void run(String... args) throws Exception {
         // Create admin user if it doesn't exist
@@ -29,6 +33,7 @@ public class DataInitializer implements CommandLineRunner {
             admin.setCurrentSemester(null); // Admin doesn't have a semester
             
             userRepository.save(admin);
+            statisticsService.userCreated(UserRole.ADMIN);
             System.out.println("Admin user created successfully!");
         }
         
@@ -42,6 +47,7 @@ public class DataInitializer implements CommandLineRunner {
             teacher.setCurrentSemester(null); // Teacher doesn't have a semester
             
             userRepository.save(teacher);
+            statisticsService.userCreated(UserRole.TEACHER);
             System.out.println("Teacher user created successfully!");
         }
         
@@ -55,6 +61,7 @@ public class DataInitializer implements CommandLineRunner {
             student.setCurrentSemester(1);
             
             userRepository.save(student);
+            statisticsService.userCreated(UserRole.STUDENT);
             System.out.println("Student user created successfully!");
         }
     }
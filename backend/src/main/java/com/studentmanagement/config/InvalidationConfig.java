@@ -0,0 +1,32 @@
+package com.studentmanagement.config;
+
+import com.studentmanagement.service.InProcessInvalidationBus;
+import com.studentmanagement.service.InvalidationBus;
+import com.studentmanagement.service.UdpInvalidationBus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+@Configuration
+public class InvalidationConfig {
+    
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.invalidation.transport", havingValue = "in-process", matchIfMissing = true)
+    public InvalidationBus inProcessInvalidationBus() {
+        return new InProcessInvalidationBus();
+    }
+    
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.invalidation.transport", havingValue = "udp")
+    public InvalidationBus udpInvalidationBus(@Value("${app.invalidation.udp.bind-address:127.0.0.1}") String bindAddress,
+                                              @Value("${app.invalidation.udp.port:7600}") int port,
+                                              @Value("${app.invalidation.udp.peers:}") String peers,
+                                              @Value("${app.invalidation.udp.secret:}") String secret,
+                                              @Value("${app.invalidation.udp.max-age-ms:60000}") long maxAgeMillis)
+            throws IOException {
+        return new UdpInvalidationBus(bindAddress, port, peers, secret, maxAgeMillis);
+    }
+}
@@ -0,0 +1,44 @@
+package com.studentmanagement.config;
+
+import com.studentmanagement.service.QueryBudgetService;
+import com.studentmanagement.service.QueryCounter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// Counts the SQL issued while serving each request, including the security filter's user lookup
+// and response serialisation, and reports it against the endpoint's route pattern
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.query-budget.enabled", havingValue = "true")
+public class QueryBudgetFilter extends OncePerRequestFilter {
+    
+    @Autowired
+    private QueryBudgetService queryBudgetService;
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCounter counter = new QueryCounter();
+        QueryCounter previous = QueryCounter.bind(counter);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCounter.bind(previous);
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null) {
+                queryBudgetService.record(request.getMethod() + " " + pattern, counter.getStatements(), counter.getRows());
+            }
+        }
+    }
+}
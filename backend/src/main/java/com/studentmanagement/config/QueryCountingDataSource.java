@@ -0,0 +1,95 @@
+package com.studentmanagement.config;
+
+import com.studentmanagement.service.QueryCounter;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// Wraps connections, statements and result sets so every executed statement and every row read
+// is added to the QueryCounter of the calling thread. Threads without a counter only pay for the
+// proxy dispatch.
+public class QueryCountingDataSource extends DelegatingDataSource implements Closeable {
+    
+    public QueryCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(Connection.class, super.getConnection(), QueryCountingDataSource::onConnectionCall);
+    }
+    
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(Connection.class, super.getConnection(username, password), QueryCountingDataSource::onConnectionCall);
+    }
+    
+    // The pool behind the proxy is no longer a bean Spring can see to close on shutdown
+    @Override
+    public void close() throws IOException {
+        if (getTargetDataSource() instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static Object onConnectionCall(Method method, Object result) {
+        // createStatement, prepareStatement and prepareCall declare the interface to proxy
+        if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+            return wrap((Class<Statement>) method.getReturnType(), (Statement) result, QueryCountingDataSource::onStatementCall);
+        }
+        return result;
+    }
+    
+    private static Object onStatementCall(Method method, Object result) {
+        String name = method.getName();
+        QueryCounter counter = QueryCounter.current();
+        if (counter != null && name.startsWith("execute")) {
+            counter.statementExecuted();
+        }
+        if (result instanceof ResultSet && (name.equals("executeQuery") || name.equals("getResultSet"))) {
+            return wrap(ResultSet.class, (ResultSet) result, QueryCountingDataSource::onResultSetCall);
+        }
+        return result;
+    }
+    
+    private static Object onResultSetCall(Method method, Object result) {
+        if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+            QueryCounter counter = QueryCounter.current();
+            if (counter != null) {
+                counter.rowRead();
+            }
+        }
+        return result;
+    }
+    
+    private static <T> T wrap(Class<T> type, T target, ResultHandler onResult) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+                return proxy == args[0];
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            return onResult.handle(method, result);
+        };
+        return type.cast(Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+    
+    private interface ResultHandler {
+        Object handle(Method method, Object result);
+    }
+}
@@ -0,0 +1,32 @@
+package com.studentmanagement.config;
+
+import com.studentmanagement.service.RepositoryMetricsService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+@Configuration
+@ConditionalOnProperty(name = "app.repository-metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class RepositoryMetricsConfig {
+    
+    // Hooks into each repository factory before it builds its proxy, so every Spring Data
+    // repository, derived queries included, gets a timing interceptor without touching its interface
+    @Bean
+    public static BeanPostProcessor repositoryTimingPostProcessor(ObjectProvider<RepositoryMetricsService> metrics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(repositoryFactory ->
+                            repositoryFactory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) ->
+                                    proxyFactory.addAdvice(new RepositoryTimingInterceptor(
+                                            repositoryInformation.getRepositoryInterface().getSimpleName(), metrics.getObject()))));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package com.studentmanagement.config;
+
+import com.studentmanagement.service.RepositoryMetricsService;
+import com.studentmanagement.service.RequestTiming;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.BaseStream;
+
+// Times every call on one Spring Data repository and reports it as "<Repository>.<method>"
+public class RepositoryTimingInterceptor implements MethodInterceptor {
+    
+    private final String repositoryName;
+    private final RepositoryMetricsService metrics;
+    
+    public RepositoryTimingInterceptor(String repositoryName, RepositoryMetricsService metrics) {
+        this.repositoryName = repositoryName;
+        this.metrics = metrics;
+    }
+    
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (invocation.getMethod().getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+        long started = System.nanoTime();
+        Object result = null;
+        try {
+            result = invocation.proceed();
+            return result;
+        } finally {
+            RequestTiming.record(RequestTiming.Phase.REPOSITORY, started);
+            metrics.record(repositoryName + "." + invocation.getMethod().getName(), System.nanoTime() - started,
+                    rowCount(result), invocation.getArguments());
+        }
+    }
+    
+    // Rows handed back to the caller, or -1 when that is unknown at return time
+    private static long rowCount(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Iterable<?> || result instanceof BaseStream<?, ?>) {
+            return -1;
+        }
+        return 1;
+    }
+}
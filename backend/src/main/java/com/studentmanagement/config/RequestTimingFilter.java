@@ -0,0 +1,43 @@
+package com.studentmanagement.config;
+
+import com.studentmanagement.service.RequestTiming;
+import com.studentmanagement.service.RequestTimingService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// Starts the phase clock before the security filters so JWT and principal time are included
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.server-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestTimingFilter extends OncePerRequestFilter {
+    
+    @Autowired
+    private RequestTimingService requestTimingService;
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTiming timing = new RequestTiming();
+        RequestTiming previous = RequestTiming.bind(timing);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestTiming.bind(previous);
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null) {
+                requestTimingService.record(request.getMethod() + " " + pattern, timing);
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.studentmanagement.config;
+
+import com.studentmanagement.service.RequestTiming;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+// Serialization timing shared by the Jackson converters. Only responses whose timing is exposed
+// are buffered, since the header has to be set before the first byte of the body goes out.
+final class SerializationTiming {
+    
+    interface BodyWriter {
+        void write(HttpOutputMessage outputMessage) throws IOException;
+    }
+    
+    private SerializationTiming() {}
+    
+    static void write(HttpOutputMessage outputMessage, BodyWriter writer) throws IOException {
+        RequestTiming timing = RequestTiming.current();
+        long started = System.nanoTime();
+        if (timing == null || !timing.isExposed()) {
+            try {
+                writer.write(outputMessage);
+            } finally {
+                RequestTiming.record(RequestTiming.Phase.SERIALIZATION, started);
+            }
+            return;
+        }
+        
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(8192);
+        writer.write(new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return buffer;
+            }
+            
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        });
+        RequestTiming.record(RequestTiming.Phase.SERIALIZATION, started);
+        outputMessage.getHeaders().set(ServerTimingAdvice.SERVER_TIMING, timing.toServerTiming());
+        buffer.writeTo(outputMessage.getBody());
+    }
+}
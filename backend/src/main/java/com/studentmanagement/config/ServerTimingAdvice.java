@@ -0,0 +1,43 @@
+package com.studentmanagement.config;
+
+import com.studentmanagement.service.RequestTiming;
+import com.studentmanagement.service.RequestTimingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// Adds the Server-Timing header to response bodies for callers allowed to see it. The JSON
+// converter later replaces it with one that includes serialization.
+@ControllerAdvice
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+    
+    public static final String SERVER_TIMING = "Server-Timing";
+    
+    @Autowired
+    private RequestTimingService requestTimingService;
+    
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+    
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null && request instanceof ServletServerHttpRequest servletRequest
+                && requestTimingService.isExposedTo(servletRequest.getServletRequest())) {
+            timing.setExposed(true);
+            response.getHeaders().set(SERVER_TIMING, timing.toServerTiming());
+            response.getHeaders().set("Timing-Allow-Origin", "*");
+        }
+        return body;
+    }
+}
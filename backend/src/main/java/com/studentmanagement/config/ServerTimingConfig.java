@@ -0,0 +1,29 @@
+package com.studentmanagement.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ServerTimingConfig {
+    
+    // Replaces Spring Boot's default JSON converter, which backs off when one is defined
+    @Bean
+    public TimedJacksonHttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJacksonHttpMessageConverter(objectMapper);
+    }
+    
+    // The binary formats take the place of Spring MVC's defaults, which sit after JSON, so JSON stays
+    // the answer unless the client asks for one of these. Their mappers share the JSON mapper's settings.
+    @Bean
+    public TimedCborHttpMessageConverter cborHttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedCborHttpMessageConverter(objectMapper.copyWith(new CBORFactory()));
+    }
+    
+    @Bean
+    public TimedSmileHttpMessageConverter smileHttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedSmileHttpMessageConverter(objectMapper.copyWith(new SmileFactory()));
+    }
+}
@@ -0,0 +1,27 @@
+package com.studentmanagement.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// Streaming response bodies run on their own bounded pool rather than Spring's unbounded default
+@Configuration
+public class StreamingConfig implements WebMvcConfigurer {
+    
+    @Autowired
+    @Qualifier("streamingExecutor")
+    private AsyncTaskExecutor streamingExecutor;
+    
+    @Value("${app.streaming.timeout-ms:60000}")
+    private long timeoutMs;
+    
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamingExecutor);
+        configurer.setDefaultTimeout(timeoutMs);
+    }
+}
@@ -0,0 +1,126 @@
+package com.studentmanagement.config;
+
+import com.studentmanagement.service.SubmissionContentService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// Expand phase of moving bodies out of the legacy submission_text columns into submission_contents.
+// Replicas of the previous release keep writing submission_text during a rolling deploy, so this
+// release only makes the column nullable, stops writing it, reads it as a fallback and backfills
+// it. Dropping the column is left to the next release, once no replica writes it any more.
+@Component
+public class SubmissionContentMigration implements SmartInitializingSingleton {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SubmissionContentMigration.class);
+    
+    private static final int CHUNK_SIZE = 500;
+    private static final String[] TABLES = {"submissions", "submissions_archive"};
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    // Tables that still have the legacy column
+    private volatile List<String> legacyTables = List.of();
+    
+    // Runs once every bean is ready but before the web server accepts requests, so no insert from
+    // this release ever meets the NOT NULL constraint the previous release declared
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String table : TABLES) {
+            if (isLegacyColumnRequired(table)) {
+                jdbcTemplate.execute("ALTER TABLE " + table + " MODIFY submission_text TEXT NULL");
+                logger.info("Made {}.submission_text nullable", table);
+            }
+        }
+        legacyTables = findLegacyTables();
+    }
+    
+    // Copies bodies written by replicas of the previous release. Rows are only ever inserted with
+    // their body, and INSERT IGNORE skips those already copied, so every pass is idempotent and
+    // replicas may run it at the same time.
+    @Scheduled(initialDelayString = "${app.submissions.backfill-initial-delay-ms:10000}",
+               fixedDelayString = "${app.submissions.backfill-interval-ms:600000}")
+    public void backfill() {
+        try {
+            for (String table : legacyTables) {
+                long copied = copyBodies(table);
+                if (copied > 0) {
+                    logger.info("Copied {} submission bodies from {} to submission_contents", copied, table);
+                }
+            }
+        } catch (Exception e) {
+            legacyTables = findLegacyTables();
+            logger.error("Cannot backfill submission bodies: {}", e.getMessage());
+        }
+    }
+    
+    // Body of a submission written by the previous release and not yet backfilled; null once the
+    // column is gone
+    public String loadLegacyText(Long submissionId) {
+        for (String table : legacyTables) {
+            List<String> texts = jdbcTemplate.queryForList(
+                    "SELECT submission_text FROM " + table + " WHERE id = ?", String.class, submissionId);
+            if (!texts.isEmpty() && texts.get(0) != null) {
+                return texts.get(0);
+            }
+        }
+        return null;
+    }
+    
+    private List<String> findLegacyTables() {
+        List<String> tables = new ArrayList<>();
+        for (String table : TABLES) {
+            Integer legacyColumns = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = SCHEMA() " +
+                    "AND TABLE_NAME = ? AND COLUMN_NAME = 'submission_text'", Integer.class, table);
+            if (legacyColumns != null && legacyColumns > 0) {
+                tables.add(table);
+            }
+        }
+        return List.copyOf(tables);
+    }
+    
+    private boolean isLegacyColumnRequired(String table) {
+        Integer required = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = SCHEMA() " +
+                "AND TABLE_NAME = ? AND COLUMN_NAME = 'submission_text' AND IS_NULLABLE = 'NO'", Integer.class, table);
+        return required != null && required > 0;
+    }
+    
+    private long copyBodies(String table) {
+        long lastId = 0;
+        long copied = 0;
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT s.id, s.submission_text FROM " + table + " s " +
+                    "LEFT JOIN submission_contents c ON c.submission_id = s.id " +
+                    "WHERE s.id > ? AND s.submission_text IS NOT NULL AND c.submission_id IS NULL " +
+                    "ORDER BY s.id LIMIT " + CHUNK_SIZE, lastId);
+            if (rows.isEmpty()) {
+                break;
+            }
+            
+            List<Object[]> batch = new ArrayList<>(rows.size());
+            for (Map<String, Object> row : rows) {
+                lastId = ((Number) row.get("id")).longValue();
+                byte[] raw = row.get("submission_text").toString().getBytes(StandardCharsets.UTF_8);
+                byte[] body = SubmissionContentService.compress(raw);
+                batch.add(new Object[] {lastId, body, raw.length, body.length});
+            }
+            jdbcTemplate.batchUpdate("INSERT IGNORE INTO submission_contents " +
+                    "(submission_id, body, original_size, compressed_size, created_at) VALUES (?, ?, ?, ?, NOW())", batch);
+            copied += batch.size();
+        }
+        return copied;
+    }
+}
@@ -0,0 +1,23 @@
+package com.studentmanagement.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+// CBOR converter (application/cbor) that records serialization time
+public class TimedCborHttpMessageConverter extends MappingJackson2CborHttpMessageConverter {
+    
+    public TimedCborHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+    
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        SerializationTiming.write(outputMessage, message -> super.writeInternal(object, type, message));
+    }
+}
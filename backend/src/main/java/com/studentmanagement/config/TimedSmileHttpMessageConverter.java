@@ -0,0 +1,23 @@
+package com.studentmanagement.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+// Smile converter (application/x-jackson-smile) that records serialization time
+public class TimedSmileHttpMessageConverter extends MappingJackson2SmileHttpMessageConverter {
+    
+    public TimedSmileHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+    
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        SerializationTiming.write(outputMessage, message -> super.writeInternal(object, type, message));
+    }
+}
@@ -0,0 +1,30 @@
+package com.studentmanagement.controller;
+
+import com.studentmanagement.dto.GradeDistribution;
+import com.studentmanagement.service.GradeAnalyticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/analytics")
+public class AnalyticsController {
+    
+    @Autowired
+    GradeAnalyticsService gradeAnalyticsService;
+    
+    @GetMapping("/assignments/{assignmentId}/grades")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
+    public ResponseEntity<GradeDistribution> getAssignmentGrades(@PathVariable Long assignmentId) {
+        GradeDistribution distribution = gradeAnalyticsService.getAssignmentDistribution(assignmentId);
+        return distribution != null ? ResponseEntity.ok(distribution) : ResponseEntity.notFound().build();
+    }
+    
+    @GetMapping("/courses/{courseId}/grades")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
+    public ResponseEntity<GradeDistribution> getCourseGrades(@PathVariable Long courseId) {
+        return ResponseEntity.ok(gradeAnalyticsService.getCourseDistribution(courseId));
+    }
+}
@@ -0,0 +1,41 @@
+package com.studentmanagement.controller;
+
+import com.studentmanagement.entity.ArchivedSemester;
+import com.studentmanagement.service.ArchiveService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/archive")
+public class ArchiveController {
+    
+    @Autowired
+    ArchiveService archiveService;
+    
+    @GetMapping("/semesters")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<ArchivedSemester>> getArchivedSemesters() {
+        return ResponseEntity.ok(archiveService.getArchivedSemesters());
+    }
+    
+    @PostMapping("/semesters/{semester}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> archiveSemester(@PathVariable Integer semester) {
+        if (archiveService.isArchived(semester)) {
+            return ResponseEntity.ok("Semester already archived");
+        }
+        if (!archiveService.isClosed(semester)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Error: Semester still has current students");
+        }
+        if (!archiveService.startArchiving(semester)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Error: Semester is already being archived");
+        }
+        return ResponseEntity.accepted().body("Archiving semester " + semester);
+    }
+}
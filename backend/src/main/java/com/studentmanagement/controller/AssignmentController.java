@@ -1,17 +1,36 @@
 package com.studentmanagement.controller;
 
+import com.studentmanagement.dto.CacheInvalidation;
+import com.studentmanagement.dto.UserEvent;
 import com.studentmanagement.entity.Assignment;
 import com.studentmanagement.entity.UserRole;
 import com.studentmanagement.repository.AssignmentRepository;
+import com.studentmanagement.repository.SubmissionRepository;
 import com.studentmanagement.security.UserPrincipal;
+import com.studentmanagement.service.AssignmentAvailabilityService;
+import com.studentmanagement.service.AssignmentCatalogService;
+import com.studentmanagement.service.AttachmentService;
+import com.studentmanagement.service.CacheInvalidationService;
+import com.studentmanagement.service.DueAssignmentService;
+import com.studentmanagement.service.GradeAnalyticsService;
+import com.studentmanagement.service.LeaderboardService;
+import com.studentmanagement.service.SparseFieldsetService;
+import com.studentmanagement.service.StatisticsService;
+import com.studentmanagement.service.SubmissionContentService;
+import com.studentmanagement.service.UserEventService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
 @RestController
@@ -21,8 +40,47 @@ public class AssignmentController {
     @Autowired
     AssignmentRepository assignmentRepository;
     
+    @Autowired
+    UserEventService userEventService;
+    
+    @Autowired
+    AssignmentAvailabilityService assignmentAvailabilityService;
+    
+    @Autowired
+    StatisticsService statisticsService;
+    
+    @Autowired
+    AssignmentCatalogService assignmentCatalogService;
+    
+    @Autowired
+    GradeAnalyticsService gradeAnalyticsService;
+    
+    @Autowired
+    LeaderboardService leaderboardService;
+    
+    @Autowired
+    CacheInvalidationService cacheInvalidationService;
+    
+    @Autowired
+    SparseFieldsetService sparseFieldsetService;
+    
+    @Autowired
+    DueAssignmentService dueAssignmentService;
+    
+    @Autowired
+    SubmissionRepository submissionRepository;
+    
+    @Autowired
+    SubmissionContentService submissionContentService;
+    
+    @Autowired
+    AttachmentService attachmentService;
+    
     @GetMapping("/all")
-    public ResponseEntity<List<Assignment>> getAllAssignments() {
+    public ResponseEntity<?> getAllAssignments(@RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return SparseFieldsets.list(sparseFieldsetService, Assignment.class, fields, Map.of());
+        }
         try {
             // For now, return all assignments - we'll add authentication later
             List<Assignment> assignments = assignmentRepository.findAll();
@@ -33,31 +91,73 @@ public class AssignmentController {
         }
     }
     
+    // One IN query for a page of references instead of a detail call per assignment
+    @GetMapping(params = "ids")
+    public ResponseEntity<?> getAssignmentsByIds(@RequestParam List<Long> ids) {
+        if (ids.size() > MultiGet.MAX_IDS) {
+            return ResponseEntity.badRequest().body("Error: At most " + MultiGet.MAX_IDS + " ids per request");
+        }
+        Set<Long> distinctIds = MultiGet.distinct(ids);
+        return ResponseEntity.ok(MultiGet.inRequestOrder(distinctIds, assignmentRepository.findAllById(distinctIds),
+                Assignment::getId));
+    }
+    
     @GetMapping("/by-course/{courseId}")
-    public ResponseEntity<List<Assignment>> getAssignmentsByCourse(@PathVariable Long courseId) {
+    public ResponseEntity<?> getAssignmentsByCourse(@PathVariable Long courseId,
+                                                    @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return SparseFieldsets.list(sparseFieldsetService, Assignment.class, fields, Map.of("courseId", courseId));
+        }
         List<Assignment> assignments = assignmentRepository.findByCourseId(courseId);
         return ResponseEntity.ok(assignments);
     }
     
+    // Open assignments of the student's courses they have not submitted yet, soonest due first
+    @GetMapping("/due")
+    @PreAuthorize("hasRole('STUDENT')")
+    public ResponseEntity<List<Assignment>> getDueAssignments(Authentication authentication) {
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        return ResponseEntity.ok(dueAssignmentService.getDueAssignments(userPrincipal.getId()));
+    }
+    
     @GetMapping("/{id}")
-    public ResponseEntity<Assignment> getAssignmentById(@PathVariable Long id) {
+    public ResponseEntity<?> getAssignmentById(@PathVariable Long id, @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return SparseFieldsets.one(sparseFieldsetService, Assignment.class, fields, id);
+        }
         Optional<Assignment> assignment = assignmentRepository.findById(id);
-        return assignment.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
+        return assignment.map(found -> ResponseEntity.ok().eTag(EntityTags.of(found.getVersion())).body(found))
+                .orElse(ResponseEntity.notFound().build());
     }
     
     @PostMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
     public ResponseEntity<Assignment> createAssignment(@RequestBody Assignment assignment) {
+        assignment.setVersion(null);
         Assignment savedAssignment = assignmentRepository.save(assignment);
+        assignmentAvailabilityService.track(savedAssignment.getId(), savedAssignment.getStatus(), savedAssignment.getDueDate());
+        statisticsService.assignmentCreated();
+        assignmentCatalogService.update(savedAssignment);
+        dueAssignmentService.evictAll();
+        cacheInvalidationService.assignmentChanged(savedAssignment.getId(), CacheInvalidation.Action.CREATED);
+        userEventService.publishToCourse(savedAssignment.getCourseId(),
+                new UserEvent(UserEvent.ASSIGNMENT_CREATED, savedAssignment.getId(), savedAssignment.getCourseId()));
         return ResponseEntity.ok(savedAssignment);
     }
     
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
-    public ResponseEntity<Assignment> updateAssignment(@PathVariable Long id, @RequestBody Assignment assignmentDetails) {
+    public ResponseEntity<?> updateAssignment(@PathVariable Long id, @RequestBody Assignment assignmentDetails,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         Optional<Assignment> assignmentOptional = assignmentRepository.findById(id);
         if (assignmentOptional.isPresent()) {
             Assignment assignment = assignmentOptional.get();
+            if (!EntityTags.matches(ifMatch, assignment.getVersion())) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body("Error: Assignment has changed since it was read");
+            }
+            if (assignmentDetails.getVersion() != null && !assignmentDetails.getVersion().equals(assignment.getVersion())) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body("Error: Assignment has changed since it was read");
+            }
             assignment.setTitle(assignmentDetails.getTitle());
             assignment.setDescription(assignmentDetails.getDescription());
             assignment.setCourseId(assignmentDetails.getCourseId());
@@ -65,9 +165,22 @@ public class AssignmentController {
             assignment.setDueDate(assignmentDetails.getDueDate());
             assignment.setInstructions(assignmentDetails.getInstructions());
             assignment.setStatus(assignmentDetails.getStatus());
+            assignment.setMaxAttachmentBytes(assignmentDetails.getMaxAttachmentBytes());
             
-            Assignment updatedAssignment = assignmentRepository.save(assignment);
-            return ResponseEntity.ok(updatedAssignment);
+            Assignment updatedAssignment;
+            try {
+                updatedAssignment = assignmentRepository.save(assignment);
+            } catch (ObjectOptimisticLockingFailureException e) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body("Error: Assignment was updated concurrently");
+            }
+            assignmentAvailabilityService.track(updatedAssignment.getId(), updatedAssignment.getStatus(),
+                    updatedAssignment.getDueDate());
+            assignmentCatalogService.update(updatedAssignment);
+            dueAssignmentService.evictAll();
+            cacheInvalidationService.assignmentChanged(updatedAssignment.getId(), CacheInvalidation.Action.UPDATED);
+            userEventService.publishToCourse(updatedAssignment.getCourseId(),
+                    new UserEvent(UserEvent.ASSIGNMENT_UPDATED, updatedAssignment.getId(), updatedAssignment.getCourseId()));
+            return ResponseEntity.ok().eTag(EntityTags.of(updatedAssignment.getVersion())).body(updatedAssignment);
         } else {
             return ResponseEntity.notFound().build();
         }
@@ -77,7 +190,17 @@ public class AssignmentController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<?> deleteAssignment(@PathVariable Long id) {
         if (assignmentRepository.existsById(id)) {
+            List<Long> submissionIds = submissionRepository.findIdsByAssignmentId(id);
             assignmentRepository.deleteById(id);
+            submissionContentService.deleteAll(submissionIds);
+            attachmentService.deleteForSubmissions(submissionIds);
+            assignmentAvailabilityService.markClosed(id);
+            statisticsService.assignmentDeleted(id);
+            assignmentCatalogService.remove(id);
+            gradeAnalyticsService.assignmentDeleted(id);
+            leaderboardService.assignmentDeleted(id);
+            dueAssignmentService.evictAll();
+            cacheInvalidationService.assignmentChanged(id, CacheInvalidation.Action.DELETED);
             return ResponseEntity.ok("Assignment deleted successfully");
         } else {
             return ResponseEntity.notFound().build();
@@ -0,0 +1,203 @@
+package com.studentmanagement.controller;
+
+import com.studentmanagement.entity.Submission;
+import com.studentmanagement.entity.SubmissionAttachment;
+import com.studentmanagement.entity.UserRole;
+import com.studentmanagement.repository.SubmissionAttachmentRepository;
+import com.studentmanagement.repository.SubmissionRepository;
+import com.studentmanagement.security.UserPrincipal;
+import com.studentmanagement.service.ArchiveService;
+import com.studentmanagement.service.AttachmentService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/submissions/{submissionId}/attachments")
+public class AttachmentController {
+    
+    @Autowired
+    SubmissionRepository submissionRepository;
+    
+    @Autowired
+    SubmissionAttachmentRepository attachmentRepository;
+    
+    @Autowired
+    AttachmentService attachmentService;
+    
+    @Autowired
+    ArchiveService archiveService;
+    
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> uploadAttachment(@PathVariable Long submissionId, @RequestParam("file") MultipartFile file,
+                                              Authentication authentication) throws IOException {
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        
+        Optional<Submission> submissionOptional = submissionRepository.findById(submissionId);
+        if (submissionOptional.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        Submission submission = submissionOptional.get();
+        
+        // Only the submitting student may attach files
+        if (!submission.getStudentId().equals(userPrincipal.getId())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().body("Error: File is empty");
+        }
+        if (!attachmentService.fitsQuota(submission, file.getSize())) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                    .body("Error: Attachment quota for this assignment exceeded");
+        }
+        
+        Optional<SubmissionAttachment> attachment = attachmentService.store(submission, file);
+        if (attachment.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                    .body("Error: Attachment quota for this assignment exceeded");
+        }
+        return ResponseEntity.ok(attachment.get());
+    }
+    
+    @GetMapping
+    public ResponseEntity<List<SubmissionAttachment>> getAttachments(@PathVariable Long submissionId,
+                                                                     Authentication authentication) {
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        Optional<Submission> submission = findReadableSubmission(submissionId);
+        if (submission.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!canRead(submission.get(), userPrincipal)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(attachmentRepository.findBySubmissionId(submissionId));
+    }
+    
+    @GetMapping("/{attachmentId}")
+    public void downloadAttachment(@PathVariable Long submissionId, @PathVariable Long attachmentId,
+                                   @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+                                   Authentication authentication, HttpServletRequest request,
+                                   HttpServletResponse response) throws IOException {
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        
+        Optional<Submission> submission = findReadableSubmission(submissionId);
+        Optional<SubmissionAttachment> attachmentOptional = attachmentRepository.findByIdAndSubmissionId(attachmentId, submissionId);
+        if (submission.isEmpty() || attachmentOptional.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (!canRead(submission.get(), userPrincipal)) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+        
+        SubmissionAttachment attachment = attachmentOptional.get();
+        long size = attachment.getSizeBytes();
+        long start = 0;
+        long end = size - 1;
+        
+        // Single byte ranges are enough for resumable downloads
+        if (range != null) {
+            long[] bounds = parseRange(range, size);
+            if (bounds == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            start = bounds[0];
+            end = bounds[1];
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        }
+        
+        long length = end - start + 1;
+        response.setContentType(attachment.getContentType() != null
+                ? attachment.getContentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setContentLengthLong(length);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(attachment.getFileName(), StandardCharsets.UTF_8).build().toString());
+        
+        if (!attachmentService.sendfile(attachment, start, length, request)) {
+            attachmentService.copy(attachment, start, length, response.getOutputStream());
+        }
+    }
+    
+    @DeleteMapping("/{attachmentId}")
+    public ResponseEntity<?> deleteAttachment(@PathVariable Long submissionId, @PathVariable Long attachmentId,
+                                              Authentication authentication) throws IOException {
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        
+        Optional<Submission> submission = submissionRepository.findById(submissionId);
+        Optional<SubmissionAttachment> attachment = attachmentRepository.findByIdAndSubmissionId(attachmentId, submissionId);
+        if (submission.isEmpty() || attachment.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!submission.get().getStudentId().equals(userPrincipal.getId()) && userPrincipal.getRole() != UserRole.ADMIN) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        
+        attachmentService.delete(attachment.get());
+        return ResponseEntity.ok("Attachment deleted successfully");
+    }
+    
+    // Attachment rows outlive archiving, so reads fall back to the archived submission
+    private Optional<Submission> findReadableSubmission(Long submissionId) {
+        Optional<Submission> submission = submissionRepository.findById(submissionId);
+        return submission.isPresent() ? submission : archiveService.findArchivedSubmission(submissionId);
+    }
+    
+    private boolean canRead(Submission submission, UserPrincipal userPrincipal) {
+        return userPrincipal.getRole() == UserRole.ADMIN || userPrincipal.getRole() == UserRole.TEACHER
+                || submission.getStudentId().equals(userPrincipal.getId());
+    }
+    
+    // Returns inclusive [start, end] for "bytes=a-b", "bytes=a-" or "bytes=-n", or null if unsatisfiable
+    private long[] parseRange(String header, long size) {
+        if (!header.startsWith("bytes=") || header.contains(",") || size == 0) {
+            return null;
+        }
+        String spec = header.substring(6).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0) {
+                    return null;
+                }
+                start = Math.max(0, size - suffix);
+                end = size - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? size - 1 : Math.min(Long.parseLong(last), size - 1);
+            }
+            if (start < 0 || start > end || start >= size) {
+                return null;
+            }
+            return new long[] {start, end};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
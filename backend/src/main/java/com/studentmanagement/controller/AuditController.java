@@ -0,0 +1,44 @@
+package com.studentmanagement.controller;
+
+import com.studentmanagement.dto.GradeAuditRecord;
+import com.studentmanagement.service.GradeAuditJournal;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/audit/grades")
+public class AuditController {
+    
+    private static final int MAX_LIMIT = 1000;
+    
+    @Autowired
+    GradeAuditJournal gradeAuditJournal;
+    
+    // Scans the journal forward from fromSequence; narrow it with fromSequence on large logs
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<GradeAuditRecord>> getGradeHistory(@RequestParam(required = false) Long submissionId,
+                                                                  @RequestParam(required = false) Long studentId,
+                                                                  @RequestParam(required = false) Long assignmentId,
+                                                                  @RequestParam(defaultValue = "1") long fromSequence,
+                                                                  @RequestParam(defaultValue = "100") int limit) throws IOException {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        return ResponseEntity.ok(gradeAuditJournal.query(fromSequence, record ->
+                (submissionId == null || submissionId.equals(record.getSubmissionId())) &&
+                (studentId == null || studentId.equals(record.getStudentId())) &&
+                (assignmentId == null || assignmentId.equals(record.getAssignmentId())), boundedLimit));
+    }
+    
+    @GetMapping("/status")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getStatus() throws IOException {
+        return ResponseEntity.ok(gradeAuditJournal.getStatus());
+    }
+}
@@ -0,0 +1,31 @@
+package com.studentmanagement.controller;
+
+import com.studentmanagement.dto.BatchRequest;
+import com.studentmanagement.service.BatchService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/batch")
+public class BatchController {
+    
+    @Autowired
+    BatchService batchService;
+    
+    // Results come back in request order, each with its own status; the batch itself only
+    // fails when it is malformed
+    @PostMapping
+    public ResponseEntity<?> executeBatch(@Valid @RequestBody BatchRequest batchRequest, HttpServletRequest request,
+                                          HttpServletResponse response) {
+        if (batchRequest.getRequests().size() > batchService.getMaxRequests()) {
+            return ResponseEntity.badRequest()
+                    .body("Error: At most " + batchService.getMaxRequests() + " requests per batch");
+        }
+        return ResponseEntity.ok(batchService.execute(batchRequest.getRequests(), request, response));
+    }
+}
@@ -0,0 +1,31 @@
+package com.studentmanagement.controller;
+
+import com.studentmanagement.service.CatalogStreamService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+// Chunked variants of the catalog reads, one JSON object per line. The Tomcat request thread
+// returns at once, but each response then holds a streamingExecutor thread for as long as it
+// takes to read and write, so app.streaming.pool-size bounds the concurrent streams.
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/stream")
+public class CatalogStreamController {
+    
+    private static final String NDJSON = "application/x-ndjson";
+    
+    @Autowired
+    CatalogStreamService catalogStreamService;
+    
+    @GetMapping(value = "/courses/by-semester/{semester}", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamCoursesBySemester(@PathVariable Integer semester) {
+        return ResponseEntity.ok(out -> catalogStreamService.streamCoursesBySemester(semester, out));
+    }
+    
+    @GetMapping(value = "/assignments/by-course/{courseId}", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamAssignmentsByCourse(@PathVariable Long courseId) {
+        return ResponseEntity.ok(out -> catalogStreamService.streamAssignmentsByCourse(courseId, out));
+    }
+}
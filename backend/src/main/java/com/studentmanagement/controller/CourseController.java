@@ -1,17 +1,29 @@
 package com.studentmanagement.controller;
 
+import com.studentmanagement.dto.CacheInvalidation;
 import com.studentmanagement.entity.Course;
 import com.studentmanagement.entity.UserRole;
 import com.studentmanagement.repository.CourseRepository;
+import com.studentmanagement.repository.SubmissionRepository;
 import com.studentmanagement.security.UserPrincipal;
+import com.studentmanagement.service.AttachmentService;
+import com.studentmanagement.service.CacheInvalidationService;
+import com.studentmanagement.service.SparseFieldsetService;
+import com.studentmanagement.service.StatisticsService;
+import com.studentmanagement.service.SubmissionContentService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
 @RestController
@@ -21,13 +33,34 @@ public class CourseController {
     @Autowired
     CourseRepository courseRepository;
     
+    @Autowired
+    StatisticsService statisticsService;
+    
+    @Autowired
+    CacheInvalidationService cacheInvalidationService;
+    
+    @Autowired
+    SparseFieldsetService sparseFieldsetService;
+    
+    @Autowired
+    SubmissionRepository submissionRepository;
+    
+    @Autowired
+    SubmissionContentService submissionContentService;
+    
+    @Autowired
+    AttachmentService attachmentService;
+    
     @GetMapping("/test")
     public ResponseEntity<String> testEndpoint() {
         return ResponseEntity.ok("API is working!");
     }
     
     @GetMapping("/all")
-    public ResponseEntity<List<Course>> getAllCourses() {
+    public ResponseEntity<?> getAllCourses(@RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return SparseFieldsets.list(sparseFieldsetService, Course.class, fields, Map.of());
+        }
         try {
             // For now, return all courses - we'll add authentication later
             List<Course> courses = courseRepository.findAll();
@@ -38,39 +71,73 @@ public class CourseController {
         }
     }
     
+    // One IN query for a page of references instead of a detail call per course
+    @GetMapping(params = "ids")
+    public ResponseEntity<?> getCoursesByIds(@RequestParam List<Long> ids) {
+        if (ids.size() > MultiGet.MAX_IDS) {
+            return ResponseEntity.badRequest().body("Error: At most " + MultiGet.MAX_IDS + " ids per request");
+        }
+        Set<Long> distinctIds = MultiGet.distinct(ids);
+        return ResponseEntity.ok(MultiGet.inRequestOrder(distinctIds, courseRepository.findAllById(distinctIds), Course::getId));
+    }
+    
     @GetMapping("/by-semester/{semester}")
-    public ResponseEntity<List<Course>> getCoursesBySemester(@PathVariable Integer semester) {
+    public ResponseEntity<?> getCoursesBySemester(@PathVariable Integer semester,
+                                                  @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return SparseFieldsets.list(sparseFieldsetService, Course.class, fields, Map.of("semester", semester));
+        }
         List<Course> courses = courseRepository.findBySemester(semester);
         return ResponseEntity.ok(courses);
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<Course> getCourseById(@PathVariable Long id) {
+    public ResponseEntity<?> getCourseById(@PathVariable Long id, @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return SparseFieldsets.one(sparseFieldsetService, Course.class, fields, id);
+        }
         Optional<Course> course = courseRepository.findById(id);
-        return course.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
+        return course.map(found -> ResponseEntity.ok().eTag(EntityTags.of(found.getVersion())).body(found))
+                .orElse(ResponseEntity.notFound().build());
     }
     
     @PostMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
     public ResponseEntity<Course> createCourse(@RequestBody Course course) {
+        course.setVersion(null);
         Course savedCourse = courseRepository.save(course);
+        statisticsService.courseCreated();
+        cacheInvalidationService.courseChanged(savedCourse.getId(), CacheInvalidation.Action.CREATED);
         return ResponseEntity.ok(savedCourse);
     }
     
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
-    public ResponseEntity<Course> updateCourse(@PathVariable Long id, @RequestBody Course courseDetails) {
+    public ResponseEntity<?> updateCourse(@PathVariable Long id, @RequestBody Course courseDetails,
+                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         Optional<Course> courseOptional = courseRepository.findById(id);
         if (courseOptional.isPresent()) {
             Course course = courseOptional.get();
+            if (!EntityTags.matches(ifMatch, course.getVersion())) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body("Error: Course has changed since it was read");
+            }
+            if (courseDetails.getVersion() != null && !courseDetails.getVersion().equals(course.getVersion())) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body("Error: Course has changed since it was read");
+            }
             course.setTitle(courseDetails.getTitle());
             course.setCode(courseDetails.getCode());
             course.setDescription(courseDetails.getDescription());
             course.setSemester(courseDetails.getSemester());
             course.setTeacherId(courseDetails.getTeacherId());
             
-            Course updatedCourse = courseRepository.save(course);
-            return ResponseEntity.ok(updatedCourse);
+            Course updatedCourse;
+            try {
+                updatedCourse = courseRepository.save(course);
+            } catch (ObjectOptimisticLockingFailureException e) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body("Error: Course was updated concurrently");
+            }
+            cacheInvalidationService.courseChanged(updatedCourse.getId(), CacheInvalidation.Action.UPDATED);
+            return ResponseEntity.ok().eTag(EntityTags.of(updatedCourse.getVersion())).body(updatedCourse);
         } else {
             return ResponseEntity.notFound().build();
         }
@@ -80,7 +147,12 @@ public class CourseController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<?> deleteCourse(@PathVariable Long id) {
         if (courseRepository.existsById(id)) {
+            List<Long> submissionIds = submissionRepository.findIdsByCourseId(id);
             courseRepository.deleteById(id);
+            submissionContentService.deleteAll(submissionIds);
+            attachmentService.deleteForSubmissions(submissionIds);
+            statisticsService.courseDeleted();
+            cacheInvalidationService.courseChanged(id, CacheInvalidation.Action.DELETED);
             return ResponseEntity.ok("Course deleted successfully");
         } else {
             return ResponseEntity.notFound().build();
@@ -0,0 +1,35 @@
+package com.studentmanagement.controller;
+
+import com.studentmanagement.dto.StudentDashboardResponse;
+import com.studentmanagement.security.UserPrincipal;
+import com.studentmanagement.service.DashboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/dashboard")
+public class DashboardController {
+    
+    @Autowired
+    DashboardService dashboardService;
+    
+    @GetMapping("/student")
+    @PreAuthorize("hasRole('STUDENT')")
+    public ResponseEntity<?> getStudentDashboard(@RequestParam(required = false) Integer semester,
+                                                 Authentication authentication) {
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        
+        // Default to the student's current semester
+        Integer targetSemester = semester != null ? semester : userPrincipal.getCurrentSemester();
+        if (targetSemester == null) {
+            return ResponseEntity.badRequest().body("Error: No semester specified");
+        }
+        
+        StudentDashboardResponse dashboard = dashboardService.getStudentDashboard(userPrincipal, targetSemester);
+        return ResponseEntity.ok(dashboard);
+    }
+}
@@ -0,0 +1,110 @@
+package com.studentmanagement.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.studentmanagement.dto.EncodingBenchmark;
+import com.studentmanagement.dto.EndpointQueryStats;
+import com.studentmanagement.dto.EndpointTimingStats;
+import com.studentmanagement.dto.RepositoryMethodStats;
+import com.studentmanagement.service.CacheInvalidationService;
+import com.studentmanagement.service.EncodingBenchmarkService;
+import com.studentmanagement.service.QueryBudgetService;
+import com.studentmanagement.service.RepositoryMetricsService;
+import com.studentmanagement.service.RequestTimingService;
+import com.studentmanagement.service.RuntimeStatusService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/diagnostics")
+public class DiagnosticsController {
+    
+    private static final int MAX_LIMIT = 100;
+    private static final int MAX_BENCHMARK_LIST_SIZE = 10000;
+    private static final int MAX_BENCHMARK_SIZES = 5;
+    
+    @Autowired
+    QueryBudgetService queryBudgetService;
+    
+    @Autowired
+    RepositoryMetricsService repositoryMetricsService;
+    
+    @Autowired
+    RequestTimingService requestTimingService;
+    
+    @Autowired
+    CacheInvalidationService cacheInvalidationService;
+    
+    @Autowired
+    RuntimeStatusService runtimeStatusService;
+    
+    @Autowired
+    EncodingBenchmarkService encodingBenchmarkService;
+    
+    // Endpoints over budget are listed first
+    @GetMapping("/queries")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<EndpointQueryStats>> getQueryStats() {
+        return ResponseEntity.ok(queryBudgetService.getStats());
+    }
+    
+    @DeleteMapping("/queries")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> resetQueryStats() {
+        queryBudgetService.reset();
+        return ResponseEntity.ok("Query statistics reset");
+    }
+    
+    // Average time per phase for each endpoint, slowest endpoints first
+    @GetMapping("/timings")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<EndpointTimingStats>> getTimingStats() {
+        return ResponseEntity.ok(requestTimingService.getStats());
+    }
+    
+    @DeleteMapping("/timings")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> resetTimingStats() {
+        requestTimingService.reset();
+        return ResponseEntity.ok("Timing statistics reset");
+    }
+    
+    // Connection pool, heap and thread usage right now
+    @GetMapping("/runtime")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getRuntimeStatus() {
+        return ResponseEntity.ok(runtimeStatusService.getStatus());
+    }
+    
+    // Bytes and encode time per response format for lists of each size, relative to JSON
+    @PostMapping("/encoding-benchmark")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<EncodingBenchmark> benchmarkEncoding(
+            @RequestParam(defaultValue = "10,100,1000") List<Integer> sizes) throws JsonProcessingException {
+        List<Integer> boundedSizes = sizes.stream().limit(MAX_BENCHMARK_SIZES)
+                .map(size -> Math.max(1, Math.min(size, MAX_BENCHMARK_LIST_SIZE))).toList();
+        return ResponseEntity.ok(encodingBenchmarkService.benchmark(boundedSizes));
+    }
+    
+    // Messages exchanged with the other replicas and how long they took to arrive
+    @GetMapping("/invalidation")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getInvalidationStatus() {
+        return ResponseEntity.ok(cacheInvalidationService.getStatus());
+    }
+    
+    // Slowest repository methods by p95 over the last `minutes`, at most the configured window
+    @GetMapping("/repositories")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<RepositoryMethodStats>> getSlowestRepositoryMethods(
+            @RequestParam(required = false) Integer minutes, @RequestParam(defaultValue = "10") int limit) {
+        int window = repositoryMetricsService.getWindowMinutes();
+        int boundedMinutes = minutes == null ? window : Math.max(1, Math.min(minutes, window));
+        return ResponseEntity.ok(repositoryMetricsService.getSlowest(boundedMinutes, Math.max(1, Math.min(limit, MAX_LIMIT))));
+    }
+}
@@ -0,0 +1,26 @@
+package com.studentmanagement.controller;
+
+// Strong ETags derived from an entity's optimistic-lock version
+final class EntityTags {
+    
+    private EntityTags() {}
+    
+    static String of(Long version) {
+        return version != null ? "\"" + version + "\"" : null;
+    }
+    
+    // No If-Match header means the client did not ask for a precondition
+    static boolean matches(String ifMatch, Long version) {
+        if (ifMatch == null) {
+            return true;
+        }
+        String current = of(version);
+        for (String tag : ifMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.equals("*") || candidate.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,35 @@
+package com.studentmanagement.controller;
+
+import com.studentmanagement.security.UserPrincipal;
+import com.studentmanagement.service.UserEventService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/events")
+public class EventController {
+    
+    @Autowired
+    UserEventService userEventService;
+    
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(Authentication authentication) {
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        return userEventService.subscribe(userPrincipal.getId());
+    }
+    
+    @GetMapping("/connections")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Long>> getConnectionCount() {
+        return ResponseEntity.ok(Map.of("connections", (long) userEventService.getConnectionCount(),
+                "droppedSlowClients", userEventService.getDroppedClientCount()));
+    }
+}
@@ -0,0 +1,46 @@
+package com.studentmanagement.controller;
+
+import com.studentmanagement.dto.RankingEntry;
+import com.studentmanagement.security.UserPrincipal;
+import com.studentmanagement.service.LeaderboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/leaderboard/courses/{courseId}")
+public class LeaderboardController {
+    
+    private static final int MAX_LIMIT = 100;
+    
+    @Autowired
+    LeaderboardService leaderboardService;
+    
+    // Names and totals of other students, so only the course's own members and admins may read it
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN') or @courseAccess.isMember(#courseId, authentication)")
+    public ResponseEntity<List<RankingEntry>> getTop(@PathVariable Long courseId,
+                                                     @RequestParam(defaultValue = "10") int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        return ResponseEntity.ok(leaderboardService.getTop(courseId, boundedLimit));
+    }
+    
+    @GetMapping("/me")
+    public ResponseEntity<RankingEntry> getMyRank(@PathVariable Long courseId, Authentication authentication) {
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        RankingEntry entry = leaderboardService.getRank(courseId, userPrincipal.getId());
+        return entry != null ? ResponseEntity.ok(entry) : ResponseEntity.notFound().build();
+    }
+    
+    @GetMapping("/students/{studentId}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
+    public ResponseEntity<RankingEntry> getStudentRank(@PathVariable Long courseId, @PathVariable Long studentId) {
+        RankingEntry entry = leaderboardService.getRank(courseId, studentId);
+        return entry != null ? ResponseEntity.ok(entry) : ResponseEntity.notFound().build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.studentmanagement.controller;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+// Shared rules for the `?ids=` multi-get endpoints
+final class MultiGet {
+    
+    static final int MAX_IDS = 100;
+    
+    private MultiGet() {}
+    
+    static Set<Long> distinct(List<Long> ids) {
+        return new LinkedHashSet<>(ids);
+    }
+    
+    // Results follow the order of the request; ids that were not found are left out
+    static <T> List<T> inRequestOrder(Set<Long> ids, Iterable<T> found, Function<T, Long> idOf) {
+        Map<Long, T> byId = new HashMap<>();
+        for (T item : found) {
+            byId.put(idOf.apply(item), item);
+        }
+        List<T> ordered = new ArrayList<>(byId.size());
+        for (Long id : ids) {
+            T item = byId.get(id);
+            if (item != null) {
+                ordered.add(item);
+            }
+        }
+        return ordered;
+    }
+}
@@ -0,0 +1,91 @@
+package com.studentmanagement.controller;
+
+import com.studentmanagement.dto.ReportCardJob;
+import com.studentmanagement.service.ReportCardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Optional;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/report-cards")
+public class ReportCardController {
+    
+    @Autowired
+    ReportCardService reportCardService;
+    
+    @PostMapping("/semesters/{semester}")
+    @PreAuthorize("hasRole(\'ADMIN\')")
+    public ResponseEntity<?> generateReportCards(@PathVariable Integer semester) {
+        ReportCardJob job = reportCardService.startJob(semester);
+        if (job == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Error: Report cards for this semester are already being generated");
+        }
+        return ResponseEntity.accepted().body(job);
+    }
+    
+    @GetMapping("/jobs")
+    @PreAuthorize("hasRole(\'ADMIN\')")
+    public ResponseEntity<Collection<ReportCardJob>> getJobs() {
+        return ResponseEntity.ok(reportCardService.getJobs());
+    }
+    
+    @GetMapping("/jobs/{jobId}")
+    @PreAuthorize("hasRole(\'ADMIN\')")
+    public ResponseEntity<ReportCardJob> getJob(@PathVariable String jobId) {
+        return reportCardService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @PostMapping("/jobs/{jobId}/cancel")
+    @PreAuthorize("hasRole(\'ADMIN\')")
+    public ResponseEntity<ReportCardJob> cancelJob(@PathVariable String jobId) {
+        return reportCardService.cancel(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @GetMapping("/jobs/{jobId}/download")
+    @PreAuthorize("hasRole(\'ADMIN\')")
+    public ResponseEntity<Resource> downloadArchive(@PathVariable String jobId) {
+        Optional<ReportCardJob> jobOptional = reportCardService.getJob(jobId);
+        if (jobOptional.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        ReportCardJob job = jobOptional.get();
+        if (!ReportCardJob.COMPLETED.equals(job.getStatus())) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .contentLength(job.getArchiveBytes())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("report-cards-semester-" + job.getSemester() + ".zip").build().toString())
+                .body(new FileSystemResource(job.getArchivePath()));
+    }
+    
+    @DeleteMapping("/jobs/{jobId}")
+    @PreAuthorize("hasRole(\'ADMIN\')")
+    public ResponseEntity<?> deleteJob(@PathVariable String jobId) throws IOException {
+        if (reportCardService.getJob(jobId).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!reportCardService.remove(jobId)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Error: Cancel the job before deleting it");
+        }
+        return ResponseEntity.ok("Report card job deleted successfully");
+    }
+}
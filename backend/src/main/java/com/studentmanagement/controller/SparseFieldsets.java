@@ -0,0 +1,48 @@
+package com.studentmanagement.controller;
+
+import com.studentmanagement.service.SparseFieldsetService;
+import org.springframework.http.ResponseEntity;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+// Responses for the `fields=` variants of the read endpoints
+final class SparseFieldsets {
+    
+    private SparseFieldsets() {}
+    
+    static ResponseEntity<?> list(SparseFieldsetService service, Class<?> entityType, String fields,
+                                  Map<String, Object> filters) {
+        Set<String> selected;
+        try {
+            selected = service.parse(entityType, fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+        List<Map<String, Object>> rows = service.findAll(entityType, selected, filters);
+        return ResponseEntity.ok(rows);
+    }
+    
+    // The version is always read so the ETag matches the full representation's
+    static ResponseEntity<?> one(SparseFieldsetService service, Class<?> entityType, String fields, Long id) {
+        Set<String> selected;
+        try {
+            selected = service.parse(entityType, fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+        boolean versionRequested = selected.contains("version");
+        Set<String> columns = new LinkedHashSet<>(selected);
+        columns.add("version");
+        Optional<Map<String, Object>> row = service.findById(entityType, columns, id);
+        if (row.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        Map<String, Object> found = row.get();
+        Object version = versionRequested ? found.get("version") : found.remove("version");
+        return ResponseEntity.ok().eTag(EntityTags.of((Long) version)).body(found);
+    }
+}
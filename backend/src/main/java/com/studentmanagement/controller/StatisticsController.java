@@ -0,0 +1,38 @@
+package com.studentmanagement.controller;
+
+import com.studentmanagement.dto.StatisticsResponse;
+import com.studentmanagement.service.StatisticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/stats")
+public class StatisticsController {
+    
+    @Autowired
+    StatisticsService statisticsService;
+    
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StatisticsResponse> getStatistics() {
+        return ResponseEntity.ok(statisticsService.getStatistics());
+    }
+    
+    @GetMapping("/assignments/{assignmentId}/submissions")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
+    public ResponseEntity<Map<String, Long>> getSubmissionCount(@PathVariable Long assignmentId) {
+        return ResponseEntity.ok(Map.of("submissions", statisticsService.getSubmissionCount(assignmentId)));
+    }
+    
+    @PostMapping("/reconcile")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StatisticsResponse> reconcile() {
+        statisticsService.reconcile();
+        return ResponseEntity.ok(statisticsService.getStatistics());
+    }
+}
@@ -1,19 +1,39 @@
 package com.studentmanagement.controller;
 
+import com.studentmanagement.dto.CacheInvalidation;
+import com.studentmanagement.dto.GradeAuditRecord;
+import com.studentmanagement.dto.UserEvent;
 import com.studentmanagement.entity.Submission;
 import com.studentmanagement.entity.SubmissionStatus;
 import com.studentmanagement.entity.UserRole;
+import com.studentmanagement.repository.SubmissionContentRepository;
 import com.studentmanagement.repository.SubmissionRepository;
 import com.studentmanagement.security.UserPrincipal;
+import com.studentmanagement.service.ArchiveService;
+import com.studentmanagement.service.CacheInvalidationService;
+import com.studentmanagement.service.DueAssignmentService;
+import com.studentmanagement.service.GradeAnalyticsService;
+import com.studentmanagement.service.GradeAuditJournal;
+import com.studentmanagement.service.LeaderboardService;
+import com.studentmanagement.service.AssignmentAvailabilityService;
+import com.studentmanagement.service.StatisticsService;
+import com.studentmanagement.service.SubmissionContentService;
+import com.studentmanagement.service.UserEventService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
 @RestController
@@ -23,6 +43,39 @@ public class SubmissionController {
     @Autowired
     SubmissionRepository submissionRepository;
     
+    @Autowired
+    UserEventService userEventService;
+    
+    @Autowired
+    AssignmentAvailabilityService assignmentAvailabilityService;
+    
+    @Autowired
+    ArchiveService archiveService;
+    
+    @Autowired
+    SubmissionContentService submissionContentService;
+    
+    @Autowired
+    SubmissionContentRepository submissionContentRepository;
+    
+    @Autowired
+    StatisticsService statisticsService;
+    
+    @Autowired
+    GradeAnalyticsService gradeAnalyticsService;
+    
+    @Autowired
+    LeaderboardService leaderboardService;
+    
+    @Autowired
+    GradeAuditJournal gradeAuditJournal;
+    
+    @Autowired
+    DueAssignmentService dueAssignmentService;
+    
+    @Autowired
+    CacheInvalidationService cacheInvalidationService;
+    
     @GetMapping("/by-assignment/{assignmentId}")
     public ResponseEntity<List<Submission>> getSubmissionsByAssignment(@PathVariable Long assignmentId, Authentication authentication) {
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
@@ -30,11 +83,17 @@ public class SubmissionController {
         if (userPrincipal.getRole() == UserRole.ADMIN || userPrincipal.getRole() == UserRole.TEACHER) {
             // Admins and teachers can see all submissions for an assignment
             List<Submission> submissions = submissionRepository.findByAssignmentId(assignmentId);
+            if (submissions.isEmpty()) {
+                submissions = archiveService.findArchivedSubmissionsForAssignment(assignmentId);
+            }
             return ResponseEntity.ok(submissions);
         } else if (userPrincipal.getRole() == UserRole.STUDENT) {
             // Students can only see their own submissions
             List<Submission> submissions = submissionRepository.findByAssignmentIdAndStudentId(assignmentId, userPrincipal.getId())
                     .map(List::of).orElse(List.of());
+            if (submissions.isEmpty()) {
+                submissions = archiveService.findArchivedSubmissionForAssignmentAndStudent(assignmentId, userPrincipal.getId());
+            }
             return ResponseEntity.ok(submissions);
         }
         
@@ -42,16 +101,59 @@ public class SubmissionController {
     }
     
     @GetMapping("/my-submissions")
-    public ResponseEntity<List<Submission>> getMySubmissions(Authentication authentication) {
+    public ResponseEntity<List<Submission>> getMySubmissions(@RequestParam(required = false) Integer semester,
+                                                             Authentication authentication) {
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        
+        // Old semesters may have been moved to the archive tables
+        if (semester != null) {
+            return ResponseEntity.ok(archiveService.findSubmissionsForStudent(userPrincipal.getId(), semester));
+        }
+        
         List<Submission> submissions = submissionRepository.findByStudentId(userPrincipal.getId());
         return ResponseEntity.ok(submissions);
     }
     
+    // Students only get their own submissions back, as with the by-assignment listing. Bodies are
+    // not loaded, as in the other listings; archived submissions cost a second query only when
+    // some ids were not in the hot table.
+    @GetMapping(params = "ids")
+    public ResponseEntity<?> getSubmissionsByIds(@RequestParam List<Long> ids, Authentication authentication) {
+        if (ids.size() > MultiGet.MAX_IDS) {
+            return ResponseEntity.badRequest().body("Error: At most " + MultiGet.MAX_IDS + " ids per request");
+        }
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        Set<Long> distinctIds = MultiGet.distinct(ids);
+        
+        List<Submission> found = new ArrayList<>(submissionRepository.findAllById(distinctIds));
+        if (found.size() < distinctIds.size()) {
+            Set<Long> missing = new HashSet<>(distinctIds);
+            found.forEach(submission -> missing.remove(submission.getId()));
+            found.addAll(archiveService.findArchivedSubmissions(missing));
+        }
+        if (userPrincipal.getRole() != UserRole.ADMIN && userPrincipal.getRole() != UserRole.TEACHER) {
+            found.removeIf(submission -> !userPrincipal.getId().equals(submission.getStudentId()));
+        }
+        return ResponseEntity.ok(MultiGet.inRequestOrder(distinctIds, found, Submission::getId));
+    }
+    
+    @GetMapping("/content-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<SubmissionContentRepository.StorageSizes> getContentStats() {
+        return ResponseEntity.ok(submissionContentRepository.getStorageSizes());
+    }
+    
     @GetMapping("/{id}")
     public ResponseEntity<Submission> getSubmissionById(@PathVariable Long id) {
         Optional<Submission> submission = submissionRepository.findById(id);
-        return submission.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
+        if (submission.isEmpty()) {
+            submission = archiveService.findArchivedSubmission(id);
+        }
+        
+        // Only the detail view pays for reading the body
+        submission.ifPresent(found -> found.setSubmissionText(submissionContentService.load(found.getId())));
+        return submission.map(found -> ResponseEntity.ok().eTag(EntityTags.of(found.getVersion())).body(found))
+                .orElse(ResponseEntity.notFound().build());
     }
     
     @PostMapping
@@ -59,6 +161,15 @@ public class SubmissionController {
     public ResponseEntity<Submission> createSubmission(@RequestBody Submission submission, Authentication authentication) {
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
         
+        if (submission.getSubmissionText() == null || submission.getSubmissionText().isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        // Reject submissions for closed or past-due assignments
+        if (!assignmentAvailabilityService.isOpen(submission.getAssignmentId())) {
+            return ResponseEntity.badRequest().build();
+        }
+        
         // Check if student already submitted this assignment
         Optional<Submission> existingSubmission = submissionRepository.findByAssignmentIdAndStudentId(
                 submission.getAssignmentId(), userPrincipal.getId());
@@ -67,31 +178,61 @@ public class SubmissionController {
             return ResponseEntity.badRequest().build(); // Already submitted
         }
         
+        submission.setVersion(null);
         submission.setStudentId(userPrincipal.getId());
         submission.setStudentName(userPrincipal.getDisplayName());
         submission.setSubmittedAt(LocalDateTime.now());
         submission.setStatus(SubmissionStatus.SUBMITTED);
         
-        Submission savedSubmission = submissionRepository.save(submission);
+        Submission savedSubmission = submissionContentService.createSubmission(submission);
+        statisticsService.submissionCreated(savedSubmission.getAssignmentId());
+        dueAssignmentService.evictStudent(userPrincipal.getId());
+        cacheInvalidationService.submissionChanged(savedSubmission.getId(), CacheInvalidation.Action.CREATED);
         return ResponseEntity.ok(savedSubmission);
     }
     
     @PutMapping("/{id}/grade")
     @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
-    public ResponseEntity<Submission> gradeSubmission(@PathVariable Long id, @RequestBody GradeRequest gradeRequest, Authentication authentication) {
+    public ResponseEntity<?> gradeSubmission(@PathVariable Long id, @RequestBody GradeRequest gradeRequest,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                             Authentication authentication) {
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
         
         Optional<Submission> submissionOptional = submissionRepository.findById(id);
         if (submissionOptional.isPresent()) {
             Submission submission = submissionOptional.get();
+            if (!EntityTags.matches(ifMatch, submission.getVersion())) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body("Error: Submission has changed since it was read");
+            }
+            if (gradeRequest.getVersion() != null && !gradeRequest.getVersion().equals(submission.getVersion())) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body("Error: Submission has changed since it was read");
+            }
+            Integer previousScore = submission.getScore();
+            String previousFeedback = submission.getFeedback();
             submission.setScore(gradeRequest.getScore());
             submission.setFeedback(gradeRequest.getFeedback());
             submission.setGradedBy(userPrincipal.getId());
             submission.setGradedAt(LocalDateTime.now());
             submission.setStatus(SubmissionStatus.GRADED);
             
-            Submission updatedSubmission = submissionRepository.save(submission);
-            return ResponseEntity.ok(updatedSubmission);
+            Submission updatedSubmission;
+            try {
+                updatedSubmission = submissionRepository.save(submission);
+            } catch (ObjectOptimisticLockingFailureException e) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body("Error: Submission was graded concurrently");
+            }
+            gradeAuditJournal.append(new GradeAuditRecord(updatedSubmission.getId(), updatedSubmission.getAssignmentId(),
+                    updatedSubmission.getStudentId(), userPrincipal.getId(), previousScore, updatedSubmission.getScore(),
+                    previousFeedback, updatedSubmission.getFeedback()));
+            gradeAnalyticsService.scoreChanged(updatedSubmission.getId(), updatedSubmission.getVersion(),
+                    updatedSubmission.getAssignmentId(), previousScore, updatedSubmission.getScore());
+            leaderboardService.scoreChanged(updatedSubmission.getId(), updatedSubmission.getVersion(),
+                    updatedSubmission.getAssignmentId(), updatedSubmission.getStudentId(),
+                    previousScore, updatedSubmission.getScore());
+            userEventService.publishToUser(updatedSubmission.getStudentId(),
+                    new UserEvent(UserEvent.SUBMISSION_GRADED, updatedSubmission.getId(), null));
+            cacheInvalidationService.submissionChanged(updatedSubmission.getId(), CacheInvalidation.Action.GRADED);
+            return ResponseEntity.ok().eTag(EntityTags.of(updatedSubmission.getVersion())).body(updatedSubmission);
         } else {
             return ResponseEntity.notFound().build();
         }
@@ -101,6 +242,7 @@ public class SubmissionController {
     public static class GradeRequest {
         private Integer score;
         private String feedback;
+        private Long version;
         
         public Integer getScore() {
             return score;
@@ -117,5 +259,13 @@ public class SubmissionController {
         public void setFeedback(String feedback) {
             this.feedback = feedback;
         }
+        
+        public Long getVersion() {
+            return version;
+        }
+        
+        public void setVersion(Long version) {
+            this.version = version;
+        }
     }
 }
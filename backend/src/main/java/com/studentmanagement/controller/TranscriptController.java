@@ -0,0 +1,67 @@
+package com.studentmanagement.controller;
+
+import com.studentmanagement.dto.TranscriptRun;
+import com.studentmanagement.entity.Transcript;
+import com.studentmanagement.entity.TranscriptCourse;
+import com.studentmanagement.security.UserPrincipal;
+import com.studentmanagement.service.TranscriptService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/transcripts")
+public class TranscriptController {
+    
+    @Autowired
+    TranscriptService transcriptService;
+    
+    @PostMapping("/semesters/{semester}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> generateTranscripts(@PathVariable Integer semester) {
+        TranscriptRun run = transcriptService.startGeneration(semester);
+        if (run == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Error: Transcripts for this semester are already being generated");
+        }
+        return ResponseEntity.accepted().body(run);
+    }
+    
+    @GetMapping("/semesters/{semester}/run")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TranscriptRun> getRun(@PathVariable Integer semester) {
+        TranscriptRun run = transcriptService.getRun(semester);
+        return run != null ? ResponseEntity.ok(run) : ResponseEntity.notFound().build();
+    }
+    
+    @GetMapping("/me")
+    public ResponseEntity<List<Transcript>> getMyTranscripts(Authentication authentication) {
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        return ResponseEntity.ok(transcriptService.getTranscripts(userPrincipal.getId()));
+    }
+    
+    @GetMapping("/me/semesters/{semester}")
+    public ResponseEntity<List<TranscriptCourse>> getMyTranscriptCourses(@PathVariable Integer semester,
+                                                                         Authentication authentication) {
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        return ResponseEntity.ok(transcriptService.getTranscriptCourses(userPrincipal.getId(), semester));
+    }
+    
+    @GetMapping("/students/{studentId}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
+    public ResponseEntity<List<Transcript>> getStudentTranscripts(@PathVariable Long studentId) {
+        return ResponseEntity.ok(transcriptService.getTranscripts(studentId));
+    }
+    
+    @GetMapping("/students/{studentId}/semesters/{semester}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
+    public ResponseEntity<List<TranscriptCourse>> getStudentTranscriptCourses(@PathVariable Long studentId,
+                                                                              @PathVariable Integer semester) {
+        return ResponseEntity.ok(transcriptService.getTranscriptCourses(studentId, semester));
+    }
+}
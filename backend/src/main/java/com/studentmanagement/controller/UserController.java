@@ -1,9 +1,17 @@
 package com.studentmanagement.controller;
 
+import com.studentmanagement.dto.CacheInvalidation;
+import com.studentmanagement.dto.SemesterRolloverRequest;
+import com.studentmanagement.entity.SemesterRolloverJob;
 import com.studentmanagement.entity.User;
 import com.studentmanagement.entity.UserRole;
 import com.studentmanagement.repository.UserRepository;
+import com.studentmanagement.security.UserDetailsServiceImpl;
 import com.studentmanagement.security.UserPrincipal;
+import com.studentmanagement.service.CacheInvalidationService;
+import com.studentmanagement.service.SemesterRolloverService;
+import com.studentmanagement.service.StatisticsService;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -21,6 +29,18 @@ public class UserController {
     @Autowired
     UserRepository userRepository;
     
+    @Autowired
+    SemesterRolloverService semesterRolloverService;
+    
+    @Autowired
+    StatisticsService statisticsService;
+    
+    @Autowired
+    UserDetailsServiceImpl userDetailsService;
+    
+    @Autowired
+    CacheInvalidationService cacheInvalidationService;
+    
     @GetMapping("/profile")
     public ResponseEntity<?> getUserProfile(Authentication authentication) {
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
@@ -60,8 +80,12 @@ public class UserController {
         Optional<User> userOptional = userRepository.findById(id);
         if (userOptional.isPresent()) {
             User user = userOptional.get();
+            UserRole previousRole = user.getRole();
             user.setRole(role);
             userRepository.save(user);
+            statisticsService.userRoleChanged(previousRole, role);
+            userDetailsService.evictUser(id);
+            cacheInvalidationService.userChanged(id, CacheInvalidation.Action.UPDATED);
             return ResponseEntity.ok("User role updated successfully");
         } else {
             return ResponseEntity.notFound().build();
@@ -76,17 +100,44 @@ public class UserController {
             User user = userOptional.get();
             user.setCurrentSemester(semester);
             userRepository.save(user);
+            userDetailsService.evictUser(id);
+            cacheInvalidationService.userChanged(id, CacheInvalidation.Action.UPDATED);
             return ResponseEntity.ok("User semester updated successfully");
         } else {
             return ResponseEntity.notFound().build();
         }
     }
     
+    @PostMapping("/semester-rollover")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<SemesterRolloverJob> startSemesterRollover(@Valid @RequestBody SemesterRolloverRequest request) {
+        SemesterRolloverJob job = semesterRolloverService.startRollover(request.getFromSemester(), request.getToSemester());
+        return ResponseEntity.accepted().body(job);
+    }
+    
+    @GetMapping("/semester-rollover/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<SemesterRolloverJob> getSemesterRollover(@PathVariable Long jobId) {
+        Optional<SemesterRolloverJob> job = semesterRolloverService.getJob(jobId);
+        return job.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
+    }
+    
+    @PostMapping("/semester-rollover/{jobId}/resume")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<SemesterRolloverJob> resumeSemesterRollover(@PathVariable Long jobId) {
+        Optional<SemesterRolloverJob> job = semesterRolloverService.resumeRollover(jobId);
+        return job.map(started -> ResponseEntity.accepted().body(started)).orElse(ResponseEntity.notFound().build());
+    }
+    
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<?> deleteUser(@PathVariable Long id) {
-        if (userRepository.existsById(id)) {
+        Optional<User> userOptional = userRepository.findById(id);
+        if (userOptional.isPresent()) {
             userRepository.deleteById(id);
+            statisticsService.userDeleted(userOptional.get().getRole());
+            userDetailsService.evictUser(id);
+            cacheInvalidationService.userChanged(id, CacheInvalidation.Action.DELETED);
             return ResponseEntity.ok("User deleted successfully");
         } else {
             return ResponseEntity.notFound().build();
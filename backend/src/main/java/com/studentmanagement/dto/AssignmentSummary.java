@@ -0,0 +1,126 @@
+package com.studentmanagement.dto;
+
+import com.studentmanagement.entity.AssignmentStatus;
+import com.studentmanagement.entity.SubmissionStatus;
+
+import java.time.LocalDateTime;
+
+public class AssignmentSummary {
+    
+    private Long id;
+    private Long courseId;
+    private String courseCode;
+    private String title;
+    private String dueDate;
+    private Integer maxPoints;
+    private AssignmentStatus status;
+    
+    // Submission state for the requesting student, null when not submitted
+    private Long submissionId;
+    private SubmissionStatus submissionStatus;
+    private Integer score;
+    private LocalDateTime submittedAt;
+    
+    // Constructors
+    public AssignmentSummary() {}
+    
+    public AssignmentSummary(Long id, Long courseId, String courseCode, String title, String dueDate,
+                             Integer maxPoints, AssignmentStatus status) {
+        this.id = id;
+        this.courseId = courseId;
+        this.courseCode = courseCode;
+        this.title = title;
+        this.dueDate = dueDate;
+        this.maxPoints = maxPoints;
+        this.status = status;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getCourseId() {
+        return courseId;
+    }
+    
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+    
+    public String getCourseCode() {
+        return courseCode;
+    }
+    
+    public void setCourseCode(String courseCode) {
+        this.courseCode = courseCode;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    public void setTitle(String title) {
+        this.title = title;
+    }
+    
+    public String getDueDate() {
+        return dueDate;
+    }
+    
+    public void setDueDate(String dueDate) {
+        this.dueDate = dueDate;
+    }
+    
+    public Integer getMaxPoints() {
+        return maxPoints;
+    }
+    
+    public void setMaxPoints(Integer maxPoints) {
+        this.maxPoints = maxPoints;
+    }
+    
+    public AssignmentStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(AssignmentStatus status) {
+        this.status = status;
+    }
+    
+    public Long getSubmissionId() {
+        return submissionId;
+    }
+    
+    public void setSubmissionId(Long submissionId) {
+        this.submissionId = submissionId;
+    }
+    
+    public SubmissionStatus getSubmissionStatus() {
+        return submissionStatus;
+    }
+    
+    public void setSubmissionStatus(SubmissionStatus submissionStatus) {
+        this.submissionStatus = submissionStatus;
+    }
+    
+    public Integer getScore() {
+        return score;
+    }
+    
+    public void setScore(Integer score) {
+        this.score = score;
+    }
+    
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+    
+    public void setSubmittedAt(LocalDateTime submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+}
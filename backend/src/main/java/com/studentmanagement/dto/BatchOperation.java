@@ -0,0 +1,65 @@
+package com.studentmanagement.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.constraints.NotBlank;
+
+import java.util.Map;
+
+public class BatchOperation {
+    
+    @NotBlank
+    private String method;
+    
+    // Relative to the API root, query string included, e.g. /courses?ids=1,2
+    @NotBlank
+    private String path;
+    
+    // Sent as the JSON request body
+    private JsonNode body;
+    
+    // Added to, or replacing, the batch request's own headers, e.g. If-Match
+    private Map<String, String> headers;
+    
+    // Constructors
+    public BatchOperation() {}
+    
+    public BatchOperation(String method, String path, JsonNode body, Map<String, String> headers) {
+        this.method = method;
+        this.path = path;
+        this.body = body;
+        this.headers = headers;
+    }
+    
+    // Getters and Setters
+    public String getMethod() {
+        return method;
+    }
+    
+    public void setMethod(String method) {
+        this.method = method;
+    }
+    
+    public String getPath() {
+        return path;
+    }
+    
+    public void setPath(String path) {
+        this.path = path;
+    }
+    
+    public JsonNode getBody() {
+        return body;
+    }
+    
+    public void setBody(JsonNode body) {
+        this.body = body;
+    }
+    
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+    
+    public void setHeaders(Map<String, String> headers) {
+        this.headers = headers;
+    }
+}
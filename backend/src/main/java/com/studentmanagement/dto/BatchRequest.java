@@ -0,0 +1,29 @@
+package com.studentmanagement.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public class BatchRequest {
+    
+    @NotEmpty
+    @Valid
+    private List<BatchOperation> requests;
+    
+    // Constructors
+    public BatchRequest() {}
+    
+    public BatchRequest(List<BatchOperation> requests) {
+        this.requests = requests;
+    }
+    
+    // Getters and Setters
+    public List<BatchOperation> getRequests() {
+        return requests;
+    }
+    
+    public void setRequests(List<BatchOperation> requests) {
+        this.requests = requests;
+    }
+}
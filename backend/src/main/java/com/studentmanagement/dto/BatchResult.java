@@ -0,0 +1,57 @@
+package com.studentmanagement.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Map;
+
+public class BatchResult {
+    
+    private int status;
+    private Map<String, String> headers;
+    // JSON responses are embedded as JSON, anything else as a string
+    private JsonNode body;
+    private long durationMillis;
+    
+    // Constructors
+    public BatchResult() {}
+    
+    public BatchResult(int status, Map<String, String> headers, JsonNode body, long durationMillis) {
+        this.status = status;
+        this.headers = headers;
+        this.body = body;
+        this.durationMillis = durationMillis;
+    }
+    
+    // Getters and Setters
+    public int getStatus() {
+        return status;
+    }
+    
+    public void setStatus(int status) {
+        this.status = status;
+    }
+    
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+    
+    public void setHeaders(Map<String, String> headers) {
+        this.headers = headers;
+    }
+    
+    public JsonNode getBody() {
+        return body;
+    }
+    
+    public void setBody(JsonNode body) {
+        this.body = body;
+    }
+    
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+    
+    public void setDurationMillis(long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+}
@@ -0,0 +1,82 @@
+package com.studentmanagement.dto;
+
+// One write that other replicas must reflect in their in-memory state
+public class CacheInvalidation {
+    
+    public enum Type {
+        COURSE, ASSIGNMENT, USER, SUBMISSION
+    }
+    
+    // Appended only: the UDP transport sends the ordinal
+    public enum Action {
+        CREATED, UPDATED, DELETED, GRADED
+    }
+    
+    private Type type;
+    private Action action;
+    private Long id;
+    private long origin;
+    private long sequence;
+    private long publishedAt;
+    
+    // Constructors
+    public CacheInvalidation() {}
+    
+    public CacheInvalidation(Type type, Action action, Long id, long origin, long sequence, long publishedAt) {
+        this.type = type;
+        this.action = action;
+        this.id = id;
+        this.origin = origin;
+        this.sequence = sequence;
+        this.publishedAt = publishedAt;
+    }
+    
+    // Getters and Setters
+    public Type getType() {
+        return type;
+    }
+    
+    public void setType(Type type) {
+        this.type = type;
+    }
+    
+    public Action getAction() {
+        return action;
+    }
+    
+    public void setAction(Action action) {
+        this.action = action;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public long getOrigin() {
+        return origin;
+    }
+    
+    public void setOrigin(long origin) {
+        this.origin = origin;
+    }
+    
+    public long getSequence() {
+        return sequence;
+    }
+    
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+    
+    public long getPublishedAt() {
+        return publishedAt;
+    }
+    
+    public void setPublishedAt(long publishedAt) {
+        this.publishedAt = publishedAt;
+    }
+}
@@ -0,0 +1,62 @@
+package com.studentmanagement.dto;
+
+public class CourseSummary {
+    
+    private Long id;
+    private String code;
+    private String title;
+    private Integer semester;
+    private Long teacherId;
+    
+    // Constructors
+    public CourseSummary() {}
+    
+    public CourseSummary(Long id, String code, String title, Integer semester, Long teacherId) {
+        this.id = id;
+        this.code = code;
+        this.title = title;
+        this.semester = semester;
+        this.teacherId = teacherId;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getCode() {
+        return code;
+    }
+    
+    public void setCode(String code) {
+        this.code = code;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    public void setTitle(String title) {
+        this.title = title;
+    }
+    
+    public Integer getSemester() {
+        return semester;
+    }
+    
+    public void setSemester(Integer semester) {
+        this.semester = semester;
+    }
+    
+    public Long getTeacherId() {
+        return teacherId;
+    }
+    
+    public void setTeacherId(Long teacherId) {
+        this.teacherId = teacherId;
+    }
+}
@@ -0,0 +1,85 @@
+package com.studentmanagement.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class EncodingBenchmark {
+    
+    public static class Sample {
+        private String entity;
+        private int listSize;
+        private String mediaType;
+        private long bytes;
+        private double microsPerEncode;
+        private double sizeVsJson;
+        private double timeVsJson;
+        
+        public Sample() {}
+        
+        public Sample(String entity, int listSize, String mediaType, long bytes, double microsPerEncode,
+                      double sizeVsJson, double timeVsJson) {
+            this.entity = entity;
+            this.listSize = listSize;
+            this.mediaType = mediaType;
+            this.bytes = bytes;
+            this.microsPerEncode = microsPerEncode;
+            this.sizeVsJson = sizeVsJson;
+            this.timeVsJson = timeVsJson;
+        }
+        
+        public String getEntity() {
+            return entity;
+        }
+        
+        public int getListSize() {
+            return listSize;
+        }
+        
+        public String getMediaType() {
+            return mediaType;
+        }
+        
+        public long getBytes() {
+            return bytes;
+        }
+        
+        public double getMicrosPerEncode() {
+            return microsPerEncode;
+        }
+        
+        public double getSizeVsJson() {
+            return sizeVsJson;
+        }
+        
+        public double getTimeVsJson() {
+            return timeVsJson;
+        }
+    }
+    
+    private List<Integer> listSizes;
+    private List<Sample> samples = new ArrayList<>();
+    
+    // Constructors
+    public EncodingBenchmark() {}
+    
+    public EncodingBenchmark(List<Integer> listSizes) {
+        this.listSizes = listSizes;
+    }
+    
+    // Getters and Setters
+    public List<Integer> getListSizes() {
+        return listSizes;
+    }
+    
+    public void setListSizes(List<Integer> listSizes) {
+        this.listSizes = listSizes;
+    }
+    
+    public List<Sample> getSamples() {
+        return samples;
+    }
+    
+    public void setSamples(List<Sample> samples) {
+        this.samples = samples;
+    }
+}
@@ -0,0 +1,93 @@
+package com.studentmanagement.dto;
+
+public class EndpointQueryStats {
+    
+    private String endpoint;
+    private long requests;
+    private double averageStatements;
+    private long maxStatements;
+    private long maxRows;
+    private int statementBudget;
+    private int rowBudget;
+    private long violations;
+    
+    // Constructors
+    public EndpointQueryStats() {}
+    
+    public EndpointQueryStats(String endpoint, long requests, double averageStatements, long maxStatements, long maxRows,
+                              int statementBudget, int rowBudget, long violations) {
+        this.endpoint = endpoint;
+        this.requests = requests;
+        this.averageStatements = averageStatements;
+        this.maxStatements = maxStatements;
+        this.maxRows = maxRows;
+        this.statementBudget = statementBudget;
+        this.rowBudget = rowBudget;
+        this.violations = violations;
+    }
+    
+    // Getters and Setters
+    public String getEndpoint() {
+        return endpoint;
+    }
+    
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+    
+    public long getRequests() {
+        return requests;
+    }
+    
+    public void setRequests(long requests) {
+        this.requests = requests;
+    }
+    
+    public double getAverageStatements() {
+        return averageStatements;
+    }
+    
+    public void setAverageStatements(double averageStatements) {
+        this.averageStatements = averageStatements;
+    }
+    
+    public long getMaxStatements() {
+        return maxStatements;
+    }
+    
+    public void setMaxStatements(long maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+    
+    public long getMaxRows() {
+        return maxRows;
+    }
+    
+    public void setMaxRows(long maxRows) {
+        this.maxRows = maxRows;
+    }
+    
+    public int getStatementBudget() {
+        return statementBudget;
+    }
+    
+    public void setStatementBudget(int statementBudget) {
+        this.statementBudget = statementBudget;
+    }
+    
+    public int getRowBudget() {
+        return rowBudget;
+    }
+    
+    public void setRowBudget(int rowBudget) {
+        this.rowBudget = rowBudget;
+    }
+    
+    public long getViolations() {
+        return violations;
+    }
+    
+    public void setViolations(long violations) {
+        this.violations = violations;
+    }
+}
@@ -0,0 +1,65 @@
+package com.studentmanagement.dto;
+
+import java.util.Map;
+
+public class EndpointTimingStats {
+    
+    private String endpoint;
+    private long requests;
+    private double averageMillis;
+    private double maxMillis;
+    private Map<String, Double> averagePhaseMillis;
+    
+    // Constructors
+    public EndpointTimingStats() {}
+    
+    public EndpointTimingStats(String endpoint, long requests, double averageMillis, double maxMillis,
+                               Map<String, Double> averagePhaseMillis) {
+        this.endpoint = endpoint;
+        this.requests = requests;
+        this.averageMillis = averageMillis;
+        this.maxMillis = maxMillis;
+        this.averagePhaseMillis = averagePhaseMillis;
+    }
+    
+    // Getters and Setters
+    public String getEndpoint() {
+        return endpoint;
+    }
+    
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+    
+    public long getRequests() {
+        return requests;
+    }
+    
+    public void setRequests(long requests) {
+        this.requests = requests;
+    }
+    
+    public double getAverageMillis() {
+        return averageMillis;
+    }
+    
+    public void setAverageMillis(double averageMillis) {
+        this.averageMillis = averageMillis;
+    }
+    
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+    
+    public void setMaxMillis(double maxMillis) {
+        this.maxMillis = maxMillis;
+    }
+    
+    public Map<String, Double> getAveragePhaseMillis() {
+        return averagePhaseMillis;
+    }
+    
+    public void setAveragePhaseMillis(Map<String, Double> averagePhaseMillis) {
+        this.averagePhaseMillis = averagePhaseMillis;
+    }
+}
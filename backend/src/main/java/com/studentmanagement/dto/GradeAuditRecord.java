@@ -0,0 +1,112 @@
+package com.studentmanagement.dto;
+
+public class GradeAuditRecord {
+    
+    private long sequence;
+    private long recordedAt;
+    private Long submissionId;
+    private Long assignmentId;
+    private Long studentId;
+    private Long gradedBy;
+    private Integer previousScore;
+    private Integer newScore;
+    private String previousFeedback;
+    private String newFeedback;
+    
+    // Constructors
+    public GradeAuditRecord() {}
+    
+    public GradeAuditRecord(Long submissionId, Long assignmentId, Long studentId, Long gradedBy,
+                            Integer previousScore, Integer newScore, String previousFeedback, String newFeedback) {
+        this.recordedAt = System.currentTimeMillis();
+        this.submissionId = submissionId;
+        this.assignmentId = assignmentId;
+        this.studentId = studentId;
+        this.gradedBy = gradedBy;
+        this.previousScore = previousScore;
+        this.newScore = newScore;
+        this.previousFeedback = previousFeedback;
+        this.newFeedback = newFeedback;
+    }
+    
+    // Getters and Setters
+    public long getSequence() {
+        return sequence;
+    }
+    
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+    
+    public long getRecordedAt() {
+        return recordedAt;
+    }
+    
+    public void setRecordedAt(long recordedAt) {
+        this.recordedAt = recordedAt;
+    }
+    
+    public Long getSubmissionId() {
+        return submissionId;
+    }
+    
+    public void setSubmissionId(Long submissionId) {
+        this.submissionId = submissionId;
+    }
+    
+    public Long getAssignmentId() {
+        return assignmentId;
+    }
+    
+    public void setAssignmentId(Long assignmentId) {
+        this.assignmentId = assignmentId;
+    }
+    
+    public Long getStudentId() {
+        return studentId;
+    }
+    
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+    
+    public Long getGradedBy() {
+        return gradedBy;
+    }
+    
+    public void setGradedBy(Long gradedBy) {
+        this.gradedBy = gradedBy;
+    }
+    
+    public Integer getPreviousScore() {
+        return previousScore;
+    }
+    
+    public void setPreviousScore(Integer previousScore) {
+        this.previousScore = previousScore;
+    }
+    
+    public Integer getNewScore() {
+        return newScore;
+    }
+    
+    public void setNewScore(Integer newScore) {
+        this.newScore = newScore;
+    }
+    
+    public String getPreviousFeedback() {
+        return previousFeedback;
+    }
+    
+    public void setPreviousFeedback(String previousFeedback) {
+        this.previousFeedback = previousFeedback;
+    }
+    
+    public String getNewFeedback() {
+        return newFeedback;
+    }
+    
+    public void setNewFeedback(String newFeedback) {
+        this.newFeedback = newFeedback;
+    }
+}
@@ -0,0 +1,108 @@
+package com.studentmanagement.dto;
+
+import java.util.List;
+
+public class GradeDistribution {
+    
+    private String scope;
+    private Long id;
+    private long count;
+    private Double mean;
+    private Integer median;
+    private Integer p90;
+    private Integer min;
+    private Integer max;
+    // Upper bound of the score scale: maxPoints for an assignment, 100 (percent) for a course
+    private Integer scale;
+    private List<Long> histogram;
+    
+    // Constructors
+    public GradeDistribution() {}
+    
+    public GradeDistribution(String scope, Long id, Integer scale) {
+        this.scope = scope;
+        this.id = id;
+        this.scale = scale;
+    }
+    
+    // Getters and Setters
+    public String getScope() {
+        return scope;
+    }
+    
+    public void setScope(String scope) {
+        this.scope = scope;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public long getCount() {
+        return count;
+    }
+    
+    public void setCount(long count) {
+        this.count = count;
+    }
+    
+    public Double getMean() {
+        return mean;
+    }
+    
+    public void setMean(Double mean) {
+        this.mean = mean;
+    }
+    
+    public Integer getMedian() {
+        return median;
+    }
+    
+    public void setMedian(Integer median) {
+        this.median = median;
+    }
+    
+    public Integer getP90() {
+        return p90;
+    }
+    
+    public void setP90(Integer p90) {
+        this.p90 = p90;
+    }
+    
+    public Integer getMin() {
+        return min;
+    }
+    
+    public void setMin(Integer min) {
+        this.min = min;
+    }
+    
+    public Integer getMax() {
+        return max;
+    }
+    
+    public void setMax(Integer max) {
+        this.max = max;
+    }
+    
+    public Integer getScale() {
+        return scale;
+    }
+    
+    public void setScale(Integer scale) {
+        this.scale = scale;
+    }
+    
+    public List<Long> getHistogram() {
+        return histogram;
+    }
+    
+    public void setHistogram(List<Long> histogram) {
+        this.histogram = histogram;
+    }
+}
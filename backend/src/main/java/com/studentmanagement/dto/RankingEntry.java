@@ -0,0 +1,52 @@
+package com.studentmanagement.dto;
+
+public class RankingEntry {
+    
+    private Long studentId;
+    private String studentName;
+    private int totalScore;
+    private long rank;
+    
+    // Constructors
+    public RankingEntry() {}
+    
+    public RankingEntry(Long studentId, String studentName, int totalScore, long rank) {
+        this.studentId = studentId;
+        this.studentName = studentName;
+        this.totalScore = totalScore;
+        this.rank = rank;
+    }
+    
+    // Getters and Setters
+    public Long getStudentId() {
+        return studentId;
+    }
+    
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+    
+    public String getStudentName() {
+        return studentName;
+    }
+    
+    public void setStudentName(String studentName) {
+        this.studentName = studentName;
+    }
+    
+    public int getTotalScore() {
+        return totalScore;
+    }
+    
+    public void setTotalScore(int totalScore) {
+        this.totalScore = totalScore;
+    }
+    
+    public long getRank() {
+        return rank;
+    }
+    
+    public void setRank(long rank) {
+        this.rank = rank;
+    }
+}
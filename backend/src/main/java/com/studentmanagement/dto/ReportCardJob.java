@@ -0,0 +1,125 @@
+package com.studentmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReportCardJob {
+    
+    public static final String QUEUED = "QUEUED";
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+    public static final String CANCELLED = "CANCELLED";
+    
+    private final String id;
+    private final Integer semester;
+    private volatile String status = QUEUED;
+    private volatile int totalStudents;
+    private final AtomicInteger renderedStudents = new AtomicInteger();
+    private final AtomicInteger failedStudents = new AtomicInteger();
+    private volatile long archiveBytes;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private volatile LocalDateTime completedAt;
+    private volatile String errorMessage;
+    private volatile boolean cancelRequested;
+    private volatile Path archivePath;
+    
+    // Constructors
+    public ReportCardJob(String id, Integer semester) {
+        this.id = id;
+        this.semester = semester;
+    }
+    
+    public boolean isFinished() {
+        return COMPLETED.equals(status) || FAILED.equals(status) || CANCELLED.equals(status);
+    }
+    
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+    
+    public Integer getSemester() {
+        return semester;
+    }
+    
+    public String getStatus() {
+        return status;
+    }
+    
+    public void setStatus(String status) {
+        this.status = status;
+    }
+    
+    public int getTotalStudents() {
+        return totalStudents;
+    }
+    
+    public void setTotalStudents(int totalStudents) {
+        this.totalStudents = totalStudents;
+    }
+    
+    public int getRenderedStudents() {
+        return renderedStudents.get();
+    }
+    
+    public void incrementRenderedStudents() {
+        renderedStudents.incrementAndGet();
+    }
+    
+    public int getFailedStudents() {
+        return failedStudents.get();
+    }
+    
+    public void incrementFailedStudents() {
+        failedStudents.incrementAndGet();
+    }
+    
+    public long getArchiveBytes() {
+        return archiveBytes;
+    }
+    
+    public void setArchiveBytes(long archiveBytes) {
+        this.archiveBytes = archiveBytes;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+    
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+    
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+    
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+    
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+    
+    public void requestCancel() {
+        this.cancelRequested = true;
+    }
+    
+    @JsonIgnore
+    public Path getArchivePath() {
+        return archivePath;
+    }
+    
+    public void setArchivePath(Path archivePath) {
+        this.archivePath = archivePath;
+    }
+}
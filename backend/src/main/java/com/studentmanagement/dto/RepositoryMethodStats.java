@@ -0,0 +1,103 @@
+package com.studentmanagement.dto;
+
+public class RepositoryMethodStats {
+    
+    private String method;
+    private long calls;
+    private double averageMillis;
+    private double p50Millis;
+    private double p95Millis;
+    private double p99Millis;
+    private double maxMillis;
+    private double averageRows;
+    private long maxRows;
+    
+    // Constructors
+    public RepositoryMethodStats() {}
+    
+    public RepositoryMethodStats(String method, long calls, double averageMillis, double p50Millis, double p95Millis,
+                                 double p99Millis, double maxMillis, double averageRows, long maxRows) {
+        this.method = method;
+        this.calls = calls;
+        this.averageMillis = averageMillis;
+        this.p50Millis = p50Millis;
+        this.p95Millis = p95Millis;
+        this.p99Millis = p99Millis;
+        this.maxMillis = maxMillis;
+        this.averageRows = averageRows;
+        this.maxRows = maxRows;
+    }
+    
+    // Getters and Setters
+    public String getMethod() {
+        return method;
+    }
+    
+    public void setMethod(String method) {
+        this.method = method;
+    }
+    
+    public long getCalls() {
+        return calls;
+    }
+    
+    public void setCalls(long calls) {
+        this.calls = calls;
+    }
+    
+    public double getAverageMillis() {
+        return averageMillis;
+    }
+    
+    public void setAverageMillis(double averageMillis) {
+        this.averageMillis = averageMillis;
+    }
+    
+    public double getP50Millis() {
+        return p50Millis;
+    }
+    
+    public void setP50Millis(double p50Millis) {
+        this.p50Millis = p50Millis;
+    }
+    
+    public double getP95Millis() {
+        return p95Millis;
+    }
+    
+    public void setP95Millis(double p95Millis) {
+        this.p95Millis = p95Millis;
+    }
+    
+    public double getP99Millis() {
+        return p99Millis;
+    }
+    
+    public void setP99Millis(double p99Millis) {
+        this.p99Millis = p99Millis;
+    }
+    
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+    
+    public void setMaxMillis(double maxMillis) {
+        this.maxMillis = maxMillis;
+    }
+    
+    public double getAverageRows() {
+        return averageRows;
+    }
+    
+    public void setAverageRows(double averageRows) {
+        this.averageRows = averageRows;
+    }
+    
+    public long getMaxRows() {
+        return maxRows;
+    }
+    
+    public void setMaxRows(long maxRows) {
+        this.maxRows = maxRows;
+    }
+}
@@ -0,0 +1,40 @@
+package com.studentmanagement.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public class SemesterRolloverRequest {
+    
+    @NotNull
+    @Positive
+    private Integer fromSemester;
+    
+    @NotNull
+    @Positive
+    private Integer toSemester;
+    
+    // Constructors
+    public SemesterRolloverRequest() {}
+    
+    public SemesterRolloverRequest(Integer fromSemester, Integer toSemester) {
+        this.fromSemester = fromSemester;
+        this.toSemester = toSemester;
+    }
+    
+    // Getters and Setters
+    public Integer getFromSemester() {
+        return fromSemester;
+    }
+    
+    public void setFromSemester(Integer fromSemester) {
+        this.fromSemester = fromSemester;
+    }
+    
+    public Integer getToSemester() {
+        return toSemester;
+    }
+    
+    public void setToSemester(Integer toSemester) {
+        this.toSemester = toSemester;
+    }
+}
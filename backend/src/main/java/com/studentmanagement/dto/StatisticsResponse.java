@@ -0,0 +1,78 @@
+package com.studentmanagement.dto;
+
+import com.studentmanagement.entity.UserRole;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public class StatisticsResponse {
+    
+    private long totalCourses;
+    private long totalAssignments;
+    private long totalSubmissions;
+    private long totalUsers;
+    private Map<UserRole, Long> usersByRole;
+    private LocalDateTime lastReconciledAt;
+    
+    // Constructors
+    public StatisticsResponse() {}
+    
+    public StatisticsResponse(long totalCourses, long totalAssignments, long totalSubmissions, long totalUsers,
+                              Map<UserRole, Long> usersByRole, LocalDateTime lastReconciledAt) {
+        this.totalCourses = totalCourses;
+        this.totalAssignments = totalAssignments;
+        this.totalSubmissions = totalSubmissions;
+        this.totalUsers = totalUsers;
+        this.usersByRole = usersByRole;
+        this.lastReconciledAt = lastReconciledAt;
+    }
+    
+    // Getters and Setters
+    public long getTotalCourses() {
+        return totalCourses;
+    }
+    
+    public void setTotalCourses(long totalCourses) {
+        this.totalCourses = totalCourses;
+    }
+    
+    public long getTotalAssignments() {
+        return totalAssignments;
+    }
+    
+    public void setTotalAssignments(long totalAssignments) {
+        this.totalAssignments = totalAssignments;
+    }
+    
+    public long getTotalSubmissions() {
+        return totalSubmissions;
+    }
+    
+    public void setTotalSubmissions(long totalSubmissions) {
+        this.totalSubmissions = totalSubmissions;
+    }
+    
+    public long getTotalUsers() {
+        return totalUsers;
+    }
+    
+    public void setTotalUsers(long totalUsers) {
+        this.totalUsers = totalUsers;
+    }
+    
+    public Map<UserRole, Long> getUsersByRole() {
+        return usersByRole;
+    }
+    
+    public void setUsersByRole(Map<UserRole, Long> usersByRole) {
+        this.usersByRole = usersByRole;
+    }
+    
+    public LocalDateTime getLastReconciledAt() {
+        return lastReconciledAt;
+    }
+    
+    public void setLastReconciledAt(LocalDateTime lastReconciledAt) {
+        this.lastReconciledAt = lastReconciledAt;
+    }
+}
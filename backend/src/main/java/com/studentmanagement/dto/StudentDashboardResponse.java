@@ -0,0 +1,85 @@
+package com.studentmanagement.dto;
+
+import java.util.List;
+
+public class StudentDashboardResponse {
+    
+    private Long id;
+    private String email;
+    private String displayName;
+    private Integer currentSemester;
+    private Integer semester;
+    private List<CourseSummary> courses;
+    private List<AssignmentSummary> assignments;
+    
+    // Constructors
+    public StudentDashboardResponse() {}
+    
+    public StudentDashboardResponse(Long id, String email, String displayName, Integer currentSemester, Integer semester,
+                                    List<CourseSummary> courses, List<AssignmentSummary> assignments) {
+        this.id = id;
+        this.email = email;
+        this.displayName = displayName;
+        this.currentSemester = currentSemester;
+        this.semester = semester;
+        this.courses = courses;
+        this.assignments = assignments;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public void setEmail(String email) {
+        this.email = email;
+    }
+    
+    public String getDisplayName() {
+        return displayName;
+    }
+    
+    public void setDisplayName(String displayName) {
+        this.displayName = displayName;
+    }
+    
+    public Integer getCurrentSemester() {
+        return currentSemester;
+    }
+    
+    public void setCurrentSemester(Integer currentSemester) {
+        this.currentSemester = currentSemester;
+    }
+    
+    public Integer getSemester() {
+        return semester;
+    }
+    
+    public void setSemester(Integer semester) {
+        this.semester = semester;
+    }
+    
+    public List<CourseSummary> getCourses() {
+        return courses;
+    }
+    
+    public void setCourses(List<CourseSummary> courses) {
+        this.courses = courses;
+    }
+    
+    public List<AssignmentSummary> getAssignments() {
+        return assignments;
+    }
+    
+    public void setAssignments(List<AssignmentSummary> assignments) {
+        this.assignments = assignments;
+    }
+}
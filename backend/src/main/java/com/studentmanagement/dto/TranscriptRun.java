@@ -0,0 +1,120 @@
+package com.studentmanagement.dto;
+
+import java.time.LocalDateTime;
+
+public class TranscriptRun {
+    
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+    
+    private Integer semester;
+    private volatile String status = RUNNING;
+    private int parallelism;
+    private volatile int studentCount;
+    private volatile int courseRowCount;
+    private volatile long loadMillis;
+    private volatile long computeMillis;
+    private volatile long writeMillis;
+    private LocalDateTime startedAt;
+    private volatile LocalDateTime completedAt;
+    private volatile String errorMessage;
+    
+    // Constructors
+    public TranscriptRun() {}
+    
+    public TranscriptRun(Integer semester, int parallelism) {
+        this.semester = semester;
+        this.parallelism = parallelism;
+        this.startedAt = LocalDateTime.now();
+    }
+    
+    // Getters and Setters
+    public Integer getSemester() {
+        return semester;
+    }
+    
+    public void setSemester(Integer semester) {
+        this.semester = semester;
+    }
+    
+    public String getStatus() {
+        return status;
+    }
+    
+    public void setStatus(String status) {
+        this.status = status;
+    }
+    
+    public int getParallelism() {
+        return parallelism;
+    }
+    
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+    
+    public int getStudentCount() {
+        return studentCount;
+    }
+    
+    public void setStudentCount(int studentCount) {
+        this.studentCount = studentCount;
+    }
+    
+    public int getCourseRowCount() {
+        return courseRowCount;
+    }
+    
+    public void setCourseRowCount(int courseRowCount) {
+        this.courseRowCount = courseRowCount;
+    }
+    
+    public long getLoadMillis() {
+        return loadMillis;
+    }
+    
+    public void setLoadMillis(long loadMillis) {
+        this.loadMillis = loadMillis;
+    }
+    
+    public long getComputeMillis() {
+        return computeMillis;
+    }
+    
+    public void setComputeMillis(long computeMillis) {
+        this.computeMillis = computeMillis;
+    }
+    
+    public long getWriteMillis() {
+        return writeMillis;
+    }
+    
+    public void setWriteMillis(long writeMillis) {
+        this.writeMillis = writeMillis;
+    }
+    
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+    
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+    
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+    
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+    
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+    
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+}
@@ -0,0 +1,58 @@
+package com.studentmanagement.dto;
+
+import java.time.LocalDateTime;
+
+public class UserEvent {
+    
+    public static final String SUBMISSION_GRADED = "submission-graded";
+    public static final String ASSIGNMENT_CREATED = "assignment-created";
+    public static final String ASSIGNMENT_UPDATED = "assignment-updated";
+    
+    private String type;
+    private Long entityId;
+    private Long courseId;
+    private LocalDateTime occurredAt;
+    
+    // Constructors
+    public UserEvent() {}
+    
+    public UserEvent(String type, Long entityId, Long courseId) {
+        this.type = type;
+        this.entityId = entityId;
+        this.courseId = courseId;
+        this.occurredAt = LocalDateTime.now();
+    }
+    
+    // Getters and Setters
+    public String getType() {
+        return type;
+    }
+    
+    public void setType(String type) {
+        this.type = type;
+    }
+    
+    public Long getEntityId() {
+        return entityId;
+    }
+    
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+    
+    public Long getCourseId() {
+        return courseId;
+    }
+    
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+    
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+    
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+}
@@ -0,0 +1,117 @@
+package com.studentmanagement.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "enrollments_archive", indexes = {
+    @Index(name = "idx_enrollments_archive_semester_student", columnList = "semester, student_id")
+})
+public class ArchivedEnrollment {
+    
+    // Keeps the id the row had in the enrollments table
+    @Id
+    private Long id;
+    
+    @Column(nullable = false)
+    private Integer semester;
+    
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+    
+    @Column(name = "course_id", nullable = false)
+    private Long courseId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EnrollmentStatus status;
+    
+    @Column(name = "enrolled_at", nullable = false)
+    private LocalDateTime enrolledAt;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+    
+    // Constructors
+    public ArchivedEnrollment() {}
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Integer getSemester() {
+        return semester;
+    }
+    
+    public void setSemester(Integer semester) {
+        this.semester = semester;
+    }
+    
+    public Long getStudentId() {
+        return studentId;
+    }
+    
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+    
+    public Long getCourseId() {
+        return courseId;
+    }
+    
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+    
+    public EnrollmentStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(EnrollmentStatus status) {
+        this.status = status;
+    }
+    
+    public LocalDateTime getEnrolledAt() {
+        return enrolledAt;
+    }
+    
+    public void setEnrolledAt(LocalDateTime enrolledAt) {
+        this.enrolledAt = enrolledAt;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+    
+    public void setArchivedAt(LocalDateTime archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+}
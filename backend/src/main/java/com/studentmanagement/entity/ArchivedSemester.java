@@ -0,0 +1,65 @@
+package com.studentmanagement.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "archived_semesters")
+public class ArchivedSemester {
+    
+    @Id
+    private Integer semester;
+    
+    @Column(name = "submission_count", nullable = false)
+    private Long submissionCount = 0L;
+    
+    @Column(name = "enrollment_count", nullable = false)
+    private Long enrollmentCount = 0L;
+    
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+    
+    // Constructors
+    public ArchivedSemester() {}
+    
+    public ArchivedSemester(Integer semester, Long submissionCount, Long enrollmentCount) {
+        this.semester = semester;
+        this.submissionCount = submissionCount;
+        this.enrollmentCount = enrollmentCount;
+        this.archivedAt = LocalDateTime.now();
+    }
+    
+    // Getters and Setters
+    public Integer getSemester() {
+        return semester;
+    }
+    
+    public void setSemester(Integer semester) {
+        this.semester = semester;
+    }
+    
+    public Long getSubmissionCount() {
+        return submissionCount;
+    }
+    
+    public void setSubmissionCount(Long submissionCount) {
+        this.submissionCount = submissionCount;
+    }
+    
+    public Long getEnrollmentCount() {
+        return enrollmentCount;
+    }
+    
+    public void setEnrollmentCount(Long enrollmentCount) {
+        this.enrollmentCount = enrollmentCount;
+    }
+    
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+    
+    public void setArchivedAt(LocalDateTime archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+}
@@ -0,0 +1,188 @@
+package com.studentmanagement.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "submissions_archive", indexes = {
+    @Index(name = "idx_submissions_archive_semester_student", columnList = "semester, student_id"),
+    @Index(name = "idx_submissions_archive_assignment", columnList = "assignment_id")
+})
+public class ArchivedSubmission {
+    
+    // Keeps the id the row had in the submissions table
+    @Id
+    private Long id;
+    
+    @Column(nullable = false)
+    private Integer semester;
+    
+    @Column(name = "assignment_id", nullable = false)
+    private Long assignmentId;
+    
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+    
+    @Column(name = "student_name", nullable = false)
+    private String studentName;
+    
+    @Column(name = "submitted_at", nullable = false)
+    private LocalDateTime submittedAt;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SubmissionStatus status;
+    
+    @Column(name = "score")
+    private Integer score;
+    
+    @Column(name = "feedback", columnDefinition = "TEXT")
+    private String feedback;
+    
+    @Column(name = "graded_by")
+    private Long gradedBy;
+    
+    @Column(name = "graded_at")
+    private LocalDateTime gradedAt;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+    
+    // Constructors
+    public ArchivedSubmission() {}
+    
+    // Rebuilds the live shape so history endpoints return the same JSON for archived rows
+    public Submission toSubmission() {
+        Submission submission = new Submission(assignmentId, studentId, studentName, null);
+        submission.setId(id);
+        submission.setSubmittedAt(submittedAt);
+        submission.setStatus(status);
+        submission.setScore(score);
+        submission.setFeedback(feedback);
+        submission.setGradedBy(gradedBy);
+        submission.setGradedAt(gradedAt);
+        submission.setCreatedAt(createdAt);
+        submission.setUpdatedAt(updatedAt);
+        return submission;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Integer getSemester() {
+        return semester;
+    }
+    
+    public void setSemester(Integer semester) {
+        this.semester = semester;
+    }
+    
+    public Long getAssignmentId() {
+        return assignmentId;
+    }
+    
+    public void setAssignmentId(Long assignmentId) {
+        this.assignmentId = assignmentId;
+    }
+    
+    public Long getStudentId() {
+        return studentId;
+    }
+    
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+    
+    public String getStudentName() {
+        return studentName;
+    }
+    
+    public void setStudentName(String studentName) {
+        this.studentName = studentName;
+    }
+    
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+    
+    public void setSubmittedAt(LocalDateTime submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+    
+    public SubmissionStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(SubmissionStatus status) {
+        this.status = status;
+    }
+    
+    public Integer getScore() {
+        return score;
+    }
+    
+    public void setScore(Integer score) {
+        this.score = score;
+    }
+    
+    public String getFeedback() {
+        return feedback;
+    }
+    
+    public void setFeedback(String feedback) {
+        this.feedback = feedback;
+    }
+    
+    public Long getGradedBy() {
+        return gradedBy;
+    }
+    
+    public void setGradedBy(Long gradedBy) {
+        this.gradedBy = gradedBy;
+    }
+    
+    public LocalDateTime getGradedAt() {
+        return gradedAt;
+    }
+    
+    public void setGradedAt(LocalDateTime gradedAt) {
+        this.gradedAt = gradedAt;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+    
+    public void setArchivedAt(LocalDateTime archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+}
@@ -1,5 +1,6 @@
 package com.studentmanagement.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -9,7 +10,9 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "assignments")
+@Table(name = "assignments", indexes = {
+    @Index(name = "idx_assignments_status_due_date", columnList = "status, due_date")
+})
 public class Assignment {
     
     @Id
@@ -45,6 +48,10 @@ public class Assignment {
     @Column(nullable = false)
     private AssignmentStatus status = AssignmentStatus.ACTIVE;
     
+    // Attachment quota per submission; null falls back to the configured default
+    @Column(name = "max_attachment_bytes")
+    private Long maxAttachmentBytes;
+    
     @NotNull
     @Column(name = "created_by", nullable = false)
     private Long createdBy;
@@ -55,15 +62,23 @@ public class Assignment {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    // Optimistic lock; concurrent edits of the same row fail instead of overwriting each other
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
     // Relationships
+    @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "course_id", insertable = false, updatable = false)
     private Course course;
     
+    @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by", insertable = false, updatable = false)
     private User creator;
     
+    @JsonIgnore
     @OneToMany(mappedBy = "assignment", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Submission> submissions;
     
@@ -157,6 +172,14 @@ public class Assignment {
         this.status = status;
     }
     
+    public Long getMaxAttachmentBytes() {
+        return maxAttachmentBytes;
+    }
+    
+    public void setMaxAttachmentBytes(Long maxAttachmentBytes) {
+        this.maxAttachmentBytes = maxAttachmentBytes;
+    }
+    
     public Long getCreatedBy() {
         return createdBy;
     }
@@ -181,6 +204,14 @@ public class Assignment {
         this.updatedAt = updatedAt;
     }
     
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
     public Course getCourse() {
         return course;
     }
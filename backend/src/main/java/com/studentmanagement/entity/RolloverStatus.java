@@ -0,0 +1,7 @@
+package com.studentmanagement.entity;
+
+public enum RolloverStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
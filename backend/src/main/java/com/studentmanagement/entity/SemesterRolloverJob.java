@@ -0,0 +1,169 @@
+package com.studentmanagement.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "semester_rollover_jobs")
+public class SemesterRolloverJob {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @NotNull
+    @Column(name = "from_semester", nullable = false)
+    private Integer fromSemester;
+    
+    @NotNull
+    @Column(name = "to_semester", nullable = false)
+    private Integer toSemester;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RolloverStatus status = RolloverStatus.RUNNING;
+    
+    // Checkpoint: every student with an id up to this one has been promoted
+    @Column(name = "last_processed_user_id", nullable = false)
+    private Long lastProcessedUserId = 0L;
+    
+    @Column(name = "total_users", nullable = false)
+    private Long totalUsers = 0L;
+    
+    @Column(name = "processed_users", nullable = false)
+    private Long processedUsers = 0L;
+    
+    @Column(name = "completed_enrollments", nullable = false)
+    private Long completedEnrollments = 0L;
+    
+    @Column(name = "error_message")
+    private String errorMessage;
+    
+    @Column(name = "started_at", nullable = false, updatable = false)
+    private LocalDateTime startedAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        startedAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+    
+    // Constructors
+    public SemesterRolloverJob() {}
+    
+    public SemesterRolloverJob(Integer fromSemester, Integer toSemester, Long totalUsers) {
+        this.fromSemester = fromSemester;
+        this.toSemester = toSemester;
+        this.totalUsers = totalUsers;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Integer getFromSemester() {
+        return fromSemester;
+    }
+    
+    public void setFromSemester(Integer fromSemester) {
+        this.fromSemester = fromSemester;
+    }
+    
+    public Integer getToSemester() {
+        return toSemester;
+    }
+    
+    public void setToSemester(Integer toSemester) {
+        this.toSemester = toSemester;
+    }
+    
+    public RolloverStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(RolloverStatus status) {
+        this.status = status;
+    }
+    
+    public Long getLastProcessedUserId() {
+        return lastProcessedUserId;
+    }
+    
+    public void setLastProcessedUserId(Long lastProcessedUserId) {
+        this.lastProcessedUserId = lastProcessedUserId;
+    }
+    
+    public Long getTotalUsers() {
+        return totalUsers;
+    }
+    
+    public void setTotalUsers(Long totalUsers) {
+        this.totalUsers = totalUsers;
+    }
+    
+    public Long getProcessedUsers() {
+        return processedUsers;
+    }
+    
+    public void setProcessedUsers(Long processedUsers) {
+        this.processedUsers = processedUsers;
+    }
+    
+    public Long getCompletedEnrollments() {
+        return completedEnrollments;
+    }
+    
+    public void setCompletedEnrollments(Long completedEnrollments) {
+        this.completedEnrollments = completedEnrollments;
+    }
+    
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+    
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+    
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+    
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+    
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+}
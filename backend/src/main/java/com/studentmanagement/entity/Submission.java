@@ -1,5 +1,7 @@
 package com.studentmanagement.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -7,7 +9,9 @@ import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "submissions")
+@Table(name = "submissions", indexes = {
+    @Index(name = "idx_submissions_student_assignment", columnList = "student_id, assignment_id")
+})
 public class Submission {
     
     @Id
@@ -26,8 +30,10 @@ public class Submission {
     @Column(name = "student_name", nullable = false)
     private String studentName;
     
-    @NotBlank
-    @Column(name = "submission_text", nullable = false, columnDefinition = "TEXT")
+    // Stored compressed in submission_contents and only loaded for detail views,
+    // so list queries and grading never read the body
+    @Transient
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String submissionText;
     
     @Column(name = "submitted_at", nullable = false)
@@ -55,15 +61,23 @@ public class Submission {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    // Optimistic lock; concurrent edits of the same row fail instead of overwriting each other
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
     // Relationships
+    @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assignment_id", insertable = false, updatable = false)
     private Assignment assignment;
     
+    @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "student_id", insertable = false, updatable = false)
     private User student;
     
+    @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "graded_by", insertable = false, updatable = false)
     private User grader;
@@ -198,6 +212,14 @@ public class Submission {
         this.updatedAt = updatedAt;
     }
     
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
     public Assignment getAssignment() {
         return assignment;
     }
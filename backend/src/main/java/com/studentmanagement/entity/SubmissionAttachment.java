@@ -0,0 +1,116 @@
+package com.studentmanagement.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "submission_attachments", indexes = {
+    @Index(name = "idx_submission_attachments_submission", columnList = "submission_id")
+})
+public class SubmissionAttachment {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @NotNull
+    @Column(name = "submission_id", nullable = false)
+    private Long submissionId;
+    
+    @NotBlank
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+    
+    @Column(name = "content_type")
+    private String contentType;
+    
+    @NotNull
+    @Column(name = "size_bytes", nullable = false)
+    private Long sizeBytes;
+    
+    // Location inside the attachment store; never exposed to clients
+    @JsonIgnore
+    @NotBlank
+    @Column(name = "storage_key", nullable = false, unique = true)
+    private String storageKey;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+    
+    // Constructors
+    public SubmissionAttachment() {}
+    
+    public SubmissionAttachment(Long submissionId, String fileName, String contentType, Long sizeBytes, String storageKey) {
+        this.submissionId = submissionId;
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.sizeBytes = sizeBytes;
+        this.storageKey = storageKey;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getSubmissionId() {
+        return submissionId;
+    }
+    
+    public void setSubmissionId(Long submissionId) {
+        this.submissionId = submissionId;
+    }
+    
+    public String getFileName() {
+        return fileName;
+    }
+    
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+    
+    public String getContentType() {
+        return contentType;
+    }
+    
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+    
+    public Long getSizeBytes() {
+        return sizeBytes;
+    }
+    
+    public void setSizeBytes(Long sizeBytes) {
+        this.sizeBytes = sizeBytes;
+    }
+    
+    public String getStorageKey() {
+        return storageKey;
+    }
+    
+    public void setStorageKey(String storageKey) {
+        this.storageKey = storageKey;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,106 @@
+package com.studentmanagement.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "submission_contents")
+public class SubmissionContent implements Persistable<Long> {
+    
+    // Shares the id of the submission it belongs to
+    @Id
+    @Column(name = "submission_id")
+    private Long submissionId;
+    
+    // Deflate-compressed UTF-8 text
+    @Lob
+    @Column(nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] body;
+    
+    @Column(name = "original_size", nullable = false)
+    private Integer originalSize;
+    
+    @Column(name = "compressed_size", nullable = false)
+    private Integer compressedSize;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    // The id is assigned, so without this save() would merge and SELECT the row before inserting it
+    @Transient
+    private boolean isNew = true;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+    
+    @PostPersist
+    @PostLoad
+    protected void markNotNew() {
+        isNew = false;
+    }
+    
+    @Override
+    public Long getId() {
+        return submissionId;
+    }
+    
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+    
+    // Constructors
+    public SubmissionContent() {}
+    
+    public SubmissionContent(Long submissionId, byte[] body, Integer originalSize) {
+        this.submissionId = submissionId;
+        this.body = body;
+        this.originalSize = originalSize;
+        this.compressedSize = body.length;
+    }
+    
+    // Getters and Setters
+    public Long getSubmissionId() {
+        return submissionId;
+    }
+    
+    public void setSubmissionId(Long submissionId) {
+        this.submissionId = submissionId;
+    }
+    
+    public byte[] getBody() {
+        return body;
+    }
+    
+    public void setBody(byte[] body) {
+        this.body = body;
+    }
+    
+    public Integer getOriginalSize() {
+        return originalSize;
+    }
+    
+    public void setOriginalSize(Integer originalSize) {
+        this.originalSize = originalSize;
+    }
+    
+    public Integer getCompressedSize() {
+        return compressedSize;
+    }
+    
+    public void setCompressedSize(Integer compressedSize) {
+        this.compressedSize = compressedSize;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,97 @@
+package com.studentmanagement.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "transcripts", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_transcripts_student_semester", columnNames = {"student_id", "semester"})
+}, indexes = {
+    @Index(name = "idx_transcripts_semester", columnList = "semester")
+})
+public class Transcript {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+    
+    @Column(nullable = false)
+    private Integer semester;
+    
+    @Column(name = "course_count", nullable = false)
+    private Integer courseCount;
+    
+    // Null when none of the semester's courses had gradable work
+    @Column(name = "semester_gpa")
+    private Double semesterGpa;
+    
+    @Column(name = "cumulative_gpa")
+    private Double cumulativeGpa;
+    
+    @Column(name = "generated_at", nullable = false)
+    private LocalDateTime generatedAt;
+    
+    // Constructors
+    public Transcript() {}
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getStudentId() {
+        return studentId;
+    }
+    
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+    
+    public Integer getSemester() {
+        return semester;
+    }
+    
+    public void setSemester(Integer semester) {
+        this.semester = semester;
+    }
+    
+    public Integer getCourseCount() {
+        return courseCount;
+    }
+    
+    public void setCourseCount(Integer courseCount) {
+        this.courseCount = courseCount;
+    }
+    
+    public Double getSemesterGpa() {
+        return semesterGpa;
+    }
+    
+    public void setSemesterGpa(Double semesterGpa) {
+        this.semesterGpa = semesterGpa;
+    }
+    
+    public Double getCumulativeGpa() {
+        return cumulativeGpa;
+    }
+    
+    public void setCumulativeGpa(Double cumulativeGpa) {
+        this.cumulativeGpa = cumulativeGpa;
+    }
+    
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+    
+    public void setGeneratedAt(LocalDateTime generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+}
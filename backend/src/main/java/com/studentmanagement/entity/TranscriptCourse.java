@@ -0,0 +1,120 @@
+package com.studentmanagement.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "transcript_courses", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_transcript_courses_student_course", columnNames = {"student_id", "course_id"})
+}, indexes = {
+    @Index(name = "idx_transcript_courses_semester", columnList = "semester"),
+    @Index(name = "idx_transcript_courses_student_semester", columnList = "student_id, semester")
+})
+public class TranscriptCourse {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+    
+    @Column(nullable = false)
+    private Integer semester;
+    
+    @Column(name = "course_id", nullable = false)
+    private Long courseId;
+    
+    @Column(name = "earned_points", nullable = false)
+    private Integer earnedPoints;
+    
+    @Column(name = "possible_points", nullable = false)
+    private Integer possiblePoints;
+    
+    // Null when the course has no assignments, so it does not count towards GPA
+    @Column
+    private Double percentage;
+    
+    @Column(name = "grade_points")
+    private Double gradePoints;
+    
+    @Column(name = "generated_at", nullable = false)
+    private LocalDateTime generatedAt;
+    
+    // Constructors
+    public TranscriptCourse() {}
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getStudentId() {
+        return studentId;
+    }
+    
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+    
+    public Integer getSemester() {
+        return semester;
+    }
+    
+    public void setSemester(Integer semester) {
+        this.semester = semester;
+    }
+    
+    public Long getCourseId() {
+        return courseId;
+    }
+    
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+    
+    public Integer getEarnedPoints() {
+        return earnedPoints;
+    }
+    
+    public void setEarnedPoints(Integer earnedPoints) {
+        this.earnedPoints = earnedPoints;
+    }
+    
+    public Integer getPossiblePoints() {
+        return possiblePoints;
+    }
+    
+    public void setPossiblePoints(Integer possiblePoints) {
+        this.possiblePoints = possiblePoints;
+    }
+    
+    public Double getPercentage() {
+        return percentage;
+    }
+    
+    public void setPercentage(Double percentage) {
+        this.percentage = percentage;
+    }
+    
+    public Double getGradePoints() {
+        return gradePoints;
+    }
+    
+    public void setGradePoints(Double gradePoints) {
+        this.gradePoints = gradePoints;
+    }
+    
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+    
+    public void setGeneratedAt(LocalDateTime generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+}
@@ -0,0 +1,31 @@
+package com.studentmanagement.repository;
+
+import com.studentmanagement.entity.ArchivedEnrollment;
+import com.studentmanagement.entity.EnrollmentStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ArchivedEnrollmentRepository extends JpaRepository<ArchivedEnrollment, Long> {
+    
+    List<ArchivedEnrollment> findByStudentIdAndSemester(Long studentId, Integer semester);
+    
+    long countBySemester(Integer semester);
+    
+    @Query("SELECT e.studentId, e.courseId FROM ArchivedEnrollment e WHERE e.semester = :semester AND e.status <> :excluded")
+    List<Object[]> findStudentCoursePairsBySemester(@Param("semester") Integer semester,
+                                                    @Param("excluded") EnrollmentStatus excluded);
+    
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO enrollments_archive (id, semester, student_id, course_id, status, " +
+           "enrolled_at, created_at, updated_at, archived_at) " +
+           "SELECT e.id, :semester, e.student_id, e.course_id, e.status, e.enrolled_at, e.created_at, e.updated_at, :now " +
+           "FROM enrollments e WHERE e.id IN (:ids)", nativeQuery = true)
+    int copyFromEnrollments(@Param("ids") List<Long> ids, @Param("semester") Integer semester, @Param("now") LocalDateTime now);
+}
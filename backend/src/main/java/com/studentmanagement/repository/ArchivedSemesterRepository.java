@@ -0,0 +1,15 @@
+package com.studentmanagement.repository;
+
+import com.studentmanagement.entity.ArchivedSemester;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ArchivedSemesterRepository extends JpaRepository<ArchivedSemester, Integer> {
+    
+    @Query("SELECT s.semester FROM ArchivedSemester s")
+    List<Integer> findAllSemesters();
+}
@@ -0,0 +1,41 @@
+package com.studentmanagement.repository;
+
+import com.studentmanagement.entity.ArchivedSubmission;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ArchivedSubmissionRepository extends JpaRepository<ArchivedSubmission, Long> {
+    
+    List<ArchivedSubmission> findByStudentIdAndSemester(Long studentId, Integer semester);
+    
+    List<ArchivedSubmission> findByStudentIdInAndSemester(Collection<Long> studentIds, Integer semester);
+    
+    List<ArchivedSubmission> findByAssignmentId(Long assignmentId);
+    
+    Optional<ArchivedSubmission> findByAssignmentIdAndStudentId(Long assignmentId, Long studentId);
+    
+    long countBySemester(Integer semester);
+    
+    @Query("SELECT s.studentId, a.courseId, SUM(s.score) FROM ArchivedSubmission s, Assignment a " +
+           "WHERE a.id = s.assignmentId AND s.semester = :semester AND s.score IS NOT NULL " +
+           "GROUP BY s.studentId, a.courseId")
+    List<Object[]> sumScoresGroupedByStudentAndCourseForSemester(@Param("semester") Integer semester);
+    
+    // INSERT IGNORE keeps a replayed chunk from failing on rows it already copied
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO submissions_archive (id, semester, assignment_id, student_id, student_name, " +
+           "submitted_at, status, score, feedback, graded_by, graded_at, created_at, updated_at, archived_at) " +
+           "SELECT s.id, :semester, s.assignment_id, s.student_id, s.student_name, s.submitted_at, " +
+           "s.status, s.score, s.feedback, s.graded_by, s.graded_at, s.created_at, s.updated_at, :now " +
+           "FROM submissions s WHERE s.id IN (:ids)", nativeQuery = true)
+    int copyFromSubmissions(@Param("ids") List<Long> ids, @Param("semester") Integer semester, @Param("now") LocalDateTime now);
+}
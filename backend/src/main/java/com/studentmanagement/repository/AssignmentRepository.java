@@ -2,11 +2,15 @@ package com.studentmanagement.repository;
 
 import com.studentmanagement.entity.Assignment;
 import com.studentmanagement.entity.AssignmentStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -14,6 +18,9 @@ public interface AssignmentRepository extends JpaRepository<Assignment, Long> {
     
     List<Assignment> findByCourseId(Long courseId);
     
+    // Keyset page: the next assignments of the course after `afterId`
+    List<Assignment> findByCourseIdAndIdGreaterThanOrderByIdAsc(Long courseId, Long afterId, Pageable pageable);
+    
     List<Assignment> findByCreatedBy(Long createdBy);
     
     List<Assignment> findByStatus(AssignmentStatus status);
@@ -27,6 +34,43 @@ public interface AssignmentRepository extends JpaRepository<Assignment, Long> {
            "AND c.semester = :semester")
     List<Assignment> findAssignmentsForStudentBySemester(@Param("studentId") Long studentId, @Param("semester") Integer semester);
     
+    @Query("SELECT a FROM Assignment a JOIN FETCH a.course c WHERE a.courseId IN " +
+           "(SELECT e.courseId FROM ArchivedEnrollment e WHERE e.studentId = :studentId AND e.semester = :semester) " +
+           "AND c.semester = :semester")
+    List<Assignment> findArchivedAssignmentsForStudentBySemester(@Param("studentId") Long studentId, @Param("semester") Integer semester);
+    
+    // Anti-join: open assignments of the student's active courses with no submission from them yet
+    @Query("SELECT a FROM Assignment a LEFT JOIN Submission s ON s.assignmentId = a.id AND s.studentId = :studentId " +
+           "WHERE s.id IS NULL AND a.status = :status AND a.dueDate >= :today AND a.courseId IN " +
+           "(SELECT e.courseId FROM Enrollment e WHERE e.studentId = :studentId AND e.status = 'ACTIVE') " +
+           "ORDER BY a.dueDate, a.id")
+    List<Assignment> findDueForStudent(@Param("studentId") Long studentId, @Param("status") AssignmentStatus status,
+                                       @Param("today") String today);
+    
+    @Query("SELECT a FROM Assignment a WHERE a.course.semester = :semester ORDER BY a.courseId, a.dueDate")
+    List<Assignment> findBySemester(@Param("semester") Integer semester);
+    
+    @Query("SELECT a.courseId, SUM(a.maxPoints) FROM Assignment a WHERE a.course.semester = :semester GROUP BY a.courseId")
+    List<Object[]> sumMaxPointsGroupedByCourseForSemester(@Param("semester") Integer semester);
+    
+    // Rows of [id, dueDate]
+    @Query("SELECT a.id, a.dueDate FROM Assignment a WHERE a.id = :id AND a.status = :status")
+    List<Object[]> findDueDateRowByIdAndStatus(@Param("id") Long id, @Param("status") AssignmentStatus status);
+    
+    @Query("SELECT a.id, a.dueDate FROM Assignment a WHERE a.status = :status")
+    List<Object[]> findDueDateRowsByStatus(@Param("status") AssignmentStatus status);
+    
+    // Due dates are ISO strings, so a date-only due date stays open through its whole day
+    @Modifying
+    @Transactional
+    @Query("UPDATE Assignment a SET a.status = :closed, a.updatedAt = :now, a.version = a.version + 1 " +
+           "WHERE a.status = :open AND a.dueDate < :today")
+    int closeOverdueAssignments(@Param("open") AssignmentStatus open, @Param("closed") AssignmentStatus closed,
+                                @Param("today") String today, @Param("now") LocalDateTime now);
+    
+    @Query("SELECT a.id, a.courseId, a.maxPoints FROM Assignment a")
+    List<Object[]> findCatalogRows();
+    
     @Query("SELECT COUNT(a) FROM Assignment a")
     Long countAllAssignments();
 }
@@ -1,6 +1,7 @@
 package com.studentmanagement.repository;
 
 import com.studentmanagement.entity.Course;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,12 +14,21 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     
     List<Course> findBySemester(Integer semester);
     
+    // Keyset page: the next courses of the semester after `afterId`
+    List<Course> findBySemesterAndIdGreaterThanOrderByIdAsc(Integer semester, Long afterId, Pageable pageable);
+    
     List<Course> findByTeacherId(Long teacherId);
     
+    boolean existsByIdAndTeacherId(Long id, Long teacherId);
+    
     @Query("SELECT c FROM Course c WHERE c.semester = :semester AND c.id IN " +
            "(SELECT e.courseId FROM Enrollment e WHERE e.studentId = :studentId AND e.status = 'ACTIVE')")
     List<Course> findEnrolledCoursesByStudentAndSemester(@Param("studentId") Long studentId, @Param("semester") Integer semester);
     
+    @Query("SELECT c FROM Course c WHERE c.semester = :semester AND c.id IN " +
+           "(SELECT e.courseId FROM ArchivedEnrollment e WHERE e.studentId = :studentId AND e.semester = :semester)")
+    List<Course> findArchivedCoursesByStudentAndSemester(@Param("studentId") Long studentId, @Param("semester") Integer semester);
+    
     @Query("SELECT COUNT(c) FROM Course c")
     Long countAllCourses();
 }
@@ -2,11 +2,14 @@ package com.studentmanagement.repository;
 
 import com.studentmanagement.entity.Enrollment;
 import com.studentmanagement.entity.EnrollmentStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,9 +24,35 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
     
     Optional<Enrollment> findByStudentIdAndCourseId(Long studentId, Long courseId);
     
+    boolean existsByStudentIdAndCourseIdAndStatus(Long studentId, Long courseId, EnrollmentStatus status);
+    
     @Query("SELECT e FROM Enrollment e WHERE e.studentId = :studentId AND e.status = 'ACTIVE'")
     List<Enrollment> findActiveEnrollmentsByStudent(@Param("studentId") Long studentId);
     
     @Query("SELECT e FROM Enrollment e WHERE e.courseId = :courseId AND e.status = 'ACTIVE'")
     List<Enrollment> findActiveEnrollmentsByCourse(@Param("courseId") Long courseId);
+    
+    @Query("SELECT e.studentId FROM Enrollment e WHERE e.courseId = :courseId AND e.status = 'ACTIVE'")
+    List<Long> findActiveStudentIdsByCourse(@Param("courseId") Long courseId);
+    
+    @Modifying
+    @Query("UPDATE Enrollment e SET e.status = :newStatus, e.updatedAt = :now " +
+           "WHERE e.studentId IN :studentIds AND e.status = :currentStatus " +
+           "AND e.courseId IN (SELECT c.id FROM Course c WHERE c.semester = :semester)")
+    int updateStatusForStudentsInSemester(@Param("studentIds") List<Long> studentIds, @Param("semester") Integer semester,
+                                          @Param("currentStatus") EnrollmentStatus currentStatus,
+                                          @Param("newStatus") EnrollmentStatus newStatus, @Param("now") LocalDateTime now);
+    
+    @Query("SELECT e.id FROM Enrollment e WHERE e.courseId IN " +
+           "(SELECT c.id FROM Course c WHERE c.semester = :semester) ORDER BY e.id")
+    List<Long> findIdsBySemester(@Param("semester") Integer semester, Pageable pageable);
+    
+    @Query("SELECT e.studentId, e.courseId FROM Enrollment e WHERE e.status <> :excluded AND e.courseId IN " +
+           "(SELECT c.id FROM Course c WHERE c.semester = :semester)")
+    List<Object[]> findStudentCoursePairsBySemester(@Param("semester") Integer semester,
+                                                    @Param("excluded") EnrollmentStatus excluded);
+    
+    @Modifying
+    @Query("DELETE FROM Enrollment e WHERE e.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
 }
@@ -0,0 +1,29 @@
+package com.studentmanagement.repository;
+
+import com.studentmanagement.entity.RolloverStatus;
+import com.studentmanagement.entity.SemesterRolloverJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface SemesterRolloverJobRepository extends JpaRepository<SemesterRolloverJob, Long> {
+    
+    Optional<SemesterRolloverJob> findFirstByFromSemesterAndToSemesterAndStatusNotOrderByIdDesc(
+            Integer fromSemester, Integer toSemester, RolloverStatus status);
+    
+    // Jobs still RUNNING whose checkpoint has not moved since `staleBefore` lost their worker
+    @Modifying
+    @Transactional
+    @Query("UPDATE SemesterRolloverJob j SET j.status = :failed, j.errorMessage = :message, j.updatedAt = :now " +
+           "WHERE j.status = :running AND j.updatedAt < :staleBefore")
+    int failStaleJobs(@Param("running") RolloverStatus running, @Param("failed") RolloverStatus failed,
+                      @Param("message") String message, @Param("staleBefore") LocalDateTime staleBefore,
+                      @Param("now") LocalDateTime now);
+}
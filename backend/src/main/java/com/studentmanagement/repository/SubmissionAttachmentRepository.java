@@ -0,0 +1,24 @@
+package com.studentmanagement.repository;
+
+import com.studentmanagement.entity.SubmissionAttachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SubmissionAttachmentRepository extends JpaRepository<SubmissionAttachment, Long> {
+    
+    List<SubmissionAttachment> findBySubmissionId(Long submissionId);
+    
+    List<SubmissionAttachment> findBySubmissionIdIn(Collection<Long> submissionIds);
+    
+    Optional<SubmissionAttachment> findByIdAndSubmissionId(Long id, Long submissionId);
+    
+    @Query("SELECT COALESCE(SUM(a.sizeBytes), 0) FROM SubmissionAttachment a WHERE a.submissionId = :submissionId")
+    Long sumSizeBySubmissionId(@Param("submissionId") Long submissionId);
+}
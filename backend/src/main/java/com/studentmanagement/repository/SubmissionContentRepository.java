@@ -0,0 +1,30 @@
+package com.studentmanagement.repository;
+
+import com.studentmanagement.entity.SubmissionContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface SubmissionContentRepository extends JpaRepository<SubmissionContent, Long> {
+    
+    interface StorageSizes {
+        Long getContentCount();
+        Long getOriginalBytes();
+        Long getCompressedBytes();
+    }
+    
+    @Query("SELECT COUNT(c) AS contentCount, COALESCE(SUM(c.originalSize), 0) AS originalBytes, " +
+           "COALESCE(SUM(c.compressedSize), 0) AS compressedBytes FROM SubmissionContent c")
+    StorageSizes getStorageSizes();
+    
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM SubmissionContent c WHERE c.submissionId IN :submissionIds")
+    int deleteBySubmissionIds(@Param("submissionIds") List<Long> submissionIds);
+}
@@ -2,11 +2,16 @@ package com.studentmanagement.repository;
 
 import com.studentmanagement.entity.Submission;
 import com.studentmanagement.entity.SubmissionStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,9 +26,65 @@ public interface SubmissionRepository extends JpaRepository<Submission, Long> {
     
     Optional<Submission> findByAssignmentIdAndStudentId(Long assignmentId, Long studentId);
     
+    // Row lock that serialises concurrent writers of one submission's dependent rows
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Submission s WHERE s.id = :id")
+    Optional<Submission> findByIdForUpdate(@Param("id") Long id);
+    
+    @Query("SELECT s FROM Submission s WHERE s.studentId = :studentId AND s.assignmentId IN " +
+           "(SELECT a.id FROM Assignment a WHERE a.course.semester = :semester)")
+    List<Submission> findByStudentIdAndSemester(@Param("studentId") Long studentId, @Param("semester") Integer semester);
+    
+    @Query("SELECT s FROM Submission s WHERE s.studentId IN :studentIds AND s.assignmentId IN " +
+           "(SELECT a.id FROM Assignment a WHERE a.course.semester = :semester)")
+    List<Submission> findByStudentIdInAndSemester(@Param("studentIds") Collection<Long> studentIds,
+                                                  @Param("semester") Integer semester);
+    
+    @Query("SELECT s.id FROM Submission s WHERE s.assignmentId IN " +
+           "(SELECT a.id FROM Assignment a WHERE a.course.semester = :semester) ORDER BY s.id")
+    List<Long> findIdsBySemester(@Param("semester") Integer semester, Pageable pageable);
+    
+    @Query("SELECT s.id FROM Submission s WHERE s.assignmentId = :assignmentId")
+    List<Long> findIdsByAssignmentId(@Param("assignmentId") Long assignmentId);
+    
+    @Query("SELECT s.id FROM Submission s WHERE s.assignmentId IN " +
+           "(SELECT a.id FROM Assignment a WHERE a.courseId = :courseId)")
+    List<Long> findIdsByCourseId(@Param("courseId") Long courseId);
+    
+    @Modifying
+    @Query("DELETE FROM Submission s WHERE s.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+    
     @Query("SELECT COUNT(s) FROM Submission s WHERE s.assignmentId = :assignmentId")
     Long countByAssignmentId(@Param("assignmentId") Long assignmentId);
     
+    @Query("SELECT s.assignmentId, COUNT(s) FROM Submission s GROUP BY s.assignmentId")
+    List<Object[]> countGroupedByAssignment();
+    
+    @Query("SELECT s.assignmentId, s.score, COUNT(s) FROM Submission s WHERE s.score IS NOT NULL " +
+           "GROUP BY s.assignmentId, s.score")
+    List<Object[]> countGroupedByAssignmentAndScore();
+    
+    @Query("SELECT s.assignmentId, s.score, COUNT(s) FROM Submission s WHERE s.score IS NOT NULL " +
+           "AND s.assignmentId IN :assignmentIds GROUP BY s.assignmentId, s.score")
+    List<Object[]> countGroupedByAssignmentAndScoreIn(@Param("assignmentIds") Collection<Long> assignmentIds);
+    
+    // Saved versions, so an in-memory rebuild can tell which reported writes its read already saw
+    @Query("SELECT s.id, s.version FROM Submission s WHERE s.id IN :ids")
+    List<Object[]> findVersionsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT a.courseId, s.studentId, SUM(s.score) FROM Submission s JOIN s.assignment a " +
+           "WHERE s.score IS NOT NULL GROUP BY a.courseId, s.studentId")
+    List<Object[]> sumScoresGroupedByCourseAndStudent();
+    
+    @Query("SELECT a.courseId, s.studentId, SUM(s.score) FROM Submission s JOIN s.assignment a " +
+           "WHERE s.score IS NOT NULL AND a.courseId IN :courseIds GROUP BY a.courseId, s.studentId")
+    List<Object[]> sumScoresGroupedByCourseAndStudentIn(@Param("courseIds") Collection<Long> courseIds);
+    
+    @Query("SELECT s.studentId, a.courseId, SUM(s.score) FROM Submission s JOIN s.assignment a " +
+           "WHERE a.course.semester = :semester AND s.score IS NOT NULL GROUP BY s.studentId, a.courseId")
+    List<Object[]> sumScoresGroupedByStudentAndCourseForSemester(@Param("semester") Integer semester);
+    
     @Query("SELECT COUNT(s) FROM Submission s")
     Long countAllSubmissions();
 }
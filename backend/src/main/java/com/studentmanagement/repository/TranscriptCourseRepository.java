@@ -0,0 +1,20 @@
+package com.studentmanagement.repository;
+
+import com.studentmanagement.entity.TranscriptCourse;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TranscriptCourseRepository extends JpaRepository<TranscriptCourse, Long> {
+    
+    List<TranscriptCourse> findByStudentIdAndSemester(Long studentId, Integer semester);
+    
+    // Grade points already earned in earlier semesters, for cumulative GPA
+    @Query("SELECT t.studentId, SUM(t.gradePoints), COUNT(t) FROM TranscriptCourse t " +
+           "WHERE t.semester < :semester AND t.gradePoints IS NOT NULL GROUP BY t.studentId")
+    List<Object[]> sumGradePointsBeforeSemester(@Param("semester") Integer semester);
+}
@@ -0,0 +1,13 @@
+package com.studentmanagement.repository;
+
+import com.studentmanagement.entity.Transcript;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TranscriptRepository extends JpaRepository<Transcript, Long> {
+    
+    List<Transcript> findByStudentIdOrderBySemesterAsc(Long studentId);
+}
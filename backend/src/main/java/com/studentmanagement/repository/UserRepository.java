@@ -2,11 +2,14 @@ package com.studentmanagement.repository;
 
 import com.studentmanagement.entity.User;
 import com.studentmanagement.entity.UserRole;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,4 +29,20 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     @Query("SELECT COUNT(u) FROM User u WHERE u.role = :role")
     Long countByRole(@Param("role") UserRole role);
+    
+    @Query("SELECT u.role, COUNT(u) FROM User u GROUP BY u.role")
+    List<Object[]> countGroupedByRole();
+    
+    long countByRoleAndCurrentSemester(UserRole role, Integer currentSemester);
+    
+    @Query("SELECT u.id FROM User u WHERE u.role = :role AND u.currentSemester = :semester AND u.id > :afterId " +
+           "ORDER BY u.id")
+    List<Long> findIdsByRoleAndSemesterAfter(@Param("role") UserRole role, @Param("semester") Integer semester,
+                                             @Param("afterId") Long afterId, Pageable pageable);
+    
+    @Modifying
+    @Query("UPDATE User u SET u.currentSemester = :toSemester, u.updatedAt = :now " +
+           "WHERE u.id IN :ids AND u.currentSemester = :fromSemester")
+    int updateSemesterForUsers(@Param("ids") List<Long> ids, @Param("fromSemester") Integer fromSemester,
+                               @Param("toSemester") Integer toSemester, @Param("now") LocalDateTime now);
 }
@@ -1,5 +1,6 @@
 package com.studentmanagement.security;
 
+import com.studentmanagement.service.RequestTiming;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -30,11 +31,15 @@ public class AuthTokenFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         try {
+            long started = System.nanoTime();
             String jwt = parseJwt(request);
             if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
                 String email = jwtUtils.getUserNameFromJwtToken(jwt);
+                RequestTiming.record(RequestTiming.Phase.JWT, started);
                 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+                long loading = System.nanoTime();
+                UserDetails userDetails = userDetailsService.loadCachedPrincipal(email);
+                RequestTiming.record(RequestTiming.Phase.PRINCIPAL, loading);
                 UsernamePasswordAuthenticationToken authentication = 
                     new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
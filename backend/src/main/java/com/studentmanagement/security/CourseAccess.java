@@ -0,0 +1,36 @@
+package com.studentmanagement.security;
+
+import com.studentmanagement.entity.EnrollmentStatus;
+import com.studentmanagement.entity.UserRole;
+import com.studentmanagement.repository.CourseRepository;
+import com.studentmanagement.repository.EnrollmentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+// Checks for @PreAuthorize expressions that depend on the caller's place in a course, not just their role
+@Component("courseAccess")
+public class CourseAccess {
+    
+    @Autowired
+    CourseRepository courseRepository;
+    
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+    
+    // The course's teacher, or a student actively enrolled in it
+    public boolean isMember(Long courseId, Authentication authentication) {
+        if (courseId == null || authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal)) {
+            return false;
+        }
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        if (userPrincipal.getRole() == UserRole.TEACHER) {
+            return courseRepository.existsByIdAndTeacherId(courseId, userPrincipal.getId());
+        }
+        if (userPrincipal.getRole() == UserRole.STUDENT) {
+            return enrollmentRepository.existsByStudentIdAndCourseIdAndStatus(userPrincipal.getId(), courseId,
+                    EnrollmentStatus.ACTIVE);
+        }
+        return false;
+    }
+}
@@ -3,18 +3,39 @@ package com.studentmanagement.security;
 import com.studentmanagement.entity.User;
 import com.studentmanagement.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Service
 public class UserDetailsServiceImpl implements UserDetailsService {
     
+    private static final int MAX_CACHED_PRINCIPALS = 10000;
+    
     @Autowired
     UserRepository userRepository;
     
+    @Value("${app.security.principal-cache-ttl-ms:60000}")
+    private long principalCacheTtlMillis;
+    
+    private final Map<String, CachedPrincipal> principals = new ConcurrentHashMap<>();
+    
+    private static class CachedPrincipal {
+        final UserPrincipal principal;
+        final long loadedAt;
+        
+        CachedPrincipal(UserPrincipal principal, long loadedAt) {
+            this.principal = principal;
+            this.loadedAt = loadedAt;
+        }
+    }
+    
     @Override
     @Transactional
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
@@ -23,4 +44,28 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         
         return UserPrincipal.create(user);
     }
+    
+    // Token authentication on every request reads through a short-lived cache; sign-in always
+    // goes to the database. Role changes and deletions evict the user on every replica.
+    public UserDetails loadCachedPrincipal(String email) throws UsernameNotFoundException {
+        if (principalCacheTtlMillis <= 0) {
+            return loadUserByUsername(email);
+        }
+        long now = System.currentTimeMillis();
+        CachedPrincipal cached = principals.get(email);
+        if (cached != null && now - cached.loadedAt < principalCacheTtlMillis) {
+            return cached.principal;
+        }
+        
+        UserDetails principal = loadUserByUsername(email);
+        if (principals.size() >= MAX_CACHED_PRINCIPALS) {
+            principals.clear();
+        }
+        principals.put(email, new CachedPrincipal((UserPrincipal) principal, now));
+        return principal;
+    }
+    
+    public void evictUser(Long userId) {
+        principals.values().removeIf(cached -> cached.principal.getId().equals(userId));
+    }
 }
@@ -0,0 +1,211 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.entity.ArchivedSemester;
+import com.studentmanagement.entity.ArchivedSubmission;
+import com.studentmanagement.entity.Assignment;
+import com.studentmanagement.entity.Course;
+import com.studentmanagement.entity.Submission;
+import com.studentmanagement.entity.UserRole;
+import com.studentmanagement.repository.ArchivedEnrollmentRepository;
+import com.studentmanagement.repository.ArchivedSemesterRepository;
+import com.studentmanagement.repository.ArchivedSubmissionRepository;
+import com.studentmanagement.repository.AssignmentRepository;
+import com.studentmanagement.repository.CourseRepository;
+import com.studentmanagement.repository.EnrollmentRepository;
+import com.studentmanagement.repository.SubmissionRepository;
+import com.studentmanagement.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+@Service
+public class ArchiveService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ArchiveService.class);
+    
+    @Autowired
+    SubmissionRepository submissionRepository;
+    
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+    
+    @Autowired
+    CourseRepository courseRepository;
+    
+    @Autowired
+    AssignmentRepository assignmentRepository;
+    
+    @Autowired
+    UserRepository userRepository;
+    
+    @Autowired
+    ArchivedSubmissionRepository archivedSubmissionRepository;
+    
+    @Autowired
+    ArchivedEnrollmentRepository archivedEnrollmentRepository;
+    
+    @Autowired
+    ArchivedSemesterRepository archivedSemesterRepository;
+    
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    @Qualifier("archiveExecutor")
+    Executor archiveExecutor;
+    
+    @Value("${app.archive.chunk-size:1000}")
+    private int chunkSize;
+    
+    private volatile Set<Integer> archivedSemesters = Set.of();
+    
+    // Semesters being moved right now; reads for them consult both tables
+    private final Set<Integer> archivingSemesters = ConcurrentHashMap.newKeySet();
+    
+    public boolean isArchived(Integer semester) {
+        return semester != null && archivedSemesters.contains(semester);
+    }
+    
+    public boolean isArchiving(Integer semester) {
+        return semester != null && archivingSemesters.contains(semester);
+    }
+    
+    // A semester is closed once no student is still enrolled in it as their current semester
+    public boolean isClosed(Integer semester) {
+        return userRepository.countByRoleAndCurrentSemester(UserRole.STUDENT, semester) == 0;
+    }
+    
+    public boolean startArchiving(Integer semester) {
+        if (isArchived(semester) || !archivingSemesters.add(semester)) {
+            return false;
+        }
+        archiveExecutor.execute(() -> archive(semester));
+        return true;
+    }
+    
+    public List<ArchivedSemester> getArchivedSemesters() {
+        return archivedSemesterRepository.findAll();
+    }
+    
+    public List<Submission> findSubmissionsForStudent(Long studentId, Integer semester) {
+        if (isArchived(semester)) {
+            return toSubmissions(archivedSubmissionRepository.findByStudentIdAndSemester(studentId, semester));
+        }
+        List<Submission> submissions = submissionRepository.findByStudentIdAndSemester(studentId, semester);
+        if (isArchiving(semester)) {
+            submissions = new ArrayList<>(submissions);
+            submissions.addAll(toSubmissions(archivedSubmissionRepository.findByStudentIdAndSemester(studentId, semester)));
+        }
+        return submissions;
+    }
+    
+    public Optional<Submission> findArchivedSubmission(Long id) {
+        return archivedSubmissionRepository.findById(id).map(ArchivedSubmission::toSubmission);
+    }
+    
+    public List<Submission> findArchivedSubmissions(Collection<Long> ids) {
+        return toSubmissions(archivedSubmissionRepository.findAllById(ids));
+    }
+    
+    // Callers only land here after the hot table came back empty
+    public List<Submission> findArchivedSubmissionsForAssignment(Long assignmentId) {
+        return toSubmissions(archivedSubmissionRepository.findByAssignmentId(assignmentId));
+    }
+    
+    public List<Submission> findArchivedSubmissionForAssignmentAndStudent(Long assignmentId, Long studentId) {
+        return archivedSubmissionRepository.findByAssignmentIdAndStudentId(assignmentId, studentId)
+                .map(archived -> List.of(archived.toSubmission())).orElse(List.of());
+    }
+    
+    public List<Course> findEnrolledCourses(Long studentId, Integer semester) {
+        if (isArchived(semester)) {
+            return courseRepository.findArchivedCoursesByStudentAndSemester(studentId, semester);
+        }
+        return courseRepository.findEnrolledCoursesByStudentAndSemester(studentId, semester);
+    }
+    
+    public List<Assignment> findAssignmentsForStudent(Long studentId, Integer semester) {
+        if (isArchived(semester)) {
+            return assignmentRepository.findArchivedAssignmentsForStudentBySemester(studentId, semester);
+        }
+        return assignmentRepository.findAssignmentsForStudentBySemester(studentId, semester);
+    }
+    
+    @Scheduled(fixedDelayString = "${app.archive.refresh-interval-ms:60000}")
+    public void refreshArchivedSemesters() {
+        try {
+            archivedSemesters = Set.copyOf(archivedSemesterRepository.findAllSemesters());
+        } catch (Exception e) {
+            logger.error("Cannot refresh archived semesters: {}", e.getMessage());
+        }
+    }
+    
+    private void archive(Integer semester) {
+        long started = System.currentTimeMillis();
+        try {
+            // Each chunk copies then deletes in one transaction and always takes the first remaining
+            // rows, so an interrupted run simply continues where it stopped when started again
+            long submissions = 0;
+            int moved;
+            do {
+                moved = transactionTemplate.execute(status -> {
+                    List<Long> ids = submissionRepository.findIdsBySemester(semester, PageRequest.of(0, chunkSize));
+                    if (ids.isEmpty()) {
+                        return 0;
+                    }
+                    archivedSubmissionRepository.copyFromSubmissions(ids, semester, LocalDateTime.now());
+                    return submissionRepository.deleteByIds(ids);
+                });
+                submissions += moved;
+            } while (moved > 0);
+            
+            long enrollments = 0;
+            do {
+                moved = transactionTemplate.execute(status -> {
+                    List<Long> ids = enrollmentRepository.findIdsBySemester(semester, PageRequest.of(0, chunkSize));
+                    if (ids.isEmpty()) {
+                        return 0;
+                    }
+                    archivedEnrollmentRepository.copyFromEnrollments(ids, semester, LocalDateTime.now());
+                    return enrollmentRepository.deleteByIds(ids);
+                });
+                enrollments += moved;
+            } while (moved > 0);
+            
+            archivedSemesterRepository.save(new ArchivedSemester(semester,
+                    archivedSubmissionRepository.countBySemester(semester),
+                    archivedEnrollmentRepository.countBySemester(semester)));
+            refreshArchivedSemesters();
+            
+            logger.info("Archived semester {}: {} submissions, {} enrollments in {} ms",
+                    semester, submissions, enrollments, System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            logger.error("Archiving semester {} failed: {}", semester, e.getMessage());
+        } finally {
+            archivingSemesters.remove(semester);
+        }
+    }
+    
+    private List<Submission> toSubmissions(List<ArchivedSubmission> archived) {
+        List<Submission> submissions = new ArrayList<>(archived.size());
+        for (ArchivedSubmission row : archived) {
+            submissions.add(row.toSubmission());
+        }
+        return submissions;
+    }
+}
@@ -0,0 +1,135 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.entity.AssignmentStatus;
+import com.studentmanagement.repository.AssignmentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class AssignmentAvailabilityService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AssignmentAvailabilityService.class);
+    
+    // Stands in for a missing due date, which ConcurrentHashMap cannot hold as a value
+    private static final String NO_DUE_DATE = "";
+    
+    @Autowired
+    AssignmentRepository assignmentRepository;
+    
+    // ACTIVE assignment ids and their due dates. Refreshes merge into this map rather than
+    // replacing it, so marks made while a refresh is loading are not overwritten.
+    private final Map<Long, String> openAssignments = new ConcurrentHashMap<>();
+    
+    private final Object markLock = new Object();
+    private final Object refreshLock = new Object();
+    // Ids marked since the running refresh started reading; null when no refresh is running
+    private Set<Long> markedDuringRefresh;
+    
+    public boolean isOpen(Long assignmentId) {
+        if (assignmentId == null) {
+            return false;
+        }
+        String dueDate = openAssignments.get(assignmentId);
+        if (dueDate == null) {
+            // A miss is either a closed assignment or one created on another node since the last refresh
+            List<Object[]> rows = assignmentRepository.findDueDateRowByIdAndStatus(assignmentId, AssignmentStatus.ACTIVE);
+            if (rows.isEmpty()) {
+                return false;
+            }
+            dueDate = dueDateOf(rows.get(0));
+            markOpen(assignmentId, dueDate);
+        }
+        // Same rule as the close job, so a past-due assignment is refused before the next close run
+        return dueDate.equals(NO_DUE_DATE) || dueDate.compareTo(LocalDate.now().toString()) >= 0;
+    }
+    
+    public void markClosed(Long assignmentId) {
+        synchronized (markLock) {
+            openAssignments.remove(assignmentId);
+            noteMarked(assignmentId);
+        }
+    }
+    
+    public void track(Long assignmentId, AssignmentStatus status, String dueDate) {
+        if (status == AssignmentStatus.ACTIVE) {
+            markOpen(assignmentId, dueDate != null ? dueDate : NO_DUE_DATE);
+        } else {
+            markClosed(assignmentId);
+        }
+    }
+    
+    // A single guarded UPDATE: re-running it, or running it on several nodes at once,
+    // only ever matches rows that are still ACTIVE, so it is idempotent
+    @Scheduled(fixedDelayString = "${app.assignments.close-interval-ms:60000}", initialDelay = 10000)
+    public void closeOverdueAssignments() {
+        try {
+            int closed = assignmentRepository.closeOverdueAssignments(AssignmentStatus.ACTIVE,
+                    AssignmentStatus.COMPLETED, LocalDate.now().toString(), LocalDateTime.now());
+            if (closed > 0) {
+                logger.info("Closed {} overdue assignments", closed);
+                refreshOpenAssignments();
+            }
+        } catch (Exception e) {
+            logger.error("Cannot close overdue assignments: {}", e.getMessage());
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${app.assignments.refresh-interval-ms:30000}")
+    public void refreshOpenAssignments() {
+        synchronized (refreshLock) {
+            synchronized (markLock) {
+                markedDuringRefresh = new HashSet<>();
+            }
+            try {
+                Map<Long, String> loaded = new HashMap<>();
+                for (Object[] row : assignmentRepository.findDueDateRowsByStatus(AssignmentStatus.ACTIVE)) {
+                    loaded.put((Long) row[0], dueDateOf(row));
+                }
+                // Ids marked while the rows were read keep their marked state, which is newer
+                synchronized (markLock) {
+                    openAssignments.keySet().removeIf(id -> !loaded.containsKey(id) && !markedDuringRefresh.contains(id));
+                    loaded.forEach((id, dueDate) -> {
+                        if (!markedDuringRefresh.contains(id)) {
+                            openAssignments.put(id, dueDate);
+                        }
+                    });
+                }
+            } catch (Exception e) {
+                logger.error("Cannot refresh open assignments: {}", e.getMessage());
+            } finally {
+                synchronized (markLock) {
+                    markedDuringRefresh = null;
+                }
+            }
+        }
+    }
+    
+    private void markOpen(Long assignmentId, String dueDate) {
+        synchronized (markLock) {
+            openAssignments.put(assignmentId, dueDate);
+            noteMarked(assignmentId);
+        }
+    }
+    
+    private void noteMarked(Long assignmentId) {
+        if (markedDuringRefresh != null) {
+            markedDuringRefresh.add(assignmentId);
+        }
+    }
+    
+    private static String dueDateOf(Object[] row) {
+        return row[1] != null ? (String) row[1] : NO_DUE_DATE;
+    }
+}
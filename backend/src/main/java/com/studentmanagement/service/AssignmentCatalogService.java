@@ -0,0 +1,81 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.entity.Assignment;
+import com.studentmanagement.repository.AssignmentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Small in-memory map of assignment -> course and max points for the in-memory grade structures
+@Service
+public class AssignmentCatalogService {
+    
+    @Autowired
+    AssignmentRepository assignmentRepository;
+    
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    
+    public static class Entry {
+        private final Long assignmentId;
+        private final Long courseId;
+        private final int maxPoints;
+        
+        public Entry(Long assignmentId, Long courseId, int maxPoints) {
+            this.assignmentId = assignmentId;
+            this.courseId = courseId;
+            this.maxPoints = maxPoints;
+        }
+        
+        public Long getAssignmentId() {
+            return assignmentId;
+        }
+        
+        public Long getCourseId() {
+            return courseId;
+        }
+        
+        public int getMaxPoints() {
+            return maxPoints;
+        }
+    }
+    
+    public Entry get(Long assignmentId) {
+        Entry entry = entries.get(assignmentId);
+        if (entry == null) {
+            entry = assignmentRepository.findById(assignmentId).map(this::update).orElse(null);
+        }
+        return entry;
+    }
+    
+    public List<Entry> getByCourse(Long courseId) {
+        List<Entry> result = new ArrayList<>();
+        for (Entry entry : entries.values()) {
+            if (entry.getCourseId().equals(courseId)) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+    
+    public Entry update(Assignment assignment) {
+        Entry entry = new Entry(assignment.getId(), assignment.getCourseId(),
+                assignment.getMaxPoints() != null ? assignment.getMaxPoints() : 0);
+        entries.put(assignment.getId(), entry);
+        return entry;
+    }
+    
+    public void remove(Long assignmentId) {
+        entries.remove(assignmentId);
+    }
+    
+    public void reload() {
+        for (Object[] row : assignmentRepository.findCatalogRows()) {
+            Long id = (Long) row[0];
+            entries.put(id, new Entry(id, (Long) row[1], row[2] != null ? (Integer) row[2] : 0));
+        }
+    }
+}
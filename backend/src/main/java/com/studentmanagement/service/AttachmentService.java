@@ -0,0 +1,159 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.entity.Submission;
+import com.studentmanagement.entity.SubmissionAttachment;
+import com.studentmanagement.repository.AssignmentRepository;
+import com.studentmanagement.repository.SubmissionAttachmentRepository;
+import com.studentmanagement.repository.SubmissionRepository;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class AttachmentService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AttachmentService.class);
+    
+    // Tomcat's sendfile contract: set by the connector when it can send files itself, then read
+    // back from the request once the servlet returns
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    
+    private static final int DELETE_CHUNK_SIZE = 1000;
+    
+    @Autowired
+    AttachmentStorage attachmentStorage;
+    
+    @Autowired
+    SubmissionAttachmentRepository attachmentRepository;
+    
+    @Autowired
+    AssignmentRepository assignmentRepository;
+    
+    @Autowired
+    SubmissionRepository submissionRepository;
+    
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    
+    @Value("${app.attachments.default-max-bytes:26214400}")
+    private long defaultMaxBytes;
+    
+    // Total bytes a single submission may attach for its assignment
+    public long getQuota(Long assignmentId) {
+        return assignmentRepository.findById(assignmentId)
+                .map(assignment -> assignment.getMaxAttachmentBytes())
+                .filter(limit -> limit != null && limit > 0)
+                .orElse(defaultMaxBytes);
+    }
+    
+    // Early rejection before the upload is moved into the store; store() makes the binding check
+    public boolean fitsQuota(Submission submission, long size) {
+        long used = attachmentRepository.sumSizeBySubmissionId(submission.getId());
+        return used + size <= getQuota(submission.getAssignmentId());
+    }
+    
+    // Empty when the attachment would take the submission over its quota. The quota is checked and
+    // the row inserted under a lock on the submission row, so concurrent uploads cannot both fit.
+    public Optional<SubmissionAttachment> store(Submission submission, MultipartFile file) throws IOException {
+        String key = UUID.randomUUID().toString().replace("-", "");
+        attachmentStorage.store(key, file);
+        long quota = getQuota(submission.getAssignmentId());
+        SubmissionAttachment saved;
+        try {
+            saved = transactionTemplate.execute(status -> {
+                submissionRepository.findByIdForUpdate(submission.getId());
+                if (attachmentRepository.sumSizeBySubmissionId(submission.getId()) + file.getSize() > quota) {
+                    return null;
+                }
+                return attachmentRepository.save(new SubmissionAttachment(submission.getId(),
+                        file.getOriginalFilename() != null ? file.getOriginalFilename() : key,
+                        file.getContentType(), file.getSize(), key));
+            });
+        } catch (RuntimeException e) {
+            attachmentStorage.delete(key);
+            throw e;
+        }
+        if (saved == null) {
+            attachmentStorage.delete(key);
+        }
+        return Optional.ofNullable(saved);
+    }
+    
+    // Hands the file to Tomcat's sendfile, which writes it from the page cache to the socket without
+    // passing through the JVM. False when the connector or store cannot, e.g. inside a batch.
+    public boolean sendfile(SubmissionAttachment attachment, long start, long length, HttpServletRequest request) {
+        if (!Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            return false;
+        }
+        Path path = attachmentStorage.localPath(attachment.getStorageKey());
+        if (path == null) {
+            return false;
+        }
+        request.setAttribute(SENDFILE_FILENAME, path.toString());
+        request.setAttribute(SENDFILE_START, start);
+        request.setAttribute(SENDFILE_END, start + length);
+        return true;
+    }
+    
+    // Fallback: the servlet stream is not a channel the JDK can transfer to directly, so the bytes
+    // are copied through a 64 KB heap buffer
+    public void copy(SubmissionAttachment attachment, long start, long length, OutputStream out) throws IOException {
+        try (FileChannel channel = attachmentStorage.openChannel(attachment.getStorageKey())) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(length, 64 * 1024));
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                buffer.clear().limit((int) Math.min(buffer.capacity(), remaining));
+                int read = channel.read(buffer, position);
+                if (read <= 0) {
+                    break;
+                }
+                out.write(buffer.array(), 0, read);
+                position += read;
+                remaining -= read;
+            }
+        }
+    }
+    
+    public void delete(SubmissionAttachment attachment) throws IOException {
+        attachmentRepository.delete(attachment);
+        attachmentStorage.delete(attachment.getStorageKey());
+    }
+    
+    // Course and assignment deletes cascade to submissions in JPA only, so their callers remove the
+    // attachments here. Files that cannot be deleted are logged and left for manual cleanup.
+    public void deleteForSubmissions(List<Long> submissionIds) {
+        for (int from = 0; from < submissionIds.size(); from += DELETE_CHUNK_SIZE) {
+            List<SubmissionAttachment> attachments = attachmentRepository.findBySubmissionIdIn(
+                    submissionIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, submissionIds.size())));
+            if (attachments.isEmpty()) {
+                continue;
+            }
+            attachmentRepository.deleteAllInBatch(attachments);
+            for (SubmissionAttachment attachment : attachments) {
+                try {
+                    attachmentStorage.delete(attachment.getStorageKey());
+                } catch (IOException e) {
+                    logger.warn("Cannot delete attachment file {}: {}", attachment.getStorageKey(), e.getMessage());
+                }
+            }
+        }
+    }
+}
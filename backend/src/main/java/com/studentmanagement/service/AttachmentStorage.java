@@ -0,0 +1,20 @@
+package com.studentmanagement.service;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+public interface AttachmentStorage {
+    
+    // Persists the upload under the given key without reading it into the heap
+    void store(String key, MultipartFile file) throws IOException;
+    
+    FileChannel openChannel(String key) throws IOException;
+    
+    // Where the container can read the file directly, or null for stores that are not on local disk
+    Path localPath(String key);
+    
+    void delete(String key) throws IOException;
+}
@@ -0,0 +1,74 @@
+package com.studentmanagement.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Bounded multi-producer, single-consumer ring buffer. Producers claim a slot with one CAS on
+// the tail and publish it through the slot's sequence number, so they never block each other
+// or the consumer. Claim order is the order the consumer sees.
+public class AuditRingBuffer<T> {
+    
+    private final int mask;
+    private final AtomicReferenceArray<T> slots;
+    
+    // A slot is writable for position p when its sequence equals p, and readable when it equals p + 1
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    
+    // Only the consumer thread moves the head
+    private volatile long head;
+    
+    public AuditRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+    
+    // Returns false when the buffer is full
+    public boolean offer(T item) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, item);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+    
+    // Consumer thread only
+    public T poll() {
+        int index = (int) (head & mask);
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        T item = slots.get(index);
+        slots.set(index, null);
+        sequences.set(index, head + mask + 1);
+        head++;
+        return item;
+    }
+    
+    public int capacity() {
+        return mask + 1;
+    }
+    
+    // Approximate when producers are active
+    public long size() {
+        return Math.max(0, tail.get() - head);
+    }
+}
@@ -31,6 +31,9 @@ public class AuthService {
     @Autowired
     JwtUtils jwtUtils;
     
+    @Autowired
+    StatisticsService statisticsService;
+    
     public JwtResponse authenticateUser(LoginRequest loginRequest) {
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword()));
@@ -60,7 +63,9 @@ public class AuthService {
         
         user.setCurrentSemester(1); // Default semester
         
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        statisticsService.userCreated(savedUser.getRole());
+        return savedUser;
     }
     
     public User createAdminUser() {
@@ -73,7 +78,9 @@ public class AuthService {
                     "Admin",
                     UserRole.ADMIN);
             
-            return userRepository.save(admin);
+            User savedAdmin = userRepository.save(admin);
+            statisticsService.userCreated(savedAdmin.getRole());
+            return savedAdmin;
         }
         
         return userRepository.findByEmail(adminEmail).orElse(null);
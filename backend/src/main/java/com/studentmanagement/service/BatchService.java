@@ -0,0 +1,171 @@
+package com.studentmanagement.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.studentmanagement.dto.BatchOperation;
+import com.studentmanagement.dto.BatchResult;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Runs the sub-requests of a batch through the dispatcher in-process. The filter chain ran once for
+// the batch request, so its authentication applies to every sub-request; @PreAuthorize checks still
+// run per sub-request. Each sub-request gets its own status, and one failing does not affect the rest.
+@Service
+public class BatchService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(BatchService.class);
+    
+    private static final Set<String> METHODS = Set.of("GET", "POST", "PUT", "PATCH", "DELETE");
+    
+    @Autowired
+    DispatcherServlet dispatcherServlet;
+    
+    @Autowired
+    ObjectMapper objectMapper;
+    
+    @Autowired
+    @Qualifier("batchExecutor")
+    Executor batchExecutor;
+    
+    @Value("${app.batch.max-requests:20}")
+    private int maxRequests;
+    
+    @Value("${app.batch.parallelism:4}")
+    private int parallelism;
+    
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+    
+    // At most `parallelism` workers per batch, each taking the next sub-request until none are left
+    public List<BatchResult> execute(List<BatchOperation> operations, HttpServletRequest request,
+                                     HttpServletResponse response) {
+        BatchResult[] results = new BatchResult[operations.size()];
+        AtomicInteger next = new AtomicInteger();
+        Runnable worker = () -> {
+            int index;
+            while ((index = next.getAndIncrement()) < results.length) {
+                results[index] = dispatch(operations.get(index), request, response);
+            }
+        };
+        
+        int workers = Math.min(Math.max(1, parallelism), results.length);
+        List<CompletableFuture<Void>> futures = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            futures.add(CompletableFuture.runAsync(worker, batchExecutor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture<?>[]::new)).join();
+        return List.of(results);
+    }
+    
+    private BatchResult dispatch(BatchOperation operation, HttpServletRequest request, HttpServletResponse response) {
+        long started = System.nanoTime();
+        String method = operation.getMethod() != null ? operation.getMethod().toUpperCase(Locale.ROOT) : null;
+        if (method == null || !METHODS.contains(method)) {
+            return error(400, "Error: Unsupported method " + operation.getMethod(), started);
+        }
+        URI target;
+        try {
+            target = new URI(operation.getPath());
+        } catch (URISyntaxException | NullPointerException e) {
+            return error(400, "Error: Invalid path " + operation.getPath(), started);
+        }
+        String path = target.getRawPath();
+        if (target.isAbsolute() || target.getRawAuthority() != null || path == null || !path.startsWith("/")) {
+            return error(400, "Error: Path must be relative to the API root, e.g. /courses/all", started);
+        }
+        if (path.equals("/batch") || path.startsWith("/batch/")) {
+            return error(400, "Error: Batches cannot be nested", started);
+        }
+        
+        try {
+            byte[] body = operation.getBody() != null && !operation.getBody().isNull()
+                    ? objectMapper.writeValueAsBytes(operation.getBody()) : null;
+            BatchSubRequest subRequest = new BatchSubRequest(request, method, path, target.getRawQuery(), body,
+                    operation.getHeaders());
+            BatchSubResponse subResponse = new BatchSubResponse(response);
+            dispatcherServlet.service(subRequest, subResponse);
+            return result(subResponse, started);
+        } catch (Exception e) {
+            return failure(e, operation, started);
+        }
+    }
+    
+    // The batch request's security filters are not around to translate these, so it is done here
+    private BatchResult failure(Exception e, BatchOperation operation, long started) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof AccessDeniedException) {
+                Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+                boolean anonymous = authentication == null || authentication instanceof AnonymousAuthenticationToken;
+                return anonymous ? error(401, "Error: Unauthorized", started) : error(403, "Error: Access denied", started);
+            }
+            if (cause instanceof AuthenticationException) {
+                return error(401, "Error: Unauthorized", started);
+            }
+        }
+        logger.error("Batch sub-request {} {} failed", operation.getMethod(), operation.getPath(), e);
+        return error(500, "Error: Internal server error", started);
+    }
+    
+    private BatchResult result(BatchSubResponse subResponse, long started) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        subResponse.getHeaderMap().forEach((name, values) -> headers.put(name, String.join(", ", values)));
+        
+        byte[] content = subResponse.getContent();
+        JsonNode body = null;
+        if (content.length > 0) {
+            String contentType = subResponse.getContentType();
+            if (contentType != null && contentType.contains("json")) {
+                try {
+                    body = objectMapper.readTree(content);
+                } catch (IOException e) {
+                    body = text(content, subResponse.getCharacterEncoding());
+                }
+            } else {
+                body = text(content, subResponse.getCharacterEncoding());
+            }
+        } else if (subResponse.getErrorMessage() != null) {
+            body = new TextNode("Error: " + subResponse.getErrorMessage());
+        }
+        return new BatchResult(subResponse.getStatus(), headers, body, elapsedMillis(started));
+    }
+    
+    private static JsonNode text(byte[] content, String encoding) {
+        return new TextNode(new String(content, Charset.forName(encoding)));
+    }
+    
+    private static BatchResult error(int status, String message, long started) {
+        return new BatchResult(status, Map.of(), new TextNode(message), elapsedMillis(started));
+    }
+    
+    private static long elapsedMillis(long started) {
+        return (System.nanoTime() - started) / 1_000_000;
+    }
+}
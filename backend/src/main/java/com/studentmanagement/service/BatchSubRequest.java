@@ -0,0 +1,287 @@
+package com.studentmanagement.service;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// One sub-request of a batch, seen by the dispatcher as a request of its own. Headers that are not
+// overridden, the remote address and the authenticated principal come from the batch request;
+// attributes are kept apart so sub-requests dispatched side by side do not see each other's.
+class BatchSubRequest extends HttpServletRequestWrapper {
+    
+    private final String method;
+    private final String path;
+    private final String queryString;
+    private final byte[] body;
+    private final Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Map<String, String[]> parameters;
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    
+    BatchSubRequest(HttpServletRequest batchRequest, String method, String path, String queryString, byte[] body,
+                    Map<String, String> headerOverrides) {
+        super(batchRequest);
+        this.method = method;
+        this.path = path;
+        this.queryString = queryString;
+        this.body = body;
+        this.parameters = parseQuery(queryString);
+        // A null value hides the batch request's own header
+        headers.put("Accept", "application/json");
+        headers.put("Content-Type", body != null ? "application/json" : null);
+        headers.put("Content-Length", body != null ? String.valueOf(body.length) : null);
+        if (headerOverrides != null) {
+            headers.putAll(headerOverrides);
+        }
+    }
+    
+    @Override
+    public String getMethod() {
+        return method;
+    }
+    
+    @Override
+    public String getRequestURI() {
+        return getContextPath() + path;
+    }
+    
+    @Override
+    public StringBuffer getRequestURL() {
+        StringBuffer url = new StringBuffer();
+        url.append(getScheme()).append("://").append(getServerName()).append(':').append(getServerPort());
+        return url.append(getRequestURI());
+    }
+    
+    @Override
+    public String getServletPath() {
+        return path;
+    }
+    
+    @Override
+    public String getPathInfo() {
+        return null;
+    }
+    
+    @Override
+    public String getQueryString() {
+        return queryString;
+    }
+    
+    @Override
+    public DispatcherType getDispatcherType() {
+        return DispatcherType.REQUEST;
+    }
+    
+    @Override
+    public String getHeader(String name) {
+        return headers.containsKey(name) ? headers.get(name) : super.getHeader(name);
+    }
+    
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        if (headers.containsKey(name)) {
+            String value = headers.get(name);
+            return Collections.enumeration(value != null ? List.of(value) : List.of());
+        }
+        return super.getHeaders(name);
+    }
+    
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        Set<String> names = new LinkedHashSet<>(Collections.list(super.getHeaderNames()));
+        headers.forEach((name, value) -> {
+            if (value != null) {
+                names.add(name);
+            } else {
+                names.removeIf(name::equalsIgnoreCase);
+            }
+        });
+        return Collections.enumeration(names);
+    }
+    
+    @Override
+    public int getIntHeader(String name) {
+        String value = getHeader(name);
+        return value != null ? Integer.parseInt(value) : -1;
+    }
+    
+    @Override
+    public long getDateHeader(String name) {
+        String value = getHeader(name);
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cannot parse date header " + name + ": " + value);
+        }
+    }
+    
+    @Override
+    public String getContentType() {
+        return getHeader("Content-Type");
+    }
+    
+    @Override
+    public int getContentLength() {
+        return body != null ? body.length : 0;
+    }
+    
+    @Override
+    public long getContentLengthLong() {
+        return getContentLength();
+    }
+    
+    @Override
+    public String getCharacterEncoding() {
+        return StandardCharsets.UTF_8.name();
+    }
+    
+    @Override
+    public void setCharacterEncoding(String encoding) {
+        // The body is always UTF-8 JSON
+    }
+    
+    @Override
+    public ServletInputStream getInputStream() {
+        ByteArrayInputStream input = new ByteArrayInputStream(body != null ? body : new byte[0]);
+        return new ServletInputStream() {
+            @Override
+            public int read() {
+                return input.read();
+            }
+            
+            @Override
+            public int read(byte[] buffer, int offset, int length) {
+                return input.read(buffer, offset, length);
+            }
+            
+            @Override
+            public boolean isFinished() {
+                return input.available() == 0;
+            }
+            
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+            
+            @Override
+            public void setReadListener(ReadListener listener) {
+                throw new UnsupportedOperationException("Batch sub-requests are read synchronously");
+            }
+        };
+    }
+    
+    @Override
+    public BufferedReader getReader() {
+        return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+    }
+    
+    @Override
+    public String getParameter(String name) {
+        String[] values = parameters.get(name);
+        return values != null ? values[0] : null;
+    }
+    
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        return Collections.unmodifiableMap(parameters);
+    }
+    
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.enumeration(parameters.keySet());
+    }
+    
+    @Override
+    public String[] getParameterValues(String name) {
+        return parameters.get(name);
+    }
+    
+    @Override
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+    
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return Collections.enumeration(attributes.keySet());
+    }
+    
+    @Override
+    public void setAttribute(String name, Object value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+    
+    @Override
+    public void removeAttribute(String name) {
+        attributes.remove(name);
+    }
+    
+    // Streaming endpoints cannot answer inside a batch
+    @Override
+    public boolean isAsyncSupported() {
+        return false;
+    }
+    
+    @Override
+    public boolean isAsyncStarted() {
+        return false;
+    }
+    
+    @Override
+    public AsyncContext startAsync() {
+        throw new IllegalStateException("Asynchronous endpoints are not available in a batch");
+    }
+    
+    @Override
+    public AsyncContext startAsync(ServletRequest request, ServletResponse response) {
+        throw new IllegalStateException("Asynchronous endpoints are not available in a batch");
+    }
+    
+    private static Map<String, String[]> parseQuery(String queryString) {
+        Map<String, List<String>> values = new LinkedHashMap<>();
+        if (queryString != null) {
+            for (String pair : queryString.split("&")) {
+                if (pair.isEmpty()) {
+                    continue;
+                }
+                int equals = pair.indexOf('=');
+                String name = URLDecoder.decode(equals >= 0 ? pair.substring(0, equals) : pair, StandardCharsets.UTF_8);
+                String value = equals >= 0 ? URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8) : "";
+                values.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+            }
+        }
+        Map<String, String[]> parameters = new LinkedHashMap<>();
+        values.forEach((name, list) -> parameters.put(name, list.toArray(new String[0])));
+        return parameters;
+    }
+}
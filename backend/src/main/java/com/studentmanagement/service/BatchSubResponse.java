@@ -0,0 +1,302 @@
+package com.studentmanagement.service;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Captures one sub-request's status, headers and body in memory. Nothing reaches the batch
+// response, which stays untouched until every sub-request has finished.
+class BatchSubResponse extends HttpServletResponseWrapper {
+    
+    private int status = SC_OK;
+    private String errorMessage;
+    private final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private String characterEncoding = StandardCharsets.UTF_8.name();
+    private Locale locale = Locale.getDefault();
+    private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+    private boolean committed;
+    
+    BatchSubResponse(HttpServletResponse batchResponse) {
+        super(batchResponse);
+    }
+    
+    byte[] getContent() {
+        if (writer != null) {
+            writer.flush();
+        }
+        return content.toByteArray();
+    }
+    
+    // Reason given to sendError, which has no body of its own
+    String getErrorMessage() {
+        return errorMessage;
+    }
+    
+    Map<String, List<String>> getHeaderMap() {
+        return headers;
+    }
+    
+    @Override
+    public void setStatus(int status) {
+        if (!committed) {
+            this.status = status;
+        }
+    }
+    
+    @Override
+    public int getStatus() {
+        return status;
+    }
+    
+    @Override
+    public void sendError(int status) {
+        sendError(status, null);
+    }
+    
+    @Override
+    public void sendError(int status, String message) {
+        if (committed) {
+            throw new IllegalStateException("Response already committed");
+        }
+        resetBuffer();
+        this.status = status;
+        this.errorMessage = message;
+        committed = true;
+    }
+    
+    @Override
+    public void sendRedirect(String location) {
+        if (committed) {
+            throw new IllegalStateException("Response already committed");
+        }
+        resetBuffer();
+        setHeader("Location", location);
+        status = SC_FOUND;
+        committed = true;
+    }
+    
+    @Override
+    public void setHeader(String name, String value) {
+        if (committed) {
+            return;
+        }
+        if (value == null) {
+            headers.remove(name);
+        } else {
+            List<String> values = new ArrayList<>(1);
+            values.add(value);
+            headers.put(name, values);
+        }
+    }
+    
+    @Override
+    public void addHeader(String name, String value) {
+        if (!committed && value != null) {
+            headers.computeIfAbsent(name, key -> new ArrayList<>(1)).add(value);
+        }
+    }
+    
+    @Override
+    public void setIntHeader(String name, int value) {
+        setHeader(name, String.valueOf(value));
+    }
+    
+    @Override
+    public void addIntHeader(String name, int value) {
+        addHeader(name, String.valueOf(value));
+    }
+    
+    @Override
+    public void setDateHeader(String name, long date) {
+        setHeader(name, formatDate(date));
+    }
+    
+    @Override
+    public void addDateHeader(String name, long date) {
+        addHeader(name, formatDate(date));
+    }
+    
+    @Override
+    public boolean containsHeader(String name) {
+        return headers.containsKey(name);
+    }
+    
+    @Override
+    public String getHeader(String name) {
+        List<String> values = headers.get(name);
+        return values != null && !values.isEmpty() ? values.get(0) : null;
+    }
+    
+    @Override
+    public Collection<String> getHeaders(String name) {
+        List<String> values = headers.get(name);
+        return values != null ? List.copyOf(values) : List.of();
+    }
+    
+    @Override
+    public Collection<String> getHeaderNames() {
+        return List.copyOf(headers.keySet());
+    }
+    
+    @Override
+    public void setContentType(String type) {
+        setHeader("Content-Type", type);
+        if (type != null) {
+            int charset = type.toLowerCase(Locale.ROOT).indexOf("charset=");
+            if (charset >= 0) {
+                characterEncoding = type.substring(charset + "charset=".length()).trim();
+            }
+        }
+    }
+    
+    @Override
+    public String getContentType() {
+        return getHeader("Content-Type");
+    }
+    
+    @Override
+    public void setCharacterEncoding(String encoding) {
+        if (encoding != null && writer == null) {
+            characterEncoding = encoding;
+        }
+    }
+    
+    @Override
+    public String getCharacterEncoding() {
+        return characterEncoding;
+    }
+    
+    @Override
+    public void setContentLength(int length) {
+        // The captured body knows its own length
+    }
+    
+    @Override
+    public void setContentLengthLong(long length) {
+        // The captured body knows its own length
+    }
+    
+    @Override
+    public void setLocale(Locale locale) {
+        this.locale = locale;
+    }
+    
+    @Override
+    public Locale getLocale() {
+        return locale;
+    }
+    
+    @Override
+    public void addCookie(Cookie cookie) {
+        // A sub-request cannot set cookies on the batch response
+    }
+    
+    @Override
+    public ServletOutputStream getOutputStream() {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called");
+        }
+        if (outputStream == null) {
+            outputStream = new ServletOutputStream() {
+                @Override
+                public void write(int b) {
+                    content.write(b);
+                }
+                
+                @Override
+                public void write(byte[] buffer, int offset, int length) {
+                    content.write(buffer, offset, length);
+                }
+                
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+                
+                @Override
+                public void setWriteListener(WriteListener listener) {
+                    throw new UnsupportedOperationException("Batch sub-responses are written synchronously");
+                }
+            };
+        }
+        return outputStream;
+    }
+    
+    @Override
+    public PrintWriter getWriter() {
+        if (outputStream != null) {
+            throw new IllegalStateException("getOutputStream() has already been called");
+        }
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(content, Charset.forName(characterEncoding)));
+        }
+        return writer;
+    }
+    
+    @Override
+    public void flushBuffer() {
+        if (writer != null) {
+            writer.flush();
+        }
+        committed = true;
+    }
+    
+    @Override
+    public boolean isCommitted() {
+        return committed;
+    }
+    
+    @Override
+    public void reset() {
+        if (committed) {
+            throw new IllegalStateException("Response already committed");
+        }
+        resetBuffer();
+        headers.clear();
+        status = SC_OK;
+    }
+    
+    @Override
+    public void resetBuffer() {
+        if (committed) {
+            throw new IllegalStateException("Response already committed");
+        }
+        if (writer != null) {
+            writer.flush();
+        }
+        content.reset();
+    }
+    
+    @Override
+    public void setBufferSize(int size) {
+        // Everything is buffered until the sub-request finishes
+    }
+    
+    @Override
+    public int getBufferSize() {
+        return Integer.MAX_VALUE;
+    }
+    
+    private static String formatDate(long date) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(date).atZone(ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,190 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.dto.CacheInvalidation;
+import com.studentmanagement.dto.UserEvent;
+import com.studentmanagement.entity.Assignment;
+import com.studentmanagement.repository.AssignmentRepository;
+import com.studentmanagement.repository.SubmissionRepository;
+import com.studentmanagement.security.UserDetailsServiceImpl;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Keeps the in-memory state of every replica in step with writes made on the others. The replica
+// handling a write updates its own state directly, as before, and publishes an invalidation; the
+// others apply the same change when it arrives. That includes the user events for the write, so
+// event streams connected to any replica hear of it.
+@Service
+public class CacheInvalidationService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationService.class);
+    
+    @Autowired
+    InvalidationBus invalidationBus;
+    
+    @Autowired
+    AssignmentRepository assignmentRepository;
+    
+    @Autowired
+    AssignmentCatalogService assignmentCatalogService;
+    
+    @Autowired
+    AssignmentAvailabilityService assignmentAvailabilityService;
+    
+    @Autowired
+    StatisticsService statisticsService;
+    
+    @Autowired
+    GradeAnalyticsService gradeAnalyticsService;
+    
+    @Autowired
+    LeaderboardService leaderboardService;
+    
+    @Autowired
+    UserDetailsServiceImpl userDetailsService;
+    
+    @Autowired
+    SubmissionRepository submissionRepository;
+    
+    @Autowired
+    DueAssignmentService dueAssignmentService;
+    
+    @Autowired
+    UserEventService userEventService;
+    
+    private final long nodeId = new SecureRandom().nextLong();
+    private final AtomicLong sequence = new AtomicLong();
+    
+    private final LongAdder published = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder lagTotalMillis = new LongAdder();
+    private final LongAccumulator lagMaxMillis = new LongAccumulator(Math::max, 0);
+    private volatile long lastLagMillis;
+    
+    @PostConstruct
+    void subscribe() {
+        invalidationBus.subscribe(this::apply);
+    }
+    
+    public void courseChanged(Long courseId, CacheInvalidation.Action action) {
+        publish(CacheInvalidation.Type.COURSE, action, courseId);
+    }
+    
+    public void assignmentChanged(Long assignmentId, CacheInvalidation.Action action) {
+        publish(CacheInvalidation.Type.ASSIGNMENT, action, assignmentId);
+    }
+    
+    public void userChanged(Long userId, CacheInvalidation.Action action) {
+        publish(CacheInvalidation.Type.USER, action, userId);
+    }
+    
+    public void submissionChanged(Long submissionId, CacheInvalidation.Action action) {
+        publish(CacheInvalidation.Type.SUBMISSION, action, submissionId);
+    }
+    
+    public Map<String, Object> getStatus() {
+        long count = received.sum();
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("transport", invalidationBus.getTransport());
+        status.put("published", published.sum());
+        status.put("received", count);
+        status.put("failed", failed.sum());
+        status.put("rejected", invalidationBus.getRejected());
+        status.put("averageLagMillis", count == 0 ? 0 : (double) lagTotalMillis.sum() / count);
+        status.put("maxLagMillis", lagMaxMillis.get());
+        status.put("lastLagMillis", lastLagMillis);
+        return status;
+    }
+    
+    private void publish(CacheInvalidation.Type type, CacheInvalidation.Action action, Long id) {
+        invalidationBus.publish(new CacheInvalidation(type, action, id, nodeId, sequence.incrementAndGet(),
+                System.currentTimeMillis()));
+        published.increment();
+    }
+    
+    // Mirrors what the controllers do locally after the same write
+    void apply(CacheInvalidation invalidation) {
+        if (invalidation.getOrigin() == nodeId) {
+            return;
+        }
+        // Wall-clock lag, so it is only as accurate as the replicas' clock sync
+        long lag = Math.max(0, System.currentTimeMillis() - invalidation.getPublishedAt());
+        received.increment();
+        lagTotalMillis.add(lag);
+        lagMaxMillis.accumulate(lag);
+        lastLagMillis = lag;
+        
+        try {
+            switch (invalidation.getType()) {
+                case COURSE -> applyCourse(invalidation.getAction());
+                case ASSIGNMENT -> applyAssignment(invalidation.getId(), invalidation.getAction());
+                case USER -> userDetailsService.evictUser(invalidation.getId());
+                case SUBMISSION -> applySubmission(invalidation.getId(), invalidation.getAction());
+            }
+        } catch (RuntimeException e) {
+            failed.increment();
+            logger.error("Could not apply {} {} {}: {}", invalidation.getType(), invalidation.getAction(),
+                    invalidation.getId(), e.getMessage());
+        }
+    }
+    
+    // Counts are re-read rather than adjusted by a delta, so a lost or repeated message cannot
+    // leave them off for good
+    private void applyCourse(CacheInvalidation.Action action) {
+        if (action != CacheInvalidation.Action.UPDATED) {
+            statisticsService.reconcileSoon();
+        }
+    }
+    
+    // The message only says which assignment changed; what changed is read from the database, so
+    // a delete is only applied once the row is really gone
+    private void applyAssignment(Long assignmentId, CacheInvalidation.Action action) {
+        dueAssignmentService.evictAll();
+        Optional<Assignment> assignment = assignmentRepository.findById(assignmentId);
+        if (assignment.isEmpty()) {
+            assignmentAvailabilityService.markClosed(assignmentId);
+            assignmentCatalogService.remove(assignmentId);
+            gradeAnalyticsService.assignmentDeleted(assignmentId);
+            leaderboardService.assignmentDeleted(assignmentId);
+        } else {
+            assignmentAvailabilityService.track(assignmentId, assignment.get().getStatus(), assignment.get().getDueDate());
+            assignmentCatalogService.update(assignment.get());
+            Long courseId = assignment.get().getCourseId();
+            if (action == CacheInvalidation.Action.CREATED) {
+                userEventService.publishToCourse(courseId, new UserEvent(UserEvent.ASSIGNMENT_CREATED, assignmentId, courseId));
+            } else if (action == CacheInvalidation.Action.UPDATED) {
+                userEventService.publishToCourse(courseId, new UserEvent(UserEvent.ASSIGNMENT_UPDATED, assignmentId, courseId));
+            }
+        }
+        if (action != CacheInvalidation.Action.UPDATED) {
+            statisticsService.reconcileSoon();
+        }
+    }
+    
+    // Only the id travels, so the student is looked up from the saved submission
+    private void applySubmission(Long submissionId, CacheInvalidation.Action action) {
+        submissionRepository.findById(submissionId).ifPresent(submission -> {
+            dueAssignmentService.evictStudent(submission.getStudentId());
+            if (action == CacheInvalidation.Action.GRADED) {
+                gradeAnalyticsService.scoreChangedElsewhere(submission.getAssignmentId());
+                leaderboardService.scoreChangedElsewhere(submission.getAssignmentId());
+                userEventService.publishToUser(submission.getStudentId(),
+                        new UserEvent(UserEvent.SUBMISSION_GRADED, submissionId, null));
+            }
+        });
+        if (action == CacheInvalidation.Action.CREATED) {
+            statisticsService.reconcileSoon();
+        }
+    }
+}
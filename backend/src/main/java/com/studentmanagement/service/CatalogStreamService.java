@@ -0,0 +1,72 @@
+package com.studentmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studentmanagement.entity.Assignment;
+import com.studentmanagement.entity.Course;
+import com.studentmanagement.repository.AssignmentRepository;
+import com.studentmanagement.repository.CourseRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.function.Function;
+
+// Chunked, blocking streaming of catalog reads as newline-delimited JSON. Rows are read over JDBC
+// in keyset pages, each in its own short transaction, so a connection is only held while a page is
+// read and never while a slow client drains the response. The calling thread blocks on every page
+// read and on every write once the socket buffer is full, which holds back the next page read: at
+// most one page per stream is in memory, and one thread is occupied per open stream.
+@Service
+public class CatalogStreamService {
+    
+    private static final byte[] NEWLINE = {'\n'};
+    
+    @Autowired
+    AssignmentRepository assignmentRepository;
+    
+    @Autowired
+    CourseRepository courseRepository;
+    
+    @Autowired
+    ObjectMapper objectMapper;
+    
+    @PersistenceContext
+    EntityManager entityManager;
+    
+    @Value("${app.streaming.page-size:200}")
+    private int pageSize;
+    
+    public void streamAssignmentsByCourse(Long courseId, OutputStream out) throws IOException {
+        stream(out, afterId -> assignmentRepository.findByCourseIdAndIdGreaterThanOrderByIdAsc(courseId, afterId,
+                PageRequest.of(0, pageSize)), Assignment::getId);
+    }
+    
+    public void streamCoursesBySemester(Integer semester, OutputStream out) throws IOException {
+        stream(out, afterId -> courseRepository.findBySemesterAndIdGreaterThanOrderByIdAsc(semester, afterId,
+                PageRequest.of(0, pageSize)), Course::getId);
+    }
+    
+    private <T> void stream(OutputStream out, Function<Long, List<T>> nextPage, Function<T, Long> idOf) throws IOException {
+        long afterId = 0;
+        while (true) {
+            List<T> page = nextPage.apply(afterId);
+            for (T row : page) {
+                out.write(objectMapper.writeValueAsBytes(row));
+                out.write(NEWLINE);
+            }
+            out.flush();
+            // With open-in-view the request's persistence context follows the stream; written rows are dropped from it
+            entityManager.clear();
+            if (page.size() < pageSize) {
+                return;
+            }
+            afterId = idOf.apply(page.get(page.size() - 1));
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.studentmanagement.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Rank index for one course. The skip list keeps students ordered by total for top-N reads,
+// and a Fenwick tree over total scores answers "how many students are ahead" in O(log n).
+// Each course has its own lock, so grading in different courses never contends.
+public class CourseRanking {
+    
+    public static class Standing {
+        private final Long studentId;
+        private final int total;
+        private final long rank;
+        
+        public Standing(Long studentId, int total) {
+            this(studentId, total, 0);
+        }
+        
+        public Standing(Long studentId, int total, long rank) {
+            this.studentId = studentId;
+            this.total = total;
+            this.rank = rank;
+        }
+        
+        public Long getStudentId() {
+            return studentId;
+        }
+        
+        public int getTotal() {
+            return total;
+        }
+        
+        public long getRank() {
+            return rank;
+        }
+    }
+    
+    private static final Comparator<Standing> ORDER = Comparator.comparingInt((Standing s) -> -s.total)
+            .thenComparing(s -> s.studentId);
+    
+    private final Map<Long, Integer> totals = new HashMap<>();
+    private final ConcurrentSkipListSet<Standing> standings = new ConcurrentSkipListSet<>(ORDER);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    // Fenwick tree indexed by total + 1, holding the number of students with that total
+    private long[] tree = new long[1025];
+    
+    public void addScore(Long studentId, int delta) {
+        lock.writeLock().lock();
+        try {
+            Integer previous = totals.get(studentId);
+            int updated = Math.max(0, (previous != null ? previous : 0) + delta);
+            ensureCapacity(updated);
+            if (previous != null) {
+                standings.remove(new Standing(studentId, previous));
+                fenwickAdd(previous, -1);
+            }
+            totals.put(studentId, updated);
+            standings.add(new Standing(studentId, updated));
+            fenwickAdd(updated, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    // Rank 1 is the top; students with equal totals share a rank
+    public Standing standingOf(Long studentId) {
+        lock.readLock().lock();
+        try {
+            Integer total = totals.get(studentId);
+            if (total == null) {
+                return null;
+            }
+            return new Standing(studentId, total, totals.size() - fenwickPrefix(total) + 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return totals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // Weakly consistent walk of the skip list; no lock needed
+    public List<Standing> top(int limit) {
+        List<Standing> result = new ArrayList<>(Math.min(limit, 64));
+        Iterator<Standing> iterator = standings.iterator();
+        while (iterator.hasNext() && result.size() < limit) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+    
+    private void fenwickAdd(int total, long delta) {
+        for (int i = total + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+    
+    // Number of students whose total is <= the given total
+    private long fenwickPrefix(int total) {
+        long count = 0;
+        for (int i = Math.min(total + 1, tree.length - 1); i > 0; i -= i & -i) {
+            count += tree[i];
+        }
+        return count;
+    }
+    
+    // Must run before the new total is recorded, since it rebuilds from the recorded totals
+    private void ensureCapacity(int total) {
+        if (total + 1 < tree.length) {
+            return;
+        }
+        int length = tree.length;
+        while (length <= total + 1) {
+            length *= 2;
+        }
+        tree = new long[length];
+        for (Integer recorded : totals.values()) {
+            fenwickAdd(recorded, 1);
+        }
+    }
+}
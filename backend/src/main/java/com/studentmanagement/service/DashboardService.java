@@ -0,0 +1,81 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.dto.AssignmentSummary;
+import com.studentmanagement.dto.CourseSummary;
+import com.studentmanagement.dto.StudentDashboardResponse;
+import com.studentmanagement.entity.Assignment;
+import com.studentmanagement.entity.Course;
+import com.studentmanagement.entity.Submission;
+import com.studentmanagement.security.UserPrincipal;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+@Service
+public class DashboardService {
+    
+    @Autowired
+    ArchiveService archiveService;
+    
+    @Autowired
+    @Qualifier("dashboardExecutor")
+    Executor dashboardExecutor;
+    
+    public StudentDashboardResponse getStudentDashboard(UserPrincipal student, Integer semester) {
+        Long studentId = student.getId();
+        
+        // The three queries are independent, so run them concurrently; the profile
+        // comes from the principal that was already loaded for this request.
+        // Archived semesters are served from the archive tables.
+        CompletableFuture<List<Course>> coursesFuture = CompletableFuture.supplyAsync(
+                () -> archiveService.findEnrolledCourses(studentId, semester), dashboardExecutor);
+        CompletableFuture<List<Assignment>> assignmentsFuture = CompletableFuture.supplyAsync(
+                () -> archiveService.findAssignmentsForStudent(studentId, semester), dashboardExecutor);
+        CompletableFuture<List<Submission>> submissionsFuture = CompletableFuture.supplyAsync(
+                () -> archiveService.findSubmissionsForStudent(studentId, semester), dashboardExecutor);
+        
+        List<Course> courses = coursesFuture.join();
+        List<Assignment> assignments = assignmentsFuture.join();
+        List<Submission> submissions = submissionsFuture.join();
+        
+        List<CourseSummary> courseSummaries = new ArrayList<>(courses.size());
+        for (Course course : courses) {
+            courseSummaries.add(new CourseSummary(course.getId(), course.getCode(), course.getTitle(),
+                    course.getSemester(), course.getTeacherId()));
+        }
+        
+        Map<Long, Submission> submissionsByAssignment = new HashMap<>();
+        for (Submission submission : submissions) {
+            submissionsByAssignment.put(submission.getAssignmentId(), submission);
+        }
+        
+        List<AssignmentSummary> assignmentSummaries = new ArrayList<>(assignments.size());
+        for (Assignment assignment : assignments) {
+            AssignmentSummary summary = new AssignmentSummary(assignment.getId(), assignment.getCourseId(),
+                    assignment.getCourse().getCode(), assignment.getTitle(), assignment.getDueDate(),
+                    assignment.getMaxPoints(), assignment.getStatus());
+            
+            Submission submission = submissionsByAssignment.get(assignment.getId());
+            if (submission != null) {
+                summary.setSubmissionId(submission.getId());
+                summary.setSubmissionStatus(submission.getStatus());
+                summary.setScore(submission.getScore());
+                summary.setSubmittedAt(submission.getSubmittedAt());
+            }
+            assignmentSummaries.add(summary);
+        }
+        assignmentSummaries.sort(Comparator.comparing(AssignmentSummary::getDueDate,
+                Comparator.nullsLast(Comparator.naturalOrder())));
+        
+        return new StudentDashboardResponse(studentId, student.getEmail(), student.getDisplayName(),
+                student.getCurrentSemester(), semester, courseSummaries, assignmentSummaries);
+    }
+}
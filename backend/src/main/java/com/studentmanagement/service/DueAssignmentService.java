@@ -0,0 +1,80 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.entity.Assignment;
+import com.studentmanagement.entity.AssignmentStatus;
+import com.studentmanagement.repository.AssignmentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Each student's open, unsubmitted assignments, cached until they submit, an assignment changes
+// or the TTL runs out. Enrollment changes are only picked up by the TTL.
+@Service
+public class DueAssignmentService {
+    
+    private static final int MAX_CACHED_STUDENTS = 10000;
+    
+    @Autowired
+    AssignmentRepository assignmentRepository;
+    
+    @Value("${app.due-assignments.cache-ttl-ms:60000}")
+    private long cacheTtlMillis;
+    
+    private final Map<Long, CachedDue> dueByStudent = new ConcurrentHashMap<>();
+    // Bumped by every eviction, so a load that raced one is not cached
+    private final AtomicLong generation = new AtomicLong();
+    
+    private static class CachedDue {
+        final List<Assignment> assignments;
+        final String day;
+        final long loadedAt;
+        
+        CachedDue(List<Assignment> assignments, String day, long loadedAt) {
+            this.assignments = assignments;
+            this.day = day;
+            this.loadedAt = loadedAt;
+        }
+    }
+    
+    public List<Assignment> getDueAssignments(Long studentId) {
+        // The day is part of the entry so assignments due yesterday drop out at midnight
+        String today = LocalDate.now().toString();
+        long now = System.currentTimeMillis();
+        CachedDue cached = dueByStudent.get(studentId);
+        if (cached != null && cached.day.equals(today) && now - cached.loadedAt < cacheTtlMillis) {
+            return cached.assignments;
+        }
+        
+        long loadedGeneration = generation.get();
+        List<Assignment> assignments = List.copyOf(
+                assignmentRepository.findDueForStudent(studentId, AssignmentStatus.ACTIVE, today));
+        if (generation.get() == loadedGeneration) {
+            if (dueByStudent.size() >= MAX_CACHED_STUDENTS) {
+                dueByStudent.clear();
+            }
+            CachedDue entry = new CachedDue(assignments, today, now);
+            dueByStudent.put(studentId, entry);
+            if (generation.get() != loadedGeneration) {
+                dueByStudent.remove(studentId, entry);
+            }
+        }
+        return assignments;
+    }
+    
+    public void evictStudent(Long studentId) {
+        generation.incrementAndGet();
+        dueByStudent.remove(studentId);
+    }
+    
+    // An assignment write can change the due list of every student in its course
+    public void evictAll() {
+        generation.incrementAndGet();
+        dueByStudent.clear();
+    }
+}
@@ -0,0 +1,163 @@
+package com.studentmanagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studentmanagement.dto.EncodingBenchmark;
+import com.studentmanagement.entity.Assignment;
+import com.studentmanagement.entity.AssignmentStatus;
+import com.studentmanagement.entity.Submission;
+import com.studentmanagement.entity.SubmissionStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+// Encodes synthetic Assignment and Submission lists with every response format the API negotiates,
+// using the converters' own mappers, so size and CPU cost per format can be compared on the target
+// hardware without touching the database
+@Service
+public class EncodingBenchmarkService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(EncodingBenchmarkService.class);
+    
+    private static final long MEASURE_NANOS = 200_000_000L;
+    
+    @Autowired
+    List<AbstractJackson2HttpMessageConverter> converters;
+    
+    public EncodingBenchmark benchmark(List<Integer> listSizes) throws JsonProcessingException {
+        // Keyed by media type, JSON first since it is the baseline for the ratios
+        Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+        mappers.put(MediaType.APPLICATION_JSON_VALUE, null);
+        for (AbstractJackson2HttpMessageConverter converter : converters) {
+            mappers.put(converter.getSupportedMediaTypes().get(0).toString(), converter.getObjectMapper());
+        }
+        
+        EncodingBenchmark benchmark = new EncodingBenchmark(listSizes);
+        for (int size : listSizes) {
+            measure(benchmark, "Assignment", size, syntheticAssignments(size), mappers);
+            measure(benchmark, "Submission", size, syntheticSubmissions(size), mappers);
+        }
+        
+        logger.info("Encoding benchmark: {}", benchmark.getSamples().stream()
+                .map(s -> s.getEntity() + "x" + s.getListSize() + " " + s.getMediaType() + "=" + s.getBytes() + "B/"
+                        + s.getMicrosPerEncode() + "us").toList());
+        return benchmark;
+    }
+    
+    private void measure(EncodingBenchmark benchmark, String entity, int size, List<?> list,
+                         Map<String, ObjectMapper> mappers) throws JsonProcessingException {
+        long jsonBytes = 0;
+        double jsonMicros = 0;
+        for (Map.Entry<String, ObjectMapper> format : mappers.entrySet()) {
+            if (format.getValue() == null) {
+                continue;
+            }
+            ObjectMapper mapper = format.getValue();
+            long bytes = mapper.writeValueAsBytes(list).length;
+            double micros = microsPerEncode(mapper, list);
+            if (format.getKey().equals(MediaType.APPLICATION_JSON_VALUE)) {
+                jsonBytes = bytes;
+                jsonMicros = micros;
+            }
+            benchmark.getSamples().add(new EncodingBenchmark.Sample(entity, size, format.getKey(), bytes,
+                    round(micros), jsonBytes > 0 ? round((double) bytes / jsonBytes) : 0,
+                    jsonMicros > 0 ? round(micros / jsonMicros) : 0));
+        }
+    }
+    
+    // Best of three timed rounds after a warm-up round, so JIT compilation is not measured
+    private static double microsPerEncode(ObjectMapper mapper, List<?> list) throws JsonProcessingException {
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < 4; round++) {
+            long started = System.nanoTime();
+            long iterations = 0;
+            long elapsed;
+            do {
+                mapper.writeValueAsBytes(list);
+                iterations++;
+                elapsed = System.nanoTime() - started;
+            } while (elapsed < MEASURE_NANOS);
+            if (round > 0) {
+                best = Math.min(best, elapsed / 1000.0 / iterations);
+            }
+        }
+        return best;
+    }
+    
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+    
+    private static List<Assignment> syntheticAssignments(int size) {
+        Random random = new Random(42);
+        LocalDateTime created = LocalDateTime.of(2024, 9, 1, 9, 0);
+        List<Assignment> assignments = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            Assignment assignment = new Assignment();
+            assignment.setId(id);
+            assignment.setTitle("Problem set " + id + ": " + words(random, 4));
+            assignment.setDescription(words(random, 60));
+            assignment.setInstructions(words(random, 40));
+            assignment.setCourseId(1 + (long) random.nextInt(50));
+            assignment.setMaxPoints(100);
+            assignment.setDueDate(LocalDate.of(2024, 12, 1).plusDays(random.nextInt(60)).toString());
+            assignment.setStatus(AssignmentStatus.ACTIVE);
+            assignment.setCreatedBy(1 + (long) random.nextInt(20));
+            assignment.setCreatedAt(created.plusMinutes(random.nextInt(100000)));
+            assignment.setUpdatedAt(assignment.getCreatedAt());
+            assignment.setVersion((long) random.nextInt(5));
+            assignments.add(assignment);
+        }
+        return assignments;
+    }
+    
+    // Listings leave the submission body out, so the synthetic rows do too
+    private static List<Submission> syntheticSubmissions(int size) {
+        Random random = new Random(42);
+        LocalDateTime submitted = LocalDateTime.of(2024, 10, 1, 9, 0);
+        List<Submission> submissions = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            Submission submission = new Submission();
+            submission.setId(id);
+            submission.setAssignmentId(1 + (long) random.nextInt(200));
+            submission.setStudentId(1 + (long) random.nextInt(5000));
+            submission.setStudentName("Student " + submission.getStudentId());
+            submission.setSubmittedAt(submitted.plusMinutes(random.nextInt(100000)));
+            submission.setStatus(SubmissionStatus.GRADED);
+            submission.setScore(random.nextInt(101));
+            submission.setFeedback(words(random, 15));
+            submission.setGradedBy(1 + (long) random.nextInt(20));
+            submission.setGradedAt(submission.getSubmittedAt().plusDays(3));
+            submission.setCreatedAt(submission.getSubmittedAt());
+            submission.setUpdatedAt(submission.getGradedAt());
+            submission.setVersion(1L);
+            submissions.add(submission);
+        }
+        return submissions;
+    }
+    
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            int length = 2 + random.nextInt(9);
+            for (int j = 0; j < length; j++) {
+                text.append((char) ('a' + random.nextInt(26)));
+            }
+        }
+        return text.toString();
+    }
+}
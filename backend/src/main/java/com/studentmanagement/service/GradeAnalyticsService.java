@@ -0,0 +1,297 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.dto.GradeDistribution;
+import com.studentmanagement.repository.SubmissionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+@Service
+public class GradeAnalyticsService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(GradeAnalyticsService.class);
+    
+    private static final int HISTOGRAM_BUCKETS = 10;
+    
+    private static final int PERCENT_SCALE = 100;
+    
+    @Autowired
+    SubmissionRepository submissionRepository;
+    
+    @Autowired
+    AssignmentCatalogService assignmentCatalogService;
+    
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    @Qualifier("analyticsExecutor")
+    Executor analyticsExecutor;
+    
+    private volatile Map<Long, ScoreHistogram> histogramsByAssignment = new ConcurrentHashMap<>();
+    
+    // Changes run under the read lock, so they proceed concurrently; a reload takes the write lock
+    // only to start recording them and to swap its result in, replaying what it recorded first
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private Queue<RecordedChange> changesDuringReload;
+    
+    // Assignments graded on other replicas since their last reload
+    private final Set<Long> staleAssignments = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean reloadPending = new AtomicBoolean();
+    
+    // A change with the submission and the version its write saved; deletes carry no submission
+    private static class RecordedChange {
+        final Long assignmentId;
+        final Long submissionId;
+        final Long version;
+        final Consumer<Map<Long, ScoreHistogram>> change;
+        
+        RecordedChange(Long assignmentId, Long submissionId, Long version, Consumer<Map<Long, ScoreHistogram>> change) {
+            this.assignmentId = assignmentId;
+            this.submissionId = submissionId;
+            this.version = version;
+            this.change = change;
+        }
+    }
+    
+    // Called for every grade write on this replica with the saved version; a re-grade moves the
+    // submission out of its old score
+    public void scoreChanged(Long submissionId, Long version, Long assignmentId, Integer previousScore, Integer newScore) {
+        apply(new RecordedChange(assignmentId, submissionId, version, histograms -> {
+            ScoreHistogram histogram = histograms.computeIfAbsent(assignmentId, id -> new ScoreHistogram());
+            if (previousScore != null) {
+                histogram.remove(previousScore);
+            }
+            if (newScore != null) {
+                histogram.add(newScore);
+            }
+        }));
+    }
+    
+    // A grade saved on another replica. Its invalidation carries no scores, so the assignment's
+    // histogram is re-read in the background; a burst of grades is read once.
+    public void scoreChangedElsewhere(Long assignmentId) {
+        staleAssignments.add(assignmentId);
+        if (reloadPending.compareAndSet(false, true)) {
+            analyticsExecutor.execute(this::reloadStale);
+        }
+    }
+    
+    public void assignmentDeleted(Long assignmentId) {
+        apply(new RecordedChange(assignmentId, null, null, histograms -> histograms.remove(assignmentId)));
+    }
+    
+    public GradeDistribution getAssignmentDistribution(Long assignmentId) {
+        AssignmentCatalogService.Entry assignment = assignmentCatalogService.get(assignmentId);
+        if (assignment == null) {
+            return null;
+        }
+        ScoreHistogram histogram = histogramsByAssignment.getOrDefault(assignmentId, new ScoreHistogram());
+        return describe("assignment", assignmentId, histogram.snapshot(), assignment.getMaxPoints());
+    }
+    
+    // Course view: each assignment's histogram rescaled to percent and merged
+    public GradeDistribution getCourseDistribution(Long courseId) {
+        ScoreHistogram merged = new ScoreHistogram();
+        for (AssignmentCatalogService.Entry assignment : assignmentCatalogService.getByCourse(courseId)) {
+            ScoreHistogram histogram = histogramsByAssignment.get(assignment.getAssignmentId());
+            if (histogram != null) {
+                merged.mergeScaled(histogram, assignment.getMaxPoints(), PERCENT_SCALE);
+            }
+        }
+        return describe("course", courseId, merged.snapshot(), PERCENT_SCALE);
+    }
+    
+    // Rebuilt at startup from grouped counts, and periodically as a backstop for grades whose
+    // invalidation was lost
+    @Scheduled(fixedDelayString = "${app.analytics.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        try {
+            assignmentCatalogService.reload();
+        } catch (Exception e) {
+            logger.error("Cannot reload the assignment catalog: {}", e.getMessage());
+        }
+        reload(null);
+    }
+    
+    void reloadStale() {
+        // Cleared before the read starts, so a grade reported during the read queues another reload
+        reloadPending.set(false);
+        Set<Long> assignmentIds = new HashSet<>(staleAssignments);
+        staleAssignments.removeAll(assignmentIds);
+        if (!assignmentIds.isEmpty()) {
+            reload(assignmentIds);
+        }
+    }
+    
+    // Reads the given assignments' histograms, or all of them for null, and swaps them in. Local
+    // changes reported while the counts are read are replayed onto the result, except those the
+    // read already saw: grades are saved before they are reported, so one saved just before the
+    // read may be reported after recording began. The versions are read in the same snapshot as
+    // the counts, and a change whose saved version the snapshot already has is skipped.
+    private synchronized void reload(Set<Long> assignmentIds) {
+        swapLock.writeLock().lock();
+        try {
+            changesDuringReload = new ConcurrentLinkedQueue<>();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        try {
+            snapshotTransaction().executeWithoutResult(status -> {
+                Map<Long, ScoreHistogram> loaded = new ConcurrentHashMap<>();
+                List<Object[]> rows = assignmentIds == null ? submissionRepository.countGroupedByAssignmentAndScore()
+                        : submissionRepository.countGroupedByAssignmentAndScoreIn(assignmentIds);
+                for (Object[] row : rows) {
+                    loaded.computeIfAbsent((Long) row[0], id -> new ScoreHistogram()).add((Integer) row[1], (Long) row[2]);
+                }
+                Map<Long, Long> snapshotVersions = new HashMap<>();
+                Set<Long> looked = new HashSet<>();
+                readVersions(assignmentIds, snapshotVersions, looked);
+                
+                swapLock.writeLock().lock();
+                try {
+                    // Only changes recorded since the first lookup are read under the lock
+                    readVersions(assignmentIds, snapshotVersions, looked);
+                    for (RecordedChange change : changesDuringReload) {
+                        if (inScope(assignmentIds, change) && !seenBySnapshot(change, snapshotVersions)) {
+                            change.change.accept(loaded);
+                        }
+                    }
+                    if (assignmentIds == null) {
+                        histogramsByAssignment = loaded;
+                    } else {
+                        for (Long assignmentId : assignmentIds) {
+                            ScoreHistogram histogram = loaded.get(assignmentId);
+                            if (histogram != null) {
+                                histogramsByAssignment.put(assignmentId, histogram);
+                            } else {
+                                histogramsByAssignment.remove(assignmentId);
+                            }
+                        }
+                    }
+                    changesDuringReload = null;
+                } finally {
+                    swapLock.writeLock().unlock();
+                }
+            });
+        } catch (Exception e) {
+            logger.error("Cannot reload grade analytics: {}", e.getMessage());
+        } finally {
+            swapLock.writeLock().lock();
+            try {
+                changesDuringReload = null;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+        }
+    }
+    
+    private void readVersions(Set<Long> assignmentIds, Map<Long, Long> snapshotVersions, Set<Long> looked) {
+        List<Long> submissionIds = new ArrayList<>();
+        for (RecordedChange change : changesDuringReload) {
+            if (change.submissionId != null && inScope(assignmentIds, change) && looked.add(change.submissionId)) {
+                submissionIds.add(change.submissionId);
+            }
+        }
+        if (submissionIds.isEmpty()) {
+            return;
+        }
+        for (Object[] row : submissionRepository.findVersionsByIdIn(submissionIds)) {
+            snapshotVersions.put((Long) row[0], (Long) row[1]);
+        }
+    }
+    
+    private static boolean inScope(Set<Long> assignmentIds, RecordedChange change) {
+        return assignmentIds == null || assignmentIds.contains(change.assignmentId);
+    }
+    
+    // A submission the snapshot does not have yet was created after it, so its grade is replayed
+    private static boolean seenBySnapshot(RecordedChange change, Map<Long, Long> snapshotVersions) {
+        Long snapshotVersion = change.submissionId != null ? snapshotVersions.get(change.submissionId) : null;
+        return snapshotVersion != null && change.version != null && snapshotVersion >= change.version;
+    }
+    
+    // One consistent read for the counts and the versions
+    private TransactionTemplate snapshotTransaction() {
+        TransactionTemplate snapshot = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        snapshot.setReadOnly(true);
+        return snapshot;
+    }
+    
+    private void apply(RecordedChange change) {
+        swapLock.readLock().lock();
+        try {
+            change.change.accept(histogramsByAssignment);
+            if (changesDuringReload != null) {
+                changesDuringReload.add(change);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+    
+    private GradeDistribution describe(String scope, Long id, TreeMap<Integer, Long> scores, int scale) {
+        GradeDistribution distribution = new GradeDistribution(scope, id, scale);
+        List<Long> buckets = new ArrayList<>(HISTOGRAM_BUCKETS);
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            buckets.add(0L);
+        }
+        distribution.setHistogram(buckets);
+        
+        long count = 0;
+        long sum = 0;
+        for (Map.Entry<Integer, Long> entry : scores.entrySet()) {
+            count += entry.getValue();
+            sum += (long) entry.getKey() * entry.getValue();
+            int bucket = scale > 0 ? (int) ((long) entry.getKey() * HISTOGRAM_BUCKETS / scale) : 0;
+            bucket = Math.max(0, Math.min(HISTOGRAM_BUCKETS - 1, bucket));
+            buckets.set(bucket, buckets.get(bucket) + entry.getValue());
+        }
+        distribution.setCount(count);
+        if (count == 0) {
+            return distribution;
+        }
+        
+        distribution.setMean((double) sum / count);
+        distribution.setMin(scores.firstKey());
+        distribution.setMax(scores.lastKey());
+        distribution.setMedian(quantile(scores, count, 0.5));
+        distribution.setP90(quantile(scores, count, 0.9));
+        return distribution;
+    }
+    
+    // Nearest-rank quantile over the sorted score counts
+    private Integer quantile(TreeMap<Integer, Long> scores, long count, double q) {
+        long rank = Math.max(1, (long) Math.ceil(q * count));
+        long seen = 0;
+        for (Map.Entry<Integer, Long> entry : scores.entrySet()) {
+            seen += entry.getValue();
+            if (seen >= rank) {
+                return entry.getKey();
+            }
+        }
+        return scores.lastKey();
+    }
+}
@@ -0,0 +1,257 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.dto.GradeAuditRecord;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+
+// Append-only journal of grade changes. The grading request only hands a record to a lock-free
+// ring buffer; a single writer thread assigns sequence numbers, copies records into the current
+// memory-mapped segment and forces everything it drained in one go, so a burst of grades shares
+// one flush (group commit). Records become visible to readers only once they are durable.
+@Service
+public class GradeAuditJournal {
+    
+    private static final Logger logger = LoggerFactory.getLogger(GradeAuditJournal.class);
+    
+    @Value("${app.audit.directory:./data/audit}")
+    private String directory;
+    
+    @Value("${app.audit.segment-bytes:67108864}")
+    private int segmentBytes;
+    
+    @Value("${app.audit.ring-capacity:65536}")
+    private int ringCapacity;
+    
+    @Value("${app.audit.max-batch:4096}")
+    private int maxBatch;
+    
+    @Value("${app.audit.flush-interval-ms:1}")
+    private long flushIntervalMs;
+    
+    // Longest a grading request waits for room when the writer has fallen behind
+    @Value("${app.audit.max-wait-ms:50}")
+    private long maxWaitMs;
+    
+    private Path root;
+    private AuditRingBuffer<GradeAuditRecord> ring;
+    private Thread writer;
+    private volatile boolean running;
+    
+    // Writer thread state
+    private MappedByteBuffer segment;
+    private int position;
+    private int unflushedFrom;
+    private long nextSequence;
+    private final List<GradeAuditRecord> batch = new ArrayList<>();
+    
+    private volatile long durableSequence;
+    private volatile int lastBatchSize;
+    private final LongAdder appended = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder commits = new LongAdder();
+    
+    @PostConstruct
+    void start() throws IOException {
+        root = Paths.get(directory).toAbsolutePath().normalize();
+        Files.createDirectories(root);
+        ring = new AuditRingBuffer<>(ringCapacity);
+        recover();
+        
+        running = true;
+        writer = new Thread(this::writeLoop, "grade-audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+    
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+    
+    public void append(GradeAuditRecord record) {
+        if (ring.offer(record)) {
+            appended.increment();
+            return;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        while (System.nanoTime() < deadline) {
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(50_000);
+            if (ring.offer(record)) {
+                appended.increment();
+                return;
+            }
+        }
+        // Never stall grading indefinitely; the application log keeps the change instead
+        dropped.increment();
+        logger.error("Grade audit journal full, record not journaled: submission {} score {} -> {} by {}",
+                record.getSubmissionId(), record.getPreviousScore(), record.getNewScore(), record.getGradedBy());
+    }
+    
+    // Durable records only, oldest first, stopping after limit matches
+    public List<GradeAuditRecord> query(long fromSequence, Predicate<GradeAuditRecord> filter, int limit) throws IOException {
+        List<GradeAuditRecord> results = new ArrayList<>();
+        GradeAuditLog.read(root, fromSequence, durableSequence, record -> {
+            if (filter.test(record)) {
+                results.add(record);
+            }
+            return results.size() < limit;
+        });
+        return results;
+    }
+    
+    public Map<String, Object> getStatus() throws IOException {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("durableSequence", durableSequence);
+        status.put("pending", ring.size());
+        status.put("ringCapacity", ring.capacity());
+        status.put("appended", appended.sum());
+        status.put("dropped", dropped.sum());
+        status.put("commits", commits.sum());
+        status.put("lastBatchSize", lastBatchSize);
+        status.put("segments", GradeAuditLog.listSegments(root).size());
+        return status;
+    }
+    
+    // Continues after the last intact record; a torn tail from a crash is wiped so it cannot
+    // be mistaken for data once new records are written over its start
+    private void recover() throws IOException {
+        List<Path> segments = GradeAuditLog.listSegments(root);
+        if (segments.isEmpty()) {
+            openSegment(1, segmentBytes);
+            nextSequence = 1;
+            durableSequence = 0;
+            return;
+        }
+        
+        Path last = segments.get(segments.size() - 1);
+        long first = GradeAuditLog.firstSequence(last);
+        try (FileChannel channel = FileChannel.open(last, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        }
+        if (segment.getInt(0) != GradeAuditLog.MAGIC) {
+            segment.putInt(0, GradeAuditLog.MAGIC);
+        }
+        GradeAuditLog.ScanResult result = GradeAuditLog.scan(segment, first, Long.MAX_VALUE, null);
+        position = result.getEndPosition();
+        if (result.isTorn()) {
+            logger.warn("Grade audit segment {} has a torn tail at offset {}, truncating", last.getFileName(), position);
+            for (int i = position; i < segment.limit(); i++) {
+                segment.put(i, (byte) 0);
+            }
+            segment.force();
+        }
+        unflushedFrom = position;
+        nextSequence = result.getLastSequence() + 1;
+        durableSequence = result.getLastSequence();
+        logger.info("Grade audit journal resumed at sequence {} in {}", nextSequence, last.getFileName());
+    }
+    
+    private void writeLoop() {
+        long idleNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, flushIntervalMs));
+        while (true) {
+            batch.clear();
+            try {
+                GradeAuditRecord record;
+                while (batch.size() < maxBatch && (record = ring.poll()) != null) {
+                    batch.add(record);
+                    record.setSequence(nextSequence);
+                    write(record);
+                    nextSequence++;
+                }
+                if (!batch.isEmpty()) {
+                    flush();
+                    lastBatchSize = batch.size();
+                    commits.increment();
+                }
+            } catch (Exception e) {
+                abandonUnflushed(e);
+            }
+            if (batch.isEmpty()) {
+                if (!running) {
+                    return;
+                }
+                LockSupport.parkNanos(idleNanos);
+            }
+        }
+    }
+    
+    // A failed write or force leaves the batch's records after durableSequence in an unknown state.
+    // They are wiped and counted as dropped, and the sequence steps back to the first one not durable,
+    // so the log stays contiguous and no sequence number is handed out twice to records on disk.
+    private void abandonUnflushed(Exception e) {
+        logger.error("Grade audit journal write failed: {}", e.getMessage());
+        try {
+            for (int i = unflushedFrom; i < position; i++) {
+                segment.put(i, (byte) 0);
+            }
+        } catch (RuntimeException wipeFailure) {
+            logger.error("Cannot wipe unflushed grade audit records: {}", wipeFailure.getMessage());
+        }
+        position = unflushedFrom;
+        nextSequence = durableSequence + 1;
+        for (GradeAuditRecord record : batch) {
+            if (record.getSequence() > durableSequence) {
+                dropped.increment();
+                logger.error("Grade audit write failed, record not journaled: submission {} score {} -> {} by {}",
+                        record.getSubmissionId(), record.getPreviousScore(), record.getNewScore(), record.getGradedBy());
+            }
+        }
+    }
+    
+    private void write(GradeAuditRecord record) throws IOException {
+        byte[] body = GradeAuditLog.encode(record);
+        int frame = GradeAuditLog.FRAME_BYTES + body.length;
+        if (position + frame > segment.limit()) {
+            flush();
+            openSegment(record.getSequence(), Math.max(segmentBytes, GradeAuditLog.HEADER_BYTES + frame));
+        }
+        segment.put(position + 4, body);
+        segment.putInt(position + 4 + body.length, GradeAuditLog.crc(body));
+        segment.putInt(position, body.length);
+        position += frame;
+    }
+    
+    // Everything written so far is durable once this returns, including a segment closed mid-batch
+    private void flush() {
+        if (position > unflushedFrom) {
+            segment.force(unflushedFrom, position - unflushedFrom);
+            unflushedFrom = position;
+        }
+        durableSequence = nextSequence - 1;
+    }
+    
+    private void openSegment(long firstSequence, int size) throws IOException {
+        Path path = root.resolve(GradeAuditLog.segmentName(firstSequence));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+        segment.putInt(0, GradeAuditLog.MAGIC);
+        segment.force();
+        position = GradeAuditLog.HEADER_BYTES;
+        unflushedFrom = position;
+    }
+}
@@ -0,0 +1,260 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.dto.GradeAuditRecord;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+// On-disk format of the grade audit journal, and the reader used by the query endpoint and
+// the offline replay tool.
+//
+// The journal is a directory of fixed-size segment files named after the first sequence they
+// hold. Each segment starts with an 8 byte header, followed by records laid out as
+// [int body length][body][int CRC32 of body]. Unused space is zero, so a zero length marks the
+// end of a segment. A record that fails its CRC or breaks the sequence is a torn write and ends
+// the readable log.
+public final class GradeAuditLog {
+    
+    static final int MAGIC = 0x47414A31; // "GAJ1"
+    static final int HEADER_BYTES = 8;
+    static final int FRAME_BYTES = 8;
+    
+    private static final long NULL_ID = Long.MIN_VALUE;
+    private static final int NULL_SCORE = Integer.MIN_VALUE;
+    
+    private static final String SEGMENT_PREFIX = "grades-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    
+    private GradeAuditLog() {}
+    
+    public static class ScanResult {
+        private final long lastSequence;
+        private final int endPosition;
+        private final boolean torn;
+        
+        ScanResult(long lastSequence, int endPosition, boolean torn) {
+            this.lastSequence = lastSequence;
+            this.endPosition = endPosition;
+            this.torn = torn;
+        }
+        
+        public long getLastSequence() {
+            return lastSequence;
+        }
+        
+        public int getEndPosition() {
+            return endPosition;
+        }
+        
+        public boolean isTorn() {
+            return torn;
+        }
+    }
+    
+    static String segmentName(long firstSequence) {
+        return String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX);
+    }
+    
+    static long firstSequence(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+    
+    // Sorted by first sequence, which the zero-padded names give us for free
+    public static List<Path> listSegments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+            }).sorted().toList();
+        }
+    }
+    
+    static byte[] encode(GradeAuditRecord record) {
+        byte[] previousFeedback = bytes(record.getPreviousFeedback());
+        byte[] newFeedback = bytes(record.getNewFeedback());
+        int length = 8 * 6 + 4 * 2 + stringLength(previousFeedback) + stringLength(newFeedback);
+        
+        ByteBuffer body = ByteBuffer.allocate(length);
+        body.putLong(record.getSequence());
+        body.putLong(record.getRecordedAt());
+        body.putLong(id(record.getSubmissionId()));
+        body.putLong(id(record.getAssignmentId()));
+        body.putLong(id(record.getStudentId()));
+        body.putLong(id(record.getGradedBy()));
+        body.putInt(record.getPreviousScore() != null ? record.getPreviousScore() : NULL_SCORE);
+        body.putInt(record.getNewScore() != null ? record.getNewScore() : NULL_SCORE);
+        putString(body, previousFeedback);
+        putString(body, newFeedback);
+        return body.array();
+    }
+    
+    static int crc(byte[] body) {
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return (int) crc.getValue();
+    }
+    
+    // Walks one segment from the header, handing each intact record to the consumer until
+    // the end marker or a torn record. Records after upToSequence are not handed over.
+    static ScanResult scan(ByteBuffer segment, long expectedFirstSequence, long upToSequence,
+                           Predicate<GradeAuditRecord> consumer) {
+        long expected = expectedFirstSequence;
+        int position = HEADER_BYTES;
+        boolean torn = false;
+        while (position + FRAME_BYTES <= segment.limit()) {
+            int length = segment.getInt(position);
+            if (length == 0) {
+                break;
+            }
+            if (length < 0 || position + FRAME_BYTES + length > segment.limit()) {
+                torn = true;
+                break;
+            }
+            byte[] body = new byte[length];
+            segment.get(position + 4, body);
+            GradeAuditRecord record = crc(body) == segment.getInt(position + 4 + length) ? decode(body) : null;
+            if (record == null || record.getSequence() != expected) {
+                torn = true;
+                break;
+            }
+            if (record.getSequence() > upToSequence) {
+                break;
+            }
+            position += FRAME_BYTES + length;
+            expected++;
+            if (consumer != null && !consumer.test(record)) {
+                break;
+            }
+        }
+        return new ScanResult(expected - 1, position, torn);
+    }
+    
+    // Reads every record from fromSequence up to upToSequence in order; the consumer returns
+    // false to stop early
+    public static void read(Path directory, long fromSequence, long upToSequence,
+                            Predicate<GradeAuditRecord> consumer) throws IOException {
+        List<Path> segments = listSegments(directory);
+        for (int i = 0; i < segments.size(); i++) {
+            if (i + 1 < segments.size() && firstSequence(segments.get(i + 1)) <= fromSequence) {
+                continue;
+            }
+            long first = firstSequence(segments.get(i));
+            if (first > upToSequence) {
+                return;
+            }
+            boolean[] stopped = {false};
+            try (FileChannel channel = FileChannel.open(segments.get(i), StandardOpenOption.READ)) {
+                MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                if (segment.limit() < HEADER_BYTES || segment.getInt(0) != MAGIC) {
+                    continue;
+                }
+                scan(segment, first, upToSequence, record -> {
+                    if (record.getSequence() < fromSequence) {
+                        return true;
+                    }
+                    stopped[0] = !consumer.test(record);
+                    return !stopped[0];
+                });
+            }
+            if (stopped[0]) {
+                return;
+            }
+        }
+    }
+    
+    private static GradeAuditRecord decode(byte[] bytes) {
+        try {
+            ByteBuffer body = ByteBuffer.wrap(bytes);
+            GradeAuditRecord record = new GradeAuditRecord();
+            record.setSequence(body.getLong());
+            record.setRecordedAt(body.getLong());
+            record.setSubmissionId(nullableId(body.getLong()));
+            record.setAssignmentId(nullableId(body.getLong()));
+            record.setStudentId(nullableId(body.getLong()));
+            record.setGradedBy(nullableId(body.getLong()));
+            int previousScore = body.getInt();
+            int newScore = body.getInt();
+            record.setPreviousScore(previousScore != NULL_SCORE ? previousScore : null);
+            record.setNewScore(newScore != NULL_SCORE ? newScore : null);
+            record.setPreviousFeedback(getString(body));
+            record.setNewFeedback(getString(body));
+            return record;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+    
+    private static long id(Long value) {
+        return value != null ? value : NULL_ID;
+    }
+    
+    private static Long nullableId(long value) {
+        return value != NULL_ID ? value : null;
+    }
+    
+    private static byte[] bytes(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+    
+    private static int stringLength(byte[] value) {
+        return 4 + (value != null ? value.length : 0);
+    }
+    
+    private static void putString(ByteBuffer buffer, byte[] value) {
+        buffer.putInt(value != null ? value.length : -1);
+        if (value != null) {
+            buffer.put(value);
+        }
+    }
+    
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+    
+    // Offline replay of a journal directory, one tab-separated line per record:
+    //   java -cp app.jar -Dloader.main=com.studentmanagement.service.GradeAuditLog \
+    //       org.springframework.boot.loader.launch.PropertiesLauncher <directory> [fromSequence] [submissionId]
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: GradeAuditLog <directory> [fromSequence] [submissionId]");
+            System.exit(2);
+        }
+        Path directory = Paths.get(args[0]);
+        long fromSequence = args.length > 1 ? Long.parseLong(args[1]) : 1;
+        Long submissionId = args.length > 2 ? Long.valueOf(args[2]) : null;
+        
+        System.out.println("sequence\trecordedAt\tsubmissionId\tassignmentId\tstudentId\tgradedBy\tpreviousScore\tnewScore\tnewFeedback");
+        read(directory, fromSequence, Long.MAX_VALUE, record -> {
+            if (submissionId == null || submissionId.equals(record.getSubmissionId())) {
+                System.out.println(record.getSequence() + "\t" + Instant.ofEpochMilli(record.getRecordedAt()) + "\t" +
+                        record.getSubmissionId() + "\t" + record.getAssignmentId() + "\t" + record.getStudentId() + "\t" +
+                        record.getGradedBy() + "\t" + record.getPreviousScore() + "\t" + record.getNewScore() + "\t" +
+                        (record.getNewFeedback() != null ? record.getNewFeedback().replaceAll("\\s+", " ") : ""));
+            }
+            return true;
+        });
+    }
+}
@@ -0,0 +1,48 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.dto.CacheInvalidation;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
+
+// In-JVM transport. Every application context in the JVM shares one hub, so several replicas
+// started side by side in one process see each other's writes; a lone replica publishes to no one.
+public class InProcessInvalidationBus implements InvalidationBus {
+    
+    private static final Set<InProcessInvalidationBus> HUB = new CopyOnWriteArraySet<>();
+    
+    private final Set<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArraySet<>();
+    
+    public InProcessInvalidationBus() {
+        HUB.add(this);
+    }
+    
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        for (InProcessInvalidationBus bus : HUB) {
+            if (bus != this) {
+                bus.listeners.forEach(listener -> listener.accept(invalidation));
+            }
+        }
+    }
+    
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+    
+    @Override
+    public String getTransport() {
+        return "in-process";
+    }
+    
+    @Override
+    public long getRejected() {
+        return 0;
+    }
+    
+    public void close() {
+        HUB.remove(this);
+    }
+}
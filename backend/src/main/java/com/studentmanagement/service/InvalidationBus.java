@@ -0,0 +1,19 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.dto.CacheInvalidation;
+
+import java.util.function.Consumer;
+
+// Carries invalidations between backend replicas. Delivery is best effort; the scheduled
+// refreshes of each cache bound how long a lost message leaves a replica stale.
+public interface InvalidationBus {
+    
+    void publish(CacheInvalidation invalidation);
+    
+    void subscribe(Consumer<CacheInvalidation> listener);
+    
+    String getTransport();
+    
+    // Messages dropped as unauthenticated, stale or replayed
+    long getRejected();
+}
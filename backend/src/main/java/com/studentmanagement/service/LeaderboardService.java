@@ -0,0 +1,282 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.dto.RankingEntry;
+import com.studentmanagement.entity.User;
+import com.studentmanagement.repository.SubmissionRepository;
+import com.studentmanagement.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+@Service
+public class LeaderboardService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardService.class);
+    
+    @Autowired
+    SubmissionRepository submissionRepository;
+    
+    @Autowired
+    UserRepository userRepository;
+    
+    @Autowired
+    AssignmentCatalogService assignmentCatalogService;
+    
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    @Qualifier("leaderboardExecutor")
+    Executor leaderboardExecutor;
+    
+    private volatile Map<Long, CourseRanking> rankingsByCourse = new ConcurrentHashMap<>();
+    
+    // Same scheme as the grade histograms: score changes run under the read lock and are recorded
+    // while a reload reads, then replayed onto its result before the swap unless the read saw them
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private Queue<RecordedChange> changesDuringReload;
+    
+    // Set while a rebuild is queued but has not started reading, so a burst of deletes runs one rebuild
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+    
+    // Courses graded on other replicas since their last reload
+    private final Set<Long> staleCourses = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean reloadPending = new AtomicBoolean();
+    
+    private static class RecordedChange {
+        final Long courseId;
+        final Long submissionId;
+        final Long version;
+        final Consumer<Map<Long, CourseRanking>> change;
+        
+        RecordedChange(Long courseId, Long submissionId, Long version, Consumer<Map<Long, CourseRanking>> change) {
+            this.courseId = courseId;
+            this.submissionId = submissionId;
+            this.version = version;
+            this.change = change;
+        }
+    }
+    
+    // Called for every grade write on this replica with the saved version
+    public void scoreChanged(Long submissionId, Long version, Long assignmentId, Long studentId,
+                             Integer previousScore, Integer newScore) {
+        int delta = (newScore != null ? newScore : 0) - (previousScore != null ? previousScore : 0);
+        if (delta == 0 && previousScore != null) {
+            return;
+        }
+        AssignmentCatalogService.Entry assignment = assignmentCatalogService.get(assignmentId);
+        if (assignment == null) {
+            return;
+        }
+        Long courseId = assignment.getCourseId();
+        apply(new RecordedChange(courseId, submissionId, version,
+                rankings -> rankings.computeIfAbsent(courseId, id -> new CourseRanking()).addScore(studentId, delta)));
+    }
+    
+    // A grade saved on another replica. Its invalidation carries no scores, so the course's totals
+    // are re-read in the background; a burst of grades is read once.
+    public void scoreChangedElsewhere(Long assignmentId) {
+        AssignmentCatalogService.Entry assignment = assignmentCatalogService.get(assignmentId);
+        if (assignment == null) {
+            return;
+        }
+        staleCourses.add(assignment.getCourseId());
+        if (reloadPending.compareAndSet(false, true)) {
+            leaderboardExecutor.execute(this::reloadStale);
+        }
+    }
+    
+    // Deleting an assignment drops its scores from every total in the course. Its submissions are
+    // already gone by the time any replica hears of it, so the totals are recomputed in the
+    // background; the request does not wait, and rankings show the old totals until the swap.
+    public void assignmentDeleted(Long assignmentId) {
+        if (rebuildPending.compareAndSet(false, true)) {
+            leaderboardExecutor.execute(this::rebuild);
+        }
+    }
+    
+    public List<RankingEntry> getTop(Long courseId, int limit) {
+        CourseRanking ranking = rankingsByCourse.get(courseId);
+        if (ranking == null) {
+            return List.of();
+        }
+        
+        List<CourseRanking.Standing> standings = ranking.top(limit);
+        List<Long> studentIds = new ArrayList<>(standings.size());
+        for (CourseRanking.Standing standing : standings) {
+            studentIds.add(standing.getStudentId());
+        }
+        Map<Long, String> names = new HashMap<>();
+        for (User user : userRepository.findAllById(studentIds)) {
+            names.put(user.getId(), user.getDisplayName());
+        }
+        
+        // Tied totals share the rank of the first student with that total
+        List<RankingEntry> entries = new ArrayList<>(standings.size());
+        long rank = 0;
+        int previousTotal = Integer.MIN_VALUE;
+        for (int i = 0; i < standings.size(); i++) {
+            CourseRanking.Standing standing = standings.get(i);
+            if (standing.getTotal() != previousTotal) {
+                rank = i + 1;
+                previousTotal = standing.getTotal();
+            }
+            entries.add(new RankingEntry(standing.getStudentId(), names.get(standing.getStudentId()),
+                    standing.getTotal(), rank));
+        }
+        return entries;
+    }
+    
+    public RankingEntry getRank(Long courseId, Long studentId) {
+        CourseRanking ranking = rankingsByCourse.get(courseId);
+        CourseRanking.Standing standing = ranking != null ? ranking.standingOf(studentId) : null;
+        if (standing == null) {
+            return null;
+        }
+        return new RankingEntry(studentId, null, standing.getTotal(), standing.getRank());
+    }
+    
+    // Rebuilt at startup from one grouped query, and periodically as a backstop for grades whose
+    // invalidation was lost
+    @Scheduled(fixedDelayString = "${app.leaderboard.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        // Cleared before the read starts, so a delete committed during the read queues another rebuild
+        rebuildPending.set(false);
+        reload(null);
+    }
+    
+    void reloadStale() {
+        reloadPending.set(false);
+        Set<Long> courseIds = new HashSet<>(staleCourses);
+        staleCourses.removeAll(courseIds);
+        if (!courseIds.isEmpty()) {
+            reload(courseIds);
+        }
+    }
+    
+    // Reads the given courses' totals, or all of them for null, and swaps them in. As in
+    // GradeAnalyticsService.reload, a recorded change is replayed only if the snapshot has an older
+    // version of its submission, so a grade saved before the read is not counted twice.
+    private synchronized void reload(Set<Long> courseIds) {
+        swapLock.writeLock().lock();
+        try {
+            changesDuringReload = new ConcurrentLinkedQueue<>();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        try {
+            snapshotTransaction().executeWithoutResult(status -> {
+                Map<Long, CourseRanking> loaded = new ConcurrentHashMap<>();
+                List<Object[]> rows = courseIds == null ? submissionRepository.sumScoresGroupedByCourseAndStudent()
+                        : submissionRepository.sumScoresGroupedByCourseAndStudentIn(courseIds);
+                for (Object[] row : rows) {
+                    loaded.computeIfAbsent((Long) row[0], id -> new CourseRanking())
+                            .addScore((Long) row[1], ((Number) row[2]).intValue());
+                }
+                Map<Long, Long> snapshotVersions = new HashMap<>();
+                Set<Long> looked = new HashSet<>();
+                readVersions(courseIds, snapshotVersions, looked);
+                
+                swapLock.writeLock().lock();
+                try {
+                    // Only changes recorded since the first lookup are read under the lock
+                    readVersions(courseIds, snapshotVersions, looked);
+                    for (RecordedChange change : changesDuringReload) {
+                        if (inScope(courseIds, change) && !seenBySnapshot(change, snapshotVersions)) {
+                            change.change.accept(loaded);
+                        }
+                    }
+                    if (courseIds == null) {
+                        rankingsByCourse = loaded;
+                    } else {
+                        for (Long courseId : courseIds) {
+                            CourseRanking ranking = loaded.get(courseId);
+                            if (ranking != null) {
+                                rankingsByCourse.put(courseId, ranking);
+                            } else {
+                                rankingsByCourse.remove(courseId);
+                            }
+                        }
+                    }
+                    changesDuringReload = null;
+                } finally {
+                    swapLock.writeLock().unlock();
+                }
+            });
+        } catch (Exception e) {
+            logger.error("Cannot rebuild course rankings: {}", e.getMessage());
+        } finally {
+            swapLock.writeLock().lock();
+            try {
+                changesDuringReload = null;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+        }
+    }
+    
+    private void readVersions(Set<Long> courseIds, Map<Long, Long> snapshotVersions, Set<Long> looked) {
+        List<Long> submissionIds = new ArrayList<>();
+        for (RecordedChange change : changesDuringReload) {
+            if (inScope(courseIds, change) && looked.add(change.submissionId)) {
+                submissionIds.add(change.submissionId);
+            }
+        }
+        if (submissionIds.isEmpty()) {
+            return;
+        }
+        for (Object[] row : submissionRepository.findVersionsByIdIn(submissionIds)) {
+            snapshotVersions.put((Long) row[0], (Long) row[1]);
+        }
+    }
+    
+    private static boolean inScope(Set<Long> courseIds, RecordedChange change) {
+        return courseIds == null || courseIds.contains(change.courseId);
+    }
+    
+    // A submission the snapshot does not have yet was created after it, so its grade is replayed
+    private static boolean seenBySnapshot(RecordedChange change, Map<Long, Long> snapshotVersions) {
+        Long snapshotVersion = snapshotVersions.get(change.submissionId);
+        return snapshotVersion != null && change.version != null && snapshotVersion >= change.version;
+    }
+    
+    // One consistent read for the totals and the versions
+    private TransactionTemplate snapshotTransaction() {
+        TransactionTemplate snapshot = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        snapshot.setReadOnly(true);
+        return snapshot;
+    }
+    
+    private void apply(RecordedChange change) {
+        swapLock.readLock().lock();
+        try {
+            change.change.accept(rankingsByCourse);
+            if (changesDuringReload != null) {
+                changesDuringReload.add(change);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.studentmanagement.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+@Service
+public class LocalFileSystemAttachmentStorage implements AttachmentStorage {
+    
+    private final Path root;
+    
+    public LocalFileSystemAttachmentStorage(@Value("${app.attachments.directory:./data/attachments}") String directory)
+            throws IOException {
+        this.root = Paths.get(directory).toAbsolutePath().normalize();
+        Files.createDirectories(root);
+    }
+    
+    @Override
+    public void store(String key, MultipartFile file) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        // The multipart resolver has already spooled the part to disk; this moves it into place
+        file.transferTo(target);
+    }
+    
+    @Override
+    public FileChannel openChannel(String key) throws IOException {
+        return FileChannel.open(resolve(key), StandardOpenOption.READ);
+    }
+    
+    @Override
+    public Path localPath(String key) {
+        return resolve(key);
+    }
+    
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+    
+    // Two levels of fan-out keep directories small
+    private Path resolve(String key) {
+        Path path = root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("Invalid attachment key");
+        }
+        return path;
+    }
+}
@@ -0,0 +1,102 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.dto.EndpointQueryStats;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Per-endpoint SQL statement and row counts checked against budgets. An endpoint that starts
+// issuing a query per row (N+1) shows up here as a budget violation long before it shows up as latency.
+@Service
+public class QueryBudgetService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(QueryBudgetService.class);
+    
+    @Value("${app.query-budget.max-statements:10}")
+    private int defaultMaxStatements;
+    
+    @Value("${app.query-budget.max-rows:5000}")
+    private int defaultMaxRows;
+    
+    // "METHOD /pattern=statements/rows" entries separated by commas
+    @Value("${app.query-budget.overrides:}")
+    private String overrides;
+    
+    private final Map<String, int[]> budgets = new HashMap<>();
+    private final Map<String, Usage> usageByEndpoint = new ConcurrentHashMap<>();
+    
+    @PostConstruct
+    void parseOverrides() {
+        for (String entry : overrides.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int equals = trimmed.lastIndexOf('=');
+            int slash = trimmed.lastIndexOf('/');
+            if (equals < 0 || slash < equals) {
+                throw new IllegalStateException("Invalid query budget override: " + trimmed);
+            }
+            budgets.put(trimmed.substring(0, equals).trim(), new int[] {
+                    Integer.parseInt(trimmed.substring(equals + 1, slash).trim()),
+                    Integer.parseInt(trimmed.substring(slash + 1).trim())});
+        }
+    }
+    
+    public void record(String endpoint, long statements, long rows) {
+        int[] budget = budgetFor(endpoint);
+        Usage usage = usageByEndpoint.computeIfAbsent(endpoint, key -> new Usage());
+        usage.requests.increment();
+        usage.statements.add(statements);
+        usage.maxStatements.accumulate(statements);
+        usage.maxRows.accumulate(rows);
+        
+        if (statements > budget[0] || rows > budget[1]) {
+            usage.violations.increment();
+            logger.warn("Query budget exceeded by {}: {} statements (budget {}), {} rows (budget {})",
+                    endpoint, statements, budget[0], rows, budget[1]);
+        }
+    }
+    
+    public List<EndpointQueryStats> getStats() {
+        return usageByEndpoint.entrySet().stream()
+                .map(entry -> {
+                    Usage usage = entry.getValue();
+                    int[] budget = budgetFor(entry.getKey());
+                    long requests = usage.requests.sum();
+                    return new EndpointQueryStats(entry.getKey(), requests,
+                            requests == 0 ? 0 : (double) usage.statements.sum() / requests,
+                            usage.maxStatements.get(), usage.maxRows.get(), budget[0], budget[1], usage.violations.sum());
+                })
+                .sorted(Comparator.comparingLong(EndpointQueryStats::getViolations).reversed()
+                        .thenComparing(EndpointQueryStats::getEndpoint))
+                .toList();
+    }
+    
+    public void reset() {
+        usageByEndpoint.clear();
+    }
+    
+    private int[] budgetFor(String endpoint) {
+        int[] budget = budgets.get(endpoint);
+        return budget != null ? budget : new int[] {defaultMaxStatements, defaultMaxRows};
+    }
+    
+    private static class Usage {
+        final LongAdder requests = new LongAdder();
+        final LongAdder statements = new LongAdder();
+        final LongAdder violations = new LongAdder();
+        final LongAccumulator maxStatements = new LongAccumulator(Math::max, 0);
+        final LongAccumulator maxRows = new LongAccumulator(Math::max, 0);
+    }
+}
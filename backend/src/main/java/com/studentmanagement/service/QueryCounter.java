@@ -0,0 +1,60 @@
+package com.studentmanagement.service;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// SQL statements and rows read on behalf of one request. The counting datasource adds to the
+// counter bound to the calling thread; executors that run request work propagate it.
+public class QueryCounter {
+    
+    private static final ThreadLocal<QueryCounter> CURRENT = new ThreadLocal<>();
+    
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    
+    public static QueryCounter current() {
+        return CURRENT.get();
+    }
+    
+    // Binds the counter to this thread and returns the one it replaced
+    public static QueryCounter bind(QueryCounter counter) {
+        QueryCounter previous = CURRENT.get();
+        if (counter == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(counter);
+        }
+        return previous;
+    }
+    
+    // Task decorator: runs the task with the submitting thread's counter bound
+    public static Runnable propagate(Runnable task) {
+        QueryCounter counter = CURRENT.get();
+        if (counter == null) {
+            return task;
+        }
+        return () -> {
+            QueryCounter previous = bind(counter);
+            try {
+                task.run();
+            } finally {
+                bind(previous);
+            }
+        };
+    }
+    
+    public void statementExecuted() {
+        statements.increment();
+    }
+    
+    public void rowRead() {
+        rows.increment();
+    }
+    
+    public long getStatements() {
+        return statements.sum();
+    }
+    
+    public long getRows() {
+        return rows.sum();
+    }
+}
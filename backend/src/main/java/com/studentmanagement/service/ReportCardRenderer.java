@@ -0,0 +1,188 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.entity.Assignment;
+import com.studentmanagement.entity.Course;
+import com.studentmanagement.entity.Submission;
+import com.studentmanagement.entity.User;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+// Renders one student's semester report card. Stateless, so render workers share one instance.
+@Component
+public class ReportCardRenderer {
+    
+    private static final PDFont REGULAR = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+    private static final PDFont BOLD = new PDType1Font(Standard14Fonts.FontName.HELVETICA_BOLD);
+    
+    private static final float MARGIN = 50;
+    private static final float LINE_HEIGHT = 15;
+    
+    public static class StudentReport {
+        private final User student;
+        private final Integer semester;
+        private final List<Course> courses;
+        private final Map<Long, List<Assignment>> assignmentsByCourse;
+        private final Map<Long, Submission> submissionsByAssignment;
+        
+        public StudentReport(User student, Integer semester, List<Course> courses,
+                             Map<Long, List<Assignment>> assignmentsByCourse, Map<Long, Submission> submissionsByAssignment) {
+            this.student = student;
+            this.semester = semester;
+            this.courses = courses;
+            this.assignmentsByCourse = assignmentsByCourse;
+            this.submissionsByAssignment = submissionsByAssignment;
+        }
+    }
+    
+    public void render(StudentReport report, OutputStream out) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            PageWriter writer = new PageWriter(document);
+            try {
+                writer.line(BOLD, 18, "Report Card");
+                writer.gap();
+                writer.line(REGULAR, 11, "Student: " + report.student.getDisplayName());
+                writer.line(REGULAR, 11, "Email: " + report.student.getEmail());
+                writer.line(REGULAR, 11, "Semester: " + report.semester);
+                writer.line(REGULAR, 11, "Issued: " + LocalDate.now());
+                writer.gap();
+                
+                double percentageSum = 0;
+                int gradedCourses = 0;
+                for (Course course : report.courses) {
+                    writer.line(BOLD, 13, course.getCode() + " - " + course.getTitle());
+                    
+                    int earned = 0;
+                    int possible = 0;
+                    for (Assignment assignment : report.assignmentsByCourse.getOrDefault(course.getId(), List.of())) {
+                        Submission submission = report.submissionsByAssignment.get(assignment.getId());
+                        String result;
+                        if (submission == null) {
+                            result = "Not submitted";
+                        } else if (submission.getScore() == null) {
+                            result = "Awaiting grade";
+                        } else {
+                            result = submission.getScore() + " / " + assignment.getMaxPoints();
+                            earned += submission.getScore();
+                        }
+                        possible += assignment.getMaxPoints();
+                        writer.row(truncate(assignment.getTitle(), 55), assignment.getDueDate(), result);
+                    }
+                    
+                    if (possible > 0) {
+                        double percentage = earned * 100.0 / possible;
+                        percentageSum += percentage;
+                        gradedCourses++;
+                        writer.line(BOLD, 11, String.format("Total: %d / %d (%.1f%%)  Grade: %s",
+                                earned, possible, percentage, letterGrade(percentage)));
+                    } else {
+                        writer.line(REGULAR, 11, "No graded work this semester");
+                    }
+                    writer.gap();
+                }
+                
+                if (gradedCourses > 0) {
+                    double average = percentageSum / gradedCourses;
+                    writer.line(BOLD, 12, String.format("Semester average: %.1f%%  Grade: %s", average, letterGrade(average)));
+                }
+            } finally {
+                writer.close();
+            }
+            document.save(out);
+        }
+    }
+    
+    static String letterGrade(double percentage) {
+        if (percentage >= 90) {
+            return "A";
+        } else if (percentage >= 80) {
+            return "B";
+        } else if (percentage >= 70) {
+            return "C";
+        } else if (percentage >= 60) {
+            return "D";
+        }
+        return "F";
+    }
+    
+    private static String truncate(String text, int length) {
+        return text.length() <= length ? text : text.substring(0, length - 3) + "...";
+    }
+    
+    // The standard fonts only cover WinAnsi; anything else would make showText throw
+    private static String printable(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            builder.append((c >= 0x20 && c <= 0x7E) || (c >= 0xA0 && c <= 0xFF) ? c : '?');
+        }
+        return builder.toString();
+    }
+    
+    // Tracks the cursor and starts a new page when the current one is full
+    private static class PageWriter {
+        private final PDDocument document;
+        private PDPageContentStream stream;
+        private float y;
+        
+        PageWriter(PDDocument document) throws IOException {
+            this.document = document;
+            newPage();
+        }
+        
+        void line(PDFont font, float size, String text) throws IOException {
+            text(font, size, MARGIN, text);
+            y -= LINE_HEIGHT + (size - 11);
+        }
+        
+        void row(String title, String dueDate, String result) throws IOException {
+            text(REGULAR, 10, MARGIN + 10, title);
+            text(REGULAR, 10, MARGIN + 320, dueDate);
+            text(REGULAR, 10, MARGIN + 420, result);
+            y -= LINE_HEIGHT;
+        }
+        
+        void gap() {
+            y -= LINE_HEIGHT / 2;
+        }
+        
+        void close() throws IOException {
+            stream.close();
+        }
+        
+        private void text(PDFont font, float size, float x, String text) throws IOException {
+            if (y < MARGIN) {
+                newPage();
+            }
+            stream.beginText();
+            stream.setFont(font, size);
+            stream.newLineAtOffset(x, y);
+            stream.showText(printable(text));
+            stream.endText();
+        }
+        
+        private void newPage() throws IOException {
+            if (stream != null) {
+                stream.close();
+            }
+            PDPage page = new PDPage(PDRectangle.A4);
+            document.addPage(page);
+            stream = new PDPageContentStream(document, page);
+            y = page.getMediaBox().getHeight() - MARGIN;
+        }
+    }
+}
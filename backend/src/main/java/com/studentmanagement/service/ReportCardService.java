@@ -0,0 +1,329 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.dto.ReportCardJob;
+import com.studentmanagement.entity.ArchivedSubmission;
+import com.studentmanagement.entity.Assignment;
+import com.studentmanagement.entity.Course;
+import com.studentmanagement.entity.EnrollmentStatus;
+import com.studentmanagement.entity.Submission;
+import com.studentmanagement.entity.User;
+import com.studentmanagement.repository.ArchivedEnrollmentRepository;
+import com.studentmanagement.repository.ArchivedSubmissionRepository;
+import com.studentmanagement.repository.AssignmentRepository;
+import com.studentmanagement.repository.CourseRepository;
+import com.studentmanagement.repository.EnrollmentRepository;
+import com.studentmanagement.repository.SubmissionRepository;
+import com.studentmanagement.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+@Service
+public class ReportCardService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ReportCardService.class);
+    
+    @Autowired
+    UserRepository userRepository;
+    
+    @Autowired
+    CourseRepository courseRepository;
+    
+    @Autowired
+    AssignmentRepository assignmentRepository;
+    
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+    
+    @Autowired
+    ArchivedEnrollmentRepository archivedEnrollmentRepository;
+    
+    @Autowired
+    SubmissionRepository submissionRepository;
+    
+    @Autowired
+    ArchivedSubmissionRepository archivedSubmissionRepository;
+    
+    @Autowired
+    ArchiveService archiveService;
+    
+    @Autowired
+    ReportCardRenderer reportCardRenderer;
+    
+    @Autowired
+    @Qualifier("reportCardExecutor")
+    Executor reportCardExecutor;
+    
+    @Autowired
+    @Qualifier("reportCardRenderExecutor")
+    Executor reportCardRenderExecutor;
+    
+    @Value("${app.report-cards.directory:./data/report-cards}")
+    private String directory;
+    
+    @Value("${app.report-cards.pool-size:4}")
+    private int poolSize;
+    
+    @Value("${app.report-cards.chunk-size:200}")
+    private int chunkSize;
+    
+    private final Map<String, ReportCardJob> jobs = new ConcurrentHashMap<>();
+    
+    private static class RenderedCard {
+        private final Long studentId;
+        private final String entryName;
+        private final byte[] pdf;
+        private final Exception error;
+        
+        RenderedCard(Long studentId, String entryName, byte[] pdf, Exception error) {
+            this.studentId = studentId;
+            this.entryName = entryName;
+            this.pdf = pdf;
+            this.error = error;
+        }
+    }
+    
+    // Returns null when a job for the semester is already queued or running
+    public synchronized ReportCardJob startJob(Integer semester) {
+        for (ReportCardJob job : jobs.values()) {
+            if (job.getSemester().equals(semester) && !job.isFinished()) {
+                return null;
+            }
+        }
+        ReportCardJob job = new ReportCardJob(UUID.randomUUID().toString(), semester);
+        jobs.put(job.getId(), job);
+        reportCardExecutor.execute(() -> run(job));
+        return job;
+    }
+    
+    public Collection<ReportCardJob> getJobs() {
+        return jobs.values();
+    }
+    
+    public Optional<ReportCardJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+    
+    public Optional<ReportCardJob> cancel(String jobId) {
+        ReportCardJob job = jobs.get(jobId);
+        if (job != null && !job.isFinished()) {
+            job.requestCancel();
+        }
+        return Optional.ofNullable(job);
+    }
+    
+    // Only finished jobs can be removed; running ones must be cancelled first
+    public boolean remove(String jobId) throws IOException {
+        ReportCardJob job = jobs.get(jobId);
+        if (job == null || !job.isFinished()) {
+            return false;
+        }
+        jobs.remove(jobId);
+        if (job.getArchivePath() != null) {
+            Files.deleteIfExists(job.getArchivePath());
+        }
+        return true;
+    }
+    
+    private void run(ReportCardJob job) {
+        Integer semester = job.getSemester();
+        if (job.isCancelRequested()) {
+            finish(job, ReportCardJob.CANCELLED);
+            return;
+        }
+        job.setStatus(ReportCardJob.RUNNING);
+        
+        Path target = Paths.get(directory).resolve("report-cards-" + semester + "-" + job.getId() + ".zip");
+        Path partial = target.resolveSibling(target.getFileName() + ".part");
+        try {
+            if (archiveService.isArchiving(semester)) {
+                throw new IllegalStateException("Semester " + semester + " is being archived");
+            }
+            boolean archived = archiveService.isArchived(semester);
+            
+            // Course and assignment metadata for the semester is small and shared by every card
+            Map<Long, Course> courses = new HashMap<>();
+            for (Course course : courseRepository.findBySemester(semester)) {
+                courses.put(course.getId(), course);
+            }
+            Map<Long, List<Assignment>> assignmentsByCourse = new HashMap<>();
+            for (Assignment assignment : assignmentRepository.findBySemester(semester)) {
+                assignmentsByCourse.computeIfAbsent(assignment.getCourseId(), id -> new ArrayList<>()).add(assignment);
+            }
+            
+            List<Object[]> enrollments = archived
+                    ? archivedEnrollmentRepository.findStudentCoursePairsBySemester(semester, EnrollmentStatus.DROPPED)
+                    : enrollmentRepository.findStudentCoursePairsBySemester(semester, EnrollmentStatus.DROPPED);
+            Map<Long, List<Course>> coursesByStudent = new TreeMap<>();
+            for (Object[] row : enrollments) {
+                Course course = courses.get((Long) row[1]);
+                if (course != null) {
+                    coursesByStudent.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add(course);
+                }
+            }
+            job.setTotalStudents(coursesByStudent.size());
+            
+            Files.createDirectories(target.getParent());
+            try (ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(partial)))) {
+                writeCards(job, archived, coursesByStudent, assignmentsByCourse, zip);
+            }
+            
+            if (job.isCancelRequested()) {
+                Files.deleteIfExists(partial);
+                finish(job, ReportCardJob.CANCELLED);
+                return;
+            }
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING);
+            job.setArchivePath(target);
+            job.setArchiveBytes(Files.size(target));
+            finish(job, ReportCardJob.COMPLETED);
+            logger.info("Report cards for semester {}: {} rendered, {} failed, {} bytes", semester,
+                    job.getRenderedStudents(), job.getFailedStudents(), job.getArchiveBytes());
+        } catch (Exception e) {
+            logger.error("Report card job {} failed: {}", job.getId(), e.getMessage());
+            job.setErrorMessage(e.getMessage());
+            try {
+                Files.deleteIfExists(partial);
+            } catch (IOException ignored) {
+                // Best effort; a stray .part file is harmless
+            }
+            finish(job, ReportCardJob.FAILED);
+        }
+    }
+    
+    // At most a window of cards is rendering or waiting to be written, so memory stays
+    // bounded by the window size rather than the cohort size. Finished cards go into the
+    // ZIP in completion order; ZipOutputStream is only touched from this thread.
+    private void writeCards(ReportCardJob job, boolean archived, Map<Long, List<Course>> coursesByStudent,
+                            Map<Long, List<Assignment>> assignmentsByCourse, ZipOutputStream zip)
+            throws IOException, InterruptedException {
+        CompletionService<RenderedCard> completionService = new ExecutorCompletionService<>(reportCardRenderExecutor);
+        int window = poolSize * 2;
+        int inFlight = 0;
+        
+        List<Long> studentIds = new ArrayList<>(coursesByStudent.keySet());
+        for (int from = 0; from < studentIds.size() && !job.isCancelRequested(); from += chunkSize) {
+            List<Long> chunk = studentIds.subList(from, Math.min(from + chunkSize, studentIds.size()));
+            Map<Long, User> students = new HashMap<>();
+            for (User user : userRepository.findAllById(chunk)) {
+                students.put(user.getId(), user);
+            }
+            Map<Long, Map<Long, Submission>> submissions = loadSubmissions(chunk, job.getSemester(), archived);
+            
+            for (Long studentId : chunk) {
+                if (job.isCancelRequested()) {
+                    break;
+                }
+                User student = students.get(studentId);
+                if (student == null) {
+                    continue;
+                }
+                while (inFlight >= window) {
+                    write(job, completionService.take(), zip);
+                    inFlight--;
+                }
+                ReportCardRenderer.StudentReport report = new ReportCardRenderer.StudentReport(student, job.getSemester(),
+                        coursesByStudent.get(studentId), assignmentsByCourse,
+                        submissions.getOrDefault(studentId, Map.of()));
+                completionService.submit(() -> render(studentId, entryName(student), report));
+                inFlight++;
+            }
+        }
+        
+        while (inFlight > 0) {
+            write(job, completionService.take(), zip);
+            inFlight--;
+        }
+    }
+    
+    private Map<Long, Map<Long, Submission>> loadSubmissions(List<Long> studentIds, Integer semester, boolean archived) {
+        List<Submission> submissions;
+        if (archived) {
+            submissions = new ArrayList<>();
+            for (ArchivedSubmission archivedSubmission : archivedSubmissionRepository.findByStudentIdInAndSemester(studentIds, semester)) {
+                submissions.add(archivedSubmission.toSubmission());
+            }
+        } else {
+            submissions = submissionRepository.findByStudentIdInAndSemester(studentIds, semester);
+        }
+        
+        Map<Long, Map<Long, Submission>> byStudent = new HashMap<>();
+        for (Submission submission : submissions) {
+            byStudent.computeIfAbsent(submission.getStudentId(), id -> new HashMap<>())
+                    .put(submission.getAssignmentId(), submission);
+        }
+        return byStudent;
+    }
+    
+    private RenderedCard render(Long studentId, String entryName, ReportCardRenderer.StudentReport report) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(16 * 1024);
+            reportCardRenderer.render(report, out);
+            return new RenderedCard(studentId, entryName, out.toByteArray(), null);
+        } catch (Exception e) {
+            return new RenderedCard(studentId, entryName, null, e);
+        }
+    }
+    
+    private void write(ReportCardJob job, Future<RenderedCard> future, ZipOutputStream zip)
+            throws IOException, InterruptedException {
+        RenderedCard card;
+        try {
+            card = future.get();
+        } catch (ExecutionException e) {
+            job.incrementFailedStudents();
+            return;
+        }
+        if (card.error != null) {
+            logger.warn("Report card for student {} failed: {}", card.studentId, card.error.getMessage());
+            job.incrementFailedStudents();
+            return;
+        }
+        if (job.isCancelRequested()) {
+            return;
+        }
+        zip.putNextEntry(new ZipEntry(card.entryName));
+        zip.write(card.pdf);
+        zip.closeEntry();
+        job.incrementRenderedStudents();
+    }
+    
+    private static String entryName(User student) {
+        String name = student.getDisplayName() != null ? student.getDisplayName() : "";
+        String slug = name.toLowerCase().replaceAll("[^a-z0-9]+", "-").replaceAll("(^-|-$)", "");
+        return student.getId() + (slug.isEmpty() ? "" : "-" + slug) + ".pdf";
+    }
+    
+    private void finish(ReportCardJob job, String status) {
+        job.setCompletedAt(LocalDateTime.now());
+        job.setStatus(status);
+    }
+}
@@ -0,0 +1,187 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.dto.RepositoryMethodStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Latency histograms and row counts per repository method over a sliding window. The window is a
+// ring of time slices; recording only touches the current slice and reading merges the live ones.
+@Service
+public class RepositoryMetricsService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RepositoryMetricsService.class);
+    
+    // Bucket i counts calls that took less than 2^i microseconds
+    private static final int BUCKETS = 32;
+    
+    private final long sliceMillis;
+    private final long slowThresholdNanos;
+    private final AtomicReferenceArray<Slice> slices;
+    
+    public RepositoryMetricsService(@Value("${app.repository-metrics.window-minutes:60}") int windowMinutes,
+                                    @Value("${app.repository-metrics.slice-minutes:5}") int sliceMinutes,
+                                    @Value("${app.repository-metrics.slow-threshold-ms:200}") long slowThresholdMillis) {
+        this.sliceMillis = TimeUnit.MINUTES.toMillis(sliceMinutes);
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+        this.slices = new AtomicReferenceArray<>(Math.max(1, windowMinutes / sliceMinutes));
+    }
+    
+    // Arguments are only rendered, redacted, for calls over the slow threshold
+    public void record(String method, long elapsedNanos, long rows, Object[] arguments) {
+        currentSlice().methods.computeIfAbsent(method, key -> new MethodWindow()).add(elapsedNanos, rows);
+        if (elapsedNanos >= slowThresholdNanos) {
+            logger.warn("Slow repository call {}({}) took {} ms and returned {} rows", method, redact(arguments),
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rows < 0 ? "?" : rows);
+        }
+    }
+    
+    // Slowest methods by p95 over the last `minutes`, capped at the configured window
+    public List<RepositoryMethodStats> getSlowest(int minutes, int limit) {
+        long currentEpoch = System.currentTimeMillis() / sliceMillis;
+        long sliceCount = Math.min(slices.length(), Math.max(1, (minutes * 60_000L + sliceMillis - 1) / sliceMillis));
+        long oldestEpoch = currentEpoch - sliceCount + 1;
+        
+        Map<String, MethodWindow> merged = new HashMap<>();
+        for (int i = 0; i < slices.length(); i++) {
+            Slice slice = slices.get(i);
+            if (slice != null && slice.epoch >= oldestEpoch && slice.epoch <= currentEpoch) {
+                slice.methods.forEach((method, window) ->
+                        merged.computeIfAbsent(method, key -> new MethodWindow()).merge(window));
+            }
+        }
+        
+        List<RepositoryMethodStats> stats = new ArrayList<>(merged.size());
+        merged.forEach((method, window) -> stats.add(window.toStats(method)));
+        stats.sort(Comparator.comparingDouble(RepositoryMethodStats::getP95Millis).reversed()
+                .thenComparing(Comparator.comparingDouble(RepositoryMethodStats::getMaxMillis).reversed()));
+        return stats.size() > limit ? new ArrayList<>(stats.subList(0, limit)) : stats;
+    }
+    
+    public int getWindowMinutes() {
+        return (int) (slices.length() * sliceMillis / 60_000L);
+    }
+    
+    private Slice currentSlice() {
+        long epoch = System.currentTimeMillis() / sliceMillis;
+        int index = (int) (epoch % slices.length());
+        while (true) {
+            Slice slice = slices.get(index);
+            if (slice != null && slice.epoch == epoch) {
+                return slice;
+            }
+            // The slot still holds a slice from a previous lap of the ring
+            Slice fresh = new Slice(epoch);
+            if (slices.compareAndSet(index, slice, fresh)) {
+                return fresh;
+            }
+        }
+    }
+    
+    // Bound values can be personal data; log only their shape
+    private static String redact(Object[] arguments) {
+        if (arguments == null) {
+            return "";
+        }
+        StringBuilder rendered = new StringBuilder();
+        for (Object argument : arguments) {
+            if (rendered.length() > 0) {
+                rendered.append(", ");
+            }
+            if (argument == null) {
+                rendered.append("null");
+            } else if (argument instanceof Collection<?> collection) {
+                rendered.append("[").append(collection.size()).append(" values]");
+            } else {
+                rendered.append(argument.getClass().getSimpleName()).append("=?");
+            }
+        }
+        return rendered.toString();
+    }
+    
+    private static int bucketFor(long nanos) {
+        long micros = Math.max(1, nanos / 1000);
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+    }
+    
+    private static class Slice {
+        final long epoch;
+        final Map<String, MethodWindow> methods = new ConcurrentHashMap<>();
+        
+        Slice(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+    
+    private static class MethodWindow {
+        final LongAdder calls = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final LongAdder rows = new LongAdder();
+        final LongAdder countedCalls = new LongAdder();
+        final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        final LongAccumulator maxRows = new LongAccumulator(Math::max, 0);
+        final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        
+        void add(long nanos, long rowCount) {
+            calls.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            buckets.incrementAndGet(bucketFor(nanos));
+            // Streams are consumed after the call returns, so their rows are unknown
+            if (rowCount >= 0) {
+                countedCalls.increment();
+                rows.add(rowCount);
+                maxRows.accumulate(rowCount);
+            }
+        }
+        
+        void merge(MethodWindow other) {
+            calls.add(other.calls.sum());
+            totalNanos.add(other.totalNanos.sum());
+            rows.add(other.rows.sum());
+            countedCalls.add(other.countedCalls.sum());
+            maxNanos.accumulate(other.maxNanos.get());
+            maxRows.accumulate(other.maxRows.get());
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets.addAndGet(i, other.buckets.get(i));
+            }
+        }
+        
+        RepositoryMethodStats toStats(String method) {
+            long count = calls.sum();
+            long counted = countedCalls.sum();
+            return new RepositoryMethodStats(method, count,
+                    count == 0 ? 0 : totalNanos.sum() / 1e6 / count,
+                    percentile(0.50), percentile(0.95), percentile(0.99), maxNanos.get() / 1e6,
+                    counted == 0 ? 0 : (double) rows.sum() / counted, maxRows.get());
+        }
+        
+        // Upper bound of the bucket holding the percentile, never above the observed maximum
+        private double percentile(double fraction) {
+            long count = calls.sum();
+            long target = (long) Math.ceil(count * fraction);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets.get(i);
+                if (seen >= target && seen > 0) {
+                    return Math.min((1L << i) / 1000.0, maxNanos.get() / 1e6);
+                }
+            }
+            return maxNanos.get() / 1e6;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.studentmanagement.service;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+// Time one request spent in each phase. Phases are cumulative and may overlap: repository time
+// spent loading the principal also counts as principal time, and repository calls made in
+// parallel on executor threads add up.
+public class RequestTiming {
+    
+    public enum Phase {
+        JWT("jwt", "JWT validation"),
+        PRINCIPAL("principal", "Principal loading"),
+        REPOSITORY("repository", "Repository calls"),
+        SERIALIZATION("serialization", "Response serialization");
+        
+        private final String metricName;
+        private final String description;
+        
+        Phase(String metricName, String description) {
+            this.metricName = metricName;
+            this.description = description;
+        }
+        
+        public String getMetricName() {
+            return metricName;
+        }
+        
+        public String getDescription() {
+            return description;
+        }
+    }
+    
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+    
+    private final long startedNanos = System.nanoTime();
+    private final LongAdder[] phaseNanos = new LongAdder[Phase.values().length];
+    private volatile boolean exposed;
+    
+    public RequestTiming() {
+        for (int i = 0; i < phaseNanos.length; i++) {
+            phaseNanos[i] = new LongAdder();
+        }
+    }
+    
+    public static RequestTiming current() {
+        return CURRENT.get();
+    }
+    
+    // Binds the timing to this thread and returns the one it replaced
+    public static RequestTiming bind(RequestTiming timing) {
+        RequestTiming previous = CURRENT.get();
+        if (timing == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(timing);
+        }
+        return previous;
+    }
+    
+    // Task decorator: runs the task with the submitting thread's timing bound
+    public static Runnable propagate(Runnable task) {
+        RequestTiming timing = CURRENT.get();
+        if (timing == null) {
+            return task;
+        }
+        return () -> {
+            RequestTiming previous = bind(timing);
+            try {
+                task.run();
+            } finally {
+                bind(previous);
+            }
+        };
+    }
+    
+    // Adds the time since startedNanos to the phase, if this thread is timing a request
+    public static void record(Phase phase, long startedNanos) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.phaseNanos[phase.ordinal()].add(System.nanoTime() - startedNanos);
+        }
+    }
+    
+    public long getNanos(Phase phase) {
+        return phaseNanos[phase.ordinal()].sum();
+    }
+    
+    public long getElapsedNanos() {
+        return System.nanoTime() - startedNanos;
+    }
+    
+    // Whether the caller may see the phases in a Server-Timing header
+    public boolean isExposed() {
+        return exposed;
+    }
+    
+    public void setExposed(boolean exposed) {
+        this.exposed = exposed;
+    }
+    
+    // Server-Timing header value: one entry per phase plus the total so far, in milliseconds
+    public String toServerTiming() {
+        StringBuilder header = new StringBuilder();
+        for (Phase phase : Phase.values()) {
+            long nanos = getNanos(phase);
+            if (nanos > 0) {
+                appendEntry(header, phase.getMetricName(), phase.getDescription(), nanos);
+            }
+        }
+        appendEntry(header, "total", "Total", getElapsedNanos());
+        return header.toString();
+    }
+    
+    private static void appendEntry(StringBuilder header, String name, String description, long nanos) {
+        if (header.length() > 0) {
+            header.append(", ");
+        }
+        header.append(name).append(";desc=\"").append(description).append("\";dur=")
+                .append(String.format(Locale.ROOT, "%.2f", nanos / 1e6));
+    }
+}
@@ -0,0 +1,83 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.dto.EndpointTimingStats;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Aggregates per-request phase timings by endpoint and decides who may see them in a header
+@Service
+public class RequestTimingService {
+    
+    public static final String DEBUG_HEADER = "X-Debug-Timing";
+    
+    @Value("${app.server-timing.debug-header-enabled:false}")
+    private boolean debugHeaderEnabled;
+    
+    private final Map<String, Usage> usageByEndpoint = new ConcurrentHashMap<>();
+    
+    public void record(String endpoint, RequestTiming timing) {
+        long elapsed = timing.getElapsedNanos();
+        Usage usage = usageByEndpoint.computeIfAbsent(endpoint, key -> new Usage());
+        usage.requests.increment();
+        usage.totalNanos.add(elapsed);
+        usage.maxNanos.accumulate(elapsed);
+        for (RequestTiming.Phase phase : RequestTiming.Phase.values()) {
+            usage.phaseNanos[phase.ordinal()].add(timing.getNanos(phase));
+        }
+    }
+    
+    // Admins always see the breakdown; anyone else only with the debug header, where it is enabled
+    public boolean isExposedTo(HttpServletRequest request) {
+        if (debugHeaderEnabled && request.getHeader(DEBUG_HEADER) != null) {
+            return true;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+    }
+    
+    // Slowest endpoints on average first
+    public List<EndpointTimingStats> getStats() {
+        return usageByEndpoint.entrySet().stream()
+                .map(entry -> {
+                    Usage usage = entry.getValue();
+                    long requests = Math.max(1, usage.requests.sum());
+                    Map<String, Double> phases = new LinkedHashMap<>();
+                    for (RequestTiming.Phase phase : RequestTiming.Phase.values()) {
+                        phases.put(phase.getMetricName(), usage.phaseNanos[phase.ordinal()].sum() / 1e6 / requests);
+                    }
+                    return new EndpointTimingStats(entry.getKey(), usage.requests.sum(),
+                            usage.totalNanos.sum() / 1e6 / requests, usage.maxNanos.get() / 1e6, phases);
+                })
+                .sorted(Comparator.comparingDouble(EndpointTimingStats::getAverageMillis).reversed())
+                .toList();
+    }
+    
+    public void reset() {
+        usageByEndpoint.clear();
+    }
+    
+    private static class Usage {
+        final LongAdder requests = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        final LongAdder[] phaseNanos = new LongAdder[RequestTiming.Phase.values().length];
+        
+        Usage() {
+            for (int i = 0; i < phaseNanos.length; i++) {
+                phaseNanos[i] = new LongAdder();
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.studentmanagement.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Point-in-time resource usage, sampled by the load-test harness while a scenario runs
+@Service
+public class RuntimeStatusService {
+    
+    @Autowired
+    DataSource dataSource;
+    
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        HikariPoolMXBean pool = connectionPool();
+        if (pool != null) {
+            status.put("activeConnections", pool.getActiveConnections());
+            status.put("idleConnections", pool.getIdleConnections());
+            status.put("threadsAwaitingConnection", pool.getThreadsAwaitingConnection());
+        }
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        status.put("heapUsedBytes", heap.getUsed());
+        status.put("heapCommittedBytes", heap.getCommitted());
+        status.put("liveThreads", ManagementFactory.getThreadMXBean().getThreadCount());
+        return status;
+    }
+    
+    // The pool is created on first use, and the data source may be wrapped for query counting
+    private HikariPoolMXBean connectionPool() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class)
+                    ? dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean() : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
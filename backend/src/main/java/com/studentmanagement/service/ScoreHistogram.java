@@ -0,0 +1,51 @@
+package com.studentmanagement.service;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Exact count of each integer score. Scores are small bounded integers, so this is
+// as compact as a quantile sketch while giving exact, mergeable quantiles, and
+// unlike t-digest/KLL it supports removing a value when a grade is changed.
+public class ScoreHistogram {
+    
+    private final Map<Integer, AtomicLong> counts = new ConcurrentHashMap<>();
+    
+    public void add(int score) {
+        add(score, 1);
+    }
+    
+    public void add(int score, long count) {
+        counts.computeIfAbsent(score, key -> new AtomicLong()).addAndGet(count);
+    }
+    
+    // Never takes a score below zero: a remove the histogram cannot match (a grade it never counted)
+    // is dropped rather than offsetting a later add
+    public void remove(int score) {
+        AtomicLong count = counts.get(score);
+        if (count != null) {
+            count.getAndUpdate(value -> value > 0 ? value - 1 : value);
+        }
+    }
+    
+    // Adds every score of the other histogram after rescaling it to 0..scale of its maximum
+    public void mergeScaled(ScoreHistogram other, int otherMax, int scale) {
+        for (Map.Entry<Integer, Long> entry : other.snapshot().entrySet()) {
+            int scaled = otherMax > 0 ? Math.round(entry.getKey() * (float) scale / otherMax) : 0;
+            add(scaled, entry.getValue());
+        }
+    }
+    
+    // Sorted, consistent view used for all reads
+    public TreeMap<Integer, Long> snapshot() {
+        TreeMap<Integer, Long> sorted = new TreeMap<>();
+        counts.forEach((score, count) -> {
+            long value = count.get();
+            if (value > 0) {
+                sorted.put(score, value);
+            }
+        });
+        return sorted;
+    }
+}
@@ -0,0 +1,157 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.entity.EnrollmentStatus;
+import com.studentmanagement.entity.RolloverStatus;
+import com.studentmanagement.entity.SemesterRolloverJob;
+import com.studentmanagement.entity.UserRole;
+import com.studentmanagement.repository.EnrollmentRepository;
+import com.studentmanagement.repository.SemesterRolloverJobRepository;
+import com.studentmanagement.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+@Service
+public class SemesterRolloverService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SemesterRolloverService.class);
+    
+    // Width of semester_rollover_jobs.error_message
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 255;
+    
+    @Autowired
+    UserRepository userRepository;
+    
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+    
+    @Autowired
+    SemesterRolloverJobRepository rolloverJobRepository;
+    
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    @Qualifier("rolloverExecutor")
+    Executor rolloverExecutor;
+    
+    @Value("${app.rollover.chunk-size:1000}")
+    private int chunkSize;
+    
+    @Value("${app.rollover.stale-after-ms:600000}")
+    private long staleAfterMillis;
+    
+    private final Set<Long> runningJobIds = ConcurrentHashMap.newKeySet();
+    
+    // Starts a rollover, or resumes the unfinished one for the same semesters
+    public SemesterRolloverJob startRollover(Integer fromSemester, Integer toSemester) {
+        SemesterRolloverJob job = rolloverJobRepository
+                .findFirstByFromSemesterAndToSemesterAndStatusNotOrderByIdDesc(fromSemester, toSemester, RolloverStatus.COMPLETED)
+                .orElseGet(() -> rolloverJobRepository.save(new SemesterRolloverJob(fromSemester, toSemester,
+                        userRepository.countByRoleAndCurrentSemester(UserRole.STUDENT, fromSemester))));
+        return launch(job);
+    }
+    
+    public Optional<SemesterRolloverJob> resumeRollover(Long jobId) {
+        return rolloverJobRepository.findById(jobId)
+                .filter(job -> job.getStatus() != RolloverStatus.COMPLETED)
+                .map(this::launch);
+    }
+    
+    public Optional<SemesterRolloverJob> getJob(Long jobId) {
+        return rolloverJobRepository.findById(jobId);
+    }
+    
+    // Which jobs are running is only known in memory, so a job left RUNNING by a stopped node would
+    // stay RUNNING forever. Jobs with a recent checkpoint may be live on another replica and are kept.
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        int failed = rolloverJobRepository.failStaleJobs(RolloverStatus.RUNNING, RolloverStatus.FAILED,
+                "Interrupted by a restart; resume to continue from the last checkpoint",
+                now.minusNanos(staleAfterMillis * 1_000_000), now);
+        if (failed > 0) {
+            logger.warn("Marked {} interrupted semester rollovers as failed", failed);
+        }
+    }
+    
+    private SemesterRolloverJob launch(SemesterRolloverJob job) {
+        if (runningJobIds.add(job.getId())) {
+            job.setStatus(RolloverStatus.RUNNING);
+            job.setErrorMessage(null);
+            SemesterRolloverJob saved = rolloverJobRepository.save(job);
+            rolloverExecutor.execute(() -> run(saved));
+            return saved;
+        }
+        return job;
+    }
+    
+    private void run(SemesterRolloverJob job) {
+        long started = System.currentTimeMillis();
+        try {
+            SemesterRolloverJob current = job;
+            while (current.getStatus() == RolloverStatus.RUNNING) {
+                current = processChunk(current);
+            }
+            logger.info("Semester rollover {} ({} -> {}) finished: {} students, {} enrollments in {} ms",
+                    current.getId(), current.getFromSemester(), current.getToSemester(),
+                    current.getProcessedUsers(), current.getCompletedEnrollments(),
+                    System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            logger.error("Semester rollover {} failed: {}", job.getId(), e.getMessage());
+            rolloverJobRepository.findById(job.getId()).ifPresent(failed -> {
+                failed.setStatus(RolloverStatus.FAILED);
+                failed.setErrorMessage(errorMessage(e));
+                rolloverJobRepository.save(failed);
+            });
+        } finally {
+            runningJobIds.remove(job.getId());
+        }
+    }
+    
+    private static String errorMessage(Exception e) {
+        String message = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+        return message.length() <= MAX_ERROR_MESSAGE_LENGTH ? message : message.substring(0, MAX_ERROR_MESSAGE_LENGTH);
+    }
+    
+    // One chunk and its checkpoint commit together, so a crash resumes after the last full chunk.
+    // The updates are also guarded by the current semester/status, so replaying a chunk is harmless.
+    private SemesterRolloverJob processChunk(SemesterRolloverJob job) {
+        return transactionTemplate.execute(status -> {
+            List<Long> studentIds = userRepository.findIdsByRoleAndSemesterAfter(UserRole.STUDENT,
+                    job.getFromSemester(), job.getLastProcessedUserId(), PageRequest.of(0, chunkSize));
+            
+            if (studentIds.isEmpty()) {
+                job.setStatus(RolloverStatus.COMPLETED);
+                job.setCompletedAt(LocalDateTime.now());
+                return rolloverJobRepository.save(job);
+            }
+            
+            LocalDateTime now = LocalDateTime.now();
+            int enrollments = enrollmentRepository.updateStatusForStudentsInSemester(studentIds, job.getFromSemester(),
+                    EnrollmentStatus.ACTIVE, EnrollmentStatus.COMPLETED, now);
+            int users = userRepository.updateSemesterForUsers(studentIds, job.getFromSemester(), job.getToSemester(), now);
+            
+            job.setLastProcessedUserId(studentIds.get(studentIds.size() - 1));
+            job.setProcessedUsers(job.getProcessedUsers() + users);
+            job.setCompletedEnrollments(job.getCompletedEnrollments() + enrollments);
+            
+            logger.debug("Semester rollover {}: {}/{} students", job.getId(), job.getProcessedUsers(), job.getTotalUsers());
+            return rolloverJobRepository.save(job);
+        });
+    }
+}
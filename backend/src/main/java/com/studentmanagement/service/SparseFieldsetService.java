@@ -0,0 +1,109 @@
+package com.studentmanagement.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Answers `fields=` requests by selecting only the named columns, so unrequested TEXT columns
+// are neither read from the database nor serialised. Rows come back as ordered maps.
+@Service
+public class SparseFieldsetService {
+    
+    @PersistenceContext
+    EntityManager entityManager;
+    
+    private final Map<Class<?>, Set<String>> selectableFields = new ConcurrentHashMap<>();
+    
+    // The id is always included so clients can still address what they received
+    public Set<String> parse(Class<?> entityType, String fields) {
+        Set<String> allowed = selectableFields.computeIfAbsent(entityType, this::findSelectableFields);
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(name)) {
+                throw new IllegalArgumentException("Unknown field '" + name + "'; available: " + String.join(", ", allowed));
+            }
+            selected.add(name);
+        }
+        return selected;
+    }
+    
+    // filters are equality conditions on entity attributes, combined with AND
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findAll(Class<?> entityType, Set<String> fields, Map<String, Object> filters) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<?> root = query.from(entityType);
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String field : fields) {
+            selections.add(root.get(field).alias(field));
+        }
+        query.multiselect(selections);
+        
+        List<Predicate> predicates = new ArrayList<>();
+        filters.forEach((attribute, value) -> predicates.add(builder.equal(root.get(attribute), value)));
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(builder.asc(root.get("id")));
+        
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : entityManager.createQuery(query).getResultList()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : fields) {
+                row.put(field, tuple.get(field));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+    
+    @Transactional(readOnly = true)
+    public Optional<Map<String, Object>> findById(Class<?> entityType, Set<String> fields, Long id) {
+        List<Map<String, Object>> rows = findAll(entityType, fields, Map.of("id", id));
+        return rows.isEmpty() ? Optional.empty() : Optional.of(rows.get(0));
+    }
+    
+    // Plain columns that the full representation also exposes; associations and hidden fields are left out
+    private Set<String> findSelectableFields(Class<?> entityType) {
+        EntityType<?> entity = entityManager.getMetamodel().entity(entityType);
+        Set<String> fields = new LinkedHashSet<>();
+        for (Field field : entityType.getDeclaredFields()) {
+            if (field.isAnnotationPresent(JsonIgnore.class)) {
+                continue;
+            }
+            Attribute<?, ?> attribute;
+            try {
+                attribute = entity.getAttribute(field.getName());
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+            if (attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC) {
+                fields.add(field.getName());
+            }
+        }
+        return fields;
+    }
+}
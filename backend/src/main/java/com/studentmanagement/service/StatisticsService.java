@@ -0,0 +1,182 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.dto.StatisticsResponse;
+import com.studentmanagement.entity.UserRole;
+import com.studentmanagement.repository.AssignmentRepository;
+import com.studentmanagement.repository.CourseRepository;
+import com.studentmanagement.repository.SubmissionRepository;
+import com.studentmanagement.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+@Service
+public class StatisticsService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(StatisticsService.class);
+    
+    @Autowired
+    CourseRepository courseRepository;
+    
+    @Autowired
+    AssignmentRepository assignmentRepository;
+    
+    @Autowired
+    SubmissionRepository submissionRepository;
+    
+    @Autowired
+    UserRepository userRepository;
+    
+    @Autowired
+    @Qualifier("statisticsExecutor")
+    Executor statisticsExecutor;
+    
+    @Value("${app.stats.remote-reconcile-delay-ms:1000}")
+    private long remoteReconcileDelayMs;
+    
+    private final LongAdder courses = new LongAdder();
+    private final LongAdder assignments = new LongAdder();
+    private final LongAdder submissions = new LongAdder();
+    private final Map<UserRole, LongAdder> usersByRole = new EnumMap<>(UserRole.class);
+    private final Map<Long, LongAdder> submissionsByAssignment = new ConcurrentHashMap<>();
+    
+    private volatile LocalDateTime lastReconciledAt;
+    
+    // Set while a reconcile is queued but has not started reading, so a burst of writes runs one
+    private final AtomicBoolean reconcilePending = new AtomicBoolean();
+    
+    public StatisticsService() {
+        for (UserRole role : UserRole.values()) {
+            usersByRole.put(role, new LongAdder());
+        }
+    }
+    
+    public void courseCreated() {
+        courses.increment();
+    }
+    
+    public void courseDeleted() {
+        courses.decrement();
+    }
+    
+    public void assignmentCreated() {
+        assignments.increment();
+    }
+    
+    public void assignmentDeleted(Long assignmentId) {
+        assignments.decrement();
+        // Submissions go with the assignment through the cascade
+        LongAdder removed = submissionsByAssignment.remove(assignmentId);
+        if (removed != null) {
+            submissions.add(-removed.sum());
+        }
+    }
+    
+    public void submissionCreated(Long assignmentId) {
+        submissions.increment();
+        submissionsByAssignment.computeIfAbsent(assignmentId, id -> new LongAdder()).increment();
+    }
+    
+    public void userCreated(UserRole role) {
+        if (role != null) {
+            usersByRole.get(role).increment();
+        }
+    }
+    
+    public void userDeleted(UserRole role) {
+        if (role != null) {
+            usersByRole.get(role).decrement();
+        }
+    }
+    
+    public void userRoleChanged(UserRole oldRole, UserRole newRole) {
+        userDeleted(oldRole);
+        userCreated(newRole);
+    }
+    
+    // Writes on other replicas reach this one as invalidations. Re-reading the counts instead of
+    // applying deltas means a lost datagram leaves them stale until the next reconcile, not off
+    // for good. The short delay lets the rest of a burst land before the read.
+    public void reconcileSoon() {
+        if (reconcilePending.compareAndSet(false, true)) {
+            statisticsExecutor.execute(() -> {
+                try {
+                    Thread.sleep(remoteReconcileDelayMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                reconcile();
+            });
+        }
+    }
+    
+    public long getSubmissionCount(Long assignmentId) {
+        LongAdder count = submissionsByAssignment.get(assignmentId);
+        return count != null ? count.sum() : 0;
+    }
+    
+    public StatisticsResponse getStatistics() {
+        Map<UserRole, Long> roles = new EnumMap<>(UserRole.class);
+        long totalUsers = 0;
+        for (Map.Entry<UserRole, LongAdder> entry : usersByRole.entrySet()) {
+            long count = entry.getValue().sum();
+            roles.put(entry.getKey(), count);
+            totalUsers += count;
+        }
+        return new StatisticsResponse(courses.sum(), assignments.sum(), submissions.sum(), totalUsers,
+                roles, lastReconciledAt);
+    }
+    
+    // Counters follow every write through the controllers; this periodically resets them to the
+    // database to absorb bulk changes (cascades, archival) and remote writes whose invalidation was lost
+    @Scheduled(fixedDelayString = "${app.stats.reconcile-interval-ms:300000}")
+    public synchronized void reconcile() {
+        // Cleared before the read starts, so a write committed during the read queues another one
+        reconcilePending.set(false);
+        try {
+            reset(courses, courseRepository.countAllCourses());
+            reset(assignments, assignmentRepository.countAllAssignments());
+            reset(submissions, submissionRepository.countAllSubmissions());
+            
+            Map<UserRole, Long> roleCounts = new EnumMap<>(UserRole.class);
+            for (Object[] row : userRepository.countGroupedByRole()) {
+                roleCounts.put((UserRole) row[0], (Long) row[1]);
+            }
+            for (UserRole role : UserRole.values()) {
+                reset(usersByRole.get(role), roleCounts.getOrDefault(role, 0L));
+            }
+            
+            Map<Long, Long> assignmentCounts = new HashMap<>();
+            for (Object[] row : submissionRepository.countGroupedByAssignment()) {
+                assignmentCounts.put((Long) row[0], (Long) row[1]);
+            }
+            submissionsByAssignment.keySet().retainAll(assignmentCounts.keySet());
+            assignmentCounts.forEach((assignmentId, count) ->
+                    reset(submissionsByAssignment.computeIfAbsent(assignmentId, id -> new LongAdder()), count));
+            
+            lastReconciledAt = LocalDateTime.now();
+        } catch (Exception e) {
+            logger.error("Cannot reconcile statistics: {}", e.getMessage());
+        }
+    }
+    
+    private void reset(LongAdder adder, Long value) {
+        adder.reset();
+        adder.add(value != null ? value : 0);
+    }
+}
@@ -0,0 +1,106 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.config.SubmissionContentMigration;
+import com.studentmanagement.entity.Submission;
+import com.studentmanagement.entity.SubmissionContent;
+import com.studentmanagement.repository.SubmissionContentRepository;
+import com.studentmanagement.repository.SubmissionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+@Service
+public class SubmissionContentService {
+    
+    private static final int DELETE_CHUNK_SIZE = 1000;
+    
+    @Autowired
+    SubmissionRepository submissionRepository;
+    
+    @Autowired
+    SubmissionContentRepository submissionContentRepository;
+    
+    @Autowired
+    SubmissionContentMigration submissionContentMigration;
+    
+    // Metadata and body are written together so a submission never exists without its text
+    @Transactional
+    public Submission createSubmission(Submission submission) {
+        String text = submission.getSubmissionText();
+        Submission savedSubmission = submissionRepository.save(submission);
+        store(savedSubmission.getId(), text);
+        savedSubmission.setSubmissionText(text);
+        return savedSubmission;
+    }
+    
+    public void store(Long submissionId, String text) {
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        submissionContentRepository.save(new SubmissionContent(submissionId, compress(raw), raw.length));
+    }
+    
+    // Submissions made by replicas of the previous release have no content row until the backfill
+    // reaches them, so their body is read from the legacy column meanwhile
+    public String load(Long submissionId) {
+        return submissionContentRepository.findById(submissionId)
+                .map(content -> new String(decompress(content.getBody(), content.getOriginalSize()), StandardCharsets.UTF_8))
+                .orElseGet(() -> submissionContentMigration.loadLegacyText(submissionId));
+    }
+    
+    // Bodies are keyed by submission id without a foreign key, because archived submissions keep
+    // theirs after the live row is gone. JPA cascades from courses and assignments therefore
+    // leave them behind, and the deleting caller removes them here.
+    public void deleteAll(List<Long> submissionIds) {
+        for (int from = 0; from < submissionIds.size(); from += DELETE_CHUNK_SIZE) {
+            submissionContentRepository.deleteBySubmissionIds(
+                    submissionIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, submissionIds.size())));
+        }
+    }
+    
+    public static byte[] compress(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 2));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+    
+    public static byte[] decompress(byte[] compressed, int originalSize) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] raw = new byte[originalSize];
+            int offset = 0;
+            while (offset < originalSize && !inflater.finished()) {
+                int length = inflater.inflate(raw, offset, originalSize - offset);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                offset += length;
+            }
+            if (offset != originalSize) {
+                throw new IllegalStateException("Corrupt submission content");
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt submission content", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.studentmanagement.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+// GPA computation over a semester's grade data, loaded up front in a few bulk queries.
+// Nothing here touches the database, so students can be spread across a fork-join pool
+// with no coordination beyond the read-only lookup maps.
+public class TranscriptCalculator {
+    
+    public static class SemesterData {
+        private final Map<Long, List<Long>> coursesByStudent = new HashMap<>();
+        private final Map<Long, Integer> possibleByCourse = new HashMap<>();
+        private final Map<Long, Map<Long, Integer>> earnedByStudent = new HashMap<>();
+        private final Map<Long, double[]> priorByStudent = new HashMap<>();
+        
+        public void addEnrollment(Long studentId, Long courseId) {
+            coursesByStudent.computeIfAbsent(studentId, id -> new ArrayList<>(8)).add(courseId);
+        }
+        
+        public void setPossiblePoints(Long courseId, int points) {
+            possibleByCourse.put(courseId, points);
+        }
+        
+        public void addEarnedPoints(Long studentId, Long courseId, int points) {
+            earnedByStudent.computeIfAbsent(studentId, id -> new HashMap<>(8)).merge(courseId, points, Integer::sum);
+        }
+        
+        public void setPriorGradePoints(Long studentId, double sum, long count) {
+            priorByStudent.put(studentId, new double[] {sum, count});
+        }
+        
+        public int getStudentCount() {
+            return coursesByStudent.size();
+        }
+    }
+    
+    public static class CourseResult {
+        private final Long courseId;
+        private final int earnedPoints;
+        private final int possiblePoints;
+        private final Double percentage;
+        private final Double gradePoints;
+        
+        CourseResult(Long courseId, int earnedPoints, int possiblePoints, Double percentage, Double gradePoints) {
+            this.courseId = courseId;
+            this.earnedPoints = earnedPoints;
+            this.possiblePoints = possiblePoints;
+            this.percentage = percentage;
+            this.gradePoints = gradePoints;
+        }
+        
+        public Long getCourseId() {
+            return courseId;
+        }
+        
+        public int getEarnedPoints() {
+            return earnedPoints;
+        }
+        
+        public int getPossiblePoints() {
+            return possiblePoints;
+        }
+        
+        public Double getPercentage() {
+            return percentage;
+        }
+        
+        public Double getGradePoints() {
+            return gradePoints;
+        }
+    }
+    
+    public static class StudentResult {
+        private final Long studentId;
+        private final List<CourseResult> courses;
+        private final Double semesterGpa;
+        private final Double cumulativeGpa;
+        
+        StudentResult(Long studentId, List<CourseResult> courses, Double semesterGpa, Double cumulativeGpa) {
+            this.studentId = studentId;
+            this.courses = courses;
+            this.semesterGpa = semesterGpa;
+            this.cumulativeGpa = cumulativeGpa;
+        }
+        
+        public Long getStudentId() {
+            return studentId;
+        }
+        
+        public List<CourseResult> getCourses() {
+            return courses;
+        }
+        
+        public Double getSemesterGpa() {
+            return semesterGpa;
+        }
+        
+        public Double getCumulativeGpa() {
+            return cumulativeGpa;
+        }
+    }
+    
+    // Running the parallel stream from inside the pool keeps it off the common pool
+    public static List<StudentResult> compute(SemesterData data, ForkJoinPool pool) {
+        List<Long> studentIds = new ArrayList<>(data.coursesByStudent.keySet());
+        return pool.submit(() -> studentIds.parallelStream()
+                .map(studentId -> computeStudent(data, studentId))
+                .collect(Collectors.toList())).join();
+    }
+    
+    static StudentResult computeStudent(SemesterData data, Long studentId) {
+        List<Long> courseIds = data.coursesByStudent.get(studentId);
+        Map<Long, Integer> earnedByCourse = data.earnedByStudent.getOrDefault(studentId, Map.of());
+        
+        List<CourseResult> courses = new ArrayList<>(courseIds.size());
+        double semesterSum = 0;
+        int semesterCount = 0;
+        for (Long courseId : courseIds) {
+            int possible = data.possibleByCourse.getOrDefault(courseId, 0);
+            int earned = earnedByCourse.getOrDefault(courseId, 0);
+            Double percentage = null;
+            Double points = null;
+            if (possible > 0) {
+                percentage = round(earned * 100.0 / possible);
+                points = gradePoints(percentage);
+                semesterSum += points;
+                semesterCount++;
+            }
+            courses.add(new CourseResult(courseId, earned, possible, percentage, points));
+        }
+        
+        double[] prior = data.priorByStudent.getOrDefault(studentId, new double[] {0, 0});
+        Double semesterGpa = semesterCount > 0 ? round(semesterSum / semesterCount) : null;
+        double cumulativeCount = prior[1] + semesterCount;
+        Double cumulativeGpa = cumulativeCount > 0 ? round((prior[0] + semesterSum) / cumulativeCount) : null;
+        return new StudentResult(studentId, courses, semesterGpa, cumulativeGpa);
+    }
+    
+    // Standard 4.0 letter-grade bands
+    public static double gradePoints(double percentage) {
+        if (percentage >= 90) {
+            return 4.0;
+        } else if (percentage >= 80) {
+            return 3.0;
+        } else if (percentage >= 70) {
+            return 2.0;
+        } else if (percentage >= 60) {
+            return 1.0;
+        }
+        return 0.0;
+    }
+    
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,223 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.dto.TranscriptRun;
+import com.studentmanagement.entity.EnrollmentStatus;
+import com.studentmanagement.entity.Transcript;
+import com.studentmanagement.entity.TranscriptCourse;
+import com.studentmanagement.repository.ArchivedEnrollmentRepository;
+import com.studentmanagement.repository.ArchivedSubmissionRepository;
+import com.studentmanagement.repository.AssignmentRepository;
+import com.studentmanagement.repository.EnrollmentRepository;
+import com.studentmanagement.repository.SubmissionRepository;
+import com.studentmanagement.repository.TranscriptCourseRepository;
+import com.studentmanagement.repository.TranscriptRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+@Service
+public class TranscriptService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TranscriptService.class);
+    
+    private static final String UPSERT_COURSE_SQL = "INSERT INTO transcript_courses " +
+            "(student_id, semester, course_id, earned_points, possible_points, percentage, grade_points, generated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE semester = VALUES(semester), " +
+            "earned_points = VALUES(earned_points), possible_points = VALUES(possible_points), " +
+            "percentage = VALUES(percentage), grade_points = VALUES(grade_points), generated_at = VALUES(generated_at)";
+    
+    private static final String UPSERT_TRANSCRIPT_SQL = "INSERT INTO transcripts " +
+            "(student_id, semester, course_count, semester_gpa, cumulative_gpa, generated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE course_count = VALUES(course_count), " +
+            "semester_gpa = VALUES(semester_gpa), cumulative_gpa = VALUES(cumulative_gpa), generated_at = VALUES(generated_at)";
+    
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+    
+    @Autowired
+    ArchivedEnrollmentRepository archivedEnrollmentRepository;
+    
+    @Autowired
+    AssignmentRepository assignmentRepository;
+    
+    @Autowired
+    SubmissionRepository submissionRepository;
+    
+    @Autowired
+    ArchivedSubmissionRepository archivedSubmissionRepository;
+    
+    @Autowired
+    TranscriptRepository transcriptRepository;
+    
+    @Autowired
+    TranscriptCourseRepository transcriptCourseRepository;
+    
+    @Autowired
+    ArchiveService archiveService;
+    
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    @Qualifier("transcriptExecutor")
+    Executor transcriptExecutor;
+    
+    // 0 means one worker per available core
+    @Value("${app.transcripts.parallelism:0}")
+    private int configuredParallelism;
+    
+    @Value("${app.transcripts.batch-size:1000}")
+    private int batchSize;
+    
+    private ForkJoinPool computePool;
+    
+    private final Map<Integer, TranscriptRun> runs = new ConcurrentHashMap<>();
+    
+    @PostConstruct
+    void createPool() {
+        int parallelism = configuredParallelism > 0 ? configuredParallelism : Runtime.getRuntime().availableProcessors();
+        computePool = new ForkJoinPool(parallelism);
+    }
+    
+    @PreDestroy
+    void shutdownPool() {
+        computePool.shutdown();
+    }
+    
+    // Returns null when a run for the semester is already in progress
+    public TranscriptRun startGeneration(Integer semester) {
+        TranscriptRun run = new TranscriptRun(semester, computePool.getParallelism());
+        TranscriptRun current = runs.compute(semester, (key, existing) ->
+                existing != null && TranscriptRun.RUNNING.equals(existing.getStatus()) ? existing : run);
+        if (current != run) {
+            return null;
+        }
+        transcriptExecutor.execute(() -> generate(run));
+        return run;
+    }
+    
+    public TranscriptRun getRun(Integer semester) {
+        return runs.get(semester);
+    }
+    
+    public List<Transcript> getTranscripts(Long studentId) {
+        return transcriptRepository.findByStudentIdOrderBySemesterAsc(studentId);
+    }
+    
+    public List<TranscriptCourse> getTranscriptCourses(Long studentId, Integer semester) {
+        return transcriptCourseRepository.findByStudentIdAndSemester(studentId, semester);
+    }
+    
+    private void generate(TranscriptRun run) {
+        Integer semester = run.getSemester();
+        try {
+            long started = System.nanoTime();
+            TranscriptCalculator.SemesterData data = load(semester);
+            run.setStudentCount(data.getStudentCount());
+            long loaded = System.nanoTime();
+            run.setLoadMillis((loaded - started) / 1_000_000);
+            
+            List<TranscriptCalculator.StudentResult> results = TranscriptCalculator.compute(data, computePool);
+            long computed = System.nanoTime();
+            run.setComputeMillis((computed - loaded) / 1_000_000);
+            
+            run.setCourseRowCount(write(semester, results));
+            run.setWriteMillis((System.nanoTime() - computed) / 1_000_000);
+            
+            run.setStatus(TranscriptRun.COMPLETED);
+            logger.info("Transcripts for semester {}: {} students, {} course rows; load {} ms, compute {} ms " +
+                    "(parallelism {}), write {} ms", semester, run.getStudentCount(), run.getCourseRowCount(),
+                    run.getLoadMillis(), run.getComputeMillis(), run.getParallelism(), run.getWriteMillis());
+        } catch (Exception e) {
+            logger.error("Transcript generation for semester {} failed: {}", semester, e.getMessage());
+            run.setErrorMessage(e.getMessage());
+            run.setStatus(TranscriptRun.FAILED);
+        } finally {
+            run.setCompletedAt(LocalDateTime.now());
+        }
+    }
+    
+    // Four grouped queries for the whole semester instead of one lookup per student
+    private TranscriptCalculator.SemesterData load(Integer semester) {
+        if (archiveService.isArchiving(semester)) {
+            throw new IllegalStateException("Semester " + semester + " is being archived");
+        }
+        boolean archived = archiveService.isArchived(semester);
+        TranscriptCalculator.SemesterData data = new TranscriptCalculator.SemesterData();
+        
+        List<Object[]> enrollments = archived
+                ? archivedEnrollmentRepository.findStudentCoursePairsBySemester(semester, EnrollmentStatus.DROPPED)
+                : enrollmentRepository.findStudentCoursePairsBySemester(semester, EnrollmentStatus.DROPPED);
+        for (Object[] row : enrollments) {
+            data.addEnrollment((Long) row[0], (Long) row[1]);
+        }
+        
+        for (Object[] row : assignmentRepository.sumMaxPointsGroupedByCourseForSemester(semester)) {
+            data.setPossiblePoints((Long) row[0], ((Number) row[1]).intValue());
+        }
+        
+        List<Object[]> scores = archived
+                ? archivedSubmissionRepository.sumScoresGroupedByStudentAndCourseForSemester(semester)
+                : submissionRepository.sumScoresGroupedByStudentAndCourseForSemester(semester);
+        for (Object[] row : scores) {
+            data.addEarnedPoints((Long) row[0], (Long) row[1], ((Number) row[2]).intValue());
+        }
+        
+        for (Object[] row : transcriptCourseRepository.sumGradePointsBeforeSemester(semester)) {
+            data.setPriorGradePoints((Long) row[0], ((Number) row[1]).doubleValue(), ((Number) row[2]).longValue());
+        }
+        return data;
+    }
+    
+    // Upserts in JDBC batches, one transaction per chunk of students, then drops rows
+    // left over from an earlier run (e.g. a course the student has since dropped)
+    private int write(Integer semester, List<TranscriptCalculator.StudentResult> results) {
+        LocalDateTime generatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        int courseRows = 0;
+        
+        for (int from = 0; from < results.size(); from += batchSize) {
+            List<TranscriptCalculator.StudentResult> chunk = results.subList(from, Math.min(from + batchSize, results.size()));
+            List<Object[]> transcriptArgs = new ArrayList<>(chunk.size());
+            List<Object[]> courseArgs = new ArrayList<>(chunk.size() * 6);
+            for (TranscriptCalculator.StudentResult result : chunk) {
+                transcriptArgs.add(new Object[] {result.getStudentId(), semester, result.getCourses().size(),
+                        result.getSemesterGpa(), result.getCumulativeGpa(), generatedAt});
+                for (TranscriptCalculator.CourseResult course : result.getCourses()) {
+                    courseArgs.add(new Object[] {result.getStudentId(), semester, course.getCourseId(),
+                            course.getEarnedPoints(), course.getPossiblePoints(), course.getPercentage(),
+                            course.getGradePoints(), generatedAt});
+                }
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(UPSERT_COURSE_SQL, courseArgs);
+                jdbcTemplate.batchUpdate(UPSERT_TRANSCRIPT_SQL, transcriptArgs);
+            });
+            courseRows += courseArgs.size();
+        }
+        
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM transcript_courses WHERE semester = ? AND generated_at < ?", semester, generatedAt);
+            jdbcTemplate.update("DELETE FROM transcripts WHERE semester = ? AND generated_at < ?", semester, generatedAt);
+        });
+        return courseRows;
+    }
+}
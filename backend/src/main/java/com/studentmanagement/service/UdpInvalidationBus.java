@@ -0,0 +1,274 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.dto.CacheInvalidation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+// Unicast UDP transport: each message is one fixed-size datagram sent to every configured peer.
+// Replicas can share one peer list that includes themselves; their own messages are ignored.
+// Peers on 127.0.0.1 with different ports stand in for a cluster on a single machine.
+//
+// A datagram is only applied if it comes from a configured peer, carries a valid HMAC under the
+// shared secret, is newer than max-age and has not been seen from its origin before. Messages are
+// sent from the listening socket, so a peer's source port is its configured port.
+public class UdpInvalidationBus implements InvalidationBus {
+    
+    private static final Logger logger = LoggerFactory.getLogger(UdpInvalidationBus.class);
+    
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final byte MAGIC = 'I';
+    private static final byte FORMAT_VERSION = 2;
+    // magic, version, type, action, then id, origin, sequence and publish time
+    static final int PAYLOAD_BYTES = 4 + 4 * Long.BYTES;
+    static final int MAC_BYTES = 32;
+    static final int MESSAGE_BYTES = PAYLOAD_BYTES + MAC_BYTES;
+    // Sequences this far behind the newest one from an origin can still arrive out of order
+    private static final int REPLAY_WINDOW = Long.SIZE;
+    
+    private final DatagramChannel channel;
+    private final List<String[]> peers = new ArrayList<>();
+    private final Set<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArraySet<>();
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> macs;
+    private final long maxAgeMillis;
+    private final LongAdder rejected = new LongAdder();
+    private final Thread receiver;
+    
+    // Only touched by the receiver thread
+    private final Map<Long, ReplayWindow> windowsByOrigin = new HashMap<>();
+    private long lastPrunedAt = System.currentTimeMillis();
+    
+    public UdpInvalidationBus(String bindAddress, int port, String peerList, String secret,
+                              long maxAgeMillis) throws IOException {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("app.invalidation.udp.secret must be set for the udp transport");
+        }
+        for (String peer : peerList.split(",")) {
+            String trimmed = peer.trim();
+            if (!trimmed.isEmpty()) {
+                int colon = trimmed.lastIndexOf(':');
+                if (colon <= 0) {
+                    throw new IllegalArgumentException("Invalidation peer must be host:port, got " + trimmed);
+                }
+                peers.add(new String[] {trimmed.substring(0, colon), trimmed.substring(colon + 1)});
+            }
+        }
+        key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), MAC_ALGORITHM);
+        macs = ThreadLocal.withInitial(this::newMac);
+        // Fails at startup rather than on the first message
+        macs.get();
+        this.maxAgeMillis = maxAgeMillis;
+        
+        channel = DatagramChannel.open();
+        channel.bind(new InetSocketAddress(bindAddress, port));
+        receiver = new Thread(this::receiveLoop, "invalidation-receiver");
+        receiver.setDaemon(true);
+        receiver.start();
+        logger.info("Cache invalidation bus listening on UDP {}:{} with {} peers", bindAddress, port, peers.size());
+    }
+    
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        ByteBuffer message = encode(invalidation);
+        for (String[] peer : peers) {
+            try {
+                // Resolved per send so a replica that moved is picked up once DNS has caught up
+                channel.send(message.duplicate(), new InetSocketAddress(peer[0], Integer.parseInt(peer[1])));
+            } catch (IOException e) {
+                logger.warn("Could not send cache invalidation to {}:{}: {}", peer[0], peer[1], e.getMessage());
+            }
+        }
+    }
+    
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+    
+    @Override
+    public String getTransport() {
+        return "udp";
+    }
+    
+    @Override
+    public long getRejected() {
+        return rejected.sum();
+    }
+    
+    public void close() throws IOException {
+        channel.close();
+    }
+    
+    private void receiveLoop() {
+        ByteBuffer buffer = ByteBuffer.allocate(MESSAGE_BYTES * 2);
+        while (channel.isOpen()) {
+            try {
+                buffer.clear();
+                SocketAddress sender = channel.receive(buffer);
+                buffer.flip();
+                CacheInvalidation invalidation = accept(sender, buffer);
+                if (invalidation == null) {
+                    rejected.increment();
+                    continue;
+                }
+                for (Consumer<CacheInvalidation> listener : listeners) {
+                    listener.accept(invalidation);
+                }
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (Exception e) {
+                logger.error("Cache invalidation could not be applied: {}", e.getMessage());
+            }
+        }
+    }
+    
+    // Null when the datagram must be dropped; the reason is only logged at debug level, since
+    // anyone who can reach the port can make these arrive at any rate
+    private CacheInvalidation accept(SocketAddress sender, ByteBuffer buffer) {
+        if (!isPeer(sender)) {
+            logger.debug("Ignoring cache invalidation from {}, which is not a configured peer", sender);
+            return null;
+        }
+        CacheInvalidation invalidation = decode(buffer);
+        if (invalidation == null) {
+            logger.debug("Ignoring malformed or unauthenticated cache invalidation from {}", sender);
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        if (Math.abs(now - invalidation.getPublishedAt()) > maxAgeMillis) {
+            logger.debug("Ignoring cache invalidation {} from {} published at {}", invalidation.getSequence(),
+                    sender, invalidation.getPublishedAt());
+            return null;
+        }
+        pruneWindows(now);
+        ReplayWindow window = windowsByOrigin.computeIfAbsent(invalidation.getOrigin(), origin -> new ReplayWindow());
+        if (!window.accept(invalidation.getSequence(), invalidation.getPublishedAt())) {
+            logger.debug("Ignoring replayed cache invalidation {} from {}", invalidation.getSequence(), sender);
+            return null;
+        }
+        return invalidation;
+    }
+    
+    private boolean isPeer(SocketAddress sender) {
+        if (!(sender instanceof InetSocketAddress source)) {
+            return false;
+        }
+        for (String[] peer : peers) {
+            InetSocketAddress address = new InetSocketAddress(peer[0], Integer.parseInt(peer[1]));
+            if (address.getPort() == source.getPort() && source.getAddress().equals(address.getAddress())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    // Every message an origin has sent was published no later than its newest accepted one, so
+    // once that is older than max-age all of them are rejected as stale and the window can go.
+    // A restarted replica picks a new origin, so old origins do not pile up.
+    private void pruneWindows(long now) {
+        if (now - lastPrunedAt > maxAgeMillis) {
+            windowsByOrigin.values().removeIf(window -> now - window.newestPublishedAt > maxAgeMillis);
+            lastPrunedAt = now;
+        }
+    }
+    
+    ByteBuffer encode(CacheInvalidation invalidation) {
+        ByteBuffer buffer = ByteBuffer.allocate(MESSAGE_BYTES);
+        buffer.put(MAGIC).put(FORMAT_VERSION)
+                .put((byte) invalidation.getType().ordinal())
+                .put((byte) invalidation.getAction().ordinal())
+                .putLong(invalidation.getId())
+                .putLong(invalidation.getOrigin())
+                .putLong(invalidation.getSequence())
+                .putLong(invalidation.getPublishedAt());
+        Mac mac = macs.get();
+        mac.update(buffer.array(), 0, PAYLOAD_BYTES);
+        buffer.put(mac.doFinal());
+        return buffer.flip();
+    }
+    
+    CacheInvalidation decode(ByteBuffer buffer) {
+        if (buffer.remaining() != MESSAGE_BYTES) {
+            return null;
+        }
+        byte[] message = new byte[MESSAGE_BYTES];
+        buffer.get(message);
+        Mac mac = macs.get();
+        mac.update(message, 0, PAYLOAD_BYTES);
+        byte[] expected = mac.doFinal();
+        byte[] actual = new byte[MAC_BYTES];
+        System.arraycopy(message, PAYLOAD_BYTES, actual, 0, MAC_BYTES);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            return null;
+        }
+        
+        ByteBuffer payload = ByteBuffer.wrap(message, 0, PAYLOAD_BYTES);
+        if (payload.get() != MAGIC || payload.get() != FORMAT_VERSION) {
+            return null;
+        }
+        int type = payload.get();
+        int action = payload.get();
+        if (type < 0 || type >= CacheInvalidation.Type.values().length
+                || action < 0 || action >= CacheInvalidation.Action.values().length) {
+            return null;
+        }
+        return new CacheInvalidation(CacheInvalidation.Type.values()[type], CacheInvalidation.Action.values()[action],
+                payload.getLong(), payload.getLong(), payload.getLong(), payload.getLong());
+    }
+    
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot initialise " + MAC_ALGORITHM, e);
+        }
+    }
+    
+    // Sliding window over an origin's sequences, as in IPsec: the newest sequence seen plus a bit
+    // per each of the REPLAY_WINDOW sequences before it. Datagrams may be reordered but never
+    // applied twice; anything older than the window is treated as a replay.
+    private static final class ReplayWindow {
+        private long highest;
+        private long seen;
+        private long newestPublishedAt;
+        
+        boolean accept(long sequence, long publishedAt) {
+            if (sequence > highest) {
+                long shift = sequence - highest;
+                seen = shift >= REPLAY_WINDOW ? 0 : seen << shift;
+                seen |= 1;
+                highest = sequence;
+            } else {
+                long offset = highest - sequence;
+                if (offset >= REPLAY_WINDOW || (seen & (1L << offset)) != 0) {
+                    return false;
+                }
+                seen |= 1L << offset;
+            }
+            newestPublishedAt = Math.max(newestPublishedAt, publishedAt);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.dto.UserEvent;
+import com.studentmanagement.repository.EnrollmentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Pushes events to the server-sent event streams connected to this replica. Writes handled by
+// another replica reach these streams through CacheInvalidationService, which raises the same
+// events here when their invalidation arrives; like the invalidations, that is best effort.
+@Service
+public class UserEventService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(UserEventService.class);
+    
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+    
+    @Value("${app.events.timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+    
+    @Value("${app.events.queue-capacity:64}")
+    private int queueCapacity;
+    
+    @Value("${app.events.write-timeout-ms:10000}")
+    private long writeTimeoutMs;
+    
+    // Idle connections are parked in the servlet container's async machinery, so
+    // holding them costs no threads; only audience lookups run on this small pool
+    private final ExecutorService dispatcher = Executors.newFixedThreadPool(4, runnable -> {
+        Thread thread = new Thread(runnable, "user-events");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    // Servlet writes block, so they run here, one drain task per client at a time; a stuck
+    // client holds at most one writer thread and never delays the dispatcher or the heartbeat.
+    // A blocked write cannot be interrupted; Tomcat fails it after server.tomcat.connection-timeout,
+    // which is kept at write-timeout-ms, and the stream is then completed with an error.
+    private final ExecutorService writers;
+    
+    private final Map<Long, Set<Client>> clientsByUser = new ConcurrentHashMap<>();
+    
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final LongAdder droppedClients = new LongAdder();
+    
+    public UserEventService(@Value("${app.events.writer-threads:16}") int writerThreads) {
+        writers = Executors.newFixedThreadPool(writerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "user-events-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    private static class Client {
+        final Long userId;
+        final SseEmitter emitter;
+        final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        final AtomicBoolean draining = new AtomicBoolean();
+        volatile boolean closed;
+        // 0 while no write is in flight
+        volatile long writeStartedAt;
+        
+        Client(Long userId, SseEmitter emitter, int queueCapacity) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+    }
+    
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Client client = new Client(userId, emitter, queueCapacity);
+        clientsByUser.compute(userId, (id, clients) -> {
+            Set<Client> target = clients != null ? clients : ConcurrentHashMap.newKeySet();
+            target.add(client);
+            return target;
+        });
+        connectionCount.incrementAndGet();
+        
+        emitter.onCompletion(() -> remove(client));
+        emitter.onTimeout(() -> remove(client));
+        emitter.onError(error -> remove(client));
+        
+        return emitter;
+    }
+    
+    public void publishToUser(Long userId, UserEvent event) {
+        if (userId == null || !clientsByUser.containsKey(userId)) {
+            return;
+        }
+        send(userId, event);
+    }
+    
+    public void publishToCourse(Long courseId, UserEvent event) {
+        if (courseId == null || clientsByUser.isEmpty()) {
+            return;
+        }
+        // Resolve the audience off the request thread
+        dispatcher.execute(() -> {
+            try {
+                List<Long> studentIds = enrollmentRepository.findActiveStudentIdsByCourse(courseId);
+                for (Long studentId : studentIds) {
+                    send(studentId, event);
+                }
+            } catch (Exception e) {
+                logger.error("Cannot publish {} event for course {}: {}", event.getType(), courseId, e.getMessage());
+            }
+        });
+    }
+    
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+    
+    public long getDroppedClientCount() {
+        return droppedClients.sum();
+    }
+    
+    // Comment frames keep proxies from closing idle streams and flush out dead clients. Heartbeats
+    // are queued like events; a client whose write has been stuck too long is dropped instead.
+    @Scheduled(fixedDelayString = "${app.events.heartbeat-ms:30000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        clientsByUser.values().forEach(clients -> {
+            for (Client client : clients) {
+                long writeStartedAt = client.writeStartedAt;
+                if (writeStartedAt != 0 && now - writeStartedAt > writeTimeoutMs) {
+                    drop(client);
+                } else {
+                    enqueue(client, SseEmitter.event().comment("keep-alive"));
+                }
+            }
+        });
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        writers.shutdownNow();
+        clientsByUser.values().forEach(clients -> clients.forEach(client -> client.emitter.complete()));
+        clientsByUser.clear();
+    }
+    
+    private void send(Long userId, UserEvent event) {
+        Set<Client> clients = clientsByUser.get(userId);
+        if (clients == null) {
+            return;
+        }
+        for (Client client : clients) {
+            enqueue(client, SseEmitter.event()
+                    .name(event.getType())
+                    .data(event, MediaType.APPLICATION_JSON));
+        }
+    }
+    
+    // A full queue means the client is not reading fast enough; it is dropped and reconnects
+    private void enqueue(Client client, SseEmitter.SseEventBuilder event) {
+        if (client.closed) {
+            return;
+        }
+        if (!client.queue.offer(event)) {
+            drop(client);
+            return;
+        }
+        scheduleDrain(client);
+    }
+    
+    private void scheduleDrain(Client client) {
+        if (client.draining.compareAndSet(false, true)) {
+            writers.execute(() -> drain(client));
+        }
+    }
+    
+    private void drain(Client client) {
+        while (true) {
+            if (client.closed) {
+                client.queue.clear();
+                // Completing takes the emitter's lock, so it happens here once no write is in flight.
+                // An error rather than a clean end, so the container closes the connection instead of
+                // keeping a slow or broken client's socket open.
+                try {
+                    client.emitter.completeWithError(new IOException("Event stream closed"));
+                } catch (IllegalStateException e) {
+                    // already completed by the container
+                }
+                return;
+            }
+            SseEmitter.SseEventBuilder event = client.queue.poll();
+            if (event == null) {
+                client.draining.set(false);
+                // Re-check so an event queued after the poll is not stranded
+                if ((client.queue.isEmpty() && !client.closed) || !client.draining.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            client.writeStartedAt = System.currentTimeMillis();
+            try {
+                client.emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                client.closed = true;
+                remove(client);
+            } finally {
+                client.writeStartedAt = 0;
+            }
+        }
+    }
+    
+    private void drop(Client client) {
+        if (client.closed) {
+            return;
+        }
+        client.closed = true;
+        droppedClients.increment();
+        logger.debug("Dropping slow event stream of user {}", client.userId);
+        remove(client);
+        scheduleDrain(client);
+    }
+    
+    private void remove(Client client) {
+        clientsByUser.computeIfPresent(client.userId, (id, clients) -> {
+            if (clients.remove(client)) {
+                connectionCount.decrementAndGet();
+            }
+            return clients.isEmpty() ? null : clients;
+        });
+    }
+}
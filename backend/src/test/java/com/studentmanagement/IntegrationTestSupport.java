@@ -0,0 +1,46 @@
+package com.studentmanagement;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+// Boots the whole application on an in-memory H2 database and a random port. Every subclass shares
+// one context, and with it the users DataInitializer creates; tests add the rest of their data.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public abstract class IntegrationTestSupport {
+    
+    protected static final String ADMIN = "admin@gmail.com";
+    protected static final String TEACHER = "teacher@gmail.com";
+    protected static final String STUDENT = "student@gmail.com";
+    
+    @Autowired
+    protected TestRestTemplate restTemplate;
+    
+    protected String login(String email) {
+        String password = email.substring(0, email.indexOf('@')) + "123";
+        Map<?, ?> response = restTemplate.postForObject("/auth/signin",
+                Map.of("email", email, "password", password), Map.class);
+        return (String) response.get("token");
+    }
+    
+    protected static HttpEntity<Object> request(String token, Object body) {
+        return request(token, body, null);
+    }
+    
+    protected static HttpEntity<Object> request(String token, Object body, String ifMatch) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (ifMatch != null) {
+            headers.setIfMatch(ifMatch);
+        }
+        return new HttpEntity<>(body, headers);
+    }
+}
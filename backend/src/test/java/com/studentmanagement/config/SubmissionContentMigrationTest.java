@@ -0,0 +1,127 @@
+package com.studentmanagement.config;
+
+import com.studentmanagement.IntegrationTestSupport;
+import com.studentmanagement.entity.Assignment;
+import com.studentmanagement.entity.AssignmentStatus;
+import com.studentmanagement.entity.Course;
+import com.studentmanagement.entity.Submission;
+import com.studentmanagement.entity.User;
+import com.studentmanagement.repository.AssignmentRepository;
+import com.studentmanagement.repository.CourseRepository;
+import com.studentmanagement.repository.SubmissionContentRepository;
+import com.studentmanagement.repository.SubmissionRepository;
+import com.studentmanagement.repository.UserRepository;
+import com.studentmanagement.service.SubmissionContentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// A database mid-rollout: the previous release's NOT NULL submission_text column is still there
+// and its replicas keep writing rows with the body only in that column
+class SubmissionContentMigrationTest extends IntegrationTestSupport {
+    
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    SubmissionContentMigration submissionContentMigration;
+    
+    @Autowired
+    SubmissionContentService submissionContentService;
+    
+    @Autowired
+    SubmissionContentRepository submissionContentRepository;
+    
+    @Autowired
+    UserRepository userRepository;
+    
+    @Autowired
+    CourseRepository courseRepository;
+    
+    @Autowired
+    AssignmentRepository assignmentRepository;
+    
+    @Autowired
+    SubmissionRepository submissionRepository;
+    
+    private Assignment assignment;
+    private User student;
+    
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("ALTER TABLE submissions ADD COLUMN submission_text TEXT DEFAULT '' NOT NULL");
+        User teacher = userRepository.findByEmail(TEACHER).orElseThrow();
+        student = userRepository.findByEmail(STUDENT).orElseThrow();
+        
+        Course course = new Course();
+        course.setTitle("Rollout");
+        course.setCode("RO-" + System.nanoTime());
+        course.setDescription("Submission body rollout");
+        course.setSemester(1);
+        course.setTeacherId(teacher.getId());
+        course = courseRepository.save(course);
+        
+        assignment = new Assignment();
+        assignment.setTitle("Rollout");
+        assignment.setDescription("Submitted from both releases");
+        assignment.setInstructions("None");
+        assignment.setCourseId(course.getId());
+        assignment.setMaxPoints(100);
+        assignment.setDueDate(LocalDate.now().plusDays(7).toString());
+        assignment.setStatus(AssignmentStatus.ACTIVE);
+        assignment.setCreatedBy(teacher.getId());
+        assignment = assignmentRepository.save(assignment);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("ALTER TABLE submissions DROP COLUMN submission_text");
+        submissionContentMigration.afterSingletonsInstantiated();
+    }
+    
+    @Test
+    void legacyColumnIsRelaxedReadAndBackfilled() {
+        submissionContentMigration.afterSingletonsInstantiated();
+        assertEquals("YES", jdbcTemplate.queryForObject("SELECT IS_NULLABLE FROM information_schema.COLUMNS " +
+                "WHERE TABLE_NAME = 'submissions' AND COLUMN_NAME = 'submission_text'", String.class));
+        
+        // This release inserts without the legacy column
+        Submission current = submissionContentService.createSubmission(
+                new Submission(assignment.getId(), student.getId(), student.getDisplayName(), "Current body"));
+        
+        // The previous release wrote only the legacy column
+        Submission previous = submissionRepository.save(
+                new Submission(assignment.getId(), student.getId(), student.getDisplayName(), null));
+        jdbcTemplate.update("UPDATE submissions SET submission_text = ? WHERE id = ?", "Legacy body", previous.getId());
+        
+        String teacherToken = login(TEACHER);
+        assertTrue(body(teacherToken, current.getId()).contains("\"submissionText\":\"Current body\""));
+        assertTrue(body(teacherToken, previous.getId()).contains("\"submissionText\":\"Legacy body\""));
+        assertFalse(submissionContentRepository.existsById(previous.getId()));
+        
+        submissionContentMigration.backfill();
+        submissionContentMigration.backfill();
+        
+        assertTrue(submissionContentRepository.existsById(previous.getId()));
+        jdbcTemplate.update("UPDATE submissions SET submission_text = NULL WHERE id = ?", previous.getId());
+        assertEquals("Legacy body", submissionContentService.load(previous.getId()));
+        assertEquals("Current body", submissionContentService.load(current.getId()));
+    }
+    
+    private String body(String token, Long submissionId) {
+        ResponseEntity<String> response = restTemplate.exchange("/submissions/" + submissionId, HttpMethod.GET,
+                request(token, null), String.class);
+        assertEquals(200, response.getStatusCode().value(), response.getBody());
+        return response.getBody();
+    }
+}
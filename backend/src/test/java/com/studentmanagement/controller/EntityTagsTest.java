@@ -0,0 +1,60 @@
+package com.studentmanagement.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EntityTagsTest {
+    
+    @Test
+    void tagIsTheQuotedVersion() {
+        assertEquals("\"0\"", EntityTags.of(0L));
+        assertEquals("\"42\"", EntityTags.of(42L));
+        assertNull(EntityTags.of(null));
+    }
+    
+    @Test
+    void missingHeaderIsNoPrecondition() {
+        assertTrue(EntityTags.matches(null, 3L));
+        assertTrue(EntityTags.matches(null, null));
+    }
+    
+    @Test
+    void onlyTheCurrentStrongTagMatches() {
+        assertTrue(EntityTags.matches("\"3\"", 3L));
+        assertFalse(EntityTags.matches("\"2\"", 3L));
+        assertFalse(EntityTags.matches("3", 3L));
+        assertFalse(EntityTags.matches("\"03\"", 3L));
+    }
+    
+    @Test
+    void weakTagsNeverMatchBecauseIfMatchUsesStrongComparison() {
+        assertFalse(EntityTags.matches("W/\"3\"", 3L));
+        assertFalse(EntityTags.matches("W/\"3\", W/\"4\"", 3L));
+    }
+    
+    @Test
+    void anyTagOfAListMayMatch() {
+        assertTrue(EntityTags.matches("\"1\", \"3\"", 3L));
+        assertTrue(EntityTags.matches("\"1\",\"3\"", 3L));
+        assertTrue(EntityTags.matches("W/\"3\", \"3\"", 3L));
+        assertFalse(EntityTags.matches("\"1\", \"2\"", 3L));
+    }
+    
+    @Test
+    void wildcardMatchesAnyExistingEntity() {
+        assertTrue(EntityTags.matches("*", 3L));
+        assertTrue(EntityTags.matches("*", null));
+        assertTrue(EntityTags.matches(" * ", 0L));
+    }
+    
+    @Test
+    void entityWithoutVersionMatchesNoTag() {
+        assertFalse(EntityTags.matches("\"0\"", null));
+        assertFalse(EntityTags.matches("\"null\"", null));
+        assertFalse(EntityTags.matches("", null));
+    }
+}
@@ -0,0 +1,187 @@
+package com.studentmanagement.controller;
+
+import com.studentmanagement.IntegrationTestSupport;
+import com.studentmanagement.entity.Assignment;
+import com.studentmanagement.entity.AssignmentStatus;
+import com.studentmanagement.entity.Course;
+import com.studentmanagement.entity.Submission;
+import com.studentmanagement.entity.User;
+import com.studentmanagement.repository.AssignmentRepository;
+import com.studentmanagement.repository.CourseRepository;
+import com.studentmanagement.repository.SubmissionRepository;
+import com.studentmanagement.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Writers race on one row with the same If-Match. Whoever commits first wins; the rest either read
+// the new version and get 412, or read the old one and lose the version check on UPDATE with 409.
+class OptimisticConcurrencyTest extends IntegrationTestSupport {
+    
+    private static final int WRITERS = 8;
+    private static final int ROUNDS = 5;
+    
+    @Autowired
+    UserRepository userRepository;
+    
+    @Autowired
+    CourseRepository courseRepository;
+    
+    @Autowired
+    AssignmentRepository assignmentRepository;
+    
+    @Autowired
+    SubmissionRepository submissionRepository;
+    
+    private String teacherToken;
+    private Assignment assignment;
+    private Submission submission;
+    
+    @BeforeEach
+    void setUp() {
+        teacherToken = login(TEACHER);
+        User teacher = userRepository.findByEmail(TEACHER).orElseThrow();
+        User student = userRepository.findByEmail(STUDENT).orElseThrow();
+        
+        Course course = new Course();
+        course.setTitle("Concurrency");
+        course.setCode("CC-" + System.nanoTime());
+        course.setDescription("Optimistic concurrency");
+        course.setSemester(1);
+        course.setTeacherId(teacher.getId());
+        course = courseRepository.save(course);
+        
+        assignment = new Assignment();
+        assignment.setTitle("Race");
+        assignment.setDescription("Edited by every writer at once");
+        assignment.setInstructions("None");
+        assignment.setCourseId(course.getId());
+        assignment.setMaxPoints(100);
+        assignment.setDueDate(LocalDate.now().plusDays(7).toString());
+        assignment.setStatus(AssignmentStatus.ACTIVE);
+        assignment.setCreatedBy(teacher.getId());
+        assignment = assignmentRepository.save(assignment);
+        
+        submission = new Submission();
+        submission.setAssignmentId(assignment.getId());
+        submission.setStudentId(student.getId());
+        submission.setStudentName(student.getDisplayName());
+        submission.setSubmittedAt(LocalDateTime.now());
+        submission = submissionRepository.save(submission);
+    }
+    
+    @Test
+    void concurrentAssignmentEditsLoseNoUpdate() throws Exception {
+        long initialVersion = assignment.getVersion();
+        int successes = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            // Every writer changes something, so none of them can succeed as a no-op
+            String title = "Race " + round + "-";
+            String ifMatch = EntityTags.of(assignmentRepository.findById(assignment.getId()).orElseThrow().getVersion());
+            List<ResponseEntity<String>> responses = race(writer -> request(teacherToken, Map.of(
+                    "title", title + writer,
+                    "description", assignment.getDescription(),
+                    "instructions", assignment.getInstructions(),
+                    "courseId", assignment.getCourseId(),
+                    "maxPoints", 100,
+                    "dueDate", assignment.getDueDate(),
+                    "status", "ACTIVE"), ifMatch), "/assignments/" + assignment.getId());
+            
+            ResponseEntity<String> winner = onlyWinner(responses);
+            successes++;
+            Assignment stored = assignmentRepository.findById(assignment.getId()).orElseThrow();
+            assertEquals(EntityTags.of(stored.getVersion()), winner.getHeaders().getETag());
+            assertTrue(winner.getBody().contains("\"title\":\"" + stored.getTitle() + "\""));
+        }
+        
+        assertEquals(initialVersion + successes, assignmentRepository.findById(assignment.getId()).orElseThrow().getVersion());
+    }
+    
+    @Test
+    void concurrentGradingLosesNoUpdate() throws Exception {
+        long initialVersion = submission.getVersion();
+        int successes = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            String feedback = "Round " + round + " grader ";
+            String ifMatch = EntityTags.of(submissionRepository.findById(submission.getId()).orElseThrow().getVersion());
+            List<ResponseEntity<String>> responses = race(writer -> request(teacherToken, Map.of(
+                    "score", 50 + writer,
+                    "feedback", feedback + writer), ifMatch), "/submissions/" + submission.getId() + "/grade");
+            
+            ResponseEntity<String> winner = onlyWinner(responses);
+            successes++;
+            Submission stored = submissionRepository.findById(submission.getId()).orElseThrow();
+            assertEquals(EntityTags.of(stored.getVersion()), winner.getHeaders().getETag());
+            assertTrue(winner.getBody().contains("\"score\":" + stored.getScore()));
+            assertEquals(feedback + (stored.getScore() - 50), stored.getFeedback());
+        }
+        
+        assertEquals(initialVersion + successes, submissionRepository.findById(submission.getId()).orElseThrow().getVersion());
+    }
+    
+    @Test
+    void staleTagIsRefusedWithoutWriting() {
+        long version = submission.getVersion();
+        ResponseEntity<String> response = restTemplate.exchange("/submissions/" + submission.getId() + "/grade",
+                HttpMethod.PUT, request(teacherToken, Map.of("score", 10), EntityTags.of(version + 1)), String.class);
+        
+        assertEquals(412, response.getStatusCode().value());
+        assertEquals(version, submissionRepository.findById(submission.getId()).orElseThrow().getVersion());
+    }
+    
+    // All writers send their PUT at once
+    private List<ResponseEntity<String>> race(IntFunction<HttpEntity<Object>> requestFor, String url) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(WRITERS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<ResponseEntity<String>>> futures = new ArrayList<>();
+            for (int writer = 0; writer < WRITERS; writer++) {
+                HttpEntity<Object> request = requestFor.apply(writer);
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return restTemplate.exchange(url, HttpMethod.PUT, request, String.class);
+                }));
+            }
+            start.countDown();
+            List<ResponseEntity<String>> responses = new ArrayList<>();
+            for (Future<ResponseEntity<String>> future : futures) {
+                responses.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return responses;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+    
+    private static ResponseEntity<String> onlyWinner(List<ResponseEntity<String>> responses) {
+        List<ResponseEntity<String>> winners = new ArrayList<>();
+        for (ResponseEntity<String> response : responses) {
+            int status = response.getStatusCode().value();
+            if (status == 200) {
+                winners.add(response);
+            } else {
+                assertTrue(status == 409 || status == 412, "Unexpected status " + status + ": " + response.getBody());
+            }
+        }
+        assertEquals(1, winners.size(), "Exactly one writer should win");
+        return winners.get(0);
+    }
+}
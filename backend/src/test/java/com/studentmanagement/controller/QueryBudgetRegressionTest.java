@@ -0,0 +1,211 @@
+package com.studentmanagement.controller;
+
+import com.studentmanagement.IntegrationTestSupport;
+import com.studentmanagement.dto.EndpointQueryStats;
+import com.studentmanagement.entity.Assignment;
+import com.studentmanagement.entity.AssignmentStatus;
+import com.studentmanagement.entity.Course;
+import com.studentmanagement.entity.Enrollment;
+import com.studentmanagement.entity.Submission;
+import com.studentmanagement.entity.SubmissionStatus;
+import com.studentmanagement.entity.User;
+import com.studentmanagement.entity.UserRole;
+import com.studentmanagement.repository.AssignmentRepository;
+import com.studentmanagement.repository.CourseRepository;
+import com.studentmanagement.repository.EnrollmentRepository;
+import com.studentmanagement.repository.SubmissionRepository;
+import com.studentmanagement.repository.UserRepository;
+import com.studentmanagement.service.DueAssignmentService;
+import com.studentmanagement.service.QueryBudgetService;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+// Reads every list and detail endpoint at several data sizes and checks the statements and rows
+// QueryCountingDataSource counted for it. Statement budgets do not grow with the data, so an
+// endpoint that starts querying once per row (N+1) fails at the larger sizes; row budgets grow
+// only with what the endpoint returns.
+class QueryBudgetRegressionTest extends IntegrationTestSupport {
+    
+    private static final int ASSIGNMENTS_PER_COURSE = 3;
+    // A caller's first request after login also loads its user row
+    private static final int PRINCIPAL_LOOKUP = 1;
+    
+    @Autowired
+    QueryBudgetService queryBudgetService;
+    
+    @Autowired
+    UserRepository userRepository;
+    
+    @Autowired
+    CourseRepository courseRepository;
+    
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+    
+    @Autowired
+    AssignmentRepository assignmentRepository;
+    
+    @Autowired
+    SubmissionRepository submissionRepository;
+    
+    @Autowired
+    DueAssignmentService dueAssignmentService;
+    
+    // Each size adds `size` courses with `size` new students, all enrolled alongside the seeded
+    // student, so the seeded student's lists grow across the sizes as well
+    @ParameterizedTest
+    @ValueSource(ints = {2, 6, 18})
+    void readEndpointsStayWithinTheirQueryBudgets(int size) {
+        List<Course> courses = seed(size);
+        Course course = courses.get(0);
+        Long assignmentId = assignmentRepository.findByCourseId(course.getId()).get(0).getId();
+        Long submissionId = submissionRepository.findByAssignmentId(assignmentId).get(0).getId();
+        User student = userRepository.findByEmail(STUDENT).orElseThrow();
+        long studentCourses = enrollmentRepository.findByStudentId(student.getId()).size();
+        long studentSubmissions = submissionRepository.findByStudentId(student.getId()).size();
+        
+        String admin = login(ADMIN);
+        String teacher = login(TEACHER);
+        String studentToken = login(STUDENT);
+        
+        check(size, "/courses/all", "/courses/all", teacher, 1, courseRepository.count());
+        check(size, "/courses/by-semester/{semester}", "/courses/by-semester/1", teacher, 1, courseRepository.count());
+        check(size, "/courses/{id}", "/courses/" + course.getId(), teacher, 1, 1);
+        check(size, "/courses", "/courses?ids=" + ids(courses), teacher, 1, courses.size());
+        check(size, "/assignments/all", "/assignments/all", teacher, 1, assignmentRepository.count());
+        check(size, "/assignments/by-course/{courseId}", "/assignments/by-course/" + course.getId(), teacher, 1,
+                ASSIGNMENTS_PER_COURSE);
+        check(size, "/assignments/{id}", "/assignments/" + assignmentId, teacher, 1, 1);
+        check(size, "/assignments/due", "/assignments/due", studentToken, 1, studentCourses);
+        check(size, "/submissions/by-assignment/{assignmentId}", "/submissions/by-assignment/" + assignmentId,
+                teacher, 1, size + 1);
+        check(size, "/submissions/{id}", "/submissions/" + submissionId, teacher, 2, 1);
+        check(size, "/submissions/my-submissions", "/submissions/my-submissions", studentToken, 1, studentSubmissions);
+        check(size, "/dashboard/student", "/dashboard/student", studentToken, 3,
+                studentCourses * (ASSIGNMENTS_PER_COURSE + 1) + studentSubmissions);
+        check(size, "/users/all", "/users/all", admin, 1, userRepository.count());
+        check(size, "/users/by-role/{role}", "/users/by-role/STUDENT", admin, 1, userRepository.countByRole(UserRole.STUDENT));
+        
+        // Served from memory; the leaderboard reads only the course membership check
+        check(size, "/leaderboard/courses/{courseId}", "/leaderboard/courses/" + course.getId(), teacher, 1, 1);
+        check(size, "/analytics/courses/{courseId}/grades", "/analytics/courses/" + course.getId() + "/grades",
+                teacher, 0, 0);
+        check(size, "/stats/assignments/{assignmentId}/submissions",
+                "/stats/assignments/" + assignmentId + "/submissions", teacher, 0, 0);
+        check(size, "/stats", "/stats", admin, 0, 0);
+    }
+    
+    private void check(int size, String pattern, String url, String token, int maxStatements, long maxRows) {
+        queryBudgetService.reset();
+        ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, request(token, null), String.class);
+        assertEquals(HttpStatus.OK, response.getStatusCode(), url + ": " + response.getBody());
+        
+        EndpointQueryStats stats = awaitStats("GET " + pattern);
+        assertTrue(stats.getMaxStatements() <= maxStatements + PRINCIPAL_LOOKUP,
+                "GET " + pattern + " ran " + stats.getMaxStatements() + " statements at size " + size
+                        + ", budget " + maxStatements);
+        assertTrue(stats.getMaxRows() <= maxRows + PRINCIPAL_LOOKUP,
+                "GET " + pattern + " read " + stats.getMaxRows() + " rows at size " + size + ", budget " + maxRows);
+    }
+    
+    // The filter records after the response is written, so the client can see it first
+    private EndpointQueryStats awaitStats(String endpoint) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            for (EndpointQueryStats stats : queryBudgetService.getStats()) {
+                if (stats.getEndpoint().equals(endpoint)) {
+                    return stats;
+                }
+            }
+            Thread.onSpinWait();
+        }
+        return fail("No query counts recorded for " + endpoint);
+    }
+    
+    private List<Course> seed(int size) {
+        String prefix = "qb" + size + "-" + System.nanoTime();
+        User teacher = userRepository.findByEmail(TEACHER).orElseThrow();
+        List<User> students = new ArrayList<>();
+        students.add(userRepository.findByEmail(STUDENT).orElseThrow());
+        for (int i = 0; i < size; i++) {
+            User student = new User();
+            student.setEmail(prefix + "-" + i + "@test.com");
+            student.setPassword("not-a-login");
+            student.setDisplayName("Student " + i);
+            student.setRole(UserRole.STUDENT);
+            student.setCurrentSemester(1);
+            students.add(userRepository.save(student));
+        }
+        
+        List<Course> courses = new ArrayList<>();
+        for (int c = 0; c < size; c++) {
+            Course course = new Course();
+            course.setTitle("Budget " + c);
+            course.setCode(prefix + "-" + c);
+            course.setDescription("Query budget data");
+            course.setSemester(1);
+            course.setTeacherId(teacher.getId());
+            course = courseRepository.save(course);
+            courses.add(course);
+            
+            for (User student : students) {
+                enrollmentRepository.save(new Enrollment(student.getId(), course.getId()));
+            }
+            for (int a = 0; a < ASSIGNMENTS_PER_COURSE; a++) {
+                Assignment assignment = new Assignment();
+                assignment.setTitle("Budget " + c + "." + a);
+                assignment.setDescription("Query budget data");
+                assignment.setInstructions("None");
+                assignment.setCourseId(course.getId());
+                assignment.setMaxPoints(100);
+                assignment.setDueDate(LocalDate.now().plusDays(7).toString());
+                assignment.setStatus(AssignmentStatus.ACTIVE);
+                assignment.setCreatedBy(teacher.getId());
+                assignment = assignmentRepository.save(assignment);
+                
+                // The seeded student leaves the last assignment of each course open, so /assignments/due has rows
+                List<Submission> submissions = new ArrayList<>();
+                for (int s = a == ASSIGNMENTS_PER_COURSE - 1 ? 1 : 0; s < students.size(); s++) {
+                    User student = students.get(s);
+                    Submission submission = new Submission();
+                    submission.setAssignmentId(assignment.getId());
+                    submission.setStudentId(student.getId());
+                    submission.setStudentName(student.getDisplayName());
+                    submission.setSubmittedAt(LocalDateTime.now());
+                    if (s % 2 == 0) {
+                        submission.setStatus(SubmissionStatus.GRADED);
+                        submission.setScore(50 + s % 50);
+                        submission.setGradedBy(teacher.getId());
+                        submission.setGradedAt(LocalDateTime.now());
+                    }
+                    submissions.add(submission);
+                }
+                submissionRepository.saveAll(submissions);
+            }
+        }
+        // The rows went in behind the services, which would otherwise evict the student's due list
+        dueAssignmentService.evictAll();
+        return courses;
+    }
+    
+    private static String ids(List<Course> courses) {
+        StringBuilder ids = new StringBuilder();
+        for (Course course : courses) {
+            ids.append(ids.length() == 0 ? "" : ",").append(course.getId());
+        }
+        return ids.toString();
+    }
+}
@@ -0,0 +1,111 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.entity.AssignmentStatus;
+import com.studentmanagement.repository.AssignmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AssignmentAvailabilityServiceTest {
+    
+    private static final String TODAY = LocalDate.now().toString();
+    private static final String YESTERDAY = LocalDate.now().minusDays(1).toString();
+    private static final String TOMORROW = LocalDate.now().plusDays(1).toString();
+    
+    private AssignmentRepository assignmentRepository;
+    private AssignmentAvailabilityService service;
+    
+    @BeforeEach
+    void setUp() {
+        assignmentRepository = mock(AssignmentRepository.class);
+        when(assignmentRepository.findDueDateRowByIdAndStatus(anyLong(), any())).thenReturn(List.of());
+        service = new AssignmentAvailabilityService();
+        service.assignmentRepository = assignmentRepository;
+    }
+    
+    @Test
+    void pastDueAssignmentIsRefusedBeforeTheCloseJobRuns() {
+        service.track(1L, AssignmentStatus.ACTIVE, YESTERDAY);
+        service.track(2L, AssignmentStatus.ACTIVE, TODAY);
+        service.track(3L, AssignmentStatus.ACTIVE, TODAY + "T00:00");
+        service.track(4L, AssignmentStatus.ACTIVE, null);
+        
+        assertFalse(service.isOpen(1L));
+        assertTrue(service.isOpen(2L));
+        assertTrue(service.isOpen(3L));
+        assertTrue(service.isOpen(4L));
+    }
+    
+    @Test
+    void missIsLoadedFromTheDatabaseWithItsDueDate() {
+        when(assignmentRepository.findDueDateRowByIdAndStatus(5L, AssignmentStatus.ACTIVE))
+                .thenReturn(rows(5L, YESTERDAY));
+        when(assignmentRepository.findDueDateRowByIdAndStatus(6L, AssignmentStatus.ACTIVE))
+                .thenReturn(rows(6L, TOMORROW));
+        
+        assertFalse(service.isOpen(5L));
+        assertTrue(service.isOpen(6L));
+        assertFalse(service.isOpen(7L));
+        assertFalse(service.isOpen(null));
+    }
+    
+    @Test
+    void closeDuringRefreshIsNotUndoneBySnapshot() {
+        service.track(1L, AssignmentStatus.ACTIVE, TOMORROW);
+        // The snapshot was read before the delete committed, so it still lists assignment 1
+        when(assignmentRepository.findDueDateRowsByStatus(AssignmentStatus.ACTIVE)).thenAnswer(invocation -> {
+            service.markClosed(1L);
+            return rows(1L, TOMORROW, 2L, TOMORROW);
+        });
+        
+        service.refreshOpenAssignments();
+        
+        assertFalse(service.isOpen(1L));
+        assertTrue(service.isOpen(2L));
+        verify(assignmentRepository, never()).findDueDateRowByIdAndStatus(2L, AssignmentStatus.ACTIVE);
+    }
+    
+    @Test
+    void openDuringRefreshSurvivesSnapshotThatPredatesIt() {
+        when(assignmentRepository.findDueDateRowsByStatus(AssignmentStatus.ACTIVE)).thenAnswer(invocation -> {
+            service.track(3L, AssignmentStatus.ACTIVE, TOMORROW);
+            return rows(2L, TOMORROW);
+        });
+        
+        service.refreshOpenAssignments();
+        
+        assertTrue(service.isOpen(3L));
+        verify(assignmentRepository, never()).findDueDateRowByIdAndStatus(3L, AssignmentStatus.ACTIVE);
+    }
+    
+    @Test
+    void refreshDropsAssignmentsNoLongerActive() {
+        service.track(1L, AssignmentStatus.ACTIVE, TOMORROW);
+        when(assignmentRepository.findDueDateRowsByStatus(AssignmentStatus.ACTIVE)).thenReturn(rows(2L, TOMORROW));
+        
+        service.refreshOpenAssignments();
+        
+        assertFalse(service.isOpen(1L));
+        assertTrue(service.isOpen(2L));
+    }
+    
+    private static List<Object[]> rows(Object... values) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < values.length; i += 2) {
+            rows.add(new Object[] {values[i], values[i + 1]});
+        }
+        return rows;
+    }
+}
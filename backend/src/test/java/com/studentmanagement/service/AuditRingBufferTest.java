@@ -0,0 +1,111 @@
+package com.studentmanagement.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuditRingBufferTest {
+    
+    @Test
+    void capacityIsRoundedUpToAPowerOfTwo() {
+        assertEquals(8, new AuditRingBuffer<Integer>(5).capacity());
+        assertEquals(8, new AuditRingBuffer<Integer>(8).capacity());
+        assertEquals(1024, new AuditRingBuffer<Integer>(1000).capacity());
+    }
+    
+    @Test
+    void fullBufferRefusesUntilTheConsumerFreesASlot() {
+        AuditRingBuffer<Integer> ring = new AuditRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ring.offer(i));
+        }
+        assertFalse(ring.offer(4));
+        assertEquals(4, ring.size());
+        
+        assertEquals(0, ring.poll());
+        assertTrue(ring.offer(4));
+        assertFalse(ring.offer(5));
+        for (int i = 1; i <= 4; i++) {
+            assertEquals(i, ring.poll());
+        }
+        assertNull(ring.poll());
+        assertEquals(0, ring.size());
+    }
+    
+    @Test
+    void slotsAreReusedInOrderAcrossManyWraparounds() {
+        AuditRingBuffer<Integer> ring = new AuditRingBuffer<>(8);
+        int next = 0;
+        int expected = 0;
+        for (int round = 0; round < 1000; round++) {
+            // Uneven batches so head and tail cross the end of the array at different slots
+            for (int i = 0; i < 1 + round % 8 && ring.size() < ring.capacity(); i++) {
+                assertTrue(ring.offer(next++));
+            }
+            for (int i = 0; i < 1 + (round + 3) % 8 && ring.size() > 0; i++) {
+                assertEquals(expected++, ring.poll());
+            }
+        }
+        Integer item;
+        while ((item = ring.poll()) != null) {
+            assertEquals(expected++, item);
+        }
+        assertEquals(next, expected);
+    }
+    
+    @Test
+    void concurrentProducersLoseNothingAndKeepTheirOwnOrder() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 5_000;
+        AuditRingBuffer<long[]> ring = new AuditRingBuffer<>(64);
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            pool.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (long i = 0; i < perProducer; i++) {
+                    long[] item = {producer, i};
+                    while (!ring.offer(item)) {
+                        Thread.yield();
+                    }
+                }
+            });
+        }
+        
+        start.countDown();
+        List<Long> lastSeen = new ArrayList<>(List.of(-1L, -1L, -1L, -1L));
+        long received = 0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (received < (long) producers * perProducer && System.nanoTime() < deadline) {
+            long[] item = ring.poll();
+            if (item == null) {
+                Thread.yield();
+                continue;
+            }
+            int producer = (int) item[0];
+            assertEquals(lastSeen.get(producer) + 1, item[1]);
+            lastSeen.set(producer, item[1]);
+            received++;
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        
+        assertEquals((long) producers * perProducer, received);
+        assertNull(ring.poll());
+    }
+}
@@ -0,0 +1,143 @@
+package com.studentmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studentmanagement.dto.BatchOperation;
+import com.studentmanagement.dto.BatchResult;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.InsufficientAuthenticationException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class BatchServiceTest {
+    
+    private DispatcherServlet dispatcherServlet;
+    private BatchService service;
+    private ExecutorService executor;
+    
+    @BeforeEach
+    void setUp() {
+        dispatcherServlet = mock(DispatcherServlet.class);
+        executor = Executors.newFixedThreadPool(4);
+        service = new BatchService();
+        service.dispatcherServlet = dispatcherServlet;
+        service.objectMapper = new ObjectMapper();
+        // As batchExecutor does, workers run with the caller's security context
+        service.batchExecutor = task -> executor.execute(new DelegatingSecurityContextRunnable(task));
+        ReflectionTestUtils.setField(service, "parallelism", 4);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        SecurityContextHolder.clearContext();
+    }
+    
+    @Test
+    void accessDeniedIsForbiddenForAUserAndUnauthorizedForAnonymous() throws Exception {
+        doAnswer(invocation -> {
+            throw new ServletException(new AccessDeniedException("Access Denied"));
+        }).when(dispatcherServlet).service(any(ServletRequest.class), any(ServletResponse.class));
+        
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("student", null,
+                AuthorityUtils.createAuthorityList("ROLE_STUDENT")));
+        assertEquals(403, runOne().getStatus());
+        assertEquals("Error: Access denied", runOne().getBody().asText());
+        
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken("key", "anonymousUser",
+                AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+        assertEquals(401, runOne().getStatus());
+        
+        SecurityContextHolder.clearContext();
+        assertEquals(401, runOne().getStatus());
+    }
+    
+    @Test
+    void authenticationFailureIsUnauthorizedAndOtherFailuresAreServerErrors() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("teacher", null,
+                AuthorityUtils.createAuthorityList("ROLE_TEACHER")));
+        doAnswer(invocation -> {
+            throw new InsufficientAuthenticationException("Full authentication is required");
+        }).when(dispatcherServlet).service(any(ServletRequest.class), any(ServletResponse.class));
+        assertEquals(401, runOne().getStatus());
+        
+        doAnswer(invocation -> {
+            throw new ServletException(new IllegalStateException("boom"));
+        }).when(dispatcherServlet).service(any(ServletRequest.class), any(ServletResponse.class));
+        BatchResult result = runOne();
+        assertEquals(500, result.getStatus());
+        assertEquals("Error: Internal server error", result.getBody().asText());
+    }
+    
+    @Test
+    void eachEntryKeepsItsOwnStatusAndAttributes() throws Exception {
+        // All four sub-requests are inside the dispatcher at once before any of them reads back
+        CountDownLatch together = new CountDownLatch(4);
+        doAnswer(invocation -> {
+            BatchSubRequest request = invocation.getArgument(0);
+            BatchSubResponse response = invocation.getArgument(1);
+            request.setAttribute("path", request.getServletPath());
+            together.countDown();
+            together.await(5, TimeUnit.SECONDS);
+            if (request.getServletPath().equals("/missing")) {
+                response.sendError(404, "Not here");
+                return null;
+            }
+            response.setContentType("application/json");
+            response.getWriter().write("{\"path\":\"" + request.getAttribute("path") + "\"}");
+            return null;
+        }).when(dispatcherServlet).service(any(ServletRequest.class), any(ServletResponse.class));
+        
+        List<BatchResult> results = service.execute(List.of(get("/a"), get("/missing"), get("/b"), get("/c")),
+                new MockHttpServletRequest("POST", "/api/batch"), new MockHttpServletResponse());
+        
+        assertEquals(List.of(200, 404, 200, 200), results.stream().map(BatchResult::getStatus).toList());
+        assertEquals("/a", results.get(0).getBody().get("path").asText());
+        assertEquals("Error: Not here", results.get(1).getBody().asText());
+        assertEquals("/b", results.get(2).getBody().get("path").asText());
+        assertEquals("/c", results.get(3).getBody().get("path").asText());
+    }
+    
+    @Test
+    void invalidEntriesAreRejectedWithoutDispatching() {
+        List<BatchResult> results = service.execute(List.of(
+                new BatchOperation("TRACE", "/courses/all", null, null),
+                new BatchOperation("GET", "http://elsewhere/courses", null, null),
+                new BatchOperation("POST", "/batch", null, null)),
+                new MockHttpServletRequest("POST", "/api/batch"), new MockHttpServletResponse());
+        
+        assertEquals(List.of(400, 400, 400), results.stream().map(BatchResult::getStatus).toList());
+    }
+    
+    private BatchResult runOne() {
+        return service.execute(List.of(get("/courses/1")), new MockHttpServletRequest("POST", "/api/batch"),
+                new MockHttpServletResponse()).get(0);
+    }
+    
+    private static BatchOperation get(String path) {
+        return new BatchOperation("GET", path, null, null);
+    }
+}
@@ -0,0 +1,85 @@
+package com.studentmanagement.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BatchSubRequestTest {
+    
+    @Test
+    void attributesAreKeptApartFromTheBatchRequestAndEachOther() {
+        MockHttpServletRequest batch = new MockHttpServletRequest("POST", "/api/batch");
+        batch.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        BatchSubRequest first = new BatchSubRequest(batch, "GET", "/courses/all", null, null, null);
+        BatchSubRequest second = new BatchSubRequest(batch, "GET", "/courses/all", null, null, null);
+        
+        assertNull(first.getAttribute("org.apache.tomcat.sendfile.support"));
+        
+        first.setAttribute("handler", "first");
+        second.setAttribute("handler", "second");
+        assertEquals("first", first.getAttribute("handler"));
+        assertEquals("second", second.getAttribute("handler"));
+        assertNull(batch.getAttribute("handler"));
+        assertEquals(List.of("handler"), Collections.list(first.getAttributeNames()));
+        
+        first.setAttribute("handler", null);
+        assertNull(first.getAttribute("handler"));
+        second.removeAttribute("handler");
+        assertFalse(second.getAttributeNames().hasMoreElements());
+        assertEquals(Boolean.TRUE, batch.getAttribute("org.apache.tomcat.sendfile.support"));
+    }
+    
+    @Test
+    void pathQueryAndBodyDescribeTheSubRequest() throws Exception {
+        MockHttpServletRequest batch = new MockHttpServletRequest("POST", "/api/batch");
+        batch.setContextPath("/api");
+        batch.addParameter("batchOnly", "x");
+        byte[] body = "{\"score\":90}".getBytes(StandardCharsets.UTF_8);
+        BatchSubRequest request = new BatchSubRequest(batch, "PUT", "/submissions/7/grade", "notify=true&tag=a&tag=b%20c",
+                body, null);
+        
+        assertEquals("PUT", request.getMethod());
+        assertEquals("/api/submissions/7/grade", request.getRequestURI());
+        assertEquals("/submissions/7/grade", request.getServletPath());
+        assertEquals("true", request.getParameter("notify"));
+        assertArrayEquals(new String[] {"a", "b c"}, request.getParameterValues("tag"));
+        assertNull(request.getParameter("batchOnly"));
+        assertEquals(body.length, request.getContentLength());
+        assertArrayEquals(body, request.getInputStream().readAllBytes());
+    }
+    
+    @Test
+    void headersFallBackToTheBatchRequestUnlessOverriddenOrHidden() {
+        MockHttpServletRequest batch = new MockHttpServletRequest("POST", "/api/batch");
+        batch.addHeader("Authorization", "Bearer token");
+        batch.addHeader("Content-Type", "application/json");
+        batch.addHeader("If-Match", "\"3\"");
+        BatchSubRequest request = new BatchSubRequest(batch, "GET", "/courses/all", null, null,
+                Map.of("If-None-Match", "\"5\"", "if-match", "\"4\""));
+        
+        assertEquals("Bearer token", request.getHeader("authorization"));
+        assertEquals("\"5\"", request.getHeader("If-None-Match"));
+        assertEquals("\"4\"", request.getHeader("If-Match"));
+        // A GET without a body hides the batch request's own body headers
+        assertNull(request.getHeader("Content-Type"));
+        assertFalse(Collections.list(request.getHeaderNames()).contains("Content-Type"));
+        assertFalse(request.getHeaders("Content-Type").hasMoreElements());
+    }
+    
+    @Test
+    void asynchronousHandlersAreRefused() {
+        BatchSubRequest request = new BatchSubRequest(new MockHttpServletRequest(), "GET", "/events", null, null, null);
+        assertFalse(request.isAsyncSupported());
+        assertThrows(IllegalStateException.class, request::startAsync);
+    }
+}
@@ -0,0 +1,69 @@
+package com.studentmanagement.service;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchSubResponseTest {
+    
+    @Test
+    void statusHeadersAndBodyAreCapturedWithoutTouchingTheBatchResponse() throws Exception {
+        MockHttpServletResponse batch = new MockHttpServletResponse();
+        BatchSubResponse response = new BatchSubResponse(batch);
+        
+        response.setStatus(201);
+        response.setContentType("application/json;charset=UTF-8");
+        response.addHeader("Vary", "Accept");
+        response.addHeader("vary", "Origin");
+        response.setHeader("ETag", "\"1\"");
+        response.getOutputStream().write("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+        response.addCookie(new Cookie("session", "x"));
+        
+        assertEquals(201, response.getStatus());
+        assertEquals(List.of("Accept", "Origin"), response.getHeaderMap().get("VARY"));
+        assertEquals("\"1\"", response.getHeader("etag"));
+        assertEquals("{\"id\":1}", new String(response.getContent(), StandardCharsets.UTF_8));
+        
+        assertEquals(200, batch.getStatus());
+        assertTrue(batch.getHeaderNames().isEmpty());
+        assertEquals(0, batch.getContentAsByteArray().length);
+        assertEquals(0, batch.getCookies().length);
+        assertFalse(batch.isCommitted());
+    }
+    
+    @Test
+    void writerUsesTheDeclaredCharset() {
+        BatchSubResponse response = new BatchSubResponse(new MockHttpServletResponse());
+        response.setContentType("text/plain;charset=ISO-8859-1");
+        response.getWriter().write("café");
+        
+        assertEquals(4, response.getContent().length);
+        assertThrows(IllegalStateException.class, response::getOutputStream);
+    }
+    
+    @Test
+    void sendErrorDiscardsTheBodyAndCommits() throws Exception {
+        BatchSubResponse response = new BatchSubResponse(new MockHttpServletResponse());
+        response.getWriter().write("partial");
+        response.sendError(404, "No such course");
+        
+        assertEquals(404, response.getStatus());
+        assertEquals("No such course", response.getErrorMessage());
+        assertEquals(0, response.getContent().length);
+        assertTrue(response.isCommitted());
+        
+        response.setStatus(200);
+        response.setHeader("X-Late", "1");
+        assertEquals(404, response.getStatus());
+        assertFalse(response.containsHeader("X-Late"));
+        assertThrows(IllegalStateException.class, () -> response.sendError(500));
+    }
+}
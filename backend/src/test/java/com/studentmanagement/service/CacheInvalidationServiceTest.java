@@ -0,0 +1,99 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.dto.CacheInvalidation;
+import com.studentmanagement.dto.UserEvent;
+import com.studentmanagement.entity.Assignment;
+import com.studentmanagement.entity.AssignmentStatus;
+import com.studentmanagement.entity.Submission;
+import com.studentmanagement.repository.AssignmentRepository;
+import com.studentmanagement.repository.SubmissionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Writes made on another replica, as this one sees them arrive on the bus
+class CacheInvalidationServiceTest {
+    
+    private static final long OTHER_REPLICA = 7;
+    
+    private AssignmentRepository assignmentRepository;
+    private SubmissionRepository submissionRepository;
+    private UserEventService userEventService;
+    private StatisticsService statisticsService;
+    private CacheInvalidationService service;
+    private long sequence;
+    
+    @BeforeEach
+    void setUp() {
+        assignmentRepository = mock(AssignmentRepository.class);
+        submissionRepository = mock(SubmissionRepository.class);
+        userEventService = mock(UserEventService.class);
+        statisticsService = mock(StatisticsService.class);
+        service = new CacheInvalidationService();
+        service.assignmentRepository = assignmentRepository;
+        service.submissionRepository = submissionRepository;
+        service.userEventService = userEventService;
+        service.statisticsService = statisticsService;
+        service.assignmentCatalogService = mock(AssignmentCatalogService.class);
+        service.assignmentAvailabilityService = mock(AssignmentAvailabilityService.class);
+        service.gradeAnalyticsService = mock(GradeAnalyticsService.class);
+        service.leaderboardService = mock(LeaderboardService.class);
+        service.dueAssignmentService = mock(DueAssignmentService.class);
+    }
+    
+    @Test
+    void gradeOnAnotherReplicaReachesTheStudentsStreamsHere() {
+        Submission submission = new Submission(3L, 9L, "Student", null);
+        submission.setId(5L);
+        when(submissionRepository.findById(5L)).thenReturn(Optional.of(submission));
+        
+        service.apply(invalidation(CacheInvalidation.Type.SUBMISSION, CacheInvalidation.Action.GRADED, 5L));
+        
+        verify(userEventService).publishToUser(eq(9L), argThat(event ->
+                UserEvent.SUBMISSION_GRADED.equals(event.getType()) && event.getEntityId().equals(5L)));
+    }
+    
+    @Test
+    void assignmentWrittenOnAnotherReplicaIsAnnouncedToItsCourseHere() {
+        when(assignmentRepository.findById(4L)).thenReturn(Optional.of(assignment(4L, 2L)));
+        
+        service.apply(invalidation(CacheInvalidation.Type.ASSIGNMENT, CacheInvalidation.Action.CREATED, 4L));
+        service.apply(invalidation(CacheInvalidation.Type.ASSIGNMENT, CacheInvalidation.Action.UPDATED, 4L));
+        
+        verify(userEventService).publishToCourse(eq(2L), argThat(event ->
+                UserEvent.ASSIGNMENT_CREATED.equals(event.getType()) && event.getEntityId().equals(4L)));
+        verify(userEventService).publishToCourse(eq(2L), argThat(event ->
+                UserEvent.ASSIGNMENT_UPDATED.equals(event.getType()) && event.getEntityId().equals(4L)));
+    }
+    
+    @Test
+    void newSubmissionIsNotAnnounced() {
+        when(submissionRepository.findById(5L)).thenReturn(Optional.of(new Submission(3L, 9L, "Student", null)));
+        
+        service.apply(invalidation(CacheInvalidation.Type.SUBMISSION, CacheInvalidation.Action.CREATED, 5L));
+        
+        verify(userEventService, never()).publishToUser(any(), any());
+        verify(statisticsService).reconcileSoon();
+    }
+    
+    private CacheInvalidation invalidation(CacheInvalidation.Type type, CacheInvalidation.Action action, Long id) {
+        return new CacheInvalidation(type, action, id, OTHER_REPLICA, ++sequence, System.currentTimeMillis());
+    }
+    
+    private static Assignment assignment(Long id, Long courseId) {
+        Assignment assignment = new Assignment();
+        assignment.setId(id);
+        assignment.setCourseId(courseId);
+        assignment.setStatus(AssignmentStatus.ACTIVE);
+        return assignment;
+    }
+}
@@ -0,0 +1,137 @@
+package com.studentmanagement.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CourseRankingTest {
+    
+    @Test
+    void topIsOrderedByTotalThenStudentId() {
+        CourseRanking ranking = new CourseRanking();
+        ranking.addScore(3L, 50);
+        ranking.addScore(1L, 80);
+        ranking.addScore(2L, 50);
+        ranking.addScore(4L, 10);
+        
+        List<CourseRanking.Standing> top = ranking.top(3);
+        assertEquals(List.of(1L, 2L, 3L), top.stream().map(CourseRanking.Standing::getStudentId).toList());
+        assertEquals(List.of(80, 50, 50), top.stream().map(CourseRanking.Standing::getTotal).toList());
+        assertEquals(4, ranking.top(10).size());
+    }
+    
+    @Test
+    void tiedTotalsShareTheRankOfTheFirstStudent() {
+        CourseRanking ranking = new CourseRanking();
+        ranking.addScore(1L, 80);
+        ranking.addScore(2L, 50);
+        ranking.addScore(3L, 50);
+        ranking.addScore(4L, 10);
+        
+        assertEquals(1, ranking.standingOf(1L).getRank());
+        assertEquals(2, ranking.standingOf(2L).getRank());
+        assertEquals(2, ranking.standingOf(3L).getRank());
+        assertEquals(4, ranking.standingOf(4L).getRank());
+        assertNull(ranking.standingOf(5L));
+    }
+    
+    @Test
+    void regradeMovesTheStudentInBothIndexes() {
+        CourseRanking ranking = new CourseRanking();
+        ranking.addScore(1L, 80);
+        ranking.addScore(2L, 50);
+        ranking.addScore(2L, 40);
+        
+        assertEquals(90, ranking.standingOf(2L).getTotal());
+        assertEquals(1, ranking.standingOf(2L).getRank());
+        assertEquals(2, ranking.standingOf(1L).getRank());
+        assertEquals(2L, ranking.top(1).get(0).getStudentId());
+        assertEquals(2, ranking.size());
+    }
+    
+    @Test
+    void totalsNeverGoBelowZero() {
+        CourseRanking ranking = new CourseRanking();
+        ranking.addScore(1L, 20);
+        ranking.addScore(1L, -50);
+        ranking.addScore(2L, 0);
+        
+        assertEquals(0, ranking.standingOf(1L).getTotal());
+        assertEquals(1, ranking.standingOf(1L).getRank());
+        assertEquals(1, ranking.standingOf(2L).getRank());
+    }
+    
+    @Test
+    void totalsBeyondTheInitialTreeGrowIt() {
+        CourseRanking ranking = new CourseRanking();
+        ranking.addScore(1L, 500);
+        ranking.addScore(2L, 1024);
+        ranking.addScore(3L, 5000);
+        ranking.addScore(4L, 1023);
+        
+        assertEquals(1, ranking.standingOf(3L).getRank());
+        assertEquals(2, ranking.standingOf(2L).getRank());
+        assertEquals(3, ranking.standingOf(4L).getRank());
+        assertEquals(4, ranking.standingOf(1L).getRank());
+    }
+    
+    @Test
+    void ranksMatchAFullSortAfterRandomUpdates() {
+        CourseRanking ranking = new CourseRanking();
+        int[] totals = new int[200];
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            int student = random.nextInt(totals.length);
+            int delta = random.nextInt(60) - 20;
+            ranking.addScore((long) student, delta);
+            totals[student] = Math.max(0, totals[student] + delta);
+        }
+        
+        for (int student = 0; student < totals.length; student++) {
+            if (ranking.standingOf((long) student) == null) {
+                continue;
+            }
+            assertEquals(totals[student], ranking.standingOf((long) student).getTotal());
+            assertEquals(1 + countAhead(ranking, totals[student]), ranking.standingOf((long) student).getRank());
+        }
+        List<CourseRanking.Standing> top = ranking.top(ranking.size());
+        for (int i = 1; i < top.size(); i++) {
+            assertTrue(top.get(i - 1).getTotal() >= top.get(i).getTotal());
+        }
+    }
+    
+    @Test
+    void concurrentGradingKeepsTheIndexesConsistent() throws InterruptedException {
+        CourseRanking ranking = new CourseRanking();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            long student = thread;
+            pool.execute(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    ranking.addScore(student, 1 + (int) student);
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+        
+        assertEquals(8, ranking.size());
+        assertEquals(8, ranking.top(100).size());
+        for (long student = 0; student < 8; student++) {
+            assertEquals(1000 * (1 + (int) student), ranking.standingOf(student).getTotal());
+            assertEquals(8 - student, ranking.standingOf(student).getRank());
+        }
+    }
+    
+    private static long countAhead(CourseRanking ranking, int total) {
+        return ranking.top(ranking.size()).stream().filter(standing -> standing.getTotal() > total).count();
+    }
+}
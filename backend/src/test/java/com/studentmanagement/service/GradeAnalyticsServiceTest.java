@@ -0,0 +1,130 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.dto.GradeDistribution;
+import com.studentmanagement.repository.SubmissionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GradeAnalyticsServiceTest {
+    
+    private SubmissionRepository submissionRepository;
+    private GradeAnalyticsService service;
+    private final List<Runnable> queued = new ArrayList<>();
+    
+    @BeforeEach
+    void setUp() {
+        submissionRepository = mock(SubmissionRepository.class);
+        AssignmentCatalogService catalog = mock(AssignmentCatalogService.class);
+        when(catalog.get(1L)).thenReturn(new AssignmentCatalogService.Entry(1L, 10L, 100));
+        when(catalog.get(2L)).thenReturn(new AssignmentCatalogService.Entry(2L, 10L, 100));
+        service = new GradeAnalyticsService();
+        service.submissionRepository = submissionRepository;
+        service.assignmentCatalogService = catalog;
+        service.transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        service.analyticsExecutor = queued::add;
+    }
+    
+    @Test
+    void gradesReportedDuringRebuildAreReplayedOntoTheNewHistograms() {
+        // Assignment 1 already has one 50 in the database when the rebuild reads it. While the
+        // read runs, that grade is changed to 90 and a first grade of 70 comes in.
+        when(submissionRepository.countGroupedByAssignmentAndScore()).thenAnswer(invocation -> {
+            service.scoreChanged(11L, 2L, 1L, 50, 90);
+            service.scoreChanged(12L, 1L, 1L, null, 70);
+            return rows(new Object[] {1L, 50, 1L});
+        });
+        when(submissionRepository.findVersionsByIdIn(anyCollection()))
+                .thenReturn(rows(new Object[] {11L, 1L}, new Object[] {12L, 0L}));
+        
+        service.rebuild();
+        
+        GradeDistribution distribution = service.getAssignmentDistribution(1L);
+        assertEquals(2, distribution.getCount());
+        assertEquals(70, distribution.getMin());
+        assertEquals(90, distribution.getMax());
+    }
+    
+    @Test
+    void gradeTheReadAlreadySawIsNotReplayed() {
+        // Saved before the read, reported after recording began
+        when(submissionRepository.countGroupedByAssignmentAndScore()).thenAnswer(invocation -> {
+            service.scoreChanged(11L, 2L, 1L, 50, 90);
+            service.scoreChanged(12L, 1L, 1L, null, 70);
+            return rows(new Object[] {1L, 90, 1L}, new Object[] {1L, 70, 1L});
+        });
+        when(submissionRepository.findVersionsByIdIn(anyCollection()))
+                .thenReturn(rows(new Object[] {11L, 2L}, new Object[] {12L, 1L}));
+        
+        service.rebuild();
+        
+        GradeDistribution distribution = service.getAssignmentDistribution(1L);
+        assertEquals(2, distribution.getCount());
+        assertEquals(70, distribution.getMin());
+        assertEquals(90, distribution.getMax());
+        assertEquals(List.of(0L, 0L, 0L, 0L, 0L, 0L, 0L, 1L, 0L, 1L), distribution.getHistogram());
+    }
+    
+    @Test
+    void deleteDuringRebuildIsNotUndoneBySwap() {
+        service.scoreChanged(21L, 1L, 2L, null, 40);
+        when(submissionRepository.countGroupedByAssignmentAndScore()).thenAnswer(invocation -> {
+            service.assignmentDeleted(2L);
+            return rows(new Object[] {2L, 40, 1L});
+        });
+        
+        service.rebuild();
+        
+        assertEquals(0, service.getAssignmentDistribution(2L).getCount());
+    }
+    
+    @Test
+    void failedRebuildKeepsTheLiveHistograms() {
+        service.scoreChanged(11L, 1L, 1L, null, 60);
+        when(submissionRepository.countGroupedByAssignmentAndScore()).thenAnswer(invocation -> {
+            service.scoreChanged(12L, 1L, 1L, null, 80);
+            throw new IllegalStateException("database unavailable");
+        });
+        
+        service.rebuild();
+        service.scoreChanged(13L, 1L, 1L, null, 100);
+        
+        assertEquals(3, service.getAssignmentDistribution(1L).getCount());
+    }
+    
+    @Test
+    void gradesOnAnotherReplicaReloadOnlyTheirAssignmentOnce() {
+        service.scoreChanged(11L, 1L, 1L, null, 60);
+        service.scoreChanged(21L, 1L, 2L, null, 40);
+        when(submissionRepository.countGroupedByAssignmentAndScoreIn(Set.of(2L)))
+                .thenReturn(rows(new Object[] {2L, 40, 1L}, new Object[] {2L, 80, 1L}));
+        
+        service.scoreChangedElsewhere(2L);
+        service.scoreChangedElsewhere(2L);
+        assertEquals(1, queued.size());
+        assertEquals(1, service.getAssignmentDistribution(2L).getCount());
+        
+        queued.remove(0).run();
+        
+        assertEquals(2, service.getAssignmentDistribution(2L).getCount());
+        assertEquals(80, service.getAssignmentDistribution(2L).getMax());
+        assertEquals(1, service.getAssignmentDistribution(1L).getCount());
+        verify(submissionRepository, never()).countGroupedByAssignmentAndScore();
+    }
+    
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
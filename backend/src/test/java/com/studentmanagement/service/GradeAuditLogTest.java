@@ -0,0 +1,204 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.dto.GradeAuditRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GradeAuditLogTest {
+    
+    @TempDir
+    Path directory;
+    
+    private final List<GradeAuditJournal> journals = new ArrayList<>();
+    
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        for (GradeAuditJournal journal : journals) {
+            journal.stop();
+        }
+    }
+    
+    @Test
+    void scanStopsAtACorruptRecordAndReportsATornTail() {
+        ByteBuffer segment = segmentOf(record(1), record(2), record(3));
+        int thirdStart = GradeAuditLog.HEADER_BYTES + 2 * frameLength(record(1));
+        segment.put(thirdStart + 20, (byte) (segment.get(thirdStart + 20) ^ 0x1));
+        
+        List<Long> seen = new ArrayList<>();
+        GradeAuditLog.ScanResult result = GradeAuditLog.scan(segment, 1, Long.MAX_VALUE, r -> seen.add(r.getSequence()));
+        
+        assertEquals(List.of(1L, 2L), seen);
+        assertTrue(result.isTorn());
+        assertEquals(2, result.getLastSequence());
+        assertEquals(thirdStart, result.getEndPosition());
+    }
+    
+    @Test
+    void scanTreatsASequenceGapOrOverlongLengthAsTorn() {
+        GradeAuditLog.ScanResult gap = GradeAuditLog.scan(segmentOf(record(1), record(3)), 1, Long.MAX_VALUE, null);
+        assertTrue(gap.isTorn());
+        assertEquals(1, gap.getLastSequence());
+        
+        ByteBuffer segment = segmentOf(record(1));
+        int end = GradeAuditLog.HEADER_BYTES + frameLength(record(1));
+        segment.putInt(end, segment.capacity());
+        GradeAuditLog.ScanResult overlong = GradeAuditLog.scan(segment, 1, Long.MAX_VALUE, null);
+        assertTrue(overlong.isTorn());
+        assertEquals(end, overlong.getEndPosition());
+    }
+    
+    @Test
+    void cleanEndIsNotTornAndRespectsTheUpperBound() {
+        ByteBuffer segment = segmentOf(record(5), record(6), record(7));
+        GradeAuditLog.ScanResult result = GradeAuditLog.scan(segment, 5, Long.MAX_VALUE, null);
+        assertFalse(result.isTorn());
+        assertEquals(7, result.getLastSequence());
+        
+        List<Long> seen = new ArrayList<>();
+        GradeAuditLog.scan(segment, 5, 6, r -> seen.add(r.getSequence()));
+        assertEquals(List.of(5L, 6L), seen);
+    }
+    
+    @Test
+    void journalRecoversFromATornTailAndContinuesTheSequence() throws Exception {
+        GradeAuditJournal journal = start(1 << 16);
+        for (int i = 0; i < 3; i++) {
+            journal.append(new GradeAuditRecord(10L + i, 1L, 2L, 3L, null, 70 + i, null, "feedback " + i));
+        }
+        awaitDurable(journal, 3);
+        journal.stop();
+        journals.remove(journal);
+        
+        // A crash mid-write: a length prefix and half a body, with no CRC
+        Path segment = GradeAuditLog.listSegments(directory).get(0);
+        int end = GradeAuditLog.HEADER_BYTES;
+        for (int i = 0; i < 3; i++) {
+            end += frameLength(new GradeAuditRecord(10L + i, 1L, 2L, 3L, null, 70 + i, null, "feedback " + i));
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            ByteBuffer torn = ByteBuffer.allocate(24);
+            torn.putInt(200).putLong(4).putLong(0x5A5A5A5A5A5A5A5AL).putInt(0x5A5A5A5A).flip();
+            channel.write(torn, end);
+        }
+        
+        GradeAuditJournal recovered = start(1 << 16);
+        assertEquals(3L, recovered.getStatus().get("durableSequence"));
+        recovered.append(new GradeAuditRecord(99L, 1L, 2L, 3L, 70, 80, "feedback 0", "regraded"));
+        awaitDurable(recovered, 4);
+        
+        List<GradeAuditRecord> records = recovered.query(1, r -> true, 100);
+        assertEquals(List.of(1L, 2L, 3L, 4L), records.stream().map(GradeAuditRecord::getSequence).toList());
+        assertEquals(99L, records.get(3).getSubmissionId());
+        assertEquals("regraded", records.get(3).getNewFeedback());
+    }
+    
+    @Test
+    void recordsSpanSegmentsAndReadsStartMidLog() throws Exception {
+        int frame = frameLength(new GradeAuditRecord(1L, 1L, 2L, 3L, null, 50, null, null));
+        GradeAuditJournal journal = start(GradeAuditLog.HEADER_BYTES + 4 * frame);
+        for (int i = 0; i < 10; i++) {
+            journal.append(new GradeAuditRecord((long) i, 1L, 2L, 3L, null, 50, null, null));
+        }
+        awaitDurable(journal, 10);
+        
+        assertTrue(GradeAuditLog.listSegments(directory).size() >= 3);
+        List<GradeAuditRecord> records = journal.query(6, r -> true, 100);
+        assertEquals(List.of(6L, 7L, 8L, 9L, 10L), records.stream().map(GradeAuditRecord::getSequence).toList());
+        assertEquals(List.of(5L), journal.query(1, r -> r.getSubmissionId() == 4L, 100).stream()
+                .map(GradeAuditRecord::getSequence).toList());
+    }
+    
+    @Test
+    void failedWriteCountsTheRecordAsDroppedAndReusesItsSequence() throws Exception {
+        int frame = frameLength(new GradeAuditRecord(1L, 1L, 2L, 3L, null, 50, null, null));
+        GradeAuditJournal journal = start(GradeAuditLog.HEADER_BYTES + 2 * frame);
+        journal.append(new GradeAuditRecord(1L, 1L, 2L, 3L, null, 50, null, null));
+        journal.append(new GradeAuditRecord(2L, 1L, 2L, 3L, null, 50, null, null));
+        awaitDurable(journal, 2);
+        
+        // The next record needs a new segment, which cannot be created while the directory is gone
+        for (Path segment : GradeAuditLog.listSegments(directory)) {
+            Files.delete(segment);
+        }
+        Files.delete(directory);
+        journal.append(new GradeAuditRecord(3L, 1L, 2L, 3L, null, 50, null, null));
+        long deadline = System.currentTimeMillis() + 10_000;
+        while ((Long) journal.getStatus().get("dropped") < 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(1L, journal.getStatus().get("dropped"));
+        assertEquals(2L, journal.getStatus().get("durableSequence"));
+        
+        Files.createDirectories(directory);
+        journal.append(new GradeAuditRecord(4L, 1L, 2L, 3L, null, 50, null, null));
+        awaitDurable(journal, 3);
+        
+        assertEquals(List.of(directory.resolve(GradeAuditLog.segmentName(3))), GradeAuditLog.listSegments(directory));
+        List<GradeAuditRecord> records = journal.query(1, r -> true, 100);
+        assertEquals(1, records.size());
+        assertEquals(3L, records.get(0).getSequence());
+        assertEquals(4L, records.get(0).getSubmissionId());
+    }
+    
+    private GradeAuditJournal start(int segmentBytes) throws IOException {
+        GradeAuditJournal journal = new GradeAuditJournal();
+        ReflectionTestUtils.setField(journal, "directory", directory.toString());
+        ReflectionTestUtils.setField(journal, "segmentBytes", segmentBytes);
+        ReflectionTestUtils.setField(journal, "ringCapacity", 1024);
+        ReflectionTestUtils.setField(journal, "maxBatch", 64);
+        ReflectionTestUtils.setField(journal, "flushIntervalMs", 1L);
+        ReflectionTestUtils.setField(journal, "maxWaitMs", 1000L);
+        journal.start();
+        journals.add(journal);
+        return journal;
+    }
+    
+    private static void awaitDurable(GradeAuditJournal journal, long sequence) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while ((Long) journal.getStatus().get("durableSequence") < sequence) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Journal did not reach sequence " + sequence + ": " + journal.getStatus());
+            }
+            Thread.sleep(5);
+        }
+    }
+    
+    private static GradeAuditRecord record(long sequence) {
+        GradeAuditRecord record = new GradeAuditRecord(sequence, 1L, 2L, 3L, 40, 60, "before", "after");
+        record.setSequence(sequence);
+        return record;
+    }
+    
+    private static int frameLength(GradeAuditRecord record) {
+        return GradeAuditLog.FRAME_BYTES + GradeAuditLog.encode(record).length;
+    }
+    
+    private static ByteBuffer segmentOf(GradeAuditRecord... records) {
+        ByteBuffer segment = ByteBuffer.allocate(4096);
+        segment.putInt(0, GradeAuditLog.MAGIC);
+        int position = GradeAuditLog.HEADER_BYTES;
+        for (GradeAuditRecord record : records) {
+            byte[] body = GradeAuditLog.encode(record);
+            segment.putInt(position, body.length);
+            segment.put(position + 4, body);
+            segment.putInt(position + 4 + body.length, GradeAuditLog.crc(body));
+            position += GradeAuditLog.FRAME_BYTES + body.length;
+        }
+        return segment;
+    }
+}
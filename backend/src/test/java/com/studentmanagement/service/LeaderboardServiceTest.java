@@ -0,0 +1,128 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.repository.SubmissionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LeaderboardServiceTest {
+    
+    private SubmissionRepository submissionRepository;
+    private LeaderboardService service;
+    private final List<Runnable> queued = new ArrayList<>();
+    
+    @BeforeEach
+    void setUp() {
+        submissionRepository = mock(SubmissionRepository.class);
+        AssignmentCatalogService catalog = mock(AssignmentCatalogService.class);
+        when(catalog.get(1L)).thenReturn(new AssignmentCatalogService.Entry(1L, 10L, 100));
+        when(catalog.get(2L)).thenReturn(new AssignmentCatalogService.Entry(2L, 20L, 100));
+        service = new LeaderboardService();
+        service.submissionRepository = submissionRepository;
+        service.assignmentCatalogService = catalog;
+        service.transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        service.leaderboardExecutor = queued::add;
+    }
+    
+    @Test
+    void gradesReportedDuringRebuildAreReplayedOntoTheNewRankings() {
+        when(submissionRepository.sumScoresGroupedByCourseAndStudent()).thenAnswer(invocation -> {
+            service.scoreChanged(11L, 2L, 1L, 100L, 40, 70);
+            service.scoreChanged(12L, 1L, 1L, 200L, null, 90);
+            return rows(new Object[] {10L, 100L, 40L});
+        });
+        when(submissionRepository.findVersionsByIdIn(anyCollection()))
+                .thenReturn(rows(new Object[] {11L, 1L}, new Object[] {12L, 0L}));
+        
+        service.rebuild();
+        
+        assertEquals(70, service.getRank(10L, 100L).getTotalScore());
+        assertEquals(2, service.getRank(10L, 100L).getRank());
+        assertEquals(90, service.getRank(10L, 200L).getTotalScore());
+        assertEquals(1, service.getRank(10L, 200L).getRank());
+    }
+    
+    @Test
+    void gradeTheReadAlreadySawIsNotReplayed() {
+        // Saved before the read, reported after recording began
+        when(submissionRepository.sumScoresGroupedByCourseAndStudent()).thenAnswer(invocation -> {
+            service.scoreChanged(11L, 2L, 1L, 100L, 40, 70);
+            return rows(new Object[] {10L, 100L, 70L});
+        });
+        when(submissionRepository.findVersionsByIdIn(anyCollection())).thenReturn(rows(new Object[] {11L, 2L}));
+        
+        service.rebuild();
+        
+        assertEquals(70, service.getRank(10L, 100L).getTotalScore());
+    }
+    
+    @Test
+    void gradesOnAnotherReplicaReloadOnlyTheirCourseOnce() {
+        service.scoreChanged(11L, 1L, 1L, 100L, null, 60);
+        service.scoreChanged(21L, 1L, 2L, 100L, null, 40);
+        when(submissionRepository.sumScoresGroupedByCourseAndStudentIn(Set.of(20L)))
+                .thenReturn(rows(new Object[] {20L, 100L, 40L}, new Object[] {20L, 200L, 85L}));
+        
+        service.scoreChangedElsewhere(2L);
+        service.scoreChangedElsewhere(2L);
+        assertEquals(1, queued.size());
+        assertNull(service.getRank(20L, 200L));
+        
+        queued.remove(0).run();
+        
+        assertEquals(85, service.getRank(20L, 200L).getTotalScore());
+        assertEquals(1, service.getRank(20L, 200L).getRank());
+        assertEquals(60, service.getRank(10L, 100L).getTotalScore());
+        verify(submissionRepository, never()).sumScoresGroupedByCourseAndStudent();
+    }
+    
+    @Test
+    void assignmentDeleteRebuildsInTheBackgroundOnce() {
+        service.scoreChanged(11L, 1L, 1L, 100L, null, 60);
+        when(submissionRepository.sumScoresGroupedByCourseAndStudent()).thenReturn(rows());
+        
+        service.assignmentDeleted(1L);
+        service.assignmentDeleted(2L);
+        
+        verify(submissionRepository, never()).sumScoresGroupedByCourseAndStudent();
+        assertEquals(60, service.getRank(10L, 100L).getTotalScore());
+        assertEquals(1, queued.size());
+        
+        queued.remove(0).run();
+        assertNull(service.getRank(10L, 100L));
+        
+        service.assignmentDeleted(3L);
+        assertEquals(1, queued.size());
+    }
+    
+    @Test
+    void failedRebuildKeepsTheLiveRankings() {
+        service.scoreChanged(11L, 1L, 1L, 100L, null, 60);
+        when(submissionRepository.sumScoresGroupedByCourseAndStudent()).thenAnswer(invocation -> {
+            service.scoreChanged(11L, 2L, 1L, 100L, 60, 75);
+            throw new IllegalStateException("database unavailable");
+        });
+        
+        service.rebuild();
+        service.scoreChanged(11L, 3L, 1L, 100L, 75, 80);
+        
+        assertEquals(80, service.getRank(10L, 100L).getTotalScore());
+    }
+    
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
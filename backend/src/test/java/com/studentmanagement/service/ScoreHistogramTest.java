@@ -0,0 +1,102 @@
+package com.studentmanagement.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScoreHistogramTest {
+    
+    @Test
+    void snapshotIsSortedAndCountsRepeats() {
+        ScoreHistogram histogram = new ScoreHistogram();
+        histogram.add(70);
+        histogram.add(50);
+        histogram.add(70);
+        histogram.add(90, 3);
+        
+        assertEquals(Map.of(50, 1L, 70, 2L, 90, 3L), histogram.snapshot());
+        assertEquals(50, histogram.snapshot().firstKey());
+        assertEquals(90, histogram.snapshot().lastKey());
+    }
+    
+    @Test
+    void removeTakesOneCountAndEmptyScoresDisappear() {
+        ScoreHistogram histogram = new ScoreHistogram();
+        histogram.add(80, 2);
+        histogram.remove(80);
+        assertEquals(Map.of(80, 1L), histogram.snapshot());
+        
+        histogram.remove(80);
+        assertTrue(histogram.snapshot().isEmpty());
+    }
+    
+    @Test
+    void removeNeverTakesAScoreBelowZero() {
+        ScoreHistogram histogram = new ScoreHistogram();
+        histogram.add(50);
+        histogram.remove(50);
+        histogram.remove(50);
+        histogram.add(50);
+        
+        assertEquals(Map.of(50, 1L), histogram.snapshot());
+    }
+    
+    @Test
+    void removingAnUnknownScoreIsIgnored() {
+        ScoreHistogram histogram = new ScoreHistogram();
+        histogram.add(10);
+        histogram.remove(99);
+        assertEquals(Map.of(10, 1L), histogram.snapshot());
+    }
+    
+    @Test
+    void mergeScaledRescalesToTheTargetScale() {
+        ScoreHistogram outOfFifty = new ScoreHistogram();
+        outOfFifty.add(25, 2);
+        outOfFifty.add(50);
+        ScoreHistogram outOfTen = new ScoreHistogram();
+        outOfTen.add(7);
+        
+        ScoreHistogram merged = new ScoreHistogram();
+        merged.mergeScaled(outOfFifty, 50, 100);
+        merged.mergeScaled(outOfTen, 10, 100);
+        
+        TreeMap<Integer, Long> expected = new TreeMap<>(Map.of(50, 2L, 70, 1L, 100, 1L));
+        assertEquals(expected, merged.snapshot());
+    }
+    
+    @Test
+    void mergeScaledWithoutMaximumPutsEverythingAtZero() {
+        ScoreHistogram other = new ScoreHistogram();
+        other.add(5, 4);
+        ScoreHistogram merged = new ScoreHistogram();
+        merged.mergeScaled(other, 0, 100);
+        assertEquals(Map.of(0, 4L), merged.snapshot());
+    }
+    
+    @Test
+    void concurrentRegradesKeepExactCounts() throws InterruptedException {
+        ScoreHistogram histogram = new ScoreHistogram();
+        histogram.add(60, 8 * 1000);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            pool.execute(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    histogram.remove(60);
+                    histogram.add(75);
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+        
+        assertEquals(Map.of(75, 8000L), histogram.snapshot());
+    }
+}
@@ -0,0 +1,136 @@
+package com.studentmanagement.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TranscriptCalculatorTest {
+    
+    @Test
+    void gradeBandsIncludeTheirLowerBoundary() {
+        assertEquals(4.0, TranscriptCalculator.gradePoints(100));
+        assertEquals(4.0, TranscriptCalculator.gradePoints(90));
+        assertEquals(3.0, TranscriptCalculator.gradePoints(89.99));
+        assertEquals(3.0, TranscriptCalculator.gradePoints(80));
+        assertEquals(2.0, TranscriptCalculator.gradePoints(79.99));
+        assertEquals(2.0, TranscriptCalculator.gradePoints(70));
+        assertEquals(1.0, TranscriptCalculator.gradePoints(69.99));
+        assertEquals(1.0, TranscriptCalculator.gradePoints(60));
+        assertEquals(0.0, TranscriptCalculator.gradePoints(59.99));
+        assertEquals(0.0, TranscriptCalculator.gradePoints(0));
+    }
+    
+    @Test
+    void earnedPointsAcrossAssignmentsAreSummedAndRounded() {
+        TranscriptCalculator.SemesterData data = new TranscriptCalculator.SemesterData();
+        data.addEnrollment(1L, 10L);
+        data.setPossiblePoints(10L, 300);
+        data.addEarnedPoints(1L, 10L, 200);
+        data.addEarnedPoints(1L, 10L, 69);
+        data.addEnrollment(2L, 10L);
+        data.addEarnedPoints(2L, 10L, 200);
+        
+        TranscriptCalculator.CourseResult top = TranscriptCalculator.computeStudent(data, 1L).getCourses().get(0);
+        assertEquals(269, top.getEarnedPoints());
+        assertEquals(89.67, top.getPercentage());
+        assertEquals(3.0, top.getGradePoints());
+        
+        TranscriptCalculator.CourseResult other = TranscriptCalculator.computeStudent(data, 2L).getCourses().get(0);
+        assertEquals(66.67, other.getPercentage());
+        assertEquals(1.0, other.getGradePoints());
+    }
+    
+    @Test
+    void courseWithoutMaxPointsIsLeftOutOfTheGpa() {
+        TranscriptCalculator.SemesterData data = new TranscriptCalculator.SemesterData();
+        data.addEnrollment(1L, 10L);
+        data.addEnrollment(1L, 20L);
+        data.setPossiblePoints(10L, 100);
+        data.addEarnedPoints(1L, 10L, 85);
+        
+        TranscriptCalculator.StudentResult result = TranscriptCalculator.computeStudent(data, 1L);
+        
+        TranscriptCalculator.CourseResult noAssignments = result.getCourses().get(1);
+        assertEquals(20L, noAssignments.getCourseId());
+        assertEquals(0, noAssignments.getPossiblePoints());
+        assertNull(noAssignments.getPercentage());
+        assertNull(noAssignments.getGradePoints());
+        assertEquals(3.0, result.getSemesterGpa());
+        assertEquals(3.0, result.getCumulativeGpa());
+    }
+    
+    @Test
+    void onlyCoursesWithoutMaxPointsLeaveTheSemesterGpaEmpty() {
+        TranscriptCalculator.SemesterData data = new TranscriptCalculator.SemesterData();
+        data.addEnrollment(1L, 10L);
+        data.addEnrollment(2L, 10L);
+        data.setPriorGradePoints(2L, 7.0, 2);
+        
+        TranscriptCalculator.StudentResult withoutHistory = TranscriptCalculator.computeStudent(data, 1L);
+        assertNull(withoutHistory.getSemesterGpa());
+        assertNull(withoutHistory.getCumulativeGpa());
+        
+        TranscriptCalculator.StudentResult withHistory = TranscriptCalculator.computeStudent(data, 2L);
+        assertNull(withHistory.getSemesterGpa());
+        assertEquals(3.5, withHistory.getCumulativeGpa());
+    }
+    
+    // Ungraded submissions are not summed, so a course with nothing graded yet counts as zero points
+    @Test
+    void courseWithNothingGradedCountsAsZero() {
+        TranscriptCalculator.SemesterData data = new TranscriptCalculator.SemesterData();
+        data.addEnrollment(1L, 10L);
+        data.addEnrollment(1L, 20L);
+        data.setPossiblePoints(10L, 100);
+        data.setPossiblePoints(20L, 50);
+        data.addEarnedPoints(1L, 10L, 95);
+        
+        TranscriptCalculator.StudentResult result = TranscriptCalculator.computeStudent(data, 1L);
+        
+        TranscriptCalculator.CourseResult ungraded = result.getCourses().get(1);
+        assertEquals(0, ungraded.getEarnedPoints());
+        assertEquals(0.0, ungraded.getPercentage());
+        assertEquals(0.0, ungraded.getGradePoints());
+        assertEquals(2.0, result.getSemesterGpa());
+    }
+    
+    @Test
+    void cumulativeGpaWeighsPriorCoursesWithThisSemester() {
+        TranscriptCalculator.SemesterData data = new TranscriptCalculator.SemesterData();
+        data.addEnrollment(1L, 10L);
+        data.setPossiblePoints(10L, 100);
+        data.addEarnedPoints(1L, 10L, 72);
+        data.setPriorGradePoints(1L, 11.0, 3);
+        
+        TranscriptCalculator.StudentResult result = TranscriptCalculator.computeStudent(data, 1L);
+        
+        assertEquals(2.0, result.getSemesterGpa());
+        assertEquals(3.25, result.getCumulativeGpa());
+    }
+    
+    @Test
+    void everyEnrolledStudentIsComputedOnThePool() {
+        TranscriptCalculator.SemesterData data = new TranscriptCalculator.SemesterData();
+        data.setPossiblePoints(10L, 100);
+        for (long studentId = 1; studentId <= 500; studentId++) {
+            data.addEnrollment(studentId, 10L);
+            data.addEarnedPoints(studentId, 10L, (int) (studentId % 101));
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<TranscriptCalculator.StudentResult> results = TranscriptCalculator.compute(data, pool);
+            
+            assertEquals(500, results.size());
+            for (TranscriptCalculator.StudentResult result : results) {
+                int earned = (int) (result.getStudentId() % 101);
+                assertEquals(TranscriptCalculator.gradePoints(earned), result.getSemesterGpa());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.studentmanagement.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Times the GPA computation on synthetic cohorts at increasing parallelism. Skipped by the normal
+// build; run it with
+//   mvn test -Dtest=TranscriptComputeBenchmark -Dtranscripts.benchmark=true [-Dtranscripts.students=200000]
+@EnabledIfSystemProperty(named = "transcripts.benchmark", matches = "true")
+class TranscriptComputeBenchmark {
+    
+    private static final int RUNS = 3;
+    
+    @Test
+    void computeScalesWithParallelism() {
+        int students = Integer.getInteger("transcripts.students", 50000);
+        int coursesPerStudent = Integer.getInteger("transcripts.courses", 5);
+        TranscriptCalculator.SemesterData data = syntheticData(students, coursesPerStudent);
+        int processors = Runtime.getRuntime().availableProcessors();
+        
+        System.out.printf("%d students, %d courses each, %d processors%n", students, coursesPerStudent, processors);
+        double singleMs = 0;
+        for (int parallelism = 1; parallelism <= processors; parallelism = next(parallelism, processors)) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                long best = Long.MAX_VALUE;
+                for (int run = 0; run < RUNS; run++) {
+                    long start = System.nanoTime();
+                    assertEquals(students, TranscriptCalculator.compute(data, pool).size());
+                    best = Math.min(best, System.nanoTime() - start);
+                }
+                double ms = best / 1_000_000.0;
+                if (parallelism == 1) {
+                    singleMs = ms;
+                }
+                System.out.printf("parallelism %2d: %8.1f ms, speedup %.2fx%n", parallelism, ms, singleMs / ms);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+    
+    private static int next(int parallelism, int processors) {
+        return parallelism == processors ? processors + 1 : Math.min(parallelism * 2, processors);
+    }
+    
+    private static TranscriptCalculator.SemesterData syntheticData(int students, int coursesPerStudent) {
+        Random random = new Random(42);
+        int courseCount = Math.max(coursesPerStudent, students / 30);
+        TranscriptCalculator.SemesterData data = new TranscriptCalculator.SemesterData();
+        for (long courseId = 1; courseId <= courseCount; courseId++) {
+            data.setPossiblePoints(courseId, 400 + random.nextInt(200));
+        }
+        for (long studentId = 1; studentId <= students; studentId++) {
+            for (int c = 0; c < coursesPerStudent; c++) {
+                long courseId = 1 + random.nextInt(courseCount);
+                data.addEnrollment(studentId, courseId);
+                for (int a = 0; a < 6; a++) {
+                    data.addEarnedPoints(studentId, courseId, random.nextInt(100));
+                }
+            }
+            data.setPriorGradePoints(studentId, random.nextInt(16) + random.nextDouble(), 4);
+        }
+        return data;
+    }
+}
@@ -0,0 +1,150 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.dto.CacheInvalidation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UdpInvalidationBusTest {
+    
+    private static final String HOST = "127.0.0.1";
+    private static final String SECRET = "shared-test-secret";
+    private static final long MAX_AGE_MS = 60000;
+    private static final long ORIGIN = 42;
+    
+    private final BlockingQueue<CacheInvalidation> received = new LinkedBlockingQueue<>();
+    private int receiverPort;
+    private UdpInvalidationBus receiver;
+    private UdpInvalidationBus peer;
+    private DatagramChannel otherPeer;
+    private DatagramChannel stranger;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        otherPeer = bind();
+        stranger = bind();
+        receiverPort = freePort();
+        int peerPort = freePort();
+        receiver = new UdpInvalidationBus(HOST, receiverPort, HOST + ":" + peerPort + "," + HOST + ":"
+                + ((InetSocketAddress) otherPeer.getLocalAddress()).getPort(), SECRET, MAX_AGE_MS);
+        receiver.subscribe(received::add);
+        peer = new UdpInvalidationBus(HOST, peerPort, HOST + ":" + receiverPort, SECRET, MAX_AGE_MS);
+    }
+    
+    @AfterEach
+    void tearDown() throws IOException {
+        receiver.close();
+        peer.close();
+        otherPeer.close();
+        stranger.close();
+    }
+    
+    @Test
+    void signedMessageFromPeerIsApplied() throws Exception {
+        peer.publish(invalidation(1, System.currentTimeMillis()));
+        
+        CacheInvalidation invalidation = next();
+        assertNotNull(invalidation);
+        assertEquals(CacheInvalidation.Type.SUBMISSION, invalidation.getType());
+        assertEquals(CacheInvalidation.Action.CREATED, invalidation.getAction());
+        assertEquals(7L, invalidation.getId());
+        assertEquals(ORIGIN, invalidation.getOrigin());
+        assertEquals(1, invalidation.getSequence());
+        assertEquals(0, receiver.getRejected());
+    }
+    
+    @Test
+    void signedMessageFromAnUnlistedSenderIsDropped() throws Exception {
+        send(stranger, peer.encode(invalidation(1, System.currentTimeMillis())));
+        
+        assertApplied(2);
+        assertEquals(1, receiver.getRejected());
+    }
+    
+    @Test
+    void messageSignedWithAnotherSecretOrAlteredIsDropped() throws Exception {
+        UdpInvalidationBus forger = new UdpInvalidationBus(HOST, freePort(), "", "another-secret", MAX_AGE_MS);
+        try {
+            send(otherPeer, forger.encode(invalidation(1, System.currentTimeMillis())));
+        } finally {
+            forger.close();
+        }
+        ByteBuffer altered = peer.encode(invalidation(2, System.currentTimeMillis()));
+        // Points the invalidation at another id
+        altered.put(11, (byte) (altered.get(11) ^ 1));
+        send(otherPeer, altered);
+        
+        assertApplied(3);
+        assertEquals(2, receiver.getRejected());
+    }
+    
+    @Test
+    void replayedOrStaleMessageIsDroppedButReorderingIsNot() throws Exception {
+        long now = System.currentTimeMillis();
+        ByteBuffer first = peer.encode(invalidation(5, now));
+        send(otherPeer, first.duplicate());
+        assertEquals(5, next().getSequence());
+        
+        // Earlier sequences arriving late are still new
+        send(otherPeer, peer.encode(invalidation(3, now)));
+        assertEquals(3, next().getSequence());
+        
+        send(otherPeer, first.duplicate());
+        send(otherPeer, peer.encode(invalidation(3, now)));
+        send(otherPeer, peer.encode(invalidation(6, now - MAX_AGE_MS - 1000)));
+        
+        assertApplied(7);
+        assertEquals(3, receiver.getRejected());
+    }
+    
+    @Test
+    void udpTransportRequiresASecret() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new UdpInvalidationBus(HOST, freePort(), "", " ", MAX_AGE_MS));
+    }
+    
+    // Datagrams on loopback arrive in order, so once this one is through the earlier ones were handled
+    private void assertApplied(long sequence) throws Exception {
+        peer.publish(invalidation(sequence, System.currentTimeMillis()));
+        CacheInvalidation invalidation = next();
+        assertNotNull(invalidation);
+        assertEquals(sequence, invalidation.getSequence());
+        assertNull(received.poll());
+    }
+    
+    private CacheInvalidation next() throws InterruptedException {
+        return received.poll(5, TimeUnit.SECONDS);
+    }
+    
+    private void send(DatagramChannel from, ByteBuffer message) throws IOException {
+        from.send(message, new InetSocketAddress(HOST, receiverPort));
+    }
+    
+    private static CacheInvalidation invalidation(long sequence, long publishedAt) {
+        return new CacheInvalidation(CacheInvalidation.Type.SUBMISSION, CacheInvalidation.Action.CREATED, 7L,
+                ORIGIN, sequence, publishedAt);
+    }
+    
+    private static DatagramChannel bind() throws IOException {
+        return DatagramChannel.open().bind(new InetSocketAddress(HOST, 0));
+    }
+    
+    private static int freePort() throws IOException {
+        try (DatagramChannel channel = bind()) {
+            return ((InetSocketAddress) channel.getLocalAddress()).getPort();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.studentmanagement.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+// Thin JSON-over-HTTP client; every call made with a Metrics instance is timed and counted
+public class ApiClient {
+    
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    
+    private final HttpClient http;
+    private final String baseUrl;
+    
+    public ApiClient(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+    
+    public static class Response {
+        private final int status;
+        private final String body;
+        private final long bytes;
+        
+        Response(int status, String body, long bytes) {
+            this.status = status;
+            this.body = body;
+            this.bytes = bytes;
+        }
+        
+        public int getStatus() {
+            return status;
+        }
+        
+        public String getBody() {
+            return body;
+        }
+        
+        // Size of the response body on the wire, before decoding
+        public long getBytes() {
+            return bytes;
+        }
+        
+        public boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+        
+        public JsonNode json() throws IOException {
+            return MAPPER.readTree(body);
+        }
+    }
+    
+    public Response get(Metrics metrics, String operation, String path, String token) {
+        return send(metrics, operation, "GET", path, null, token, "application/json");
+    }
+    
+    public Response get(Metrics metrics, String operation, String path, String token, String accept) {
+        return send(metrics, operation, "GET", path, null, token, accept);
+    }
+    
+    public Response post(Metrics metrics, String operation, String path, Object body, String token) {
+        return send(metrics, operation, "POST", path, body, token, "application/json");
+    }
+    
+    public Response put(Metrics metrics, String operation, String path, Object body, String token) {
+        return send(metrics, operation, "PUT", path, body, token, "application/json");
+    }
+    
+    public Response delete(Metrics metrics, String operation, String path, String token) {
+        return send(metrics, operation, "DELETE", path, null, token, "application/json");
+    }
+    
+    private Response send(Metrics metrics, String operation, String method, String path, Object body, String token,
+                          String accept) {
+        long started = System.nanoTime();
+        Response response;
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Accept", accept);
+            if (token != null) {
+                request.header("Authorization", "Bearer " + token);
+            }
+            if (body != null) {
+                request.header("Content-Type", "application/json")
+                        .method(method, HttpRequest.BodyPublishers.ofString(MAPPER.writeValueAsString(body)));
+            } else {
+                request.method(method, HttpRequest.BodyPublishers.noBody());
+            }
+            HttpResponse<byte[]> httpResponse = http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            byte[] bytes = httpResponse.body();
+            response = new Response(httpResponse.statusCode(), new String(bytes, StandardCharsets.UTF_8), bytes.length);
+        } catch (IOException e) {
+            response = new Response(-1, e.getMessage(), 0);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            response = new Response(-1, "interrupted", 0);
+        }
+        if (metrics != null) {
+            metrics.record(operation, System.nanoTime() - started, !response.isSuccess(), response.getBytes());
+        }
+        return response;
+    }
+}
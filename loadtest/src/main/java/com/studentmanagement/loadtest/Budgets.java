@@ -0,0 +1,62 @@
+package com.studentmanagement.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+// Compares a scenario's totals with its configured budgets; a missing key means no limit
+public class Budgets {
+    
+    private final Properties properties;
+    
+    public Budgets(Properties properties) {
+        this.properties = properties;
+    }
+    
+    public List<String> check(String scenario, OperationStats total) {
+        List<String> violations = new ArrayList<>();
+        Double minThroughput = value(scenario, "min-throughput");
+        if (minThroughput != null && total.getThroughput() < minThroughput) {
+            violations.add(String.format("%s: throughput %.1f req/s below %.1f", scenario, total.getThroughput(), minThroughput));
+        }
+        Double maxP95 = value(scenario, "max-p95-ms");
+        if (maxP95 != null && total.getP95Millis() > maxP95) {
+            violations.add(String.format("%s: p95 %.1f ms above %.1f ms", scenario, total.getP95Millis(), maxP95));
+        }
+        Double maxP99 = value(scenario, "max-p99-ms");
+        if (maxP99 != null && total.getP99Millis() > maxP99) {
+            violations.add(String.format("%s: p99 %.1f ms above %.1f ms", scenario, total.getP99Millis(), maxP99));
+        }
+        Double maxErrorRate = value(scenario, "max-error-rate");
+        if (maxErrorRate != null && total.getErrorRate() > maxErrorRate) {
+            violations.add(String.format("%s: error rate %.2f%% above %.2f%%", scenario,
+                    total.getErrorRate() * 100, maxErrorRate * 100));
+        }
+        if (total.getRequests() == 0) {
+            violations.add(scenario + ": no requests completed");
+        }
+        return violations;
+    }
+    
+    // Per-endpoint SQL budgets are enforced by the backend; any endpoint it saw go over one fails the run
+    public List<String> checkQueries(String scenario, JsonNode endpoints) {
+        List<String> violations = new ArrayList<>();
+        for (JsonNode endpoint : endpoints) {
+            if (endpoint.path("violations").asLong() > 0) {
+                violations.add(String.format("%s: %s ran up to %d statements (budget %d) and %d rows (budget %d) in %d of %d requests",
+                        scenario, endpoint.path("endpoint").asText(), endpoint.path("maxStatements").asLong(),
+                        endpoint.path("statementBudget").asLong(), endpoint.path("maxRows").asLong(),
+                        endpoint.path("rowBudget").asLong(), endpoint.path("violations").asLong(),
+                        endpoint.path("requests").asLong()));
+            }
+        }
+        return violations;
+    }
+    
+    private Double value(String scenario, String key) {
+        String value = properties.getProperty(scenario + "." + key);
+        return value != null ? Double.valueOf(value.trim()) : null;
+    }
+}
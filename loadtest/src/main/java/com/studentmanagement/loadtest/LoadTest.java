@@ -0,0 +1,165 @@
+package com.studentmanagement.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.studentmanagement.loadtest.scenario.BulkGradingScenario;
+import com.studentmanagement.loadtest.scenario.CatalogBufferedScenario;
+import com.studentmanagement.loadtest.scenario.CatalogChunkedScenario;
+import com.studentmanagement.loadtest.scenario.DashboardPollingScenario;
+import com.studentmanagement.loadtest.scenario.DeadlineBurstScenario;
+import com.studentmanagement.loadtest.scenario.LoginStormScenario;
+import com.studentmanagement.loadtest.scenario.Scenario;
+import com.studentmanagement.loadtest.scenario.SparseFieldsScenario;
+import com.studentmanagement.loadtest.scenario.SubmissionListsScenario;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+// Runs the selected scenarios one after another against a running backend and exits non-zero
+// when any scenario misses its budget:
+//   mvn -q compile exec:java -Dloadtest.base-url=http://localhost:8081/api -Dloadtest.duration-seconds=60
+public class LoadTest {
+    
+    private static final Map<String, Supplier<Scenario>> SCENARIOS = new LinkedHashMap<>();
+    
+    static {
+        SCENARIOS.put("login-storm", LoginStormScenario::new);
+        SCENARIOS.put("deadline-burst", DeadlineBurstScenario::new);
+        SCENARIOS.put("bulk-grading", BulkGradingScenario::new);
+        SCENARIOS.put("dashboard-polling", DashboardPollingScenario::new);
+        SCENARIOS.put("sparse-fields", SparseFieldsScenario::new);
+        SCENARIOS.put("submission-lists", SubmissionListsScenario::new);
+        SCENARIOS.put("catalog-buffered", CatalogBufferedScenario::new);
+        SCENARIOS.put("catalog-chunked", CatalogChunkedScenario::new);
+    }
+    
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = new LoadTestConfig();
+        ApiClient client = new ApiClient(config.getBaseUrl());
+        Budgets budgets = new Budgets(config.getBudgets());
+        
+        System.out.printf("Preparing %d students against %s%n", config.getStudents(), config.getBaseUrl());
+        TestData data = new TestData(client, config);
+        data.prepare();
+        
+        List<String> violations = new ArrayList<>();
+        Map<String, Object> report = new LinkedHashMap<>();
+        for (String name : config.getScenarios()) {
+            Supplier<Scenario> factory = SCENARIOS.get(name);
+            if (factory == null) {
+                throw new IllegalArgumentException("Unknown scenario " + name + "; known: " + SCENARIOS.keySet());
+            }
+            Scenario scenario = factory.get();
+            scenario.setup(data);
+            if (data.getAdmin() != null) {
+                TestData.expectSuccess(client.delete(null, "setup", "/diagnostics/queries", data.getAdmin().getToken()));
+            }
+            
+            Metrics metrics = new Metrics();
+            RuntimeSampler sampler = data.getAdmin() != null
+                    ? new RuntimeSampler(client, data.getAdmin().getToken(), config.getSampleIntervalMillis()) : null;
+            double seconds;
+            try {
+                seconds = run(scenario, data, metrics, config);
+            } finally {
+                if (sampler != null) {
+                    sampler.close();
+                }
+            }
+            List<OperationStats> operations = metrics.summarize(seconds);
+            OperationStats total = metrics.total("total", seconds);
+            print(scenario.name(), operations, total, seconds);
+            if (sampler != null) {
+                printPeaks(sampler.getPeaks());
+            }
+            violations.addAll(budgets.check(scenario.name(), total));
+            
+            Map<String, Object> scenarioReport = new LinkedHashMap<>();
+            scenarioReport.put("seconds", seconds);
+            scenarioReport.put("total", total);
+            scenarioReport.put("operations", operations);
+            if (sampler != null) {
+                scenarioReport.put("runtimePeaks", sampler.getPeaks());
+            }
+            if (data.getAdmin() != null) {
+                JsonNode queries = TestData.expectSuccess(
+                        client.get(null, "setup", "/diagnostics/queries", data.getAdmin().getToken()));
+                violations.addAll(budgets.checkQueries(scenario.name(), queries));
+                scenarioReport.put("queries", queries);
+            }
+            report.put(scenario.name(), scenarioReport);
+        }
+        
+        if (config.getReportPath() != null) {
+            report.put("violations", violations);
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(new File(config.getReportPath()), report);
+        }
+        
+        if (violations.isEmpty()) {
+            System.out.println("All scenarios within budget");
+            System.exit(0);
+        }
+        System.out.println("Budget violations:");
+        violations.forEach(violation -> System.out.println("  " + violation));
+        System.exit(1);
+    }
+    
+    // Every virtual user gets its own thread and waits on one latch, so the load arrives at once
+    private static double run(Scenario scenario, TestData data, Metrics metrics, LoadTestConfig config) throws Exception {
+        int users = scenario.virtualUsers(data);
+        ExecutorService pool = Executors.newFixedThreadPool(users);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(users);
+        long[] deadline = new long[1];
+        
+        for (int i = 0; i < users; i++) {
+            int user = i;
+            futures.add(pool.submit(() -> {
+                start.await();
+                scenario.runUser(user, data, metrics, deadline[0]);
+                return null;
+            }));
+        }
+        
+        System.out.printf("Running %s with %d virtual users%n", scenario.name(), users);
+        long started = System.nanoTime();
+        deadline[0] = started + config.getDuration().toNanos();
+        start.countDown();
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return (System.nanoTime() - started) / 1e9;
+    }
+    
+    private static void print(String scenario, List<OperationStats> operations, OperationStats total, double seconds) {
+        System.out.printf("%n%s (%.1f s)%n", scenario, seconds);
+        System.out.printf("  %-20s %9s %9s %9s %9s %9s %9s %8s %10s%n",
+                "operation", "requests", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "errors", "avg bytes");
+        List<OperationStats> rows = new ArrayList<>(operations);
+        rows.add(total);
+        for (OperationStats row : rows) {
+            System.out.printf("  %-20s %9d %9.1f %9.1f %9.1f %9.1f %9.1f %7.2f%% %10.0f%n", row.getName(), row.getRequests(),
+                    row.getThroughput(), row.getP50Millis(), row.getP95Millis(), row.getP99Millis(),
+                    row.getMaxMillis(), row.getErrorRate() * 100, row.getAverageBytes());
+        }
+    }
+    
+    private static void printPeaks(Map<String, Long> peaks) {
+        System.out.printf("  peak: %d active / %d waiting connections, %d MB heap, %d threads%n",
+                peaks.getOrDefault("activeConnections", 0L), peaks.getOrDefault("threadsAwaitingConnection", 0L),
+                peaks.getOrDefault("heapUsedBytes", 0L) / (1024 * 1024), peaks.getOrDefault("liveThreads", 0L));
+    }
+}
@@ -0,0 +1,126 @@
+package com.studentmanagement.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+
+// Settings come from -D system properties so runs can be scripted without editing files
+public class LoadTestConfig {
+    
+    private final String baseUrl = System.getProperty("loadtest.base-url", "http://localhost:8081/api");
+    private final int students = Integer.getInteger("loadtest.students", 200);
+    private final int concurrency = Integer.getInteger("loadtest.concurrency", 50);
+    private final Duration duration = Duration.ofSeconds(Integer.getInteger("loadtest.duration-seconds", 30));
+    private final int semester = Integer.getInteger("loadtest.semester", 1);
+    private final int deadlineRounds = Integer.getInteger("loadtest.deadline-rounds", 3);
+    private final long pollIntervalMillis = Long.getLong("loadtest.poll-interval-ms", 250);
+    private final int catalogConcurrency = Integer.getInteger("loadtest.catalog-concurrency", 200);
+    private final int catalogAssignments = Integer.getInteger("loadtest.catalog-assignments", 500);
+    private final long sampleIntervalMillis = Long.getLong("loadtest.sample-interval-ms", 500);
+    private final String studentPassword = System.getProperty("loadtest.student-password", "loadtest123");
+    private final String teacherEmail = System.getProperty("loadtest.teacher-email", "teacher@gmail.com");
+    private final String teacherPassword = System.getProperty("loadtest.teacher-password", "teacher123");
+    private final String adminEmail = System.getProperty("loadtest.admin-email", "admin@gmail.com");
+    private final String adminPassword = System.getProperty("loadtest.admin-password", "admin123");
+    private final boolean checkQueries = Boolean.parseBoolean(System.getProperty("loadtest.check-queries", "true"));
+    private final List<String> scenarios = List.of(System.getProperty("loadtest.scenarios",
+            "login-storm,deadline-burst,bulk-grading,dashboard-polling,sparse-fields,submission-lists,catalog-buffered,catalog-chunked").split("\\s*,\\s*"));
+    private final String reportPath = System.getProperty("loadtest.report");
+    private final Properties budgets;
+    
+    public LoadTestConfig() throws IOException {
+        budgets = new Properties();
+        String budgetsPath = System.getProperty("loadtest.budgets");
+        if (budgetsPath != null) {
+            try (InputStream in = Files.newInputStream(Paths.get(budgetsPath))) {
+                budgets.load(in);
+            }
+        } else {
+            try (InputStream in = LoadTestConfig.class.getResourceAsStream("/budgets.properties")) {
+                if (in != null) {
+                    budgets.load(in);
+                }
+            }
+        }
+    }
+    
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+    
+    public int getStudents() {
+        return students;
+    }
+    
+    public int getConcurrency() {
+        return concurrency;
+    }
+    
+    public Duration getDuration() {
+        return duration;
+    }
+    
+    public int getSemester() {
+        return semester;
+    }
+    
+    public int getDeadlineRounds() {
+        return deadlineRounds;
+    }
+    
+    public long getPollIntervalMillis() {
+        return pollIntervalMillis;
+    }
+    
+    public int getCatalogConcurrency() {
+        return catalogConcurrency;
+    }
+    
+    public int getCatalogAssignments() {
+        return catalogAssignments;
+    }
+    
+    public long getSampleIntervalMillis() {
+        return sampleIntervalMillis;
+    }
+    
+    public String getStudentPassword() {
+        return studentPassword;
+    }
+    
+    public String getTeacherEmail() {
+        return teacherEmail;
+    }
+    
+    public String getTeacherPassword() {
+        return teacherPassword;
+    }
+    
+    public String getAdminEmail() {
+        return adminEmail;
+    }
+    
+    public String getAdminPassword() {
+        return adminPassword;
+    }
+    
+    public boolean isCheckQueries() {
+        return checkQueries;
+    }
+    
+    public List<String> getScenarios() {
+        return scenarios;
+    }
+    
+    public String getReportPath() {
+        return reportPath;
+    }
+    
+    public Properties getBudgets() {
+        return budgets;
+    }
+}
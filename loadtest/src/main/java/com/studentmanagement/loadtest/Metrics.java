@@ -0,0 +1,78 @@
+package com.studentmanagement.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Latency samples and response sizes per operation for one scenario run. Samples are kept exactly; a run of a
+// few minutes produces at most a few million longs, and exact percentiles keep budgets honest.
+public class Metrics {
+    
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+    
+    public void record(String operation, long nanos, boolean error, long bytes) {
+        recorders.computeIfAbsent(operation, name -> new Recorder()).add(nanos, error, bytes);
+    }
+    
+    public List<OperationStats> summarize(double seconds) {
+        List<OperationStats> stats = new ArrayList<>();
+        recorders.forEach((name, recorder) -> stats.add(recorder.summarize(name, seconds)));
+        stats.sort((a, b) -> a.getName().compareTo(b.getName()));
+        return stats;
+    }
+    
+    // Every operation of the scenario together; this is what budgets are checked against
+    public OperationStats total(String name, double seconds) {
+        Recorder all = new Recorder();
+        for (Recorder recorder : recorders.values()) {
+            all.addAll(recorder);
+        }
+        return all.summarize(name, seconds);
+    }
+    
+    private static class Recorder {
+        private long[] samples = new long[1024];
+        private int size;
+        private long errors;
+        private long bytes;
+        
+        synchronized void add(long nanos, boolean error, long responseBytes) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = nanos;
+            bytes += responseBytes;
+            if (error) {
+                errors++;
+            }
+        }
+        
+        synchronized void addAll(Recorder other) {
+            synchronized (other) {
+                for (int i = 0; i < other.size; i++) {
+                    add(other.samples[i], false, 0);
+                }
+                errors += other.errors;
+                bytes += other.bytes;
+            }
+        }
+        
+        synchronized OperationStats summarize(String name, double seconds) {
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            return new OperationStats(name, size, errors, seconds > 0 ? size / seconds : 0,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    size > 0 ? sorted[size - 1] / 1e6 : 0, size > 0 ? (double) bytes / size : 0);
+        }
+        
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.studentmanagement.loadtest;
+
+public class OperationStats {
+    
+    private final String name;
+    private final long requests;
+    private final long errors;
+    private final double throughput;
+    private final double p50Millis;
+    private final double p95Millis;
+    private final double p99Millis;
+    private final double maxMillis;
+    private final double averageBytes;
+    
+    public OperationStats(String name, long requests, long errors, double throughput,
+                          double p50Millis, double p95Millis, double p99Millis, double maxMillis, double averageBytes) {
+        this.name = name;
+        this.requests = requests;
+        this.errors = errors;
+        this.throughput = throughput;
+        this.p50Millis = p50Millis;
+        this.p95Millis = p95Millis;
+        this.p99Millis = p99Millis;
+        this.maxMillis = maxMillis;
+        this.averageBytes = averageBytes;
+    }
+    
+    public double getErrorRate() {
+        return requests > 0 ? (double) errors / requests : 0;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public long getRequests() {
+        return requests;
+    }
+    
+    public long getErrors() {
+        return errors;
+    }
+    
+    public double getThroughput() {
+        return throughput;
+    }
+    
+    public double getP50Millis() {
+        return p50Millis;
+    }
+    
+    public double getP95Millis() {
+        return p95Millis;
+    }
+    
+    public double getP99Millis() {
+        return p99Millis;
+    }
+    
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+    
+    public double getAverageBytes() {
+        return averageBytes;
+    }
+}
@@ -0,0 +1,66 @@
+package com.studentmanagement.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Polls the backend's /diagnostics/runtime while a scenario runs and keeps the peak of each value:
+// pool connections in use, threads waiting for one, heap and live threads
+public class RuntimeSampler implements AutoCloseable {
+    
+    private final ApiClient client;
+    private final String token;
+    private final long intervalMillis;
+    private final Map<String, Long> peaks = new TreeMap<>();
+    private final Thread thread;
+    private volatile boolean running = true;
+    
+    public RuntimeSampler(ApiClient client, String token, long intervalMillis) {
+        this.client = client;
+        this.token = token;
+        this.intervalMillis = intervalMillis;
+        this.thread = new Thread(this::sample, "runtime-sampler");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+    
+    public synchronized Map<String, Long> getPeaks() {
+        return new TreeMap<>(peaks);
+    }
+    
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        thread.interrupt();
+        thread.join();
+    }
+    
+    private void sample() {
+        while (running) {
+            ApiClient.Response response = client.get(null, "sample", "/diagnostics/runtime", token);
+            if (response.isSuccess()) {
+                try {
+                    record(response.json());
+                } catch (IOException e) {
+                    // A malformed sample is skipped
+                }
+            }
+            try {
+                Thread.sleep(intervalMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+    
+    private synchronized void record(JsonNode status) {
+        Iterator<Map.Entry<String, JsonNode>> fields = status.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            peaks.merge(field.getKey(), field.getValue().asLong(), Math::max);
+        }
+    }
+}
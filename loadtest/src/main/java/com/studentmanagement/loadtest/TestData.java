@@ -0,0 +1,174 @@
+package com.studentmanagement.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Accounts and course data the scenarios act on. Created through the public API before any
+// measurement starts, and reused across runs: student accounts are keyed by index.
+public class TestData {
+    
+    public static class Account {
+        private final Long id;
+        private final String email;
+        private final String password;
+        private final String token;
+        
+        Account(Long id, String email, String password, String token) {
+            this.id = id;
+            this.email = email;
+            this.password = password;
+            this.token = token;
+        }
+        
+        public Long getId() {
+            return id;
+        }
+        
+        public String getEmail() {
+            return email;
+        }
+        
+        public String getPassword() {
+            return password;
+        }
+        
+        public String getToken() {
+            return token;
+        }
+    }
+    
+    private final ApiClient client;
+    private final LoadTestConfig config;
+    private final List<Account> students = new ArrayList<>();
+    private Account teacher;
+    private Account admin;
+    private Long courseId;
+    private int catalogAssignments;
+    
+    public TestData(ApiClient client, LoadTestConfig config) {
+        this.client = client;
+        this.config = config;
+    }
+    
+    public void prepare() throws Exception {
+        teacher = signIn(config.getTeacherEmail(), config.getTeacherPassword());
+        if (config.isCheckQueries()) {
+            admin = signIn(config.getAdminEmail(), config.getAdminPassword());
+        }
+        
+        // Sign-up and sign-in hash passwords, so spread them over a few threads
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Account>> accounts = new ArrayList<>();
+            for (int i = 0; i < config.getStudents(); i++) {
+                String email = "loadtest-student-" + i + "@example.com";
+                String name = "Load Test Student " + i;
+                accounts.add(pool.submit(() -> {
+                    Map<String, Object> signup = new LinkedHashMap<>();
+                    signup.put("email", email);
+                    signup.put("password", config.getStudentPassword());
+                    signup.put("displayName", name);
+                    // 400 means the account exists from an earlier run
+                    client.post(null, "signup", "/auth/signup", signup, null);
+                    return signIn(email, config.getStudentPassword());
+                }));
+            }
+            for (Future<Account> account : accounts) {
+                students.add(account.get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+        
+        Map<String, Object> course = new LinkedHashMap<>();
+        course.put("title", "Load Test Course");
+        course.put("code", "LT-" + System.currentTimeMillis());
+        course.put("description", "Created by the load-test harness");
+        course.put("semester", config.getSemester());
+        course.put("teacherId", teacher.getId());
+        courseId = expectSuccess(client.post(null, "setup", "/courses", course, teacher.getToken())).get("id").asLong();
+    }
+    
+    public Long createAssignment(String title) throws IOException {
+        return createAssignment(title, "Created by the load-test harness", "Submit anything");
+    }
+    
+    public Long createAssignment(String title, String description, String instructions) throws IOException {
+        Map<String, Object> assignment = new LinkedHashMap<>();
+        assignment.put("title", title);
+        assignment.put("description", description);
+        assignment.put("courseId", courseId);
+        assignment.put("maxPoints", 100);
+        assignment.put("dueDate", LocalDate.now().plusDays(7).toString());
+        assignment.put("instructions", instructions);
+        assignment.put("status", "ACTIVE");
+        assignment.put("createdBy", teacher.getId());
+        return expectSuccess(client.post(null, "setup", "/assignments", assignment, teacher.getToken())).get("id").asLong();
+    }
+    
+    // Tops the course up to `count` assignments, so scenarios sharing the catalog only create it once
+    public synchronized void ensureCatalog(int count) throws IOException {
+        for (; catalogAssignments < count; catalogAssignments++) {
+            createAssignment("Catalog assignment " + catalogAssignments,
+                    "Catalog entry " + catalogAssignments + " created by the load-test harness. ".repeat(4),
+                    "Submit one file.");
+        }
+    }
+    
+    public Map<String, Object> submission(Long assignmentId, int studentIndex) {
+        Map<String, Object> submission = new LinkedHashMap<>();
+        submission.put("assignmentId", assignmentId);
+        submission.put("submissionText", "Load test submission from student " + studentIndex + ". " +
+                "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt.");
+        return submission;
+    }
+    
+    public List<Account> getStudents() {
+        return students;
+    }
+    
+    public Account getTeacher() {
+        return teacher;
+    }
+    
+    // Only signed in when query budgets are checked
+    public Account getAdmin() {
+        return admin;
+    }
+    
+    public Long getCourseId() {
+        return courseId;
+    }
+    
+    public ApiClient getClient() {
+        return client;
+    }
+    
+    public LoadTestConfig getConfig() {
+        return config;
+    }
+    
+    private Account signIn(String email, String password) throws IOException {
+        Map<String, Object> login = new LinkedHashMap<>();
+        login.put("email", email);
+        login.put("password", password);
+        JsonNode response = expectSuccess(client.post(null, "signin", "/auth/signin", login, null));
+        return new Account(response.get("id").asLong(), email, password, response.get("token").asText());
+    }
+    
+    static JsonNode expectSuccess(ApiClient.Response response) throws IOException {
+        if (!response.isSuccess()) {
+            throw new IllegalStateException("Setup request failed with " + response.getStatus() + ": " + response.getBody());
+        }
+        return response.json();
+    }
+}
@@ -0,0 +1,62 @@
+package com.studentmanagement.loadtest.scenario;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.studentmanagement.loadtest.Metrics;
+import com.studentmanagement.loadtest.TestData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Bulk grading: teacher sessions grade a full assignment's submissions as fast as they can.
+// Each virtual user owns a disjoint slice, so no two graders race on the same submission.
+public class BulkGradingScenario extends Scenario {
+    
+    private final List<Long> submissionIds = new ArrayList<>();
+    
+    @Override
+    public String name() {
+        return "bulk-grading";
+    }
+    
+    @Override
+    public int virtualUsers(TestData data) {
+        return Math.max(1, Math.min(data.getConfig().getConcurrency(), submissionIds.size()));
+    }
+    
+    @Override
+    public void setup(TestData data) throws Exception {
+        Long assignmentId = data.createAssignment("Bulk grading");
+        List<TestData.Account> students = data.getStudents();
+        for (int i = 0; i < students.size(); i++) {
+            data.getClient().post(null, "setup", "/submissions", data.submission(assignmentId, i), students.get(i).getToken());
+        }
+        JsonNode submissions = data.getClient()
+                .get(null, "setup", "/submissions/by-assignment/" + assignmentId, data.getTeacher().getToken()).json();
+        for (JsonNode submission : submissions) {
+            submissionIds.add(submission.get("id").asLong());
+        }
+    }
+    
+    @Override
+    public void runUser(int user, TestData data, Metrics metrics, long deadlineNanos) {
+        int users = virtualUsers(data);
+        List<Long> slice = new ArrayList<>();
+        for (int i = user; i < submissionIds.size(); i += users) {
+            slice.add(submissionIds.get(i));
+        }
+        
+        String token = data.getTeacher().getToken();
+        while (System.nanoTime() < deadlineNanos) {
+            for (Long submissionId : slice) {
+                if (System.nanoTime() >= deadlineNanos) {
+                    return;
+                }
+                int score = ThreadLocalRandom.current().nextInt(101);
+                data.getClient().put(metrics, "grade", "/submissions/" + submissionId + "/grade",
+                        Map.of("score", score, "feedback", "Graded by load test: " + score), token);
+            }
+        }
+    }
+}
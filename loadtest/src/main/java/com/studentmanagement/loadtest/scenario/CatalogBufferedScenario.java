@@ -0,0 +1,26 @@
+package com.studentmanagement.loadtest.scenario;
+
+// Catalog reads through the regular controllers: one query, one JSON array buffered and written on
+// the request thread
+public class CatalogBufferedScenario extends CatalogScenario {
+    
+    @Override
+    public String name() {
+        return "catalog-buffered";
+    }
+    
+    @Override
+    protected String coursesPath(int semester) {
+        return "/courses/by-semester/" + semester;
+    }
+    
+    @Override
+    protected String assignmentsPath(Long courseId) {
+        return "/assignments/by-course/" + courseId;
+    }
+    
+    @Override
+    protected String accept() {
+        return "application/json";
+    }
+}
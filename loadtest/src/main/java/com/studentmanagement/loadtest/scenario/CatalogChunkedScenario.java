@@ -0,0 +1,26 @@
+package com.studentmanagement.loadtest.scenario;
+
+// Catalog reads through /stream: keyset pages written as chunked NDJSON by a streaming-executor
+// thread that blocks on JDBC and on the socket for the whole response
+public class CatalogChunkedScenario extends CatalogScenario {
+    
+    @Override
+    public String name() {
+        return "catalog-chunked";
+    }
+    
+    @Override
+    protected String coursesPath(int semester) {
+        return "/stream/courses/by-semester/" + semester;
+    }
+    
+    @Override
+    protected String assignmentsPath(Long courseId) {
+        return "/stream/assignments/by-course/" + courseId;
+    }
+    
+    @Override
+    protected String accept() {
+        return "application/x-ndjson";
+    }
+}
@@ -0,0 +1,37 @@
+package com.studentmanagement.loadtest.scenario;
+
+import com.studentmanagement.loadtest.Metrics;
+import com.studentmanagement.loadtest.TestData;
+
+// Catalog reads at high concurrency: students list the semester's courses and a large course's
+// assignments back to back. The buffered and chunked variants send the same traffic to the two
+// read paths, so their tables and runtime peaks can be compared directly.
+public abstract class CatalogScenario extends Scenario {
+    
+    protected abstract String coursesPath(int semester);
+    
+    protected abstract String assignmentsPath(Long courseId);
+    
+    protected abstract String accept();
+    
+    @Override
+    public int virtualUsers(TestData data) {
+        return data.getConfig().getCatalogConcurrency();
+    }
+    
+    @Override
+    public void setup(TestData data) throws Exception {
+        data.ensureCatalog(data.getConfig().getCatalogAssignments());
+    }
+    
+    @Override
+    public void runUser(int user, TestData data, Metrics metrics, long deadlineNanos) {
+        TestData.Account student = data.getStudents().get(user % data.getStudents().size());
+        String courses = coursesPath(data.getConfig().getSemester());
+        String assignments = assignmentsPath(data.getCourseId());
+        while (System.nanoTime() < deadlineNanos) {
+            data.getClient().get(metrics, "semester-courses", courses, student.getToken(), accept());
+            data.getClient().get(metrics, "course-assignments", assignments, student.getToken(), accept());
+        }
+    }
+}
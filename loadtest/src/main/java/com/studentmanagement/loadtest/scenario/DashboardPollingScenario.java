@@ -0,0 +1,33 @@
+package com.studentmanagement.loadtest.scenario;
+
+import com.studentmanagement.loadtest.Metrics;
+import com.studentmanagement.loadtest.TestData;
+
+// Dashboard polling: students keep a dashboard tab open, which refreshes on an interval
+public class DashboardPollingScenario extends Scenario {
+    
+    @Override
+    public String name() {
+        return "dashboard-polling";
+    }
+    
+    @Override
+    public int virtualUsers(TestData data) {
+        return data.getConfig().getConcurrency();
+    }
+    
+    @Override
+    public void runUser(int user, TestData data, Metrics metrics, long deadlineNanos) throws InterruptedException {
+        TestData.Account student = data.getStudents().get(user % data.getStudents().size());
+        long interval = data.getConfig().getPollIntervalMillis();
+        String dashboardPath = "/dashboard/student?semester=" + data.getConfig().getSemester();
+        String assignmentsPath = "/assignments/by-course/" + data.getCourseId();
+        while (System.nanoTime() < deadlineNanos) {
+            data.getClient().get(metrics, "dashboard", dashboardPath, student.getToken());
+            data.getClient().get(metrics, "course-assignments", assignmentsPath, student.getToken());
+            if (interval > 0) {
+                Thread.sleep(interval);
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.studentmanagement.loadtest.scenario;
+
+import com.studentmanagement.loadtest.Metrics;
+import com.studentmanagement.loadtest.TestData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Deadline burst: every student submits to the same assignment at the same moment, once per
+// round, with each round on a fresh assignment
+public class DeadlineBurstScenario extends Scenario {
+    
+    private final List<Long> assignmentIds = new ArrayList<>();
+    private CyclicBarrier roundStart;
+    
+    @Override
+    public String name() {
+        return "deadline-burst";
+    }
+    
+    @Override
+    public int virtualUsers(TestData data) {
+        return data.getStudents().size();
+    }
+    
+    @Override
+    public void setup(TestData data) throws Exception {
+        for (int round = 0; round < data.getConfig().getDeadlineRounds(); round++) {
+            assignmentIds.add(data.createAssignment("Deadline burst round " + round));
+        }
+        roundStart = new CyclicBarrier(virtualUsers(data));
+    }
+    
+    @Override
+    public void runUser(int user, TestData data, Metrics metrics, long deadlineNanos)
+            throws InterruptedException, BrokenBarrierException {
+        TestData.Account student = data.getStudents().get(user);
+        for (Long assignmentId : assignmentIds) {
+            try {
+                roundStart.await(1, TimeUnit.MINUTES);
+            } catch (TimeoutException e) {
+                return;
+            }
+            data.getClient().post(metrics, "submit", "/submissions", data.submission(assignmentId, user), student.getToken());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.studentmanagement.loadtest.scenario;
+
+import com.studentmanagement.loadtest.Metrics;
+import com.studentmanagement.loadtest.TestData;
+
+import java.util.Map;
+
+// Morning login storm: every virtual user signs in back to back for the whole run
+public class LoginStormScenario extends Scenario {
+    
+    @Override
+    public String name() {
+        return "login-storm";
+    }
+    
+    @Override
+    public int virtualUsers(TestData data) {
+        return data.getConfig().getConcurrency();
+    }
+    
+    @Override
+    public void runUser(int user, TestData data, Metrics metrics, long deadlineNanos) {
+        TestData.Account student = data.getStudents().get(user % data.getStudents().size());
+        Map<String, Object> login = Map.of("email", student.getEmail(), "password", student.getPassword());
+        while (System.nanoTime() < deadlineNanos) {
+            data.getClient().post(metrics, "signin", "/auth/signin", login, null);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.studentmanagement.loadtest.scenario;
+
+import com.studentmanagement.loadtest.Metrics;
+import com.studentmanagement.loadtest.TestData;
+
+// One traffic pattern. setup() runs before the clock starts; runUser() is one virtual user,
+// started on its own thread together with all the others so bursts really are simultaneous.
+public abstract class Scenario {
+    
+    public abstract String name();
+    
+    public abstract int virtualUsers(TestData data);
+    
+    public void setup(TestData data) throws Exception {}
+    
+    public abstract void runUser(int user, TestData data, Metrics metrics, long deadlineNanos) throws Exception;
+}
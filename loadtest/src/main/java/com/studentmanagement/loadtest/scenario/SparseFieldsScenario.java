@@ -0,0 +1,41 @@
+package com.studentmanagement.loadtest.scenario;
+
+import com.studentmanagement.loadtest.Metrics;
+import com.studentmanagement.loadtest.TestData;
+
+// Sparse fieldsets: students list a course's assignments in full and with `fields=` in turn, over
+// assignments with long descriptions, so the two rows of the table compare bytes and latency
+public class SparseFieldsScenario extends Scenario {
+    
+    private static final int ASSIGNMENTS = 40;
+    private static final String LIST_FIELDS = "id,title,dueDate,status";
+    
+    @Override
+    public String name() {
+        return "sparse-fields";
+    }
+    
+    @Override
+    public int virtualUsers(TestData data) {
+        return data.getConfig().getConcurrency();
+    }
+    
+    @Override
+    public void setup(TestData data) throws Exception {
+        String description = "Read the chapter and answer every question in full sentences. ".repeat(40);
+        String instructions = "Upload one PDF per question, named after the question number. ".repeat(40);
+        for (int i = 0; i < ASSIGNMENTS; i++) {
+            data.createAssignment("Sparse fields " + i, description, instructions);
+        }
+    }
+    
+    @Override
+    public void runUser(int user, TestData data, Metrics metrics, long deadlineNanos) {
+        TestData.Account student = data.getStudents().get(user % data.getStudents().size());
+        String path = "/assignments/by-course/" + data.getCourseId();
+        while (System.nanoTime() < deadlineNanos) {
+            data.getClient().get(metrics, "assignments-full", path, student.getToken());
+            data.getClient().get(metrics, "assignments-sparse", path + "?fields=" + LIST_FIELDS, student.getToken());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.studentmanagement.loadtest.scenario;
+
+import com.studentmanagement.loadtest.Metrics;
+import com.studentmanagement.loadtest.TestData;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Submission lists: a teacher lists each assignment's submissions while students list their own,
+// the two list queries whose rows lost their text column when bodies moved to submission_contents
+public class SubmissionListsScenario extends Scenario {
+    
+    private static final int ASSIGNMENTS = 5;
+    
+    private final List<Long> assignmentIds = new ArrayList<>();
+    
+    @Override
+    public String name() {
+        return "submission-lists";
+    }
+    
+    @Override
+    public int virtualUsers(TestData data) {
+        return data.getConfig().getConcurrency();
+    }
+    
+    @Override
+    public void setup(TestData data) throws Exception {
+        List<TestData.Account> students = data.getStudents();
+        for (int a = 0; a < ASSIGNMENTS; a++) {
+            Long assignmentId = data.createAssignment("Submission lists " + a);
+            assignmentIds.add(assignmentId);
+            for (int i = 0; i < students.size(); i++) {
+                data.getClient().post(null, "setup", "/submissions", data.submission(assignmentId, i), students.get(i).getToken());
+            }
+        }
+    }
+    
+    // Even users act as the teacher, odd users as students
+    @Override
+    public void runUser(int user, TestData data, Metrics metrics, long deadlineNanos) {
+        List<TestData.Account> students = data.getStudents();
+        int round = 0;
+        while (System.nanoTime() < deadlineNanos) {
+            if (user % 2 == 0) {
+                Long assignmentId = assignmentIds.get((user / 2 + round) % assignmentIds.size());
+                data.getClient().get(metrics, "by-assignment", "/submissions/by-assignment/" + assignmentId,
+                        data.getTeacher().getToken());
+            } else {
+                TestData.Account student = students.get((user / 2 + round) % students.size());
+                data.getClient().get(metrics, "my-submissions", "/submissions/my-submissions", student.getToken());
+            }
+            round++;
+        }
+    }
+}
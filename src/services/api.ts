@@ -185,6 +185,11 @@ class ApiService {
     return this.request<any>(`/courses/${courseId}`);
   }
 
+  // One request for a list of references; missing ids are left out, at most 100 per call
+  async getCoursesByIds(courseIds: number[]) {
+    return this.request<any[]>(`/courses?ids=${courseIds.join(',')}`);
+  }
+
   async createCourse(course: any) {
     try {
       // Try to create course in backend first
@@ -245,6 +250,14 @@ class ApiService {
     return this.request<any>(`/assignments/${assignmentId}`);
   }
 
+  async getAssignmentsByIds(assignmentIds: number[]) {
+    return this.request<any[]>(`/assignments?ids=${assignmentIds.join(',')}`);
+  }
+
+  async getDueAssignments() {
+    return this.request<any[]>('/assignments/due');
+  }
+
   async createAssignment(assignment: any) {
     try {
       // Try to create assignment in backend first
@@ -277,6 +290,17 @@ class ApiService {
     });
   }
 
+  // Several calls in one round trip; each result carries its own status, in request order
+  async batch(requests: { method: string; path: string; body?: any; headers?: Record<string, string> }[]) {
+    return this.request<{ status: number; headers: Record<string, string>; body: any; durationMillis: number }[]>(
+      '/batch',
+      {
+        method: 'POST',
+        body: JSON.stringify({ requests }),
+      }
+    );
+  }
+
   // Submission endpoints
   async getSubmissionsByAssignment(assignmentId: number) {
     return this.request<any[]>(`/submissions/by-assignment/${assignmentId}`);
@@ -286,6 +310,10 @@ class ApiService {
     return this.request<any[]>('/submissions/my-submissions');
   }
 
+  async getSubmissionsByIds(submissionIds: number[]) {
+    return this.request<any[]>(`/submissions?ids=${submissionIds.join(',')}`);
+  }
+
   async createSubmission(submission: any) {
     return this.request<any>('/submissions', {
       method: 'POST',